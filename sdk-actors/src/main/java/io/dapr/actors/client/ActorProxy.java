@@ -6,6 +6,7 @@
 package io.dapr.actors.client;
 
 import io.dapr.actors.ActorId;
+import io.dapr.utils.TypeRef;
 import reactor.core.publisher.Mono;
 
 /**
@@ -48,6 +49,35 @@ public interface ActorProxy {
    */
   <T> Mono<T> invokeActorMethod(String methodName, Object data, Class<T> clazz);
 
+  /**
+   * Invokes an Actor method on Dapr, with a result of a type that can be generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param methodName Method name to invoke.
+   * @param type       The type of the return, e.g. {@code new TypeRef<List<String>>() {}}.
+   * @param <T>        The type to be returned.
+   * @return Asynchronous result with the Actor's response.
+   */
+  default <T> Mono<T> invokeActorMethod(String methodName, TypeRef<T> type) {
+    return invokeActorMethod(methodName, (Class<T>) type.getRawClass());
+  }
+
+  /**
+   * Invokes an Actor method on Dapr, with a result of a type that can be generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param methodName Method name to invoke.
+   * @param data       Object with the data.
+   * @param type       The type of the return, e.g. {@code new TypeRef<List<String>>() {}}.
+   * @param <T>        The type to be returned.
+   * @return Asynchronous result with the Actor's response.
+   */
+  default <T> Mono<T> invokeActorMethod(String methodName, Object data, TypeRef<T> type) {
+    return invokeActorMethod(methodName, data, (Class<T>) type.getRawClass());
+  }
+
   /**
    * Invokes an Actor method on Dapr.
    *
@@ -7,6 +7,7 @@ package io.dapr.actors.client;
 
 import io.dapr.actors.ActorId;
 import io.dapr.client.DaprHttpBuilder;
+import io.dapr.client.DaprTransport;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
 
@@ -18,7 +19,7 @@ public class ActorProxyBuilder {
   /**
    * Builder for Dapr's raw http client.
    */
-  private final DaprHttpBuilder daprHttpBuilder = new DaprHttpBuilder();
+  private DaprHttpBuilder daprHttpBuilder = new DaprHttpBuilder();
 
   /**
    * Actor's type.
@@ -61,6 +62,34 @@ public class ActorProxyBuilder {
     return this;
   }
 
+  /**
+   * Sets the builder for Dapr's HTTP client, to tune or replace the transport of Actor calls.
+   *
+   * @param daprHttpBuilder Builder for Dapr's HTTP client.
+   * @return This instance.
+   */
+  public ActorProxyBuilder withDaprHttpBuilder(DaprHttpBuilder daprHttpBuilder) {
+    if (daprHttpBuilder == null) {
+      throw new IllegalArgumentException("Dapr HTTP builder is required.");
+    }
+
+    this.daprHttpBuilder = daprHttpBuilder;
+    return this;
+  }
+
+  /**
+   * Sets the transport to Dapr, such as one sharing Reactor Netty's event loops with the application.
+   * Proxies built afterwards share the transport, instead of each getting its own connection pool.
+   *
+   * @param transport Transport to Dapr.
+   * @return This instance.
+   * @see DaprHttpBuilder#withTransport(DaprTransport)
+   */
+  public ActorProxyBuilder withTransport(DaprTransport transport) {
+    this.daprHttpBuilder.withTransport(transport);
+    return this;
+  }
+
   /**
    * Instantiates a new ActorProxy.
    *
@@ -8,6 +8,7 @@ package io.dapr.actors.client;
 import io.dapr.actors.ActorId;
 import io.dapr.actors.runtime.ObjectSerializer;
 import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.utils.TypeRef;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
@@ -91,6 +92,26 @@ class ActorProxyImpl implements ActorProxy {
           .map(s -> deserialize(s, clazz));
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeActorMethod(String methodName, Object data, TypeRef<T> type) {
+    return this.daprClient.invokeActorMethod(actorType, actorId.toString(), methodName, this.serialize(data))
+          .filter(s -> s.length > 0)
+          .map(s -> deserialize(s, type));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeActorMethod(String methodName, TypeRef<T> type) {
+    return this.daprClient.invokeActorMethod(actorType, actorId.toString(), methodName, null)
+          .filter(s -> s.length > 0)
+          .map(s -> deserialize(s, type));
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -124,6 +145,23 @@ class ActorProxyImpl implements ActorProxy {
     }
   }
 
+  /**
+   * Extracts the response object from the Actor's method result.
+   *
+   * @param response response returned by API.
+   * @param type     Expected response type.
+   * @param <T>      Expected response type.
+   * @return Response object or null.
+   * @throws RuntimeException In case it cannot generate Object.
+   */
+  private <T> T deserialize(final byte[] response, TypeRef<T> type) {
+    try {
+      return this.serializer.deserialize(response, type);
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   /**
    * Builds the request to invoke an API for Actors.
    *
@@ -7,6 +7,7 @@ package io.dapr.actors.client;
 
 import io.dapr.client.DaprHttp;
 import io.dapr.utils.Constants;
+import io.dapr.utils.UrlTemplate;
 import reactor.core.publisher.Mono;
 
 /**
@@ -16,6 +17,11 @@ import reactor.core.publisher.Mono;
  */
 class DaprHttpClient implements DaprClient {
 
+  /**
+   * Relative URL to invoke an actor's method.
+   */
+  private static final UrlTemplate ACTOR_METHOD_URL = UrlTemplate.compile(Constants.ACTOR_METHOD_RELATIVE_URL_FORMAT);
+
   /**
    * The HTTP client to be used.
    *
@@ -37,7 +43,7 @@ class DaprHttpClient implements DaprClient {
    */
   @Override
   public Mono<byte[]> invokeActorMethod(String actorType, String actorId, String methodName, byte[] jsonPayload) {
-    String url = String.format(Constants.ACTOR_METHOD_RELATIVE_URL_FORMAT, actorType, actorId, methodName);
+    String url = ACTOR_METHOD_URL.expand(actorType, actorId, methodName);
     Mono<DaprHttp.Response> responseMono =
           this.client.invokeApi(DaprHttp.HttpMethods.POST.name(), url, null, jsonPayload, null);
     return responseMono.map(r -> r.getBody());
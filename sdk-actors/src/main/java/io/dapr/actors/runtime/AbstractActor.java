@@ -53,10 +53,20 @@ public abstract class AbstractActor {
    */
   private final ActorStateManager actorStateManager;
 
+  /**
+   * Runs this Actor's calls, timers and reminders one at a time.
+   */
+  private final ActorMailbox mailbox;
+
+  /**
+   * Last time this Actor was activated or called, in nanoseconds, for evicting idle Actors.
+   */
+  private volatile long lastUsed;
+
   /**
    * Internal control to assert method invocation on start and finish in this SDK.
    */
-  private boolean started;
+  private volatile boolean started;
 
   /**
    * Instantiates a new Actor.
@@ -73,6 +83,7 @@ public abstract class AbstractActor {
           id);
     this.actorTrace = runtimeContext.getActorTrace();
     this.timers = new HashMap<>();
+    this.mailbox = ActorMailbox.create(runtimeContext, runtimeContext.getActorTypeInformation().getName() + "/" + id);
     this.started = false;
   }
 
@@ -263,6 +274,42 @@ public abstract class AbstractActor {
     this.actorStateManager.clear();
   }
 
+  /**
+   * Gets the mailbox running this Actor's calls, timers and reminders.
+   *
+   * @return Mailbox for this Actor.
+   */
+  ActorMailbox getMailbox() {
+    return this.mailbox;
+  }
+
+  /**
+   * Gets the last time this Actor was activated or called.
+   *
+   * @return Last time this Actor was used, in nanoseconds.
+   */
+  long getLastUsed() {
+    return this.lastUsed;
+  }
+
+  /**
+   * Records the last time this Actor was activated or called.
+   *
+   * @param lastUsed Last time this Actor was used, in nanoseconds.
+   */
+  void setLastUsed(long lastUsed) {
+    this.lastUsed = lastUsed;
+  }
+
+  /**
+   * Checks if this Actor has registered timers, which only live in this instance.
+   *
+   * @return True if this Actor has timers.
+   */
+  boolean hasActorTimers() {
+    return !this.timers.isEmpty();
+  }
+
   /**
    * Gets a given timer by name.
    *
@@ -300,6 +347,19 @@ public abstract class AbstractActor {
           .then(this.doWriteInfo(TRACE_TYPE, this.id.toString(), "Deactivated"));
   }
 
+  /**
+   * Internal callback when an Actor is evicted by this runtime, while Dapr still sees it as active.
+   * Pending state changes are saved first, so the next activation finds them.
+   *
+   * @return Asynchronous void response.
+   */
+  Mono<Void> onPassivateInternal() {
+    return Mono.defer(() -> {
+      this.actorTrace.writeInfo(TRACE_TYPE, this.id.toString(), "Passivating ...");
+      return this.saveState();
+    }).then(Mono.defer(this::onDeactivateInternal));
+  }
+
   /**
    * Internal callback prior to method be invoked.
    *
@@ -0,0 +1,213 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides where an Actor type's methods not returning Mono run, so blocking ones (JDBC, file I/O) do not stall the
+ * thread that received the call. Methods returning Mono always run on the calling thread, as they are expected not
+ * to block.
+ * An instance can be shared by several Actor types, then they share its threads and its metrics.
+ * The application owns the threads of the instances it creates: the runtime never disposes them, as they can be
+ * shared, so {@link #dispose()} them once no registered Actor type uses them anymore, e.g. on shutdown.
+ */
+public final class ActorExecutionSettings implements Disposable {
+
+  /**
+   * Settings running methods on the calling thread.
+   */
+  private static final ActorExecutionSettings CALLER_THREAD = new ActorExecutionSettings(null);
+
+  /**
+   * Seconds an idle thread of a bounded elastic pool is kept.
+   */
+  private static final int IDLE_THREAD_TTL_SECONDS = 60;
+
+  /**
+   * Scheduler running the methods, or null to run them on the calling thread.
+   */
+  private final Scheduler scheduler;
+
+  /**
+   * Number of calls waiting for a thread.
+   */
+  private final AtomicInteger queuedCalls = new AtomicInteger();
+
+  /**
+   * Number of calls running.
+   */
+  private final AtomicInteger runningCalls = new AtomicInteger();
+
+  /**
+   * Number of calls rejected as the pool's queue was full.
+   */
+  private final LongAdder rejectedCalls = new LongAdder();
+
+  /**
+   * Creates the settings.
+   *
+   * @param scheduler Scheduler running the methods, or null to run them on the calling thread.
+   */
+  private ActorExecutionSettings(Scheduler scheduler) {
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Runs methods on the thread that received the call, the default.
+   * These settings own no thread, so disposing them does nothing.
+   *
+   * @return Settings running methods on the calling thread.
+   */
+  public static ActorExecutionSettings callerThread() {
+    return CALLER_THREAD;
+  }
+
+  /**
+   * Runs methods on a pool of threads created on demand, up to a maximum.
+   * Once all threads are busy, calls wait in a queue; once the queue is full, calls fail with
+   * {@link RejectedExecutionException}.
+   *
+   * @param maxThreads     Maximum number of threads.
+   * @param maxQueuedCalls Maximum number of calls waiting for a thread.
+   * @return Settings running methods on a bounded pool.
+   */
+  public static ActorExecutionSettings boundedElastic(int maxThreads, int maxQueuedCalls) {
+    if (maxThreads < 1) {
+      throw new IllegalArgumentException("Maximum number of threads must be positive.");
+    }
+    if (maxQueuedCalls < 1) {
+      throw new IllegalArgumentException("Maximum number of queued calls must be positive.");
+    }
+
+    return new ActorExecutionSettings(Schedulers.newBoundedElastic(
+        maxThreads, maxQueuedCalls, "dapr-actor", IDLE_THREAD_TTL_SECONDS, true));
+  }
+
+  /**
+   * Runs each method on a new virtual thread, so blocking does not hold a platform thread.
+   *
+   * @return Settings running methods on virtual threads.
+   * @throws IllegalStateException If virtual threads are not available, they require Java 21 or later.
+   */
+  public static ActorExecutionSettings virtualThreads() {
+    ExecutorService executor;
+    try {
+      // Looked up by reflection, as the SDK is built for Java 8.
+      Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      executor = (ExecutorService) factory.invoke(null);
+    } catch (Exception e) {
+      throw new IllegalStateException("Virtual threads require Java 21 or later.", e);
+    }
+
+    return new ActorExecutionSettings(Schedulers.fromExecutorService(executor, "dapr-actor-virtual"));
+  }
+
+  /**
+   * Gets the number of calls waiting for a thread, growing when the pool is saturated.
+   *
+   * @return Number of queued calls.
+   */
+  public int getQueuedCalls() {
+    return this.queuedCalls.get();
+  }
+
+  /**
+   * Gets the number of calls running.
+   *
+   * @return Number of running calls.
+   */
+  public int getRunningCalls() {
+    return this.runningCalls.get();
+  }
+
+  /**
+   * Gets the number of calls rejected as the pool's queue was full.
+   *
+   * @return Number of rejected calls.
+   */
+  public long getRejectedCalls() {
+    return this.rejectedCalls.sum();
+  }
+
+  /**
+   * Stops the threads running the methods, calls made afterwards fail with {@link RejectedExecutionException}.
+   * Does nothing for {@link #callerThread()}.
+   */
+  @Override
+  public void dispose() {
+    if (this.scheduler != null) {
+      this.scheduler.dispose();
+    }
+  }
+
+  /**
+   * Tells whether the threads running the methods were stopped.
+   *
+   * @return True once disposed, always false for {@link #callerThread()}.
+   */
+  @Override
+  public boolean isDisposed() {
+    return (this.scheduler != null) && this.scheduler.isDisposed();
+  }
+
+  /**
+   * Runs a method as configured.
+   *
+   * @param call Method's call.
+   * @param <T>  Type of the method's result.
+   * @return Asynchronous result of the method.
+   */
+  <T> Mono<T> run(Callable<T> call) {
+    if (this.scheduler == null) {
+      return Mono.fromCallable(call);
+    }
+
+    return Mono.defer(() -> {
+      // Whoever flips it first, the call starting or the caller giving up, takes the call out of the queue.
+      AtomicBoolean dequeued = new AtomicBoolean();
+      this.queuedCalls.incrementAndGet();
+      return Mono.fromCallable(() -> {
+        if (dequeued.compareAndSet(false, true)) {
+          this.queuedCalls.decrementAndGet();
+        }
+
+        this.runningCalls.incrementAndGet();
+        try {
+          return call.call();
+        } finally {
+          this.runningCalls.decrementAndGet();
+        }
+      }).subscribeOn(this.scheduler)
+          .doOnError(e -> {
+            // Only a call that never started was rejected by the pool.
+            if (dequeued.compareAndSet(false, true)) {
+              this.queuedCalls.decrementAndGet();
+              if (e instanceof RejectedExecutionException) {
+                this.rejectedCalls.increment();
+              }
+            }
+          })
+          .doFinally(signal -> {
+            if (dequeued.compareAndSet(false, true)) {
+              this.queuedCalls.decrementAndGet();
+            }
+          });
+    });
+  }
+}
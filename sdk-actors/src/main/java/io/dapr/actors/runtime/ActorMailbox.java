@@ -0,0 +1,404 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.publisher.Signal;
+import reactor.core.publisher.SignalType;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs the calls, timers and reminders of an Actor one at a time, in the order they arrive.
+ * Turns are queued without locking and without blocking any thread: whichever thread finds the mailbox idle runs the
+ * next turn, and the thread completing a turn runs the one after it.
+ */
+class ActorMailbox {
+
+  /**
+   * Name of the Actor owning the mailbox, for error messages.
+   */
+  private final String owner;
+
+  /**
+   * Maximum number of turns in the mailbox, running one included.
+   */
+  private final int capacity;
+
+  /**
+   * Decides which call fails when the mailbox is full.
+   */
+  private final ActorMailboxRejectionPolicy rejectionPolicy;
+
+  /**
+   * Turns waiting to be run.
+   */
+  private final Queue<Turn<?>> queue = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Number of turns in the mailbox, running one included.
+   */
+  private final AtomicInteger size = new AtomicInteger();
+
+  /**
+   * Number of requests to run the next turn, the thread moving it from zero runs them.
+   */
+  private final AtomicInteger wip = new AtomicInteger();
+
+  /**
+   * True while a turn is running.
+   */
+  private volatile boolean busy;
+
+  /**
+   * True once the Actor owning the mailbox is deactivated or evicted.
+   */
+  private volatile boolean closed;
+
+  /**
+   * Creates a mailbox for an Actor.
+   *
+   * @param owner           Name of the Actor owning the mailbox, for error messages.
+   * @param capacity        Maximum number of turns in the mailbox, running one included.
+   * @param rejectionPolicy Decides which call fails when the mailbox is full.
+   */
+  ActorMailbox(String owner, int capacity, ActorMailboxRejectionPolicy rejectionPolicy) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Mailbox capacity must be positive.");
+    }
+    if (rejectionPolicy == null) {
+      throw new IllegalArgumentException("Rejection policy is required.");
+    }
+
+    this.owner = owner;
+    this.capacity = capacity;
+    this.rejectionPolicy = rejectionPolicy;
+  }
+
+  /**
+   * Creates a mailbox for an Actor, as configured in the Actor's runtime.
+   *
+   * @param runtimeContext Context for the Actor's runtime.
+   * @param owner          Name of the Actor owning the mailbox, for error messages.
+   * @return New mailbox.
+   */
+  static ActorMailbox create(ActorRuntimeContext<?> runtimeContext, String owner) {
+    ActorRuntime runtime = runtimeContext.getActorRuntime();
+    ActorRuntimeConfig config = runtime == null ? null : runtime.getConfig();
+    if (config == null) {
+      return new ActorMailbox(owner, Integer.MAX_VALUE, ActorMailboxRejectionPolicy.REJECT_NEW);
+    }
+
+    Integer capacity = config.getActorMailboxCapacity();
+    return new ActorMailbox(
+        owner,
+        capacity == null ? Integer.MAX_VALUE : capacity,
+        config.getActorMailboxRejectionPolicy());
+  }
+
+  /**
+   * Gets the number of turns in the mailbox, running one included.
+   *
+   * @return Number of turns in the mailbox.
+   */
+  int size() {
+    return this.size.get();
+  }
+
+  /**
+   * Marks the mailbox as closed, once its Actor is deactivated or evicted.
+   * Turns already queued still run; callers check {@link #isClosed()} to send new calls to the Actor's next instance.
+   */
+  void close() {
+    this.closed = true;
+  }
+
+  /**
+   * Checks if the Actor owning the mailbox was deactivated or evicted.
+   *
+   * @return True if the mailbox is closed.
+   */
+  boolean isClosed() {
+    return this.closed;
+  }
+
+  /**
+   * Queues a turn, failing it or an older one if the mailbox is full.
+   *
+   * @param work Work of the turn, called once the turn starts.
+   * @param <T>  Type of the turn's result.
+   * @return Asynchronous result of the turn, each subscription queues a new turn.
+   */
+  <T> Mono<T> enqueue(Supplier<Mono<T>> work) {
+    return Mono.create(sink -> {
+      Turn<T> turn = new Turn<>(work, sink, true);
+      if (this.admit(turn)) {
+        this.schedule();
+      } else {
+        sink.error(this.newRejection());
+      }
+    });
+  }
+
+  /**
+   * Queues a turn even if the mailbox is full, for turns that must not be lost such as deactivation.
+   * The turn is never rejected to make room for newer ones.
+   *
+   * @param work Work of the turn, called once the turn starts.
+   * @param <T>  Type of the turn's result.
+   * @return Asynchronous result of the turn, each subscription queues a new turn.
+   */
+  <T> Mono<T> enqueueIgnoringCapacity(Supplier<Mono<T>> work) {
+    return Mono.create(sink -> {
+      this.size.incrementAndGet();
+      this.queue.offer(new Turn<>(work, sink, false));
+      this.schedule();
+    });
+  }
+
+  /**
+   * Adds a turn to the queue if there is room for it, as per the rejection policy.
+   *
+   * @param turn Turn to be added.
+   * @return False if the turn is rejected.
+   */
+  private boolean admit(Turn<?> turn) {
+    for (;;) {
+      int current = this.size.get();
+      if (current < this.capacity) {
+        if (this.size.compareAndSet(current, current + 1)) {
+          this.queue.offer(turn);
+          return true;
+        }
+        continue;
+      }
+
+      if (this.rejectionPolicy != ActorMailboxRejectionPolicy.REJECT_OLDEST) {
+        return false;
+      }
+
+      Turn<?> oldest = this.findOldestRejectable();
+      if (oldest != null) {
+        if (this.queue.remove(oldest)) {
+          // The new turn takes the place of the oldest one.
+          this.queue.offer(turn);
+          oldest.reject(this.newRejection());
+          return true;
+        }
+        // Started or rejected meanwhile.
+        continue;
+      }
+      if (this.size.get() >= this.capacity) {
+        // Nothing can be rejected, the mailbox is full with the running turn and turns that must not be lost.
+        return false;
+      }
+    }
+  }
+
+  /**
+   * Finds the oldest waiting turn that can be rejected to make room for a newer one.
+   *
+   * @return Oldest rejectable turn, or null if there is none.
+   */
+  private Turn<?> findOldestRejectable() {
+    for (Turn<?> waiting : this.queue) {
+      if (waiting.isRejectable()) {
+        return waiting;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Runs the next turn unless one is running already, or another thread is doing it.
+   * Turns completing synchronously are run in a loop, so the stack does not grow with the queue.
+   */
+  private void schedule() {
+    if (this.wip.getAndIncrement() != 0) {
+      return;
+    }
+
+    int missed = 1;
+    for (;;) {
+      while (!this.busy) {
+        Turn<?> turn = this.queue.poll();
+        if (turn == null) {
+          break;
+        }
+        if (turn.isCancelled()) {
+          this.size.decrementAndGet();
+          continue;
+        }
+
+        this.busy = true;
+        turn.start();
+      }
+
+      missed = this.wip.addAndGet(-missed);
+      if (missed == 0) {
+        return;
+      }
+    }
+  }
+
+  /**
+   * Callback for when the running turn is done, whatever its outcome.
+   */
+  private void onTurnDone() {
+    this.size.decrementAndGet();
+    this.busy = false;
+    this.schedule();
+  }
+
+  /**
+   * Creates the error for a call rejected as the mailbox is full.
+   *
+   * @return Error for the rejected call.
+   */
+  private IllegalStateException newRejection() {
+    return new IllegalStateException(String.format("Mailbox of actor %s is full.", this.owner));
+  }
+
+  /**
+   * A call, timer or reminder waiting for its turn.
+   *
+   * @param <T> Type of the turn's result.
+   */
+  private final class Turn<T> {
+
+    /**
+     * Work of the turn, called once the turn starts.
+     */
+    private final Supplier<Mono<T>> work;
+
+    /**
+     * Sink for the turn's result.
+     */
+    private final MonoSink<T> sink;
+
+    /**
+     * Whether the turn can be rejected to make room for a newer one.
+     */
+    private final boolean rejectable;
+
+    /**
+     * True once the caller is no longer waiting for the result.
+     */
+    private volatile boolean cancelled;
+
+    /**
+     * Subscription to the work, once the turn started.
+     */
+    private volatile Disposable running;
+
+    /**
+     * Set once the turn gave the mailbox back, which happens only once whether it completes or is cancelled.
+     */
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    /**
+     * Creates a turn.
+     *
+     * @param work       Work of the turn, called once the turn starts.
+     * @param sink       Sink for the turn's result.
+     * @param rejectable Whether the turn can be rejected to make room for a newer one.
+     */
+    private Turn(Supplier<Mono<T>> work, MonoSink<T> sink, boolean rejectable) {
+      this.work = work;
+      this.sink = sink;
+      this.rejectable = rejectable;
+      sink.onCancel(this::cancel);
+    }
+
+    /**
+     * Checks if the turn can be rejected to make room for a newer one.
+     *
+     * @return True if the turn can be rejected.
+     */
+    private boolean isRejectable() {
+      return this.rejectable;
+    }
+
+    /**
+     * Checks if the caller is no longer waiting for the result.
+     *
+     * @return True if the turn was cancelled.
+     */
+    private boolean isCancelled() {
+      return this.cancelled;
+    }
+
+    /**
+     * Runs the work, the mailbox runs the next turn once it is done.
+     * The mailbox is given back before the caller gets the result, so whatever the caller does next runs outside of
+     * the turn.
+     */
+    private void start() {
+      this.running = Mono.defer(this.work)
+          .materialize()
+          .doFinally(signal -> {
+            if (signal == SignalType.CANCEL) {
+              this.release();
+            }
+          })
+          .subscribe(this::complete);
+      if (this.cancelled) {
+        this.running.dispose();
+      }
+    }
+
+    /**
+     * Gives the mailbox back, then passes the work's outcome to the caller.
+     *
+     * @param signal Outcome of the work.
+     */
+    private void complete(Signal<T> signal) {
+      this.release();
+      if (signal.isOnError()) {
+        this.sink.error(signal.getThrowable());
+      } else if (signal.hasValue()) {
+        this.sink.success(signal.get());
+      } else {
+        this.sink.success();
+      }
+    }
+
+    /**
+     * Gives the mailbox back, unless done already.
+     */
+    private void release() {
+      if (this.released.compareAndSet(false, true)) {
+        ActorMailbox.this.onTurnDone();
+      }
+    }
+
+    /**
+     * Fails the turn before it starts.
+     *
+     * @param error Reason for the failure.
+     */
+    private void reject(Throwable error) {
+      this.sink.error(error);
+    }
+
+    /**
+     * Cancels the turn, stopping its work if it started.
+     */
+    private void cancel() {
+      this.cancelled = true;
+      Disposable subscription = this.running;
+      if (subscription != null) {
+        subscription.dispose();
+      }
+    }
+  }
+}
@@ -0,0 +1,21 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+/**
+ * Decides which call fails when a call arrives for an Actor whose mailbox is full.
+ */
+public enum ActorMailboxRejectionPolicy {
+
+  /**
+   * The new call fails, calls already in the mailbox are kept.
+   */
+  REJECT_NEW,
+  /**
+   * The oldest call still waiting in the mailbox fails, making room for the new one.
+   */
+  REJECT_OLDEST
+}
@@ -6,14 +6,22 @@
 package io.dapr.actors.runtime;
 
 import io.dapr.actors.ActorId;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
-import java.lang.reflect.Method;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
 
 /**
  * Manages actors of a specific type.
@@ -25,6 +33,26 @@ class ActorManager<T extends AbstractActor> {
    */
   private static final ObjectSerializer OBJECT_SERIALIZER = new ObjectSerializer();
 
+  /**
+   * Type of tracing messages.
+   */
+  private static final String TRACE_TYPE = "ActorManager";
+
+  /**
+   * Interval between scans for idle Actors, if the runtime has no actor scan interval.
+   */
+  private static final Duration DEFAULT_IDLE_SCAN_INTERVAL = Duration.ofSeconds(30);
+
+  /**
+   * Eviction of an Actor that is done, so nothing needs to wait for it.
+   */
+  private static final Mono<Void> PASSIVATED = Mono.empty();
+
+  /**
+   * Result of a turn that found its Actor deactivated or evicted, so the call is sent to the Actor's next instance.
+   */
+  private static final Object STALE_ACTOR = new Object();
+
   /**
    * Context for the Actor runtime.
    */
@@ -36,9 +64,35 @@ class ActorManager<T extends AbstractActor> {
   private final ActorMethodInfoMap actorMethods;
 
   /**
-   * Active Actor instances.
+   * Active Actor instances, looked up without locking.
+   */
+  private final ConcurrentMap<ActorId, T> activeActors;
+
+  /**
+   * Activations in progress, shared by concurrent requests to activate the same Actor.
+   */
+  private final ConcurrentMap<ActorId, Mono<T>> activations;
+
+  /**
+   * Actors evicted by this runtime while Dapr still sees them as active, activated again on their next call.
+   * Each one maps to its eviction, so the next activation waits for the Actor's state to be saved.
+   */
+  private final ConcurrentMap<ActorId, Mono<Void>> passivatedActors;
+
+  /**
+   * Number of Actors evicted by this runtime.
+   */
+  private final LongAdder evictions;
+
+  /**
+   * Periodic scan for idle Actors, null until started and disposed once the manager is closed.
    */
-  private final Map<ActorId, T> activeActors;
+  private final AtomicReference<Disposable> idleScan;
+
+  /**
+   * Source of the current time, in nanoseconds.
+   */
+  private final LongSupplier ticker;
 
   /**
    * Instantiates a new manager for a given actor referenced in the runtimeContext.
@@ -46,30 +100,137 @@ class ActorManager<T extends AbstractActor> {
    * @param runtimeContext Runtime context for the Actor.
    */
   ActorManager(ActorRuntimeContext runtimeContext) {
+    this(runtimeContext, System::nanoTime);
+  }
+
+  /**
+   * Instantiates a new manager for a given actor referenced in the runtimeContext.
+   *
+   * @param runtimeContext Runtime context for the Actor.
+   * @param ticker         Source of the current time, in nanoseconds.
+   */
+  ActorManager(ActorRuntimeContext runtimeContext, LongSupplier ticker) {
     this.runtimeContext = runtimeContext;
     this.actorMethods = new ActorMethodInfoMap(runtimeContext.getActorTypeInformation().getInterfaces());
-    this.activeActors = Collections.synchronizedMap(new HashMap<>());
+    this.activeActors = new ConcurrentHashMap<>();
+    this.activations = new ConcurrentHashMap<>();
+    this.passivatedActors = new ConcurrentHashMap<>();
+    this.evictions = new LongAdder();
+    this.idleScan = new AtomicReference<>();
+    this.ticker = ticker;
   }
 
   /**
-   * Activates an Actor.
+   * Activates an Actor, unless it is active already.
+   * Concurrent requests to activate the same Actor share a single activation, so only one instance is created.
    *
    * @param actorId Actor identifier.
    * @return Asynchronous void response.
    */
   Mono<Void> activateActor(ActorId actorId) {
-    return Mono.fromSupplier(() -> this.runtimeContext.getActorFactory().createActor(runtimeContext, actorId))
-        .flatMap(actor -> actor.onActivateInternal().then(this.onActivatedActor(actorId, actor)));
+    return Mono.defer(() -> {
+      if (this.activeActors.containsKey(actorId)) {
+        return Mono.empty();
+      }
+
+      return this.activations.computeIfAbsent(actorId, this::newActivation);
+    }).then();
+  }
+
+  /**
+   * Creates the activation of an Actor, run once no matter how many requests wait on it.
+   * It is forgotten once done, so a failed activation can be retried. A request may find the Actor inactive right
+   * before a previous activation completes, so the Actor is looked up again before a new instance is created.
+   *
+   * @param actorId Actor identifier.
+   * @return Asynchronous activated Actor.
+   */
+  private Mono<T> newActivation(ActorId actorId) {
+    AtomicReference<Mono<T>> activation = new AtomicReference<>();
+    activation.set(
+        Mono.defer(() -> this.passivatedActors.getOrDefault(actorId, PASSIVATED))
+            .then(Mono.defer(() -> {
+              T active = this.activeActors.get(actorId);
+              if (active != null) {
+                return Mono.just(active);
+              }
+
+              T actor = this.runtimeContext.getActorFactory().createActor(runtimeContext, actorId);
+              return actor.onActivateInternal().then(this.onActivatedActor(actorId, actor));
+            }))
+            .doFinally(signal -> this.activations.remove(actorId, activation.get()))
+            .cache());
+    return activation.get();
   }
 
   /**
-   * Deactivates an Actor.
+   * Deactivates an Actor, once the calls already in its mailbox are done.
    *
    * @param actorId Actor identifier.
    * @return Asynchronous void response.
    */
   Mono<Void> deactivateActor(ActorId actorId) {
-    return Mono.fromSupplier(() -> this.activeActors.remove(actorId)).flatMap(actor -> actor.onDeactivateInternal());
+    return Mono.defer(() -> {
+      Mono<Void> passivation = this.passivatedActors.remove(actorId);
+      T actor = this.activeActors.remove(actorId);
+      if (actor != null) {
+        actor.getMailbox().close();
+      }
+      Mono<Void> deactivation = actor == null
+          ? Mono.empty()
+          : actor.getMailbox().enqueueIgnoringCapacity(actor::onDeactivateInternal);
+      return passivation == null ? deactivation : passivation.then(deactivation);
+    });
+  }
+
+  /**
+   * Evicts the Actors idle for longer than the runtime's local idle timeout.
+   *
+   * @return Asynchronous void response.
+   */
+  Mono<Void> evictIdleActors() {
+    return Mono.defer(() -> {
+      ActorRuntimeConfig config = this.getConfig();
+      Duration idleTimeout = config == null ? null : config.getLocalActorIdleTimeout();
+      if (idleTimeout == null) {
+        return Mono.empty();
+      }
+
+      long now = this.ticker.getAsLong();
+      long idleNanos = idleTimeout.toNanos();
+      return Flux.fromIterable(this.activeActors.values())
+          .filter(actor -> (now - actor.getLastUsed() >= idleNanos) && isEvictable(actor))
+          .flatMap(this::passivate)
+          .then();
+    });
+  }
+
+  /**
+   * Stops looking for idle Actors, once the manager is replaced as its Actor type is registered again.
+   */
+  void close() {
+    Disposable scan = this.idleScan.getAndSet(Disposables.disposed());
+    if (scan != null) {
+      scan.dispose();
+    }
+  }
+
+  /**
+   * Gets the number of active Actors.
+   *
+   * @return Number of active Actors.
+   */
+  int getActiveActorCount() {
+    return this.activeActors.size();
+  }
+
+  /**
+   * Gets the number of Actors evicted by this runtime, as they were idle or too many Actors were active.
+   *
+   * @return Number of evictions.
+   */
+  long getEvictionCount() {
+    return this.evictions.sum();
   }
 
   /**
@@ -106,7 +267,7 @@ class ActorManager<T extends AbstractActor> {
    */
   Mono<Void> invokeTimer(ActorId actorId, String timerName) {
     return Mono.fromSupplier(() -> {
-      AbstractActor actor = this.activeActors.getOrDefault(actorId, null);
+      AbstractActor actor = this.activeActors.get(actorId);
       if (actor == null) {
         throw new IllegalArgumentException(
             String.format("Could not find actor %s of type %s.",
@@ -133,13 +294,128 @@ class ActorManager<T extends AbstractActor> {
 
   /**
    * Internal callback for when Actor is activated.
+   * The instance is only published if no other one is active, otherwise it is deactivated and the active one is kept.
    *
    * @param actorId Actor identifier.
    * @param actor   Actor's instance.
+   * @return Asynchronous activated Actor.
+   */
+  private Mono<T> onActivatedActor(ActorId actorId, T actor) {
+    return Mono.defer(() -> {
+      actor.setLastUsed(this.ticker.getAsLong());
+      T active = this.activeActors.putIfAbsent(actorId, actor);
+      if (active != null) {
+        return actor.onDeactivateInternal().thenReturn(active);
+      }
+
+      this.passivatedActors.remove(actorId);
+      this.startIdleScan();
+      return this.evictLeastRecentlyUsed(actor).thenReturn(actor);
+    });
+  }
+
+  /**
+   * Evicts the least recently used Actors while more Actors are active than the runtime allows.
+   * Actors are only scanned once the limit is exceeded, so lookups and calls do not keep any ordering up to date.
+   *
+   * @param activated Actor just activated, which is never evicted.
    * @return Asynchronous void response.
    */
-  private Mono<Void> onActivatedActor(ActorId actorId, T actor) {
-    return Mono.fromRunnable(() -> this.activeActors.put(actorId, actor));
+  private Mono<Void> evictLeastRecentlyUsed(T activated) {
+    return Mono.defer(() -> {
+      ActorRuntimeConfig config = this.getConfig();
+      Integer maxActiveActors = config == null ? null : config.getMaxActiveActorsPerType();
+      if (maxActiveActors == null) {
+        return Mono.empty();
+      }
+
+      int excess = this.activeActors.size() - maxActiveActors;
+      if (excess <= 0) {
+        return Mono.empty();
+      }
+
+      List<T> victims = this.activeActors.values().stream()
+          .filter(actor -> (actor != activated) && isEvictable(actor))
+          .sorted(Comparator.comparingLong(AbstractActor::getLastUsed))
+          .limit(excess)
+          .collect(Collectors.toList());
+      return Flux.fromIterable(victims).flatMap(this::passivate).then();
+    });
+  }
+
+  /**
+   * Evicts an Actor: once the calls in its mailbox are done, its state is saved and it is deactivated.
+   * Dapr still sees the Actor as active, so it is activated again on its next call.
+   *
+   * @param actor Actor to be evicted.
+   * @return Asynchronous void response.
+   */
+  private Mono<Void> passivate(T actor) {
+    return Mono.defer(() -> {
+      ActorId actorId = actor.getId();
+      if (!this.activeActors.remove(actorId, actor)) {
+        // Deactivated or evicted meanwhile.
+        return Mono.empty();
+      }
+
+      actor.getMailbox().close();
+      this.evictions.increment();
+      AtomicReference<Mono<Void>> passivation = new AtomicReference<>();
+      passivation.set(
+          actor.getMailbox().enqueueIgnoringCapacity(actor::onPassivateInternal)
+              .onErrorResume(e -> {
+                this.runtimeContext.getActorTrace().writeError(
+                    TRACE_TYPE, actorId.toString(), "Failed to passivate actor: %s", e.getMessage());
+                return Mono.empty();
+              })
+              // The completed eviction is swapped out, so it no longer holds on to the Actor.
+              .doFinally(signal -> this.passivatedActors.replace(actorId, passivation.get(), PASSIVATED))
+              .cache());
+      this.passivatedActors.put(actorId, passivation.get());
+      return passivation.get();
+    });
+  }
+
+  /**
+   * Starts looking for idle Actors periodically, if the runtime has a local idle timeout.
+   */
+  private void startIdleScan() {
+    ActorRuntimeConfig config = this.getConfig();
+    if ((config == null) || (config.getLocalActorIdleTimeout() == null) || (this.idleScan.get() != null)) {
+      return;
+    }
+
+    Duration interval = config.getActorScanInterval() == null
+        ? DEFAULT_IDLE_SCAN_INTERVAL
+        : config.getActorScanInterval();
+    Disposable scan = Flux.interval(interval, interval)
+        .onBackpressureDrop()
+        .concatMap(tick -> this.evictIdleActors(), 1)
+        .subscribe();
+    if (!this.idleScan.compareAndSet(null, scan)) {
+      // Started by another activation, or the manager was closed meanwhile.
+      scan.dispose();
+    }
+  }
+
+  /**
+   * Checks if an Actor can be evicted: it has no calls in progress, and no timers as they only live in the instance.
+   *
+   * @param actor Actor to be checked.
+   * @return True if the Actor can be evicted.
+   */
+  private static boolean isEvictable(AbstractActor actor) {
+    return (actor.getMailbox().size() == 0) && !actor.hasActorTimers();
+  }
+
+  /**
+   * Gets the configuration of the Actor runtime.
+   *
+   * @return Configuration of the Actor runtime, or null if there is no runtime.
+   */
+  private ActorRuntimeConfig getConfig() {
+    ActorRuntime runtime = this.runtimeContext.getActorRuntime();
+    return runtime == null ? null : runtime.getConfig();
   }
 
   /**
@@ -212,12 +488,8 @@ class ActorManager<T extends AbstractActor> {
     return this.invoke(actorId, actorMethodContext, actor -> {
       try {
         // Finds the actor method with the given name and 1 or no parameter.
-        Method method = this.actorMethods.get(methodName);
-
-        if (method.getReturnType().equals(Mono.class)) {
-          return invokeMonoMethod(actor, method, input);
-        }
-        return invokeMethod(actor, method, input);
+        return this.actorMethods.getInvoker(methodName)
+            .invoke(actor, input, this.runtimeContext.getExecutionSettings());
       } catch (Exception e) {
         return Mono.error(e);
       }
@@ -242,20 +514,9 @@ class ActorManager<T extends AbstractActor> {
     return this.invoke(actorId, actorMethodContext, actor -> {
       try {
         // Finds the actor method with the given name and 1 or no parameter.
-        Method method = this.actorMethods.get(methodName);
-
-        Object input = null;
-        if (method.getParameterCount() == 1) {
-          // Actor methods must have a one or no parameter, which is guaranteed at this point.
-          Class<?> inputClass = method.getParameterTypes()[0];
-          input = this.runtimeContext.getObjectSerializer().deserialize(request, inputClass);
-        }
-
-        if (method.getReturnType().equals(Mono.class)) {
-          return invokeMonoMethod(actor, method, input);
-        }
-
-        return invokeMethod(actor, method, input);
+        ActorMethodInvoker invoker = this.actorMethods.getInvoker(methodName);
+        Object input = invoker.deserializeInput(this.runtimeContext.getObjectSerializer(), request);
+        return invoker.invoke(actor, input, this.runtimeContext.getExecutionSettings());
       } catch (Exception e) {
         return Mono.error(e);
       }
@@ -268,52 +529,11 @@ class ActorManager<T extends AbstractActor> {
     });
   }
 
-  /**
-   * Invokes a method that returns a plain object (not Mono).
-   *
-   * @param actor  Actor to be invoked.
-   * @param method Method to be invoked.
-   * @param input  Input object for the method (or null).
-   * @return Asynchronous object response.
-   */
-  private Mono<Object> invokeMethod(AbstractActor actor, Method method, Object input) {
-    return Mono.fromSupplier(() -> {
-      try {
-        if (method.getParameterCount() == 0) {
-          return method.invoke(actor);
-        } else {
-          // Actor methods must have a one or no parameter, which is guaranteed at this point.
-          return method.invoke(actor, input);
-        }
-      } catch (Exception e) {
-        return Mono.error(e);
-      }
-    });
-  }
-
-  /**
-   * Invokes a method that returns Mono.
-   *
-   * @param actor  Actor to be invoked.
-   * @param method Method to be invoked.
-   * @param input  Input object for the method (or null).
-   * @return Asynchronous object response.
-   */
-  private Mono<Object> invokeMonoMethod(AbstractActor actor, Method method, Object input) {
-    try {
-      if (method.getParameterCount() == 0) {
-        return (Mono<Object>) method.invoke(actor);
-      } else {
-        // Actor methods must have a one or no parameter, which is guaranteed at this point.
-        return (Mono<Object>) method.invoke(actor, input);
-      }
-    } catch (Exception e) {
-      return Mono.error(e);
-    }
-  }
-
   /**
    * Internal call to invoke a method, timer or reminder for an Actor.
+   * The call is queued in the Actor's mailbox, so it runs once the previous ones are done. A call reaching an
+   * instance that was deactivated or evicted meanwhile is sent again, once that instance's queued turns are done,
+   * so it runs on the Actor's next instance.
    *
    * @param actorId Actor identifier.
    * @param context Context for the method/timer/reminder call.
@@ -323,26 +543,57 @@ class ActorManager<T extends AbstractActor> {
    */
   private <T> Mono<T> invoke(ActorId actorId, ActorMethodContext context, Function<AbstractActor, Mono<T>> func) {
     try {
-      AbstractActor actor = this.activeActors.getOrDefault(actorId, null);
+      AbstractActor actor = this.activeActors.get(actorId);
       if (actor == null) {
+        if (this.passivatedActors.containsKey(actorId)) {
+          // Evicted by this runtime while Dapr still sees it as active.
+          return this.activateActor(actorId).then(Mono.defer(() -> this.invoke(actorId, context, func)));
+        }
+
         throw new IllegalArgumentException(
             String.format("Could not find actor %s of type %s.",
                 actorId.toString(),
                 this.runtimeContext.getActorTypeInformation().getName()));
       }
 
-      return actor.onPreActorMethodInternal(context)
-          .then((Mono<Object>) func.apply(actor))
-          .switchIfEmpty(
-              actor.onPostActorMethodInternal(context))
-          .flatMap(r -> actor.onPostActorMethodInternal(context).thenReturn(r))
-          .onErrorMap(throwable -> {
-            actor.rollback();
-            return throwable;
-          })
-          .map(o -> (T) o);
+      if (actor.getMailbox().isClosed()) {
+        return this.rerouteStale(actorId, context, func);
+      }
+
+      actor.setLastUsed(this.ticker.getAsLong());
+      return actor.getMailbox().enqueue(() -> {
+        if (this.activeActors.get(actorId) != actor) {
+          // Waiting inside the turn would deadlock with the eviction queued behind it.
+          return Mono.just(STALE_ACTOR);
+        }
+
+        return actor.onPreActorMethodInternal(context)
+            .then(Mono.defer(() -> (Mono<Object>) func.apply(actor)))
+            .switchIfEmpty(
+                actor.onPostActorMethodInternal(context))
+            .flatMap(r -> actor.onPostActorMethodInternal(context).thenReturn(r))
+            .onErrorMap(throwable -> {
+              actor.rollback();
+              return throwable;
+            });
+      }).flatMap(r -> r == STALE_ACTOR ? this.rerouteStale(actorId, context, func) : Mono.just((T) r));
     } catch (Exception e) {
       return Mono.error(e);
     }
   }
+
+  /**
+   * Sends a call again, as it reached an instance that was deactivated or evicted.
+   * An evicted Actor is activated again, a deactivated one is not found.
+   *
+   * @param actorId Actor identifier.
+   * @param context Context for the method/timer/reminder call.
+   * @param func    Function to perform the method call.
+   * @param <T>     Expected return type for the function call.
+   * @return Asynchronous response for the returned object.
+   */
+  private <T> Mono<T> rerouteStale(
+      ActorId actorId, ActorMethodContext context, Function<AbstractActor, Mono<T>> func) {
+    return Mono.defer(() -> this.invoke(actorId, context, func));
+  }
 }
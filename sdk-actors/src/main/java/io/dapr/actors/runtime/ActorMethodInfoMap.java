@@ -12,13 +12,14 @@ import java.util.HashMap;
 import java.util.Map;
 
 /**
- * Actor method dispatcher map. Holds method_name -> Method for methods defined in Actor interfaces.
+ * Actor method dispatcher map. Holds method_name -> invoker for methods defined in Actor interfaces.
+ * Invokers are resolved once, when the Actor type is registered.
  */
 class ActorMethodInfoMap {
   /**
    * Map for methods based on name.
    */
-  private final Map<String, Method> methods;
+  private final Map<String, ActorMethodInvoker> methods;
 
   /**
    * Instantiates a given Actor map based on the interfaces found in the class.
@@ -26,7 +27,7 @@ class ActorMethodInfoMap {
    * @param interfaceTypes Interfaces found in the Actor class.
    */
   ActorMethodInfoMap(Collection<Class<?>> interfaceTypes) {
-    Map<String, Method> methods = new HashMap<>();
+    Map<String, ActorMethodInvoker> methods = new HashMap<>();
 
     // Find methods which are defined in Actor interface.
     for (Class<?> actorInterface : interfaceTypes) {
@@ -35,7 +36,7 @@ class ActorMethodInfoMap {
         if (methodInfo.getParameterCount() <= 1) {
           // If Actor class uses overloading, then one will win.
           // Document this behavior, so users know how to write their code.
-          methods.put(methodInfo.getName(), methodInfo);
+          methods.put(methodInfo.getName(), new ActorMethodInvoker(methodInfo));
         }
       }
     }
@@ -51,11 +52,22 @@ class ActorMethodInfoMap {
    * @throws NoSuchMethodException If method is not found.
    */
   Method get(String methodName) throws NoSuchMethodException {
-    Method method = this.methods.get(methodName);
-    if (method == null) {
+    return this.getInvoker(methodName).getMethod();
+  }
+
+  /**
+   * Gets the invoker for an Actor's method by name.
+   *
+   * @param methodName Name of the method.
+   * @return Invoker for the method.
+   * @throws NoSuchMethodException If method is not found.
+   */
+  ActorMethodInvoker getInvoker(String methodName) throws NoSuchMethodException {
+    ActorMethodInvoker invoker = this.methods.get(methodName);
+    if (invoker == null) {
       throw new NoSuchMethodException(String.format("Could not find method %s.", methodName));
     }
 
-    return method;
+    return invoker;
   }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.utils.TypeRef;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Invokes an Actor's method, resolved once when the Actor type is registered.
+ * Calls go through a method handle instead of {@link Method#invoke(Object, Object...)}, so arguments are not
+ * copied into an array and exceptions thrown by the method reach the caller as they are.
+ */
+class ActorMethodInvoker {
+
+  /**
+   * Shape every method handle is adapted to: (actor, input) -> result.
+   */
+  private static final MethodType INVOKER_TYPE = MethodType.methodType(
+      Object.class, AbstractActor.class, Object.class);
+
+  /**
+   * Method being invoked.
+   */
+  private final Method method;
+
+  /**
+   * Handle to the method, taking the Actor and its input (ignored if the method has no parameter).
+   */
+  private final MethodHandle handle;
+
+  /**
+   * Type of the method's parameter, or null if it has none.
+   */
+  private final TypeRef<?> inputType;
+
+  /**
+   * Whether the method returns Mono, otherwise its result is wrapped in one.
+   */
+  private final boolean returnsMono;
+
+  /**
+   * Resolves the invoker for an Actor's method with one or no parameter.
+   *
+   * @param method Method to be invoked.
+   */
+  ActorMethodInvoker(Method method) {
+    if (method == null) {
+      throw new IllegalArgumentException("Method is required.");
+    }
+    if (method.getParameterCount() > 1) {
+      throw new IllegalArgumentException(
+          String.format("Method %s must have one or no parameter.", method.getName()));
+    }
+
+    this.method = method;
+    this.handle = toHandle(method);
+    // The generic type is used, so parameters such as List<MyData> are deserialized in a single pass.
+    this.inputType = method.getParameterCount() == 0 ? null : TypeRef.get(method.getGenericParameterTypes()[0]);
+    this.returnsMono = method.getReturnType().equals(Mono.class);
+  }
+
+  /**
+   * Gets the method being invoked.
+   *
+   * @return Method being invoked.
+   */
+  Method getMethod() {
+    return this.method;
+  }
+
+  /**
+   * Deserializes the method's input.
+   *
+   * @param serializer Serializer for the Actor's request objects.
+   * @param request    Serialized input.
+   * @return Input for the method, or null if the method has no parameter.
+   * @throws IOException If the input cannot be deserialized.
+   */
+  Object deserializeInput(DaprObjectSerializer serializer, byte[] request) throws IOException {
+    if (this.inputType == null) {
+      return null;
+    }
+
+    return serializer.deserialize(request, this.inputType);
+  }
+
+  /**
+   * Invokes the method on the calling thread.
+   *
+   * @param actor Actor to be invoked.
+   * @param input Input for the method, ignored if the method has no parameter.
+   * @return Asynchronous result of the method.
+   */
+  Mono<Object> invoke(AbstractActor actor, Object input) {
+    return this.invoke(actor, input, ActorExecutionSettings.callerThread());
+  }
+
+  /**
+   * Invokes the method.
+   *
+   * @param actor             Actor to be invoked.
+   * @param input             Input for the method, ignored if the method has no parameter.
+   * @param executionSettings Decides where the method runs, if it does not return Mono.
+   * @return Asynchronous result of the method.
+   */
+  Mono<Object> invoke(AbstractActor actor, Object input, ActorExecutionSettings executionSettings) {
+    if (this.returnsMono) {
+      try {
+        return (Mono<Object>) this.call(actor, input);
+      } catch (Exception e) {
+        return Mono.error(e);
+      }
+    }
+
+    return executionSettings.run(() -> this.call(actor, input));
+  }
+
+  /**
+   * Calls the method through its handle.
+   *
+   * @param actor Actor to be invoked.
+   * @param input Input for the method, ignored if the method has no parameter.
+   * @return Result of the method.
+   * @throws Exception Exception thrown by the method.
+   */
+  private Object call(AbstractActor actor, Object input) throws Exception {
+    try {
+      return (Object) this.handle.invokeExact(actor, input);
+    } catch (Exception | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new UndeclaredThrowableException(t);
+    }
+  }
+
+  /**
+   * Creates a handle to the method, adapted to {@link #INVOKER_TYPE}.
+   * A method that cannot be accessed gets a handle throwing the access error, so the Actor type can still be
+   * registered and only calls to that method fail, as they did with reflection.
+   *
+   * @param method Method to be invoked.
+   * @return Handle to the method.
+   */
+  private static MethodHandle toHandle(Method method) {
+    MethodHandle handle;
+    try {
+      try {
+        // Actor interfaces do not have to be public.
+        method.setAccessible(true);
+      } catch (RuntimeException e) {
+        // Not allowed, the method is still invoked if public.
+      }
+      handle = MethodHandles.lookup().unreflect(method);
+    } catch (IllegalAccessException e) {
+      return MethodHandles.dropArguments(
+          MethodHandles.throwException(Object.class, IllegalAccessException.class).bindTo(e),
+          0,
+          INVOKER_TYPE.parameterList());
+    }
+
+    if (method.getParameterCount() == 0) {
+      handle = MethodHandles.dropArguments(handle, 1, Object.class);
+    }
+    return handle.asType(INVOKER_TYPE);
+  }
+}
@@ -13,9 +13,8 @@ import io.dapr.serializer.DefaultObjectSerializer;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
-import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Contains methods to register actor types. Registering the types allows the
@@ -54,7 +53,7 @@ public class ActorRuntime {
   private final DaprClient daprClient;
 
   /**
-   * Map of ActorType --> ActorManager.
+   * Map of ActorType --> ActorManager, looked up without locking.
    */
   private final Map<String, ActorManager> actorManagers;
 
@@ -79,7 +78,7 @@ public class ActorRuntime {
     }
 
     this.config = new ActorRuntimeConfig();
-    this.actorManagers = Collections.synchronizedMap(new HashMap<>());
+    this.actorManagers = new ConcurrentHashMap<>();
     this.daprClient = daprClient;
   }
 
@@ -100,6 +99,28 @@ public class ActorRuntime {
     return instance;
   }
 
+  /**
+   * Returns the ActorRuntime, created with an HTTP client to Dapr from the given builder, e.g. to choose the transport
+   * of Actor calls. As there is only one ActorRuntime, this must be called before {@link #getInstance()}.
+   *
+   * @param daprHttpBuilder Builder for the HTTP client to Dapr.
+   * @return The ActorRuntime.
+   * @throws IllegalStateException If the ActorRuntime was created already.
+   */
+  public static ActorRuntime getInstance(DaprHttpBuilder daprHttpBuilder) {
+    if (daprHttpBuilder == null) {
+      throw new IllegalArgumentException("Dapr HTTP builder is required.");
+    }
+
+    synchronized (ActorRuntime.class) {
+      if (instance != null) {
+        throw new IllegalStateException("ActorRuntime was created already.");
+      }
+      instance = new ActorRuntime(new DaprHttpClient(daprHttpBuilder.build()));
+      return instance;
+    }
+  }
+
   /**
    * Gets the Actor configuration for this runtime.
    *
@@ -170,6 +191,25 @@ public class ActorRuntime {
         Class<T> clazz, ActorFactory<T> actorFactory,
         DaprObjectSerializer objectSerializer,
         DaprObjectSerializer stateSerializer) {
+    registerActor(clazz, actorFactory, objectSerializer, stateSerializer, ActorExecutionSettings.callerThread());
+  }
+
+  /**
+   * Registers an actor with the runtime.
+   *
+   * @param clazz             The type of actor.
+   * @param actorFactory      An optional factory to create actors. This can be used for dependency injection.
+   * @param objectSerializer  Serializer for Actor's request and response objects.
+   * @param stateSerializer   Serializer for Actor's state objects.
+   * @param executionSettings Decides where Actor's methods not returning Mono run, such as a bounded thread pool
+   *                          for methods that block. They stay owned by the caller, which disposes them.
+   * @param <T>               Actor class type.
+   */
+  public <T extends AbstractActor> void registerActor(
+        Class<T> clazz, ActorFactory<T> actorFactory,
+        DaprObjectSerializer objectSerializer,
+        DaprObjectSerializer stateSerializer,
+        ActorExecutionSettings executionSettings) {
     if (clazz == null) {
       throw new IllegalArgumentException("Class is required.");
     }
@@ -182,6 +222,9 @@ public class ActorRuntime {
     if (stateSerializer == null) {
       throw new IllegalArgumentException("State serializer is required.");
     }
+    if (executionSettings == null) {
+      throw new IllegalArgumentException("Execution settings are required.");
+    }
 
     ActorTypeInformation<T> actorTypeInfo = ActorTypeInformation.create(clazz);
 
@@ -191,10 +234,14 @@ public class ActorRuntime {
           actorFactory,
           actorTypeInfo,
           this.daprClient,
-          new DaprStateAsyncProvider(this.daprClient, stateSerializer));
+          new DaprStateAsyncProvider(this.daprClient, stateSerializer),
+          executionSettings);
 
     // Create ActorManagers, override existing entry if registered again.
-    this.actorManagers.put(actorTypeInfo.getName(), new ActorManager<T>(context));
+    ActorManager previous = this.actorManagers.put(actorTypeInfo.getName(), new ActorManager<T>(context));
+    if (previous != null) {
+      previous.close();
+    }
     this.config.addRegisteredActorType(actorTypeInfo.getName());
   }
 
@@ -264,6 +311,28 @@ public class ActorRuntime {
           .flatMap(m -> m.invokeTimer(new ActorId(actorId), timerName));
   }
 
+  /**
+   * Gets the number of active actors of a given type in this runtime.
+   *
+   * @param actorTypeName Actor type name.
+   * @return Number of active actors.
+   */
+  public int getActiveActorCount(String actorTypeName) {
+    return this.getActorManager(actorTypeName).getActiveActorCount();
+  }
+
+  /**
+   * Gets the number of actors of a given type evicted by this runtime, as they were idle or too many were active.
+   *
+   * @param actorTypeName Actor type name.
+   * @return Number of evicted actors.
+   * @see ActorRuntimeConfig#setMaxActiveActorsPerType(Integer)
+   * @see ActorRuntimeConfig#setLocalActorIdleTimeout(java.time.Duration)
+   */
+  public long getActorEvictionCount(String actorTypeName) {
+    return this.getActorManager(actorTypeName).getEvictionCount();
+  }
+
   /**
    * Finds the actor manager or errors out.
    *
@@ -272,7 +341,7 @@ public class ActorRuntime {
    * @throws IllegalStateException if cannot find actor's manager.
    */
   private ActorManager getActorManager(String actorTypeName) {
-    ActorManager actorManager = this.actorManagers.get(actorTypeName);
+    ActorManager actorManager = actorTypeName == null ? null : this.actorManagers.get(actorTypeName);
 
     if (actorManager == null) {
       String errorMsg = String.format("Actor type %s is not registered with Actor runtime.", actorTypeName);
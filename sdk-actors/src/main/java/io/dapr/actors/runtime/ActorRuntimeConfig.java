@@ -25,6 +25,14 @@ public class ActorRuntimeConfig {
 
   private Boolean drainBalancedActors;
 
+  private Integer actorMailboxCapacity;
+
+  private ActorMailboxRejectionPolicy actorMailboxRejectionPolicy = ActorMailboxRejectionPolicy.REJECT_NEW;
+
+  private Integer maxActiveActorsPerType;
+
+  private Duration localActorIdleTimeout;
+
   /**
    * Instantiates a new config for the Actor Runtime.
    */
@@ -134,4 +142,109 @@ public class ActorRuntimeConfig {
     return this;
   }
 
+  /**
+   * Gets the maximum number of calls, timers and reminders queued for each Actor, running one included.
+   * This setting is local to this runtime, it is not sent to Dapr.
+   *
+   * @return Maximum number of calls queued for each Actor, or null if unbounded.
+   */
+  public Integer getActorMailboxCapacity() {
+    return actorMailboxCapacity;
+  }
+
+  /**
+   * Sets the maximum number of calls, timers and reminders queued for each Actor, running one included.
+   * Applies to Actors activated after it is set.
+   *
+   * @param actorMailboxCapacity Maximum number of calls queued for each Actor, or null if unbounded.
+   * @return This instance.
+   */
+  public ActorRuntimeConfig setActorMailboxCapacity(Integer actorMailboxCapacity) {
+    if ((actorMailboxCapacity != null) && (actorMailboxCapacity < 1)) {
+      throw new IllegalArgumentException("Mailbox capacity must be positive.");
+    }
+
+    this.actorMailboxCapacity = actorMailboxCapacity;
+    return this;
+  }
+
+  /**
+   * Gets which call fails when a call arrives for an Actor whose mailbox is full.
+   *
+   * @return Rejection policy for full mailboxes.
+   */
+  public ActorMailboxRejectionPolicy getActorMailboxRejectionPolicy() {
+    return actorMailboxRejectionPolicy;
+  }
+
+  /**
+   * Sets which call fails when a call arrives for an Actor whose mailbox is full.
+   * Applies to Actors activated after it is set.
+   *
+   * @param actorMailboxRejectionPolicy Rejection policy for full mailboxes.
+   * @return This instance.
+   */
+  public ActorRuntimeConfig setActorMailboxRejectionPolicy(ActorMailboxRejectionPolicy actorMailboxRejectionPolicy) {
+    if (actorMailboxRejectionPolicy == null) {
+      throw new IllegalArgumentException("Rejection policy is required.");
+    }
+
+    this.actorMailboxRejectionPolicy = actorMailboxRejectionPolicy;
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of Actors of each type kept active in this runtime.
+   * This setting is local to this runtime, it is not sent to Dapr.
+   *
+   * @return Maximum number of active Actors per type, or null if unbounded.
+   */
+  public Integer getMaxActiveActorsPerType() {
+    return maxActiveActorsPerType;
+  }
+
+  /**
+   * Sets the maximum number of Actors of each type kept active in this runtime.
+   * Once exceeded, the least recently used Actors are evicted: their state is saved and they are deactivated, then
+   * activated again on their next call. Actors with calls in progress or with registered timers are not evicted.
+   *
+   * @param maxActiveActorsPerType Maximum number of active Actors per type, or null if unbounded.
+   * @return This instance.
+   */
+  public ActorRuntimeConfig setMaxActiveActorsPerType(Integer maxActiveActorsPerType) {
+    if ((maxActiveActorsPerType != null) && (maxActiveActorsPerType < 1)) {
+      throw new IllegalArgumentException("Maximum number of active actors must be positive.");
+    }
+
+    this.maxActiveActorsPerType = maxActiveActorsPerType;
+    return this;
+  }
+
+  /**
+   * Gets the duration after which an idle Actor is evicted by this runtime, even if Dapr did not deactivate it.
+   * This setting is local to this runtime, it is not sent to Dapr.
+   *
+   * @return Local idle timeout, or null if idle Actors are only deactivated by Dapr.
+   */
+  public Duration getLocalActorIdleTimeout() {
+    return localActorIdleTimeout;
+  }
+
+  /**
+   * Sets the duration after which an idle Actor is evicted by this runtime, even if Dapr did not deactivate it.
+   * Idle Actors are looked for every actor scan interval, or every 30 seconds if it is not set.
+   * Must be set before Actors are activated.
+   *
+   * @param localActorIdleTimeout Local idle timeout, or null if idle Actors are only deactivated by Dapr.
+   * @return This instance.
+   */
+  public ActorRuntimeConfig setLocalActorIdleTimeout(Duration localActorIdleTimeout) {
+    if ((localActorIdleTimeout != null) && (localActorIdleTimeout.isNegative() || localActorIdleTimeout.isZero())) {
+      throw new IllegalArgumentException("Local idle timeout must be positive.");
+    }
+
+    this.localActorIdleTimeout = localActorIdleTimeout;
+    return this;
+  }
+
 }
@@ -51,7 +51,12 @@ public class ActorRuntimeContext<T extends AbstractActor> {
   private final DaprStateAsyncProvider stateProvider;
 
   /**
-   * Instantiates a new runtime context for the Actor type.
+   * Decides where the Actor's methods not returning Mono run.
+   */
+  private final ActorExecutionSettings executionSettings;
+
+  /**
+   * Instantiates a new runtime context for the Actor type, running its methods on the calling thread.
    *
    * @param actorRuntime         Runtime.
    * @param objectSerializer     Serializer for transient objects.
@@ -66,6 +71,33 @@ public class ActorRuntimeContext<T extends AbstractActor> {
                       ActorTypeInformation<T> actorTypeInformation,
                       DaprClient daprClient,
                       DaprStateAsyncProvider stateProvider) {
+    this(actorRuntime,
+        objectSerializer,
+        actorFactory,
+        actorTypeInformation,
+        daprClient,
+        stateProvider,
+        ActorExecutionSettings.callerThread());
+  }
+
+  /**
+   * Instantiates a new runtime context for the Actor type.
+   *
+   * @param actorRuntime         Runtime.
+   * @param objectSerializer     Serializer for transient objects.
+   * @param actorFactory         Factory for Actors.
+   * @param actorTypeInformation Information for Actor's type.
+   * @param daprClient           Client to communicate to Dapr.
+   * @param stateProvider        State provider for given Actor's type.
+   * @param executionSettings    Decides where the Actor's methods not returning Mono run.
+   */
+  ActorRuntimeContext(ActorRuntime actorRuntime,
+                      DaprObjectSerializer objectSerializer,
+                      ActorFactory<T> actorFactory,
+                      ActorTypeInformation<T> actorTypeInformation,
+                      DaprClient daprClient,
+                      DaprStateAsyncProvider stateProvider,
+                      ActorExecutionSettings executionSettings) {
     this.actorRuntime = actorRuntime;
     this.objectSerializer = objectSerializer;
     this.actorFactory = actorFactory;
@@ -73,6 +105,7 @@ public class ActorRuntimeContext<T extends AbstractActor> {
     this.actorTrace = new ActorTrace();
     this.daprClient = daprClient;
     this.stateProvider = stateProvider;
+    this.executionSettings = executionSettings;
   }
 
   /**
@@ -137,4 +170,13 @@ public class ActorRuntimeContext<T extends AbstractActor> {
   DaprStateAsyncProvider getStateProvider() {
     return stateProvider;
   }
+
+  /**
+   * Gets the settings deciding where the Actor's methods not returning Mono run.
+   *
+   * @return Execution settings for the Actor's type.
+   */
+  ActorExecutionSettings getExecutionSettings() {
+    return this.executionSettings;
+  }
 }
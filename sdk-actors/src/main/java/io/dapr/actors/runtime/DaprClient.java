@@ -22,6 +22,18 @@ interface DaprClient {
    */
   Mono<byte[]> getActorState(String actorType, String actorId, String keyName);
 
+  /**
+   * Checks if a state exists in Dapr's Actor.
+   *
+   * @param actorType Type of actor.
+   * @param actorId   Actor Identifier.
+   * @param keyName   State name.
+   * @return Asynchronous result with true if the state has a value.
+   */
+  default Mono<Boolean> containsActorState(String actorType, String actorId, String keyName) {
+    return this.getActorState(actorType, actorId, keyName).map(s -> true).defaultIfEmpty(false);
+  }
+
   /**
    * Saves state batch to Dapr.
    *
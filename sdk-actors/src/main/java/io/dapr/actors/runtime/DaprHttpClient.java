@@ -7,6 +7,7 @@ package io.dapr.actors.runtime;
 
 import io.dapr.client.DaprHttp;
 import io.dapr.utils.Constants;
+import io.dapr.utils.UrlTemplate;
 import reactor.core.publisher.Mono;
 
 /**
@@ -14,6 +15,28 @@ import reactor.core.publisher.Mono;
  */
 class DaprHttpClient implements DaprClient {
 
+  /**
+   * Relative URL for a single key of an actor's state.
+   */
+  private static final UrlTemplate ACTOR_STATE_KEY_URL =
+      UrlTemplate.compile(Constants.ACTOR_STATE_KEY_RELATIVE_URL_FORMAT);
+
+  /**
+   * Relative URL for an actor's state.
+   */
+  private static final UrlTemplate ACTOR_STATE_URL = UrlTemplate.compile(Constants.ACTOR_STATE_RELATIVE_URL_FORMAT);
+
+  /**
+   * Relative URL for an actor's reminder.
+   */
+  private static final UrlTemplate ACTOR_REMINDER_URL =
+      UrlTemplate.compile(Constants.ACTOR_REMINDER_RELATIVE_URL_FORMAT);
+
+  /**
+   * Relative URL for an actor's timer.
+   */
+  private static final UrlTemplate ACTOR_TIMER_URL = UrlTemplate.compile(Constants.ACTOR_TIMER_RELATIVE_URL_FORMAT);
+
   /**
    * The HTTP client to be used.
    *
@@ -35,17 +58,28 @@ class DaprHttpClient implements DaprClient {
    */
   @Override
   public Mono<byte[]> getActorState(String actorType, String actorId, String keyName) {
-    String url = String.format(Constants.ACTOR_STATE_KEY_RELATIVE_URL_FORMAT, actorType, actorId, keyName);
+    String url = ACTOR_STATE_KEY_URL.expand(actorType, actorId, keyName);
     Mono<DaprHttp.Response> responseMono = this.client.invokeApi(DaprHttp.HttpMethods.GET.name(), url, null, "", null);
     return responseMono.map(r -> r.getBody());
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Boolean> containsActorState(String actorType, String actorId, String keyName) {
+    String url = ACTOR_STATE_KEY_URL.expand(actorType, actorId, keyName);
+    // Only the first byte of the value is read, the rest is discarded as the response is released.
+    return this.client.invokeApi(DaprHttp.HttpMethods.GET.name(), url, null, null, null,
+        (statusCode, headers, body) -> body.read() >= 0);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public Mono<Void> saveActorStateTransactionally(String actorType, String actorId, byte[] data) {
-    String url = String.format(Constants.ACTOR_STATE_RELATIVE_URL_FORMAT, actorType, actorId);
+    String url = ACTOR_STATE_URL.expand(actorType, actorId);
     return this.client.invokeApi(DaprHttp.HttpMethods.PUT.name(), url, null, data, null).then();
   }
 
@@ -54,7 +88,7 @@ class DaprHttpClient implements DaprClient {
    */
   @Override
   public Mono<Void> registerActorReminder(String actorType, String actorId, String reminderName, byte[] data) {
-    String url = String.format(Constants.ACTOR_REMINDER_RELATIVE_URL_FORMAT, actorType, actorId, reminderName);
+    String url = ACTOR_REMINDER_URL.expand(actorType, actorId, reminderName);
     return this.client.invokeApi(DaprHttp.HttpMethods.PUT.name(), url, null, data, null).then();
   }
 
@@ -63,7 +97,7 @@ class DaprHttpClient implements DaprClient {
    */
   @Override
   public Mono<Void> unregisterActorReminder(String actorType, String actorId, String reminderName) {
-    String url = String.format(Constants.ACTOR_REMINDER_RELATIVE_URL_FORMAT, actorType, actorId, reminderName);
+    String url = ACTOR_REMINDER_URL.expand(actorType, actorId, reminderName);
     return this.client.invokeApi(DaprHttp.HttpMethods.DELETE.name(), url, null, null).then();
   }
 
@@ -72,7 +106,7 @@ class DaprHttpClient implements DaprClient {
    */
   @Override
   public Mono<Void> registerActorTimer(String actorType, String actorId, String timerName, byte[] data) {
-    String url = String.format(Constants.ACTOR_TIMER_RELATIVE_URL_FORMAT, actorType, actorId, timerName);
+    String url = ACTOR_TIMER_URL.expand(actorType, actorId, timerName);
     return this.client.invokeApi(DaprHttp.HttpMethods.PUT.name(), url, null, data, null).then();
   }
 
@@ -81,7 +115,7 @@ class DaprHttpClient implements DaprClient {
    */
   @Override
   public Mono<Void> unregisterActorTimer(String actorType, String actorId, String timerName) {
-    String url = String.format(Constants.ACTOR_TIMER_RELATIVE_URL_FORMAT, actorType, actorId, timerName);
+    String url = ACTOR_TIMER_URL.expand(actorType, actorId, timerName);
     return this.client.invokeApi(DaprHttp.HttpMethods.DELETE.name(), url, null, null).then();
   }
 
@@ -7,7 +7,6 @@ package io.dapr.actors.runtime;
 
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dapr.actors.ActorId;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.StringContentType;
@@ -21,11 +20,6 @@ import java.io.IOException;
  */
 class DaprStateAsyncProvider {
 
-  /**
-   * Used to fix problem from Dapr's state response.
-   */
-  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
-
   /**
    * Shared Json Factory as per Jackson's documentation, used only for this class.
    */
@@ -63,7 +57,7 @@ class DaprStateAsyncProvider {
 
     return result.flatMap(s -> {
       try {
-        T response = this.stateSerializer.deserialize(fixDaprStateResponse(s), clazz);
+        T response = this.deserialize(s, clazz);
         if (response == null) {
           return Mono.empty();
         }
@@ -76,8 +70,7 @@ class DaprStateAsyncProvider {
   }
 
   Mono<Boolean> contains(String actorType, ActorId actorId, String stateName) {
-    Mono<byte[]> result = this.daprClient.getActorState(actorType, actorId.toString(), stateName);
-    return result.map(s -> true).defaultIfEmpty(false);
+    return this.daprClient.containsActorState(actorType, actorId.toString(), stateName);
   }
 
   /**
@@ -173,27 +166,24 @@ class DaprStateAsyncProvider {
   }
 
   /**
-   * Workaround for a bug in Dapr's runtime where actor state is saved as a JSON string and
-   * returned as-is without deserializing first.
+   * Deserializes a state received from Dapr.
+   * Works around a bug in Dapr's runtime where actor state is saved as a JSON string and returned as-is without
+   * deserializing first: the string is unescaped as the serializer reads it, in a single pass.
    *
-   * @param raw Bytes received from Dapr.
-   * @return Corrected byte[].
+   * @param raw   Bytes received from Dapr.
+   * @param clazz Type of the state.
+   * @param <T>   Type of the state.
+   * @return State, or null if there is none.
+   * @throws IOException If the state cannot be deserialized.
    */
-  private byte[] fixDaprStateResponse(byte[] raw) {
-    if (raw == null) {
-      return raw;
+  private <T> T deserialize(byte[] raw, Class<T> clazz) throws IOException {
+    int quote = JsonStringInputStream.openingQuoteOf(raw);
+    if (quote < 0) {
+      // Not a JSON string, so it goes as-is.
+      return this.stateSerializer.deserialize(raw, clazz);
     }
 
-    if (raw.length == 0) {
-      return raw;
-    }
-
-    try {
-      return OBJECT_MAPPER.readValue(raw, String.class).getBytes();
-    } catch (IOException e) {
-      // We could not fix it, so iit goes as-is.
-      return raw;
-    }
+    return this.stateSerializer.deserializeFrom(new JsonStringInputStream(raw, quote + 1), clazz);
   }
 
 }
@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Content of a JSON string, unescaped and UTF-8 encoded as it is read.
+ * Bytes other than escapes are returned as they are, so the string is decoded without building it first.
+ */
+class JsonStringInputStream extends InputStream {
+
+  /**
+   * JSON document holding the string.
+   */
+  private final byte[] json;
+
+  /**
+   * Position of the next byte to be read from the document.
+   */
+  private int position;
+
+  /**
+   * Bytes decoded from the last escape sequence, not read yet.
+   */
+  private final byte[] pending = new byte[4];
+
+  /**
+   * Position of the next pending byte to be read.
+   */
+  private int pendingPosition;
+
+  /**
+   * Number of pending bytes.
+   */
+  private int pendingLength;
+
+  /**
+   * True once the closing quote has been read.
+   */
+  private boolean closed;
+
+  /**
+   * Creates a stream for the string starting at a given position of a JSON document.
+   *
+   * @param json  JSON document holding the string.
+   * @param start Position of the first byte after the opening quote.
+   */
+  JsonStringInputStream(byte[] json, int start) {
+    this.json = json;
+    this.position = start;
+  }
+
+  /**
+   * Finds the opening quote of a JSON document made only of a string.
+   *
+   * @param json JSON document.
+   * @return Position of the opening quote, or -1 if the document does not look like a string.
+   */
+  static int openingQuoteOf(byte[] json) {
+    if (json == null) {
+      return -1;
+    }
+
+    int start = 0;
+    while ((start < json.length) && isWhitespace(json[start])) {
+      start++;
+    }
+    int end = json.length - 1;
+    while ((end > start) && isWhitespace(json[end])) {
+      end--;
+    }
+
+    if ((end <= start) || (json[start] != '"') || (json[end] != '"')) {
+      return -1;
+    }
+    return start;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read() throws IOException {
+    if ((this.pendingPosition == this.pendingLength) && !this.decodeNext()) {
+      return -1;
+    }
+
+    return this.pending[this.pendingPosition++] & 0xff;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+
+    int count = 0;
+    while (count < len) {
+      if (this.pendingPosition < this.pendingLength) {
+        b[off + count++] = this.pending[this.pendingPosition++];
+        continue;
+      }
+      if (this.closed) {
+        break;
+      }
+
+      if (this.position < this.json.length) {
+        byte next = this.json[this.position];
+        if ((next != '"') && (next != '\\')) {
+          // Plain bytes, multi-byte characters included, are copied as they are.
+          b[off + count++] = next;
+          this.position++;
+          continue;
+        }
+      }
+      if (!this.decodeNext()) {
+        break;
+      }
+    }
+
+    return count == 0 ? -1 : count;
+  }
+
+  /**
+   * Decodes the next character of the string into the pending bytes.
+   *
+   * @return False if the end of the string was reached.
+   * @throws IOException If the string has an invalid escape sequence or no closing quote.
+   */
+  private boolean decodeNext() throws IOException {
+    if (this.closed) {
+      return false;
+    }
+    if (this.position >= this.json.length) {
+      throw new IOException("Unterminated JSON string.");
+    }
+
+    this.pendingPosition = 0;
+    this.pendingLength = 0;
+    byte next = this.json[this.position++];
+    if (next == '"') {
+      this.closed = true;
+      return false;
+    }
+    if (next != '\\') {
+      this.pending[this.pendingLength++] = next;
+      return true;
+    }
+
+    byte escaped = this.nextByte();
+    switch (escaped) {
+      case '"':
+      case '\\':
+      case '/':
+        this.pending[this.pendingLength++] = escaped;
+        return true;
+      case 'b':
+        this.pending[this.pendingLength++] = '\b';
+        return true;
+      case 'f':
+        this.pending[this.pendingLength++] = '\f';
+        return true;
+      case 'n':
+        this.pending[this.pendingLength++] = '\n';
+        return true;
+      case 'r':
+        this.pending[this.pendingLength++] = '\r';
+        return true;
+      case 't':
+        this.pending[this.pendingLength++] = '\t';
+        return true;
+      case 'u':
+        this.encode(this.decodeUnicodeEscape());
+        return true;
+      default:
+        throw new IOException("Invalid escape sequence in JSON string: \\" + (char) escaped);
+    }
+  }
+
+  /**
+   * Decodes the code point of a unicode escape sequence, and of the one following it for surrogate pairs.
+   *
+   * @return Code point, or '?' for unpaired surrogates as {@link String#getBytes()} would encode them.
+   * @throws IOException If the sequence is invalid.
+   */
+  private int decodeUnicodeEscape() throws IOException {
+    char high = this.nextHexChar();
+    if (!Character.isSurrogate(high)) {
+      return high;
+    }
+
+    if (Character.isHighSurrogate(high)
+        && (this.position + 1 < this.json.length)
+        && (this.json[this.position] == '\\')
+        && (this.json[this.position + 1] == 'u')) {
+      int mark = this.position;
+      this.position += 2;
+      char low = this.nextHexChar();
+      if (Character.isLowSurrogate(low)) {
+        return Character.toCodePoint(high, low);
+      }
+      this.position = mark;
+    }
+    return '?';
+  }
+
+  /**
+   * Reads the four hexadecimal digits of a unicode escape sequence.
+   *
+   * @return Character being escaped.
+   * @throws IOException If the digits are invalid.
+   */
+  private char nextHexChar() throws IOException {
+    int value = 0;
+    for (int i = 0; i < 4; i++) {
+      int digit = Character.digit(this.nextByte(), 16);
+      if (digit < 0) {
+        throw new IOException("Invalid unicode escape sequence in JSON string.");
+      }
+      value = (value << 4) | digit;
+    }
+    return (char) value;
+  }
+
+  /**
+   * Reads the next byte of an escape sequence.
+   *
+   * @return Next byte.
+   * @throws IOException If the document ends first.
+   */
+  private byte nextByte() throws IOException {
+    if (this.position >= this.json.length) {
+      throw new IOException("Unterminated JSON string.");
+    }
+    return this.json[this.position++];
+  }
+
+  /**
+   * Encodes a code point as UTF-8 into the pending bytes.
+   *
+   * @param codePoint Code point to be encoded.
+   */
+  private void encode(int codePoint) {
+    if (codePoint < 0x80) {
+      this.pending[this.pendingLength++] = (byte) codePoint;
+    } else if (codePoint < 0x800) {
+      this.pending[this.pendingLength++] = (byte) (0xc0 | (codePoint >> 6));
+      this.pending[this.pendingLength++] = (byte) (0x80 | (codePoint & 0x3f));
+    } else if (codePoint < 0x10000) {
+      this.pending[this.pendingLength++] = (byte) (0xe0 | (codePoint >> 12));
+      this.pending[this.pendingLength++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+      this.pending[this.pendingLength++] = (byte) (0x80 | (codePoint & 0x3f));
+    } else {
+      this.pending[this.pendingLength++] = (byte) (0xf0 | (codePoint >> 18));
+      this.pending[this.pendingLength++] = (byte) (0x80 | ((codePoint >> 12) & 0x3f));
+      this.pending[this.pendingLength++] = (byte) (0x80 | ((codePoint >> 6) & 0x3f));
+      this.pending[this.pendingLength++] = (byte) (0x80 | (codePoint & 0x3f));
+    }
+  }
+
+  /**
+   * Checks if a byte is JSON whitespace.
+   *
+   * @param b Byte to be checked.
+   * @return True for spaces, tabs and line breaks.
+   */
+  private static boolean isWhitespace(byte b) {
+    return (b == ' ') || (b == '\t') || (b == '\n') || (b == '\r');
+  }
+}
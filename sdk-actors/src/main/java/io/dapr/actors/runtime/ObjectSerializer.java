@@ -24,6 +24,24 @@ public class ObjectSerializer extends io.dapr.client.ObjectSerializer {
    */
   private static final JsonFactory JSON_FACTORY = new JsonFactory();
 
+  /**
+   * Creates a serializer, caching a codec per type if enabled via
+   * {@link io.dapr.utils.Properties#SERIALIZER_CODEC_CACHE}.
+   */
+  public ObjectSerializer() {
+    super();
+  }
+
+  /**
+   * Creates a serializer.
+   *
+   * @param codecCache True to resolve a codec once per type, so each call skips the type checks and Jackson's root
+   *                   type lookup.
+   */
+  public ObjectSerializer(boolean codecCache) {
+    super(codecCache);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -6,9 +6,17 @@
 package io.dapr.actors.client;
 
 import io.dapr.actors.ActorId;
+import io.dapr.client.DaprHttp;
+import io.dapr.client.DaprHttpBuilder;
+import io.dapr.client.DaprTransport;
 import io.dapr.serializer.DefaultObjectSerializer;
 import org.junit.Assert;
 import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 public class ActorProxyBuilderTest {
 
@@ -41,6 +49,30 @@ public class ActorProxyBuilderTest {
 
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void buildWithNullDaprHttpBuilder() {
+    new ActorProxyBuilder("MyActor")
+      .withDaprHttpBuilder(null);
+  }
+
+  @Test
+  public void buildWithTransport() {
+    List<String> urls = new ArrayList<>();
+    DaprTransport transport = (method, url, content, headers) -> {
+      urls.add(url);
+      return Mono.just(new DaprHttp.Response("hello".getBytes(), Collections.emptyMap(), 200));
+    };
+    ActorProxyBuilder builder = new ActorProxyBuilder("test")
+      .withDaprHttpBuilder(new DaprHttpBuilder())
+      .withTransport(transport);
+
+    Assert.assertEquals("hello", builder.build(new ActorId("100")).invokeActorMethod("say", String.class).block());
+    Assert.assertEquals("hello", builder.build(new ActorId("200")).invokeActorMethod("say", String.class).block());
+    Assert.assertEquals(2, urls.size());
+    Assert.assertTrue(urls.get(0).endsWith("/actors/test/100/method/say"));
+    Assert.assertTrue(urls.get(1).endsWith("/actors/test/200/method/say"));
+  }
+
   @Test()
   public void build() {
     ActorProxyBuilder builder = new ActorProxyBuilder("test");
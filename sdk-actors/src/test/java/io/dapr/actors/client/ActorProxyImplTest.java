@@ -8,11 +8,14 @@ package io.dapr.actors.client;
 import io.dapr.actors.ActorId;
 import io.dapr.serializer.DefaultObjectSerializer;
 import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.utils.TypeRef;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -54,6 +57,26 @@ public class ActorProxyImplTest {
     Assert.assertEquals("valueB", myData.getPropertyB());// propertyB=null
   }
 
+  @Test()
+  public void invokeActorMethodWithoutDataWithGenericReturnType() {
+    final DaprClient daprClient = mock(DaprClient.class);
+    when(daprClient.invokeActorMethod(anyString(), anyString(), anyString(), Mockito.isNull()))
+        .thenReturn(Mono.just("[{\"propertyA\": \"valueA\"}, {\"propertyA\": \"valueB\"}]".getBytes()));
+
+    final ActorProxy actorProxy = new ActorProxyImpl(
+        "myActorType",
+        new ActorId("100"),
+        new DefaultObjectSerializer(),
+        daprClient);
+
+    Mono<List<MyData>> result = actorProxy.invokeActorMethod("getData", new TypeRef<List<MyData>>() {});
+    List<MyData> myData = result.block();
+    Assert.assertNotNull(myData);
+    Assert.assertEquals(2, myData.size());
+    Assert.assertEquals("valueA", myData.get(0).getPropertyA());
+    Assert.assertEquals("valueB", myData.get(1).getPropertyA());
+  }
+
   @Test()
   public void invokeActorMethodWithoutDataWithEmptyReturnType() {
     final DaprClient daprClient = mock(DaprClient.class);
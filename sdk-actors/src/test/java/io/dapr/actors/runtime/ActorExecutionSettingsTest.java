@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class ActorExecutionSettingsTest {
+
+  @Test
+  public void callerThreadRunsOnCallingThread() {
+    ActorExecutionSettings settings = ActorExecutionSettings.callerThread();
+
+    Assert.assertSame(Thread.currentThread(), settings.run(Thread::currentThread).block());
+    Assert.assertSame(settings, ActorExecutionSettings.callerThread());
+  }
+
+  @Test
+  public void boundedElasticRunsOnPoolAndCountsQueuedCalls() throws Exception {
+    ActorExecutionSettings settings = ActorExecutionSettings.boundedElastic(1, 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    MonoProcessor<Thread> first = settings.run(() -> {
+      started.countDown();
+      release.await();
+      return Thread.currentThread();
+    }).toProcessor();
+    Assert.assertTrue(started.await(10, TimeUnit.SECONDS));
+    MonoProcessor<Thread> second = settings.run(Thread::currentThread).toProcessor();
+
+    Assert.assertEquals(1, settings.getRunningCalls());
+    Assert.assertEquals(1, settings.getQueuedCalls());
+
+    // The only thread is busy and the queue is full.
+    List<MonoProcessor<Thread>> overflow = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      overflow.add(settings.run(Thread::currentThread).toProcessor());
+    }
+    long rejected = overflow.stream()
+        .filter(call -> call.getError() instanceof RejectedExecutionException)
+        .count();
+    Assert.assertTrue(rejected > 0);
+    Assert.assertEquals(rejected, settings.getRejectedCalls());
+
+    release.countDown();
+    Assert.assertNotSame(Thread.currentThread(), first.block(Duration.ofSeconds(10)));
+    Assert.assertNotNull(second.block(Duration.ofSeconds(10)));
+    for (MonoProcessor<Thread> call : overflow) {
+      call.onErrorResume(e -> Mono.empty()).block(Duration.ofSeconds(10));
+    }
+    Assert.assertEquals(0, settings.getRunningCalls());
+    Assert.assertEquals(0, settings.getQueuedCalls());
+  }
+
+  @Test
+  public void boundedElasticPropagatesMethodErrors() {
+    ActorExecutionSettings settings = ActorExecutionSettings.boundedElastic(2, 10);
+
+    try {
+      settings.run(() -> {
+        throw new IllegalStateException("boom");
+      }).block();
+      Assert.fail("Call should fail.");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("boom", e.getMessage());
+    }
+    Assert.assertEquals(0, settings.getRejectedCalls());
+    Assert.assertEquals(0, settings.getQueuedCalls());
+  }
+
+  @Test
+  public void virtualThreadsRunOffCallingThread() {
+    ActorExecutionSettings settings;
+    try {
+      settings = ActorExecutionSettings.virtualThreads();
+    } catch (IllegalStateException e) {
+      Assume.assumeNoException("Virtual threads are not available.", e);
+      return;
+    }
+
+    Assert.assertNotSame(Thread.currentThread(), settings.run(Thread::currentThread).block());
+  }
+
+  @Test
+  public void disposedSettingsRejectCalls() {
+    ActorExecutionSettings settings = ActorExecutionSettings.boundedElastic(1, 1);
+    Assert.assertEquals(1, settings.run(() -> 1).block().intValue());
+
+    settings.dispose();
+
+    Assert.assertTrue(settings.isDisposed());
+    try {
+      settings.run(() -> 1).block();
+      Assert.fail("Call should be rejected.");
+    } catch (RejectedExecutionException e) {
+      // Expected.
+    }
+  }
+
+  @Test
+  public void disposingCallerThreadDoesNothing() {
+    ActorExecutionSettings.callerThread().dispose();
+
+    Assert.assertFalse(ActorExecutionSettings.callerThread().isDisposed());
+    Assert.assertSame(Thread.currentThread(), ActorExecutionSettings.callerThread().run(Thread::currentThread).block());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void boundedElasticRequiresThreads() {
+    ActorExecutionSettings.boundedElastic(0, 1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void boundedElasticRequiresQueue() {
+    ActorExecutionSettings.boundedElastic(1, 0);
+  }
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class ActorMailboxTest {
+
+  @Test
+  public void runsTurnsOneAtATime() {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", Integer.MAX_VALUE, ActorMailboxRejectionPolicy.REJECT_NEW);
+    MonoProcessor<String> first = MonoProcessor.create();
+    List<String> started = new ArrayList<>();
+
+    MonoProcessor<String> firstResult = mailbox.enqueue(() -> {
+      started.add("first");
+      return first;
+    }).toProcessor();
+    MonoProcessor<String> secondResult = mailbox.enqueue(() -> {
+      started.add("second");
+      return Mono.just("2");
+    }).toProcessor();
+
+    Assert.assertEquals(1, started.size());
+    Assert.assertEquals(2, mailbox.size());
+    Assert.assertFalse(secondResult.isTerminated());
+
+    first.onNext("1");
+    Assert.assertEquals("1", firstResult.block());
+    Assert.assertEquals("2", secondResult.block());
+    Assert.assertEquals("second", started.get(1));
+    Assert.assertEquals(0, mailbox.size());
+  }
+
+  @Test
+  public void failedTurnDoesNotBlockTheNextOne() {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", Integer.MAX_VALUE, ActorMailboxRejectionPolicy.REJECT_NEW);
+    MonoProcessor<String> failed = mailbox.enqueue(() -> Mono.<String>error(new RuntimeException("boom")))
+        .toProcessor();
+    MonoProcessor<String> thrown = mailbox.<String>enqueue(() -> {
+      throw new IllegalArgumentException("thrown");
+    }).toProcessor();
+
+    Assert.assertEquals("boom", failed.getError().getMessage());
+    Assert.assertEquals("thrown", thrown.getError().getMessage());
+    Assert.assertEquals("ok", mailbox.enqueue(() -> Mono.just("ok")).block());
+  }
+
+  @Test
+  public void rejectsNewCallWhenFull() {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", 2, ActorMailboxRejectionPolicy.REJECT_NEW);
+    MonoProcessor<String> first = MonoProcessor.create();
+    MonoProcessor<String> firstResult = mailbox.enqueue(() -> first).toProcessor();
+    MonoProcessor<String> secondResult = mailbox.enqueue(() -> Mono.just("2")).toProcessor();
+    MonoProcessor<String> thirdResult = mailbox.enqueue(() -> Mono.just("3")).toProcessor();
+
+    Assert.assertTrue(thirdResult.getError() instanceof IllegalStateException);
+    Assert.assertEquals("Mailbox of actor MyActor/1 is full.", thirdResult.getError().getMessage());
+
+    first.onNext("1");
+    Assert.assertEquals("1", firstResult.block());
+    Assert.assertEquals("2", secondResult.block());
+  }
+
+  @Test
+  public void rejectsOldestCallWhenFull() {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", 2, ActorMailboxRejectionPolicy.REJECT_OLDEST);
+    MonoProcessor<String> first = MonoProcessor.create();
+    MonoProcessor<String> firstResult = mailbox.enqueue(() -> first).toProcessor();
+    MonoProcessor<String> secondResult = mailbox.enqueue(() -> Mono.just("2")).toProcessor();
+    MonoProcessor<String> thirdResult = mailbox.enqueue(() -> Mono.just("3")).toProcessor();
+
+    Assert.assertTrue(secondResult.getError() instanceof IllegalStateException);
+    Assert.assertFalse(thirdResult.isTerminated());
+
+    first.onNext("1");
+    Assert.assertEquals("1", firstResult.block());
+    Assert.assertEquals("3", thirdResult.block());
+  }
+
+  @Test
+  public void rejectsOldestCallOnlyIfWaiting() {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", 1, ActorMailboxRejectionPolicy.REJECT_OLDEST);
+    MonoProcessor<String> first = MonoProcessor.create();
+    MonoProcessor<String> firstResult = mailbox.enqueue(() -> first).toProcessor();
+    MonoProcessor<String> secondResult = mailbox.enqueue(() -> Mono.just("2")).toProcessor();
+
+    // The running call is never rejected.
+    Assert.assertTrue(secondResult.getError() instanceof IllegalStateException);
+    first.onNext("1");
+    Assert.assertEquals("1", firstResult.block());
+  }
+
+  @Test
+  public void queuesIgnoringCapacity() {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", 1, ActorMailboxRejectionPolicy.REJECT_NEW);
+    MonoProcessor<String> first = MonoProcessor.create();
+    MonoProcessor<String> firstResult = mailbox.enqueue(() -> first).toProcessor();
+    MonoProcessor<String> lastResult = mailbox.enqueueIgnoringCapacity(() -> Mono.just("last")).toProcessor();
+
+    Assert.assertFalse(lastResult.isTerminated());
+    first.onNext("1");
+    Assert.assertEquals("1", firstResult.block());
+    Assert.assertEquals("last", lastResult.block());
+  }
+
+  @Test
+  public void neverRejectsTurnsQueuedIgnoringCapacity() {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", 2, ActorMailboxRejectionPolicy.REJECT_OLDEST);
+    MonoProcessor<String> first = MonoProcessor.create();
+    MonoProcessor<String> firstResult = mailbox.enqueue(() -> first).toProcessor();
+    MonoProcessor<String> deactivation = mailbox.enqueueIgnoringCapacity(() -> Mono.just("deactivated"))
+        .toProcessor();
+    MonoProcessor<String> secondResult = mailbox.enqueue(() -> Mono.just("2")).toProcessor();
+    MonoProcessor<String> thirdResult = mailbox.enqueue(() -> Mono.just("3")).toProcessor();
+
+    // The deactivation cannot make room, so new calls are rejected instead.
+    Assert.assertTrue(secondResult.getError() instanceof IllegalStateException);
+    Assert.assertTrue(thirdResult.getError() instanceof IllegalStateException);
+    Assert.assertFalse(deactivation.isTerminated());
+
+    first.onNext("1");
+    Assert.assertEquals("1", firstResult.block());
+    Assert.assertEquals("deactivated", deactivation.block());
+  }
+
+  @Test
+  public void skipsCancelledCalls() {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", Integer.MAX_VALUE, ActorMailboxRejectionPolicy.REJECT_NEW);
+    MonoProcessor<String> first = MonoProcessor.create();
+    AtomicBoolean cancelledStarted = new AtomicBoolean();
+    Disposable firstCall = mailbox.enqueue(() -> first).subscribe();
+    Disposable cancelledCall = mailbox.enqueue(() -> {
+      cancelledStarted.set(true);
+      return Mono.just("cancelled");
+    }).subscribe();
+    MonoProcessor<String> lastResult = mailbox.enqueue(() -> Mono.just("last")).toProcessor();
+
+    cancelledCall.dispose();
+    // Cancelling the running call frees the mailbox too.
+    firstCall.dispose();
+
+    Assert.assertEquals("last", lastResult.block());
+    Assert.assertFalse(cancelledStarted.get());
+    Assert.assertEquals(0, mailbox.size());
+  }
+
+  @Test
+  public void synchronousTurnsDoNotGrowTheStack() {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", Integer.MAX_VALUE, ActorMailboxRejectionPolicy.REJECT_NEW);
+    MonoProcessor<Integer> first = MonoProcessor.create();
+    mailbox.enqueue(() -> first).subscribe();
+
+    int turns = 100000;
+    AtomicInteger completed = new AtomicInteger();
+    for (int i = 0; i < turns; i++) {
+      mailbox.enqueue(() -> Mono.just(1)).subscribe(v -> completed.incrementAndGet());
+    }
+
+    first.onNext(0);
+    Assert.assertEquals(turns, completed.get());
+  }
+
+  @Test
+  public void concurrentCallsNeverOverlap() throws Exception {
+    ActorMailbox mailbox = new ActorMailbox("MyActor/1", Integer.MAX_VALUE, ActorMailboxRejectionPolicy.REJECT_NEW);
+    int threads = 8;
+    int callsPerThread = 1000;
+    AtomicBoolean inTurn = new AtomicBoolean();
+    AtomicInteger overlaps = new AtomicInteger();
+    AtomicInteger completed = new AtomicInteger();
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    CountDownLatch done = new CountDownLatch(threads * callsPerThread);
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int t = 0; t < threads; t++) {
+        executor.submit(() -> {
+          for (int i = 0; i < callsPerThread; i++) {
+            mailbox.enqueue(() -> Mono.fromCallable(() -> {
+              if (!inTurn.compareAndSet(false, true)) {
+                overlaps.incrementAndGet();
+              }
+              inTurn.set(false);
+              return completed.incrementAndGet();
+            })).subscribe(v -> done.countDown(), e -> {
+              error.set(e);
+              done.countDown();
+            });
+          }
+        });
+      }
+
+      Assert.assertTrue(done.await(30, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    Assert.assertNull(error.get());
+    Assert.assertEquals(0, overlaps.get());
+    Assert.assertEquals(threads * callsPerThread, completed.get());
+    Assert.assertEquals(0, mailbox.size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void capacityMustBePositive() {
+    new ActorMailbox("MyActor/1", 0, ActorMailboxRejectionPolicy.REJECT_NEW);
+  }
+}
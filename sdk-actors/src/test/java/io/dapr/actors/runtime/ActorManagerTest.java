@@ -13,7 +13,16 @@ import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -31,9 +40,39 @@ public class ActorManagerTest {
   interface MyActor {
     String say(String something);
 
+    Mono<String> sayLater(String something);
+
     int getCount();
 
     void incrementCount(int delta);
+
+    void fail(String message);
+  }
+
+  interface Counter {
+    int next();
+  }
+
+  @ActorType(name = "CounterActor")
+  public static class CounterActorImpl extends AbstractActor implements Counter {
+
+    private int count = 0;
+
+    private boolean deactivated = false;
+
+    public CounterActorImpl(ActorRuntimeContext runtimeContext, ActorId id) {
+      super(runtimeContext, id);
+    }
+
+    @Override
+    public int next() {
+      return ++this.count;
+    }
+
+    @Override
+    protected Mono<Void> onDeactivate() {
+      return Mono.fromRunnable(() -> this.deactivated = true);
+    }
   }
 
   public static class NotRemindableActor extends AbstractActor {
@@ -52,6 +91,11 @@ public class ActorManagerTest {
       return executeSayMethod(something);
     }
 
+    @Override
+    public Mono<String> sayLater(String something) {
+      return Mono.delay(Duration.ofMillis(50)).map(l -> executeSayMethod(something));
+    }
+
     @Override
     public int getCount() {
       return this.timeCount;
@@ -62,6 +106,11 @@ public class ActorManagerTest {
       this.timeCount = timeCount + delta;
     }
 
+    @Override
+    public void fail(String message) {
+      throw new IllegalStateException(message);
+    }
+
     public MyActorImpl(ActorRuntimeContext runtimeContext, ActorId id) {
       super(runtimeContext, id);
       super.registerActorTimer(
@@ -183,6 +232,275 @@ public class ActorManagerTest {
     this.manager.invokeTimer(actorId, "count").block();
   }
 
+  @Test
+  public void concurrentActivationsCreateOneInstance() throws Exception {
+    int threads = 16;
+    AtomicInteger created = new AtomicInteger();
+    CountDownLatch subscribed = new CountDownLatch(threads);
+    ActorRuntimeContext<MyActorImpl> context = createContext(MyActorImpl.class, (c, id) -> {
+      created.incrementAndGet();
+      try {
+        // Holds the activation until every request waits on it.
+        subscribed.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return new MyActorImpl(c, id);
+    });
+    ActorManager<MyActorImpl> manager = new ActorManager<>(context);
+    ActorId actorId = newActorId();
+
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      CountDownLatch start = new CountDownLatch(1);
+      List<Future<?>> activations = new ArrayList<>();
+      for (int i = 0; i < threads; i++) {
+        activations.add(executor.submit(() -> {
+          start.await();
+          return manager.activateActor(actorId).doOnSubscribe(s -> subscribed.countDown()).block();
+        }));
+      }
+      start.countDown();
+      for (Future<?> activation : activations) {
+        activation.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertEquals(1, created.get());
+
+    // Activating an active actor keeps its instance, and its state.
+    manager.invokeMethod(actorId, "incrementCount", context.getObjectSerializer().serialize(5)).block();
+    manager.activateActor(actorId).block();
+    Assert.assertEquals(1, created.get());
+    Assert.assertEquals("5", new String(manager.invokeMethod(actorId, "getCount", null).block()));
+
+    // Once deactivated, a new instance is created.
+    manager.deactivateActor(actorId).block();
+    manager.activateActor(actorId).block();
+    Assert.assertEquals(2, created.get());
+  }
+
+  @Test
+  public void activationsRacingACompletingOneCreateOneInstance() throws Exception {
+    AtomicInteger created = new AtomicInteger();
+    ActorRuntimeContext<MyActorImpl> context = createContext(MyActorImpl.class, (c, id) -> {
+      created.incrementAndGet();
+      return new MyActorImpl(c, id);
+    });
+    ActorManager<MyActorImpl> manager = new ActorManager<>(context);
+    ActorId actorId = newActorId();
+
+    // Activations are fast, so later requests keep finding the Actor inactive while an earlier one completes.
+    int threads = 4;
+    int rounds = 200;
+    ExecutorService executor = Executors.newFixedThreadPool(threads);
+    try {
+      for (int round = 1; round <= rounds; round++) {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> activations = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+          activations.add(executor.submit(() -> {
+            start.await();
+            return manager.activateActor(actorId).block();
+          }));
+        }
+        start.countDown();
+        for (Future<?> activation : activations) {
+          activation.get(10, TimeUnit.SECONDS);
+        }
+        Assert.assertEquals(round, created.get());
+        Assert.assertEquals(1, manager.getActiveActorCount());
+        manager.deactivateActor(actorId).block();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void failedActivationCanBeRetried() {
+    AtomicInteger attempts = new AtomicInteger();
+    ActorRuntimeContext<MyActorImpl> context = createContext(MyActorImpl.class, (c, id) -> {
+      if (attempts.incrementAndGet() == 1) {
+        throw new IllegalStateException("First activation fails.");
+      }
+      return new MyActorImpl(c, id);
+    });
+    ActorManager<MyActorImpl> manager = new ActorManager<>(context);
+    ActorId actorId = newActorId();
+
+    try {
+      manager.activateActor(actorId).block();
+      Assert.fail("First activation should fail.");
+    } catch (IllegalStateException e) {
+      // Expected.
+    }
+    manager.activateActor(actorId).block();
+    Assert.assertEquals(2, attempts.get());
+    Assert.assertEquals("0", new String(manager.invokeMethod(actorId, "getCount", null).block()));
+  }
+
+  @Test
+  public void methodExceptionIsNotWrapped() throws Exception {
+    ActorId actorId = newActorId();
+    this.manager.activateActor(actorId).block();
+    byte[] message = this.context.getObjectSerializer().serialize("failed");
+
+    try {
+      this.manager.invokeMethod(actorId, "fail", message).block();
+      Assert.fail("Method should fail.");
+    } catch (IllegalStateException e) {
+      Assert.assertEquals("failed", e.getMessage());
+    }
+  }
+
+  @Test
+  public void overlappingCallsRunOneAfterTheOther() throws Exception {
+    ActorId actorId = newActorId();
+    this.manager.activateActor(actorId).block();
+    byte[] first = this.context.getObjectSerializer().serialize("first");
+    byte[] second = this.context.getObjectSerializer().serialize("second");
+
+    // The second call arrives while the first one is still running.
+    List<byte[]> responses = Mono.zip(
+        this.manager.invokeMethod(actorId, "sayLater", first),
+        this.manager.invokeMethod(actorId, "sayLater", second))
+        .map(t -> Arrays.asList(t.getT1(), t.getT2()))
+        .block();
+
+    Assert.assertEquals(executeSayMethod("first"),
+        this.context.getObjectSerializer().deserialize(responses.get(0), String.class));
+    Assert.assertEquals(executeSayMethod("second"),
+        this.context.getObjectSerializer().deserialize(responses.get(1), String.class));
+  }
+
+  @Test
+  public void leastRecentlyUsedActorsAreEvicted() throws Exception {
+    ActorRuntimeConfig config = new ActorRuntimeConfig().setMaxActiveActorsPerType(2);
+    List<CounterActorImpl> created = new ArrayList<>();
+    ActorRuntimeContext<CounterActorImpl> context = createContext(CounterActorImpl.class, (c, id) -> {
+      CounterActorImpl actor = new CounterActorImpl(c, id);
+      created.add(actor);
+      return actor;
+    }, config);
+    AtomicLong ticker = new AtomicLong();
+    ActorManager<CounterActorImpl> manager = new ActorManager<>(context, ticker::get);
+    ActorId first = newActorId();
+    ActorId second = newActorId();
+    ActorId third = newActorId();
+
+    ticker.set(1);
+    manager.activateActor(first).block();
+    ticker.set(2);
+    manager.activateActor(second).block();
+    ticker.set(3);
+    Assert.assertEquals("1", new String(manager.invokeMethod(first, "next", null).block()));
+    ticker.set(4);
+    manager.activateActor(third).block();
+
+    // The second actor was used the least recently.
+    Assert.assertEquals(2, manager.getActiveActorCount());
+    Assert.assertEquals(1, manager.getEvictionCount());
+    Assert.assertFalse(created.get(0).deactivated);
+    Assert.assertTrue(created.get(1).deactivated);
+
+    // Dapr still sees the evicted actor as active, so its next call activates it again.
+    ticker.set(5);
+    Assert.assertEquals("1", new String(manager.invokeMethod(second, "next", null).block()));
+    Assert.assertEquals(4, created.size());
+    Assert.assertEquals(2, manager.getActiveActorCount());
+    Assert.assertEquals(2, manager.getEvictionCount());
+    Assert.assertTrue(created.get(0).deactivated);
+    Assert.assertFalse(created.get(2).deactivated);
+  }
+
+  @Test
+  public void idleActorsAreEvicted() throws Exception {
+    ActorRuntimeConfig config = new ActorRuntimeConfig().setLocalActorIdleTimeout(Duration.ofSeconds(10));
+    ActorRuntimeContext<CounterActorImpl> context = createContext(
+        CounterActorImpl.class, new DefaultActorFactory<>(), config);
+    AtomicLong ticker = new AtomicLong();
+    ActorManager<CounterActorImpl> manager = new ActorManager<>(context, ticker::get);
+    ActorId idle = newActorId();
+    ActorId busy = newActorId();
+
+    manager.activateActor(idle).block();
+    manager.activateActor(busy).block();
+    ticker.set(Duration.ofSeconds(5).toNanos());
+    manager.invokeMethod(busy, "next", null).block();
+    ticker.set(Duration.ofSeconds(12).toNanos());
+    manager.evictIdleActors().block();
+
+    Assert.assertEquals(1, manager.getActiveActorCount());
+    Assert.assertEquals(1, manager.getEvictionCount());
+    Assert.assertEquals("2", new String(manager.invokeMethod(busy, "next", null).block()));
+    Assert.assertEquals("1", new String(manager.invokeMethod(idle, "next", null).block()));
+  }
+
+  @Test
+  public void callsRacingEvictionNeverRunOnEvictedInstance() throws Exception {
+    ActorRuntimeConfig config = new ActorRuntimeConfig().setLocalActorIdleTimeout(Duration.ofSeconds(10));
+    AtomicInteger staleCalls = new AtomicInteger();
+    ActorRuntimeContext<CounterActorImpl> context = createContext(CounterActorImpl.class, (c, id) ->
+        new CounterActorImpl(c, id) {
+          private volatile boolean evicted;
+
+          @Override
+          public int next() {
+            if (this.evicted) {
+              staleCalls.incrementAndGet();
+            }
+            return super.next();
+          }
+
+          @Override
+          protected Mono<Void> onDeactivate() {
+            return Mono.fromRunnable(() -> this.evicted = true);
+          }
+        }, config);
+    AtomicLong ticker = new AtomicLong();
+    ActorManager<CounterActorImpl> manager = new ActorManager<>(context, ticker::get);
+    ActorId actorId = newActorId();
+    manager.activateActor(actorId).block();
+
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      for (int round = 0; round < 200; round++) {
+        ticker.addAndGet(Duration.ofSeconds(20).toNanos());
+        CountDownLatch start = new CountDownLatch(1);
+        Future<?> eviction = executor.submit(() -> {
+          start.await();
+          return manager.evictIdleActors().block();
+        });
+        Future<?> call = executor.submit(() -> {
+          start.await();
+          return manager.invokeMethod(actorId, "next", null).block();
+        });
+        start.countDown();
+        eviction.get(10, TimeUnit.SECONDS);
+        call.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    Assert.assertEquals(0, staleCalls.get());
+  }
+
+  @Test
+  public void actorsWithTimersAreNotEvicted() {
+    ActorRuntimeConfig config = new ActorRuntimeConfig().setMaxActiveActorsPerType(1);
+    ActorRuntimeContext<MyActorImpl> context = createContext(
+        MyActorImpl.class, new DefaultActorFactory<>(), config);
+    ActorManager<MyActorImpl> manager = new ActorManager<>(context);
+
+    manager.activateActor(newActorId()).block();
+    manager.activateActor(newActorId()).block();
+
+    Assert.assertEquals(2, manager.getActiveActorCount());
+    Assert.assertEquals(0, manager.getEvictionCount());
+  }
+
   private byte[] createReminderParams(String data) throws IOException {
     byte[] serializedData = this.context.getObjectSerializer().serialize(data);
     ActorReminderParams params = new ActorReminderParams(serializedData, Duration.ofSeconds(1), Duration.ofSeconds(1));
@@ -198,7 +516,19 @@ public class ActorManagerTest {
   }
 
   private static <T extends AbstractActor> ActorRuntimeContext createContext(Class<T> clazz) {
+    return createContext(clazz, new DefaultActorFactory<T>());
+  }
+
+  private static <T extends AbstractActor> ActorRuntimeContext createContext(
+      Class<T> clazz, ActorFactory<T> actorFactory) {
+    return createContext(clazz, actorFactory, null);
+  }
+
+  private static <T extends AbstractActor> ActorRuntimeContext createContext(
+      Class<T> clazz, ActorFactory<T> actorFactory, ActorRuntimeConfig config) {
     DaprClient daprClient = mock(DaprClient.class);
+    ActorRuntime runtime = mock(ActorRuntime.class);
+    when(runtime.getConfig()).thenReturn(config);
 
     when(daprClient.registerActorTimer(any(), any(), any(), any())).thenReturn(Mono.empty());
     when(daprClient.registerActorReminder(any(), any(), any(), any())).thenReturn(Mono.empty());
@@ -206,9 +536,9 @@ public class ActorManagerTest {
     when(daprClient.unregisterActorReminder(any(), any(), any())).thenReturn(Mono.empty());
 
     return new ActorRuntimeContext(
-      mock(ActorRuntime.class),
+      runtime,
       new DefaultObjectSerializer(),
-      new DefaultActorFactory<T>(),
+      actorFactory,
       ActorTypeInformation.create(clazz),
       daprClient,
       mock(DaprStateAsyncProvider.class)
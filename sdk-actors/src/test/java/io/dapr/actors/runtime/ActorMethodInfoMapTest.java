@@ -5,12 +5,15 @@
 
 package io.dapr.actors.runtime;
 
+import io.dapr.serializer.DefaultObjectSerializer;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Unit tests for ActorMethodInfoMap.
@@ -35,6 +38,25 @@ public class ActorMethodInfoMapTest {
     }
   }
 
+  @Test
+  public void invokerDeserializesInput() throws Exception {
+    ArrayList<Class<?>> interfaceTypes = new ArrayList<>();
+    interfaceTypes.add(TestActor.class);
+    ActorMethodInfoMap m = new ActorMethodInfoMap(interfaceTypes);
+    DefaultObjectSerializer serializer = new DefaultObjectSerializer();
+
+    ActorMethodInvoker getData = m.getInvoker("getData");
+    Assert.assertEquals("key", getData.deserializeInput(serializer, serializer.serialize("key")));
+
+    ActorMethodInvoker getAll = m.getInvoker("getAll");
+    Assert.assertEquals(
+        Arrays.asList(1, 2),
+        getAll.deserializeInput(serializer, serializer.serialize(Arrays.asList(1, 2))));
+
+    ActorMethodInvoker clear = m.getInvoker("clear");
+    Assert.assertNull(clear.deserializeInput(serializer, serializer.serialize("ignored")));
+  }
+
   @Test(expected = NoSuchMethodException.class)
   public void lookUpNonExistingMethod() throws NoSuchMethodException {
     ArrayList<Class<?>> interfaceTypes = new ArrayList<>();
@@ -49,5 +71,9 @@ public class ActorMethodInfoMapTest {
    */
   public interface TestActor {
     String getData(String key);
+
+    List<String> getAll(List<Integer> keys);
+
+    void clear();
   }
 }
@@ -65,6 +65,11 @@ public class ActorRuntimeTest {
     this.runtime = constructor.newInstance(this.mockDaprClient);
   }
 
+  @Test(expected = IllegalArgumentException.class)
+  public void getInstanceRequiresDaprHttpBuilder() {
+    ActorRuntime.getInstance(null);
+  }
+
   @Test
   public void registerActor() throws Exception {
     this.runtime.registerActor(MyActorImpl.class);
@@ -6,6 +6,7 @@ package io.dapr.actors.runtime;
 
 import io.dapr.client.DaprHttp;
 import io.dapr.client.DaprHttpProxy;
+import io.dapr.client.DaprTransport;
 import okhttp3.OkHttpClient;
 import okhttp3.mock.Behavior;
 import okhttp3.mock.MockInterceptor;
@@ -13,8 +14,16 @@ import org.junit.Before;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 public class DaprHttpClientTest {
 
@@ -44,6 +53,62 @@ public class DaprHttpClientTest {
   }
 
 
+  @Test
+  public void containsActorState() {
+    mockInterceptor.addRule()
+      .get("http://localhost:3000/v1.0/actors/DemoActor/1/state/order")
+      .respond(EXPECTED_RESULT);
+    mockInterceptor.addRule()
+      .get("http://localhost:3000/v1.0/actors/DemoActor/1/state/missing")
+      .respond(204);
+    DaprHttp daprHttp = new DaprHttpProxy(3000, okHttpClient);
+    DaprHttpClient = new DaprHttpClient(daprHttp);
+    assertTrue(DaprHttpClient.containsActorState("DemoActor", "1", "order").block());
+    assertFalse(DaprHttpClient.containsActorState("DemoActor", "1", "missing").block());
+  }
+
+
+  @Test
+  public void containsActorStateReadsOneByte() {
+    AtomicInteger bytesRead = new AtomicInteger();
+    DaprTransport transport = new DaprTransport() {
+      @Override
+      public Mono<DaprHttp.Response> send(String method, String url, byte[] content, Map<String, String> headers) {
+        return Mono.error(new UnsupportedOperationException());
+      }
+
+      @Override
+      public <T> Mono<T> send(
+          String method, String url, byte[] content, Map<String, String> headers, DaprHttp.ResponseReader<T> reader) {
+        byte[] body = url.endsWith("/order") ? new byte[64 * 1024] : new byte[0];
+        InputStream input = new ByteArrayInputStream(body) {
+          @Override
+          public synchronized int read() {
+            int value = super.read();
+            if (value >= 0) {
+              bytesRead.incrementAndGet();
+            }
+            return value;
+          }
+
+          @Override
+          public synchronized int read(byte[] buffer, int offset, int length) {
+            int count = super.read(buffer, offset, length);
+            bytesRead.addAndGet(Math.max(count, 0));
+            return count;
+          }
+        };
+        return Mono.fromCallable(() -> reader.read(body.length == 0 ? 204 : 200, Collections.emptyMap(), input));
+      }
+    };
+    DaprHttpClient = new DaprHttpClient(new DaprHttpProxy(3000, transport));
+
+    assertTrue(DaprHttpClient.containsActorState("DemoActor", "1", "order").block());
+    assertEquals(1, bytesRead.get());
+    assertFalse(DaprHttpClient.containsActorState("DemoActor", "1", "missing").block());
+    assertEquals(1, bytesRead.get());
+  }
+
   @Test
   public void saveActorStateTransactionally() {
     mockInterceptor.addRule()
@@ -189,40 +189,73 @@ public class DaprStateAsyncProviderTest {
     Assert.assertNull(provider.load("MyActor", new ActorId("123"), "nullCustomer", Customer.class).block());
   }
 
+  @Test
+  public void loadStateSavedAsJsonString() throws Exception {
+    Customer customer = new Customer().setId(3000).setName("Zo\u00eb \"Z\" \\ \uD83D\uDE00\n");
+    DaprClient daprClient = mock(DaprClient.class);
+    when(daprClient
+      .getActorState(any(), any(), eq("customer")))
+      .thenReturn(Mono.just(OBJECT_MAPPER.writeValueAsBytes(new String(SERIALIZER.serialize(customer), "UTF-8"))));
+    when(daprClient
+      .getActorState(any(), any(), eq("name")))
+      .thenReturn(Mono.just(" \"Jon \\u0044oe\" ".getBytes()));
+    when(daprClient
+      .getActorState(any(), any(), eq("zipcode")))
+      .thenReturn(Mono.just("\"98021\"".getBytes()));
+    when(daprClient
+      .getActorState(any(), any(), eq("broken")))
+      .thenReturn(Mono.just("\"{ \\x }\"".getBytes()));
+
+    DaprStateAsyncProvider provider = new DaprStateAsyncProvider(daprClient, SERIALIZER);
+
+    Assert.assertEquals(customer,
+      provider.load("MyActor", new ActorId("123"), "customer", Customer.class).block());
+    Assert.assertEquals("Jon Doe",
+      provider.load("MyActor", new ActorId("123"), "name", String.class).block());
+    Assert.assertEquals(98021,
+      (int) provider.load("MyActor", new ActorId("123"), "zipcode", int.class).block());
+    try {
+      provider.load("MyActor", new ActorId("123"), "broken", Customer.class).block();
+      Assert.fail("Invalid escape sequence should fail.");
+    } catch (RuntimeException e) {
+      Assert.assertTrue(e.getCause() instanceof IOException);
+    }
+  }
+
   @Test
   public void happyCaseContains() {
     DaprClient daprClient = mock(DaprClient.class);
 
     // Keys that exists.
     when(daprClient
-      .getActorState(any(), any(), eq("name")))
-      .thenReturn(Mono.just("Jon Doe".getBytes()));
+      .containsActorState(any(), any(), eq("name")))
+      .thenReturn(Mono.just(true));
     when(daprClient
-      .getActorState(any(), any(), eq("zipcode")))
-      .thenReturn(Mono.just("98021".getBytes()));
+      .containsActorState(any(), any(), eq("zipcode")))
+      .thenReturn(Mono.just(true));
     when(daprClient
-      .getActorState(any(), any(), eq("goals")))
-      .thenReturn(Mono.just("98".getBytes()));
+      .containsActorState(any(), any(), eq("goals")))
+      .thenReturn(Mono.just(true));
     when(daprClient
-      .getActorState(any(), any(), eq("balance")))
-      .thenReturn(Mono.just("46.55".getBytes()));
+      .containsActorState(any(), any(), eq("balance")))
+      .thenReturn(Mono.just(true));
     when(daprClient
-      .getActorState(any(), any(), eq("active")))
-      .thenReturn(Mono.just("true".getBytes()));
+      .containsActorState(any(), any(), eq("active")))
+      .thenReturn(Mono.just(true));
     when(daprClient
-      .getActorState(any(), any(), eq("customer")))
-      .thenReturn(Mono.just("{ \"id\": \"3000\", \"name\": \"Ely\" }".getBytes()));
+      .containsActorState(any(), any(), eq("customer")))
+      .thenReturn(Mono.just(true));
 
     // Keys that do not exist.
     when(daprClient
-      .getActorState(any(), any(), eq("Does not exist")))
-      .thenReturn(Mono.empty());
+      .containsActorState(any(), any(), eq("Does not exist")))
+      .thenReturn(Mono.just(false));
     when(daprClient
-      .getActorState(any(), any(), eq("NAME")))
-      .thenReturn(Mono.empty());
+      .containsActorState(any(), any(), eq("NAME")))
+      .thenReturn(Mono.just(false));
     when(daprClient
-      .getActorState(any(), any(), eq(null)))
-      .thenReturn(Mono.empty());
+      .containsActorState(any(), any(), eq(null)))
+      .thenReturn(Mono.just(false));
 
     DaprStateAsyncProvider provider = new DaprStateAsyncProvider(daprClient, SERIALIZER);
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+public class JsonStringInputStreamTest {
+
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  private static final String[] VALUES = {
+      "",
+      "Jon Doe",
+      "{\"id\":1000,\"name\":\"Roxane\"}",
+      "quote \" backslash \\ slash / controls \b\f\n\r\t\u0001",
+      "multi-byte: \u00e9\u4e2d\uD83D\uDE00"
+  };
+
+  @Test
+  public void unescapesLikeJackson() throws Exception {
+    for (String value : VALUES) {
+      byte[] json = OBJECT_MAPPER.writeValueAsBytes(value);
+      int quote = JsonStringInputStream.openingQuoteOf(json);
+      Assert.assertEquals(0, quote);
+      byte[] expected = value.getBytes(StandardCharsets.UTF_8);
+      Assert.assertArrayEquals(value, expected, readByByte(new JsonStringInputStream(json, quote + 1)));
+      Assert.assertArrayEquals(value, expected, readInBulk(new JsonStringInputStream(json, quote + 1), 3));
+      Assert.assertArrayEquals(value, expected, readInBulk(new JsonStringInputStream(json, quote + 1), 4096));
+    }
+  }
+
+  @Test
+  public void unescapesUnicodeSequences() throws Exception {
+    byte[] json = "\"\\u0041\\u00e9\\uD83D\\uDE00\\uD83D!\"".getBytes(StandardCharsets.UTF_8);
+    Assert.assertArrayEquals("A\u00e9\uD83D\uDE00?!".getBytes(StandardCharsets.UTF_8),
+        readInBulk(new JsonStringInputStream(json, 1), 16));
+  }
+
+  @Test
+  public void stopsAtClosingQuote() throws Exception {
+    byte[] json = " \"abc\" ".getBytes(StandardCharsets.UTF_8);
+    int quote = JsonStringInputStream.openingQuoteOf(json);
+    Assert.assertEquals(1, quote);
+    InputStream input = new JsonStringInputStream(json, quote + 1);
+    Assert.assertArrayEquals("abc".getBytes(StandardCharsets.UTF_8), readByByte(input));
+    Assert.assertEquals(-1, input.read());
+    Assert.assertEquals(-1, input.read(new byte[4], 0, 4));
+  }
+
+  @Test
+  public void notAString() {
+    Assert.assertEquals(-1, JsonStringInputStream.openingQuoteOf(null));
+    Assert.assertEquals(-1, JsonStringInputStream.openingQuoteOf(new byte[0]));
+    Assert.assertEquals(-1, JsonStringInputStream.openingQuoteOf("\"".getBytes()));
+    Assert.assertEquals(-1, JsonStringInputStream.openingQuoteOf("Jon Doe".getBytes()));
+    Assert.assertEquals(-1, JsonStringInputStream.openingQuoteOf("98021".getBytes()));
+    Assert.assertEquals(-1, JsonStringInputStream.openingQuoteOf("{ \"id\": \"3000\" }".getBytes()));
+  }
+
+  @Test(expected = IOException.class)
+  public void invalidEscape() throws Exception {
+    readInBulk(new JsonStringInputStream("\"a\\xb\"".getBytes(), 1), 16);
+  }
+
+  @Test(expected = IOException.class)
+  public void escapedClosingQuote() throws Exception {
+    readByByte(new JsonStringInputStream("\"abc\\\"".getBytes(), 1));
+  }
+
+  private static byte[] readByByte(InputStream input) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    int b;
+    while ((b = input.read()) >= 0) {
+      output.write(b);
+    }
+    return output.toByteArray();
+  }
+
+  private static byte[] readInBulk(InputStream input, int bufferSize) throws IOException {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    byte[] buffer = new byte[bufferSize];
+    int n;
+    while ((n = input.read(buffer, 0, buffer.length)) >= 0) {
+      output.write(buffer, 0, n);
+    }
+    return output.toByteArray();
+  }
+}
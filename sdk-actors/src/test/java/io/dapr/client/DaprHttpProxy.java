@@ -13,4 +13,8 @@ public class DaprHttpProxy extends io.dapr.client.DaprHttp {
     super(port, httpClient);
   }
 
+  public DaprHttpProxy(int port, DaprTransport transport) {
+    super(port, transport);
+  }
+
 }
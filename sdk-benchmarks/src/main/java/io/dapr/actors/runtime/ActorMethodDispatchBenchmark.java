@@ -0,0 +1,170 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import io.dapr.actors.ActorId;
+import io.dapr.actors.ActorTrace;
+import io.dapr.serializer.DefaultObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Compares dispatching a call to a no-op actor method through reflection, the way the actor manager used to, with the
+ * invoker resolved when the actor type is registered. Also measures the whole call through the actor manager.
+ * Lives in the actor runtime's package, as the actor manager and the invokers are not public.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActorMethodDispatchBenchmark {
+
+  /**
+   * Actor's traces, kept at warning level so activations are not measured writing logs.
+   */
+  private static final Logger ACTOR_TRACE_LOGGER = Logger.getLogger(ActorTrace.class.getName());
+
+  /**
+   * Actor being invoked.
+   */
+  private static final ActorId ACTOR_ID = new ActorId("1");
+
+  /**
+   * Manager holding the actor.
+   */
+  private ActorManager<NoOpActor> manager;
+
+  /**
+   * Actor's instance, invoked directly by the dispatch benchmarks.
+   */
+  private NoOpActor actor;
+
+  /**
+   * Methods of the actor, looked up by name as the actor manager does.
+   */
+  private ActorMethodInfoMap methods;
+
+  /**
+   * Creates the manager and activates the actor.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    ACTOR_TRACE_LOGGER.setLevel(java.util.logging.Level.WARNING);
+    DefaultObjectSerializer serializer = new DefaultObjectSerializer();
+    // The actor keeps no state, so neither the runtime nor Dapr's client are ever called.
+    ActorRuntimeContext<NoOpActor> context = new ActorRuntimeContext<>(
+        null,
+        serializer,
+        new DefaultActorFactory<>(),
+        ActorTypeInformation.create(NoOpActor.class),
+        null,
+        new DaprStateAsyncProvider(null, serializer));
+    this.manager = new ActorManager<>(context);
+    this.manager.activateActor(ACTOR_ID).block();
+    this.actor = new NoOpActor(context, ACTOR_ID);
+    this.methods = new ActorMethodInfoMap(Collections.singletonList(NoOp.class));
+  }
+
+  /**
+   * Dispatches the call through reflection, checking the method's signature on every call.
+   *
+   * @return Method's result.
+   * @throws Exception If the method cannot be found.
+   */
+  @Benchmark
+  public Object reflection() throws Exception {
+    Method method = this.methods.get("noop");
+    Mono<Object> result;
+    if (method.getReturnType().equals(Mono.class)) {
+      result = (Mono<Object>) method.invoke(this.actor);
+    } else {
+      result = Mono.fromSupplier(() -> {
+        try {
+          return method.invoke(this.actor);
+        } catch (Exception e) {
+          throw new RuntimeException(e);
+        }
+      });
+    }
+    return result.block();
+  }
+
+  /**
+   * Dispatches the call through the method's invoker.
+   *
+   * @return Method's result.
+   * @throws Exception If the method cannot be found.
+   */
+  @Benchmark
+  public Object invoker() throws Exception {
+    return this.methods.getInvoker("noop").invoke(this.actor, null).block();
+  }
+
+  /**
+   * Invokes the method through the actor manager, including its hooks, mailbox and serialization.
+   *
+   * @return Serialized response.
+   */
+  @Benchmark
+  public byte[] manager() {
+    return this.manager.invokeMethod(ACTOR_ID, "noop", null).block();
+  }
+
+  /**
+   * Actor's interface.
+   */
+  public interface NoOp {
+
+    /**
+     * Does nothing.
+     *
+     * @return Always true.
+     */
+    boolean noop();
+  }
+
+  /**
+   * Actor doing no work, so only the dispatch is measured.
+   */
+  @ActorType(name = "NoOpActor")
+  public static class NoOpActor extends AbstractActor implements NoOp {
+
+    /**
+     * Creates an actor.
+     *
+     * @param runtimeContext Runtime context for the actor.
+     * @param id             Actor's identifier.
+     */
+    public NoOpActor(ActorRuntimeContext runtimeContext, ActorId id) {
+      super(runtimeContext, id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean noop() {
+      return true;
+    }
+  }
+}
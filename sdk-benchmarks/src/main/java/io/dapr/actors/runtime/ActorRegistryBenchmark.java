@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import io.dapr.actors.ActorId;
+import io.dapr.actors.ActorTrace;
+import io.dapr.serializer.DefaultObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Measures the throughput of looking up, invoking and activating actors of a single type, all of them going through
+ * the same {@link ActorManager}. Run with {@link #main(String[])} to measure it from 1 to 64 threads.
+ * Lives in the actor runtime's package, as the actor manager is not public.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActorRegistryBenchmark {
+
+  /**
+   * Numbers of threads the benchmark is run with by {@link #main(String[])}.
+   */
+  private static final int[] THREADS = {1, 2, 4, 8, 16, 32, 64};
+
+  /**
+   * Actor's traces, kept at warning level so activations are not measured writing logs.
+   */
+  private static final Logger ACTOR_TRACE_LOGGER = Logger.getLogger(ActorTrace.class.getName());
+
+  /**
+   * Number of actors active while measuring.
+   */
+  @Param({"1024"})
+  public int activeActors;
+
+  /**
+   * Manager being measured.
+   */
+  private ActorManager<PingActor> manager;
+
+  /**
+   * Identifiers of the active actors.
+   */
+  private ActorId[] actorIds;
+
+  /**
+   * Source of identifiers for actors activated while measuring.
+   */
+  private final AtomicLong nextActorId = new AtomicLong();
+
+  /**
+   * Runs the benchmark from 1 to 64 threads.
+   *
+   * @param args Ignored.
+   * @throws RunnerException If the benchmark cannot be run.
+   */
+  public static void main(String[] args) throws RunnerException {
+    for (int threads : THREADS) {
+      Options options = new OptionsBuilder()
+          .include(ActorRegistryBenchmark.class.getSimpleName())
+          .threads(threads)
+          .build();
+      new Runner(options).run();
+    }
+  }
+
+  /**
+   * Creates the manager and activates the actors.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    ACTOR_TRACE_LOGGER.setLevel(java.util.logging.Level.WARNING);
+    DefaultObjectSerializer serializer = new DefaultObjectSerializer();
+    // Actors keep no state, so neither the runtime nor Dapr's client are ever called.
+    ActorRuntimeContext<PingActor> context = new ActorRuntimeContext<>(
+        null,
+        serializer,
+        new DefaultActorFactory<>(),
+        ActorTypeInformation.create(PingActor.class),
+        null,
+        new DaprStateAsyncProvider(null, serializer));
+    this.manager = new ActorManager<>(context);
+
+    this.actorIds = new ActorId[this.activeActors];
+    for (int i = 0; i < this.activeActors; i++) {
+      this.actorIds[i] = new ActorId("active-" + i);
+      this.manager.activateActor(this.actorIds[i]).block();
+    }
+  }
+
+  /**
+   * Requests the activation of an active actor, which only looks it up.
+   */
+  @Benchmark
+  public void lookup() {
+    this.manager.activateActor(this.randomActorId()).block();
+  }
+
+  /**
+   * Invokes a method of an active actor.
+   *
+   * @return Serialized response.
+   */
+  @Benchmark
+  public byte[] invoke() {
+    return this.manager.invokeMethod(this.randomActorId(), "ping", null).block();
+  }
+
+  /**
+   * Activates a new actor, then deactivates it.
+   */
+  @Benchmark
+  public void activate() {
+    ActorId actorId = new ActorId("new-" + this.nextActorId.incrementAndGet());
+    this.manager.activateActor(actorId).block();
+    this.manager.deactivateActor(actorId).block();
+  }
+
+  /**
+   * Picks one of the active actors.
+   *
+   * @return Identifier of an active actor.
+   */
+  private ActorId randomActorId() {
+    return this.actorIds[ThreadLocalRandom.current().nextInt(this.actorIds.length)];
+  }
+
+  /**
+   * Actor's interface.
+   */
+  public interface Ping {
+
+    /**
+     * Answers a ping.
+     *
+     * @return Always true.
+     */
+    boolean ping();
+  }
+
+  /**
+   * Actor doing no work, so only the runtime is measured.
+   */
+  @ActorType(name = "PingActor")
+  public static class PingActor extends AbstractActor implements Ping {
+
+    /**
+     * Creates an actor.
+     *
+     * @param runtimeContext Runtime context for the actor.
+     * @param id             Actor's identifier.
+     */
+    public PingActor(ActorRuntimeContext runtimeContext, ActorId id) {
+      super(runtimeContext, id);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean ping() {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.actors.runtime;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.dapr.actors.ActorId;
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.serializer.DefaultObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares loading an actor's state, as Dapr returns it wrapped in a JSON string, by parsing the string first and
+ * deserializing its bytes with loading it through {@link DaprStateAsyncProvider}, which does both in a single pass.
+ * Lives in the actor runtime's package, as the state provider is not public.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ActorStateLoadBenchmark {
+
+  /**
+   * Parses Dapr's response the way the state provider used to.
+   */
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /**
+   * Actor whose state is loaded.
+   */
+  private static final ActorId ACTOR_ID = new ActorId("1");
+
+  /**
+   * Approximate size of the serialized state, in bytes.
+   */
+  @Param({"1024", "102400"})
+  public int stateSize;
+
+  /**
+   * Serializer for state objects.
+   */
+  private DaprObjectSerializer serializer;
+
+  /**
+   * State provider being measured.
+   */
+  private DaprStateAsyncProvider provider;
+
+  /**
+   * Response from Dapr, the serialized state wrapped in a JSON string.
+   */
+  private byte[] response;
+
+  /**
+   * Builds the state and Dapr's response for it.
+   *
+   * @throws IOException If the state cannot be serialized.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    this.serializer = new DefaultObjectSerializer();
+    Order order = new Order();
+    order.setId("order-1");
+    List<String> lines = new ArrayList<>();
+    order.setLines(lines);
+    while (this.serializer.serialize(order).length < this.stateSize) {
+      lines.add("item-" + lines.size() + ": \"widget\", quantity 1, unit price 9.99");
+    }
+
+    String serialized = new String(this.serializer.serialize(order), StandardCharsets.UTF_8);
+    this.response = OBJECT_MAPPER.writeValueAsBytes(serialized);
+    this.provider = new DaprStateAsyncProvider(new StaticStateClient(this.response), this.serializer);
+  }
+
+  /**
+   * Loads the state by parsing the JSON string into a String, encoding it, then deserializing it.
+   *
+   * @return Loaded state.
+   * @throws IOException If the state cannot be deserialized.
+   */
+  @Benchmark
+  public Order twoPass() throws IOException {
+    byte[] unwrapped = OBJECT_MAPPER.readValue(this.response, String.class).getBytes();
+    return this.serializer.deserialize(unwrapped, Order.class);
+  }
+
+  /**
+   * Loads the state through the state provider.
+   *
+   * @return Loaded state.
+   */
+  @Benchmark
+  public Order singlePass() {
+    return this.provider.load("MyActor", ACTOR_ID, "order", Order.class).block();
+  }
+
+  /**
+   * Actor state being loaded.
+   */
+  public static class Order {
+
+    private String id;
+
+    private List<String> lines;
+
+    public String getId() {
+      return this.id;
+    }
+
+    public void setId(String id) {
+      this.id = id;
+    }
+
+    public List<String> getLines() {
+      return this.lines;
+    }
+
+    public void setLines(List<String> lines) {
+      this.lines = lines;
+    }
+  }
+
+  /**
+   * Client returning the same state for every key, only reads are supported.
+   */
+  private static class StaticStateClient implements DaprClient {
+
+    /**
+     * State returned for every key.
+     */
+    private final byte[] state;
+
+    /**
+     * Creates a client returning the given state.
+     *
+     * @param state State returned for every key.
+     */
+    private StaticStateClient(byte[] state) {
+      this.state = state;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<byte[]> getActorState(String actorType, String actorId, String keyName) {
+      return Mono.just(this.state);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> saveActorStateTransactionally(String actorType, String actorId, byte[] data) {
+      return Mono.error(new UnsupportedOperationException());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> registerActorReminder(String actorType, String actorId, String reminderName, byte[] data) {
+      return Mono.error(new UnsupportedOperationException());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> unregisterActorReminder(String actorType, String actorId, String reminderName) {
+      return Mono.error(new UnsupportedOperationException());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> registerActorTimer(String actorType, String actorId, String timerName, byte[] data) {
+      return Mono.error(new UnsupportedOperationException());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Mono<Void> unregisterActorTimer(String actorType, String actorId, String timerName) {
+      return Mono.error(new UnsupportedOperationException());
+    }
+  }
+}
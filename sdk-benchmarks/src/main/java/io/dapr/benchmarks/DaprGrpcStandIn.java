@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Empty;
+import io.dapr.DaprGrpc;
+import io.dapr.DaprProtos;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.stub.StreamObserver;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Minimal stand-in for Dapr's gRPC API, listening on a local port.
+ * Service invocations are echoed back and state is kept in memory, so benchmarks only measure the client's side.
+ */
+public class DaprGrpcStandIn extends DaprGrpc.DaprImplBase implements Closeable {
+
+  /**
+   * State saved so far, by key.
+   */
+  private final Map<String, ByteString> states = new ConcurrentHashMap<>();
+
+  /**
+   * The running server.
+   */
+  private final Server server;
+
+  /**
+   * Starts the stand-in on a random local port.
+   *
+   * @throws IOException If the server cannot be started.
+   */
+  public DaprGrpcStandIn() throws IOException {
+    this.server = ServerBuilder.forPort(0).addService(this).build().start();
+  }
+
+  /**
+   * Gets the port the stand-in is listening on.
+   *
+   * @return Local port.
+   */
+  public int getPort() {
+    return this.server.getPort();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void publishEvent(DaprProtos.PublishEventEnvelope request, StreamObserver<Empty> responseObserver) {
+    this.empty(responseObserver);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void invokeService(
+      DaprProtos.InvokeServiceEnvelope request,
+      StreamObserver<DaprProtos.InvokeServiceResponseEnvelope> responseObserver) {
+    responseObserver.onNext(DaprProtos.InvokeServiceResponseEnvelope.newBuilder().setData(request.getData()).build());
+    responseObserver.onCompleted();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void invokeBinding(DaprProtos.InvokeBindingEnvelope request, StreamObserver<Empty> responseObserver) {
+    this.empty(responseObserver);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void getState(
+      DaprProtos.GetStateEnvelope request,
+      StreamObserver<DaprProtos.GetStateResponseEnvelope> responseObserver) {
+    ByteString value = this.states.getOrDefault(request.getKey(), ByteString.EMPTY);
+    responseObserver.onNext(DaprProtos.GetStateResponseEnvelope.newBuilder()
+        .setData(Any.newBuilder().setValue(value).build())
+        .build());
+    responseObserver.onCompleted();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void saveState(DaprProtos.SaveStateEnvelope request, StreamObserver<Empty> responseObserver) {
+    for (DaprProtos.StateRequest state : request.getRequestsList()) {
+      this.states.put(state.getKey(), state.getValue().getValue());
+    }
+    this.empty(responseObserver);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void deleteState(DaprProtos.DeleteStateEnvelope request, StreamObserver<Empty> responseObserver) {
+    this.states.remove(request.getKey());
+    this.empty(responseObserver);
+  }
+
+  /**
+   * Stops the stand-in.
+   */
+  @Override
+  public void close() {
+    this.server.shutdownNow();
+  }
+
+  /**
+   * Completes a call without content.
+   *
+   * @param responseObserver Observer for the call's response.
+   */
+  private void empty(StreamObserver<Empty> responseObserver) {
+    responseObserver.onNext(Empty.getDefaultInstance());
+    responseObserver.onCompleted();
+  }
+}
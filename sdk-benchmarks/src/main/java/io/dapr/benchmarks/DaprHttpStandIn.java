@@ -0,0 +1,212 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.epoll.EpollEventLoopGroup;
+import io.netty.channel.epoll.EpollServerDomainSocketChannel;
+import io.netty.channel.epoll.EpollServerSocketChannel;
+import io.netty.channel.unix.DomainSocketAddress;
+import io.netty.handler.codec.http.DefaultFullHttpResponse;
+import io.netty.handler.codec.http.FullHttpRequest;
+import io.netty.handler.codec.http.FullHttpResponse;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpObjectAggregator;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpServerCodec;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http2.Http2MultiplexCodecBuilder;
+import io.netty.handler.codec.http2.Http2StreamFrameToHttpObjectCodec;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+
+/**
+ * Minimal stand-in for Dapr's HTTP API, listening on a local port or on a Unix domain socket.
+ * Every request's body is echoed back, so benchmarks only measure the client and the transport. Bulk state reads,
+ * when enabled, are answered with a constant value for each key.
+ * Relies on Netty's native epoll transport, so it only runs on Linux.
+ */
+public class DaprHttpStandIn implements Closeable {
+
+  /**
+   * Maximum size of a request's body.
+   */
+  private static final int MAX_CONTENT_LENGTH = 16 * 1024 * 1024;
+
+  /**
+   * Path of bulk state reads.
+   */
+  private static final String STATE_BULK_PATH = "/v1.0/state/bulk";
+
+  /**
+   * Json parser for bulk state reads.
+   */
+  private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+  /**
+   * Event loops accepting connections.
+   */
+  private final EventLoopGroup bossGroup = new EpollEventLoopGroup(1);
+
+  /**
+   * Event loops serving connections.
+   */
+  private final EventLoopGroup workerGroup = new EpollEventLoopGroup();
+
+  /**
+   * Channel listening for connections.
+   */
+  private final Channel channel;
+
+  /**
+   * Starts the stand-in.
+   *
+   * @param http2PriorKnowledge True to accept HTTP/2 over cleartext (h2c) only, false for HTTP/1.1.
+   * @param unixDomainSocketPath Path of the Unix domain socket to listen on, or null to listen on a random local port.
+   * @throws InterruptedException If interrupted while binding.
+   */
+  public DaprHttpStandIn(boolean http2PriorKnowledge, String unixDomainSocketPath) throws InterruptedException {
+    this(http2PriorKnowledge, unixDomainSocketPath, false);
+  }
+
+  /**
+   * Starts the stand-in.
+   *
+   * @param http2PriorKnowledge True to accept HTTP/2 over cleartext (h2c) only, false for HTTP/1.1.
+   * @param unixDomainSocketPath Path of the Unix domain socket to listen on, or null to listen on a random local port.
+   * @param bulkState True to answer bulk state reads, false to respond as a Dapr runtime without them.
+   * @throws InterruptedException If interrupted while binding.
+   */
+  public DaprHttpStandIn(boolean http2PriorKnowledge, String unixDomainSocketPath, boolean bulkState)
+      throws InterruptedException {
+    EchoHandler handler = new EchoHandler(bulkState);
+    SocketAddress address = unixDomainSocketPath != null
+        ? new DomainSocketAddress(unixDomainSocketPath)
+        : new InetSocketAddress("127.0.0.1", 0);
+    ServerBootstrap bootstrap = new ServerBootstrap()
+        .group(this.bossGroup, this.workerGroup)
+        .channel(unixDomainSocketPath != null ? EpollServerDomainSocketChannel.class : EpollServerSocketChannel.class)
+        .childHandler(new ChannelInitializer<Channel>() {
+          @Override
+          protected void initChannel(Channel channel) {
+            if (http2PriorKnowledge) {
+              channel.pipeline().addLast(Http2MultiplexCodecBuilder.forServer(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel stream) {
+                  stream.pipeline().addLast(
+                      new Http2StreamFrameToHttpObjectCodec(true),
+                      new HttpObjectAggregator(MAX_CONTENT_LENGTH),
+                      handler);
+                }
+              }).build());
+            } else {
+              channel.pipeline().addLast(
+                  new HttpServerCodec(),
+                  new HttpObjectAggregator(MAX_CONTENT_LENGTH),
+                  handler);
+            }
+          }
+        });
+    this.channel = bootstrap.bind(address).sync().channel();
+  }
+
+  /**
+   * Gets the port the stand-in is listening on.
+   *
+   * @return Local port, when not listening on a Unix domain socket.
+   */
+  public int getPort() {
+    return ((InetSocketAddress) this.channel.localAddress()).getPort();
+  }
+
+  /**
+   * Stops the stand-in.
+   */
+  @Override
+  public void close() {
+    this.channel.close().syncUninterruptibly();
+    this.bossGroup.shutdownGracefully();
+    this.workerGroup.shutdownGracefully();
+  }
+
+  /**
+   * Responds to each request with its own body, plus the headers Dapr sends on a state read.
+   */
+  @ChannelHandler.Sharable
+  private static class EchoHandler extends SimpleChannelInboundHandler<FullHttpRequest> {
+
+    /**
+     * Whether bulk state reads are answered.
+     */
+    private final boolean bulkState;
+
+    /**
+     * Creates the handler, shared by all connections as it has no mutable state.
+     *
+     * @param bulkState True to answer bulk state reads, false to respond as a Dapr runtime without them.
+     */
+    private EchoHandler(boolean bulkState) {
+      this.bulkState = bulkState;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void channelRead0(ChannelHandlerContext context, FullHttpRequest request) throws IOException {
+      if (HttpMethod.POST.equals(request.method()) && STATE_BULK_PATH.equals(request.uri())) {
+        FullHttpResponse response = this.bulkState
+            ? getStatesInBulk(request)
+            : new DefaultFullHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.NOT_FOUND, Unpooled.EMPTY_BUFFER);
+        response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+        context.writeAndFlush(response);
+        return;
+      }
+
+      FullHttpResponse response = new DefaultFullHttpResponse(
+          HttpVersion.HTTP_1_1, HttpResponseStatus.OK, request.content().retain());
+      response.headers().setInt(HttpHeaderNames.CONTENT_LENGTH, response.content().readableBytes());
+      response.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+      response.headers().set(HttpHeaderNames.ETAG, "1");
+      context.writeAndFlush(response);
+    }
+
+    /**
+     * Answers a bulk state read, with the same value for every requested key.
+     *
+     * @param request Bulk state read.
+     * @return Response with the states.
+     * @throws IOException If the request cannot be parsed.
+     */
+    private static FullHttpResponse getStatesInBulk(FullHttpRequest request) throws IOException {
+      JsonNode keys = OBJECT_MAPPER.readTree(new ByteBufInputStream(request.content())).path("keys");
+      ArrayNode states = OBJECT_MAPPER.createArrayNode();
+      for (JsonNode key : keys) {
+        states.addObject().put("key", key.asText()).put("data", "value").put("etag", "1");
+      }
+      FullHttpResponse response = new DefaultFullHttpResponse(
+          HttpVersion.HTTP_1_1, HttpResponseStatus.OK, Unpooled.wrappedBuffer(OBJECT_MAPPER.writeValueAsBytes(states)));
+      response.headers().set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON);
+      return response;
+    }
+  }
+}
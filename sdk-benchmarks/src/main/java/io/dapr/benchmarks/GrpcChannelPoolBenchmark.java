@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprClientBuilder;
+import io.dapr.client.DaprGrpcChannelBuilder;
+import io.dapr.client.domain.Verb;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures throughput of concurrent service invocations through the gRPC client, for different channel setups,
+ * against a local stand-in of Dapr.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(32)
+@State(Scope.Benchmark)
+public class GrpcChannelPoolBenchmark {
+
+  /**
+   * Number of channels in the pool.
+   */
+  @Param({"1", "4"})
+  public int poolSize;
+
+  /**
+   * Strategy to pick a channel from the pool.
+   */
+  @Param({"ROUND_ROBIN", "LEAST_IN_FLIGHT"})
+  public DaprGrpcChannelBuilder.PoolStrategy poolStrategy;
+
+  /**
+   * Determines if callbacks run on the transport's threads.
+   */
+  @Param({"false", "true"})
+  public boolean directExecutor;
+
+  /**
+   * Stand-in for Dapr's API.
+   */
+  private DaprGrpcStandIn dapr;
+
+  /**
+   * Client being measured.
+   */
+  private DaprClient client;
+
+  /**
+   * Raw payload.
+   */
+  private byte[] bytes;
+
+  /**
+   * Starts the stand-in and builds a gRPC client pointing to it.
+   *
+   * @throws IOException If the stand-in cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    this.dapr = new DaprGrpcStandIn();
+    System.setProperty("dapr.grpc.enabled", "true");
+    System.setProperty("dapr.grpc.port", Integer.toString(this.dapr.getPort()));
+
+    DaprGrpcChannelBuilder channelBuilder = new DaprGrpcChannelBuilder()
+        .withPool(this.poolSize, this.poolStrategy);
+    if (this.directExecutor) {
+      channelBuilder.withDirectExecutor();
+    }
+    this.client = new DaprClientBuilder().withGrpcChannelBuilder(channelBuilder).build();
+
+    this.bytes = new byte[256];
+    new Random(0).nextBytes(this.bytes);
+  }
+
+  /**
+   * Stops the stand-in.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.dapr.close();
+  }
+
+  /**
+   * Sends a small payload and reads it back.
+   *
+   * @return Echoed payload.
+   */
+  @Benchmark
+  public byte[] invokeService() {
+    return this.client.invokeService(Verb.POST, "app", "echo", this.bytes, null, byte[].class).block();
+  }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprClientBuilder;
+import io.dapr.client.domain.Verb;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trips payloads of different sizes through the gRPC client against a local stand-in of Dapr.
+ * Run with {@code -prof gc} to compare allocated bytes per operation ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GrpcPayloadBenchmark {
+
+  /**
+   * Size of the payload, in bytes.
+   */
+  @Param({"1024", "65536", "1048576"})
+  public int payloadSize;
+
+  /**
+   * Stand-in for Dapr's API.
+   */
+  private DaprGrpcStandIn dapr;
+
+  /**
+   * Client being measured.
+   */
+  private DaprClient client;
+
+  /**
+   * Raw payload.
+   */
+  private byte[] bytes;
+
+  /**
+   * Starts the stand-in and builds a gRPC client pointing to it.
+   *
+   * @throws IOException If the stand-in cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    this.dapr = new DaprGrpcStandIn();
+    System.setProperty("dapr.grpc.enabled", "true");
+    System.setProperty("dapr.grpc.port", Integer.toString(this.dapr.getPort()));
+    this.client = new DaprClientBuilder().build();
+
+    this.bytes = new byte[this.payloadSize];
+    new Random(0).nextBytes(this.bytes);
+
+    char[] text = new char[this.payloadSize];
+    Arrays.fill(text, 'a');
+    this.client.saveState("json", null, new Payload(new String(text)), null).block();
+  }
+
+  /**
+   * Stops the stand-in.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.dapr.close();
+  }
+
+  /**
+   * Sends raw bytes and reads them back.
+   *
+   * @return Echoed payload.
+   */
+  @Benchmark
+  public byte[] invokeServiceBytes() {
+    return this.client.invokeService(Verb.POST, "app", "echo", this.bytes, null, byte[].class).block();
+  }
+
+  /**
+   * Saves raw bytes as state.
+   */
+  @Benchmark
+  public void saveStateBytes() {
+    this.client.saveState("bytes", null, this.bytes, null).block();
+  }
+
+  /**
+   * Reads a JSON state into an object.
+   *
+   * @return Deserialized state.
+   */
+  @Benchmark
+  public Payload getStateJson() {
+    return this.client.getState("json", Payload.class).block().getValue();
+  }
+
+  /**
+   * Simple JSON payload.
+   */
+  public static class Payload {
+
+    /**
+     * Content of the payload.
+     */
+    private String data;
+
+    /**
+     * Default constructor, needed for deserialization.
+     */
+    public Payload() {
+    }
+
+    /**
+     * Creates a payload with the given content.
+     *
+     * @param data Content of the payload.
+     */
+    public Payload(String data) {
+      this.data = data;
+    }
+
+    /**
+     * Gets the content of the payload.
+     *
+     * @return Content of the payload.
+     */
+    public String getData() {
+      return data;
+    }
+
+    /**
+     * Sets the content of the payload.
+     *
+     * @param data Content of the payload.
+     */
+    public void setData(String data) {
+      this.data = data;
+    }
+  }
+}
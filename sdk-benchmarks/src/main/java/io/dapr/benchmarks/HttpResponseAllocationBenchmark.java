@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprClientBuilder;
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.Verb;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures allocations per call of the HTTP client, end to end against a local stand-in of Dapr.
+ * Meant to be run with JMH's GC profiler: {@code -prof gc}.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+public class HttpResponseAllocationBenchmark {
+
+  /**
+   * Stand-in for Dapr's API.
+   */
+  private DaprHttpStandIn dapr;
+
+  /**
+   * Client being measured.
+   */
+  private DaprClient client;
+
+  /**
+   * Raw payload.
+   */
+  private byte[] bytes;
+
+  /**
+   * Starts the stand-in and builds an HTTP client pointing to it.
+   *
+   * @throws Exception If the stand-in cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    this.dapr = new DaprHttpStandIn(false, null);
+    System.setProperty("dapr.grpc.enabled", "false");
+    System.setProperty("dapr.http.port", Integer.toString(this.dapr.getPort()));
+    this.client = new DaprClientBuilder().build();
+
+    this.bytes = new byte[256];
+    new Random(0).nextBytes(this.bytes);
+  }
+
+  /**
+   * Stops the stand-in.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.dapr.close();
+  }
+
+  /**
+   * Reads a state: empty body, but the Etag header is read.
+   *
+   * @return State read.
+   */
+  @Benchmark
+  public State<String> getState() {
+    return this.client.getState("key", String.class).block();
+  }
+
+  /**
+   * Sends a small payload and reads it back.
+   *
+   * @return Echoed payload.
+   */
+  @Benchmark
+  public byte[] invokeService() {
+    return this.client.invokeService(Verb.POST, "app", "echo", this.bytes, null, byte[].class).block();
+  }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprClientBuilder;
+import io.dapr.client.domain.Verb;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares latency and throughput of the HTTP client over each transport mode, against a local stand-in of Dapr.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HttpTransportBenchmark {
+
+  /**
+   * Transport modes to Dapr's HTTP API.
+   */
+  public enum Transport {
+    /**
+     * HTTP/1.1 over TCP.
+     */
+    TCP,
+    /**
+     * HTTP/2 with prior knowledge over TCP.
+     */
+    H2C,
+    /**
+     * HTTP/1.1 over a Unix domain socket.
+     */
+    UDS,
+    /**
+     * HTTP/2 with prior knowledge over a Unix domain socket.
+     */
+    H2C_UDS
+  }
+
+  /**
+   * Transport being measured.
+   */
+  @Param({"TCP", "H2C", "UDS", "H2C_UDS"})
+  public Transport transport;
+
+  /**
+   * Stand-in for Dapr's API.
+   */
+  private DaprHttpStandIn dapr;
+
+  /**
+   * Client being measured.
+   */
+  private DaprClient client;
+
+  /**
+   * Raw payload.
+   */
+  private byte[] bytes;
+
+  /**
+   * Starts the stand-in and builds an HTTP client pointing to it.
+   *
+   * @throws Exception If the stand-in cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    boolean http2 = (this.transport == Transport.H2C) || (this.transport == Transport.H2C_UDS);
+    boolean uds = (this.transport == Transport.UDS) || (this.transport == Transport.H2C_UDS);
+    String path = null;
+    if (uds) {
+      File socket = File.createTempFile("dapr", ".sock");
+      socket.delete();
+      socket.deleteOnExit();
+      path = socket.getAbsolutePath();
+    }
+
+    this.dapr = new DaprHttpStandIn(http2, path);
+    System.setProperty("dapr.grpc.enabled", "false");
+    System.setProperty("dapr.http.port", uds ? "3500" : Integer.toString(this.dapr.getPort()));
+    DaprClientBuilder builder = new DaprClientBuilder().withMaxRequests(256).withMaxRequestsPerHost(256);
+    if (http2) {
+      builder.withHttp2PriorKnowledge();
+    }
+    if (uds) {
+      builder.withUnixDomainSocket(path);
+    }
+    this.client = builder.build();
+
+    this.bytes = new byte[256];
+    new Random(0).nextBytes(this.bytes);
+  }
+
+  /**
+   * Stops the stand-in.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.dapr.close();
+  }
+
+  /**
+   * Round trip of a single call at a time.
+   *
+   * @return Echoed payload.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.AverageTime)
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  @Threads(1)
+  public byte[] latency() {
+    return this.invokeService();
+  }
+
+  /**
+   * Calls from many threads at once.
+   *
+   * @return Echoed payload.
+   */
+  @Benchmark
+  @BenchmarkMode(Mode.Throughput)
+  @OutputTimeUnit(TimeUnit.SECONDS)
+  @Threads(16)
+  public byte[] throughput() {
+    return this.invokeService();
+  }
+
+  /**
+   * Sends a small payload and reads it back.
+   *
+   * @return Echoed payload.
+   */
+  private byte[] invokeService() {
+    return this.client.invokeService(Verb.POST, "app", "echo", this.bytes, null, byte[].class).block();
+  }
+}
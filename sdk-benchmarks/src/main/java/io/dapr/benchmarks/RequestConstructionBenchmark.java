@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprClientBuilder;
+import io.dapr.client.DaprHttp;
+import io.dapr.client.domain.StateOptions;
+import io.dapr.client.domain.Verb;
+import io.dapr.utils.Constants;
+import io.dapr.utils.UrlTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of building requests to Dapr's HTTP API, with a transport that answers without any I/O.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RequestConstructionBenchmark {
+
+  /**
+   * Compiled template for actor method invocation.
+   */
+  private static final UrlTemplate ACTOR_METHOD_URL = UrlTemplate.compile(Constants.ACTOR_METHOD_RELATIVE_URL_FORMAT);
+
+  /**
+   * Response returned for every call.
+   */
+  private static final DaprHttp.Response RESPONSE =
+      new DaprHttp.Response(new byte[0], Collections.emptyMap(), 200);
+
+  /**
+   * Client being measured.
+   */
+  private DaprClient client;
+
+  /**
+   * Options sent with state calls.
+   */
+  private StateOptions options;
+
+  /**
+   * Builds a client on a transport that does no I/O.
+   */
+  @Setup(Level.Trial)
+  public void setUp() {
+    System.setProperty("dapr.grpc.enabled", "false");
+    this.client = new DaprClientBuilder()
+        .withTransport((method, url, content, headers) -> Mono.just(RESPONSE))
+        .build();
+    this.options = new StateOptions(
+        StateOptions.Consistency.STRONG,
+        StateOptions.Concurrency.FIRST_WRITE,
+        new StateOptions.RetryPolicy(Duration.ofMillis(100), 3, StateOptions.RetryPolicy.Pattern.EXPONENTIAL));
+  }
+
+  /**
+   * Actor method URL, the way it was built before templates.
+   *
+   * @return Relative URL.
+   */
+  @Benchmark
+  public String actorMethodUrlFormat() {
+    return String.format(Constants.ACTOR_METHOD_RELATIVE_URL_FORMAT, "DemoActor", "1", "say");
+  }
+
+  /**
+   * Actor method URL from a compiled template.
+   *
+   * @return Relative URL.
+   */
+  @Benchmark
+  public String actorMethodUrlTemplate() {
+    return ACTOR_METHOD_URL.expand("DemoActor", "1", "say");
+  }
+
+  /**
+   * Service invocation, without a payload.
+   *
+   * @return Response, always empty.
+   */
+  @Benchmark
+  public byte[] invokeService() {
+    return this.client.invokeService(Verb.POST, "app", "method", null, null, byte[].class).block();
+  }
+
+  /**
+   * Reads a state with options, which are sent as query parameters.
+   *
+   * @return State read.
+   */
+  @Benchmark
+  public Object getStateWithOptions() {
+    return this.client.getState("key", null, this.options, String.class).block();
+  }
+
+  /**
+   * Deletes a state with options, which are sent as query parameters.
+   *
+   * @return Always null.
+   */
+  @Benchmark
+  public Object deleteStateWithOptions() {
+    return this.client.deleteState("key", null, this.options).block();
+  }
+}
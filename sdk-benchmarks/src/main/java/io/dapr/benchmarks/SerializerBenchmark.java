@@ -0,0 +1,186 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import io.dapr.serializer.DefaultObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default serializer checking each value's type on every call with one resolving a codec once per type,
+ * for POJOs, strings and primitives.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializerBenchmark {
+
+  /**
+   * True to resolve a codec once per type.
+   */
+  @Param({"false", "true"})
+  public boolean codecCache;
+
+  /**
+   * Serializer being measured.
+   */
+  private DefaultObjectSerializer serializer;
+
+  /**
+   * POJO to be serialized.
+   */
+  private Payload pojo;
+
+  /**
+   * Serialized POJO.
+   */
+  private byte[] pojoBytes;
+
+  /**
+   * Serialized string.
+   */
+  private byte[] stringBytes;
+
+  /**
+   * Serialized integer.
+   */
+  private byte[] intBytes;
+
+  /**
+   * Creates the serializer and the values.
+   *
+   * @throws IOException If a value cannot be serialized.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    this.serializer = new DefaultObjectSerializer(this.codecCache);
+    this.pojo = new Payload();
+    this.pojo.setName("Jon Doe");
+    this.pojo.setAge(42);
+    this.pojo.setActive(true);
+    this.pojoBytes = this.serializer.serialize(this.pojo);
+    this.stringBytes = this.serializer.serialize("hello world");
+    this.intBytes = this.serializer.serialize(42);
+  }
+
+  /**
+   * Serializes a POJO.
+   *
+   * @return Serialized POJO.
+   * @throws IOException If the value cannot be serialized.
+   */
+  @Benchmark
+  public byte[] serializePojo() throws IOException {
+    return this.serializer.serialize(this.pojo);
+  }
+
+  /**
+   * Deserializes a POJO.
+   *
+   * @return Deserialized POJO.
+   * @throws IOException If the value cannot be deserialized.
+   */
+  @Benchmark
+  public Payload deserializePojo() throws IOException {
+    return this.serializer.deserialize(this.pojoBytes, Payload.class);
+  }
+
+  /**
+   * Serializes a string.
+   *
+   * @return Serialized string.
+   * @throws IOException If the value cannot be serialized.
+   */
+  @Benchmark
+  public byte[] serializeString() throws IOException {
+    return this.serializer.serialize("hello world");
+  }
+
+  /**
+   * Deserializes a string.
+   *
+   * @return Deserialized string.
+   * @throws IOException If the value cannot be deserialized.
+   */
+  @Benchmark
+  public String deserializeString() throws IOException {
+    return this.serializer.deserialize(this.stringBytes, String.class);
+  }
+
+  /**
+   * Serializes a boxed integer.
+   *
+   * @return Serialized integer.
+   * @throws IOException If the value cannot be serialized.
+   */
+  @Benchmark
+  public byte[] serializeInt() throws IOException {
+    return this.serializer.serialize(42);
+  }
+
+  /**
+   * Deserializes a primitive integer.
+   *
+   * @return Deserialized integer.
+   * @throws IOException If the value cannot be deserialized.
+   */
+  @Benchmark
+  public int deserializeInt() throws IOException {
+    return this.serializer.deserialize(this.intBytes, int.class);
+  }
+
+  /**
+   * POJO being serialized.
+   */
+  public static class Payload {
+
+    private String name;
+
+    private int age;
+
+    private boolean active;
+
+    public String getName() {
+      return this.name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getAge() {
+      return this.age;
+    }
+
+    public void setAge(int age) {
+      this.age = age;
+    }
+
+    public boolean isActive() {
+      return this.active;
+    }
+
+    public void setActive(boolean active) {
+      this.active = active;
+    }
+  }
+}
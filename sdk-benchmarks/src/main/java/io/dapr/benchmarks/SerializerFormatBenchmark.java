@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import io.dapr.serializer.AfterburnerObjectSerializer;
+import io.dapr.serializer.CborObjectSerializer;
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.serializer.SmileObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of encoding and decoding an order with each serializer format.
+ * The size of the encoded order is printed on setup.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializerFormatBenchmark {
+
+  /**
+   * Serializer formats.
+   */
+  public enum Format {
+    /**
+     * Textual JSON, as Dapr's default serializer.
+     */
+    DEFAULT,
+    /**
+     * Textual JSON, with properties accessed through generated bytecode.
+     */
+    AFTERBURNER,
+    /**
+     * Jackson's binary JSON.
+     */
+    SMILE,
+    /**
+     * CBOR.
+     */
+    CBOR
+  }
+
+  /**
+   * Format being measured.
+   */
+  @Param({"DEFAULT", "AFTERBURNER", "SMILE", "CBOR"})
+  public Format format;
+
+  /**
+   * Number of lines in the order.
+   */
+  @Param({"1", "100"})
+  public int lineCount;
+
+  /**
+   * Serializer being measured.
+   */
+  private DaprObjectSerializer serializer;
+
+  /**
+   * Order to be encoded.
+   */
+  private Order order;
+
+  /**
+   * Encoded order.
+   */
+  private byte[] encoded;
+
+  /**
+   * Creates the serializer and the order.
+   *
+   * @throws IOException If the order cannot be encoded.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    switch (this.format) {
+      case AFTERBURNER:
+        this.serializer = new AfterburnerObjectSerializer();
+        break;
+      case SMILE:
+        this.serializer = new SmileObjectSerializer();
+        break;
+      case CBOR:
+        this.serializer = new CborObjectSerializer();
+        break;
+      default:
+        this.serializer = new DefaultObjectSerializer();
+    }
+
+    this.order = new Order();
+    this.order.setId("order-1");
+    this.order.setCustomer("Jon Doe");
+    List<Line> lines = new ArrayList<>(this.lineCount);
+    for (int i = 0; i < this.lineCount; i++) {
+      Line line = new Line();
+      line.setSku("sku-" + i);
+      line.setQuantity(i + 1);
+      line.setPrice(9.99 * (i + 1));
+      lines.add(line);
+    }
+    this.order.setLines(lines);
+    this.encoded = this.serializer.serialize(this.order);
+    System.out.println(this.format + ": " + this.encoded.length + " bytes.");
+  }
+
+  /**
+   * Encodes the order.
+   *
+   * @return Encoded order.
+   * @throws IOException If the order cannot be encoded.
+   */
+  @Benchmark
+  public byte[] encode() throws IOException {
+    return this.serializer.serialize(this.order);
+  }
+
+  /**
+   * Decodes the order.
+   *
+   * @return Decoded order.
+   * @throws IOException If the order cannot be decoded.
+   */
+  @Benchmark
+  public Order decode() throws IOException {
+    return this.serializer.deserialize(this.encoded, Order.class);
+  }
+
+  /**
+   * Order being encoded.
+   */
+  public static class Order {
+
+    private String id;
+
+    private String customer;
+
+    private List<Line> lines;
+
+    public String getId() {
+      return this.id;
+    }
+
+    public void setId(String id) {
+      this.id = id;
+    }
+
+    public String getCustomer() {
+      return this.customer;
+    }
+
+    public void setCustomer(String customer) {
+      this.customer = customer;
+    }
+
+    public List<Line> getLines() {
+      return this.lines;
+    }
+
+    public void setLines(List<Line> lines) {
+      this.lines = lines;
+    }
+  }
+
+  /**
+   * Line of an order.
+   */
+  public static class Line {
+
+    private String sku;
+
+    private int quantity;
+
+    private double price;
+
+    public String getSku() {
+      return this.sku;
+    }
+
+    public void setSku(String sku) {
+      this.sku = sku;
+    }
+
+    public int getQuantity() {
+      return this.quantity;
+    }
+
+    public void setQuantity(int quantity) {
+      this.quantity = quantity;
+    }
+
+    public double getPrice() {
+      return this.price;
+    }
+
+    public void setPrice(double price) {
+      this.price = price;
+    }
+  }
+}
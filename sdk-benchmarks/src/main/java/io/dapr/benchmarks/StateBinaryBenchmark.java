@@ -0,0 +1,164 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.protobuf.Any;
+import com.google.protobuf.ByteString;
+import io.dapr.DaprProtos;
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprClientBuilder;
+import io.dapr.serializer.DaprObjectSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares saving a binary state base64 encoded in JSON over HTTP with saving it as is, the HTTP client sending state
+ * operations via GRPC, against local stand-ins of Dapr.
+ * The size of each request's body is printed on setup, latencies are sampled so JMH reports their percentiles.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class StateBinaryBenchmark {
+
+  /**
+   * True to send binary states as is, via GRPC, false to base64 encode them over HTTP.
+   */
+  @Param({"false", "true"})
+  public boolean rawBinaryState;
+
+  /**
+   * Size of the state's value, in bytes.
+   */
+  @Param({"1024", "65536"})
+  public int valueSize;
+
+  /**
+   * Stand-in for Dapr's HTTP API.
+   */
+  private DaprHttpStandIn daprHttp;
+
+  /**
+   * Stand-in for Dapr's GRPC API.
+   */
+  private DaprGrpcStandIn daprGrpc;
+
+  /**
+   * Client being measured.
+   */
+  private DaprClient client;
+
+  /**
+   * Value to be saved.
+   */
+  private byte[] value;
+
+  /**
+   * Starts the stand-ins and builds an HTTP client pointing to them.
+   *
+   * @throws Exception If a stand-in cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    this.daprHttp = new DaprHttpStandIn(false, null);
+    this.daprGrpc = new DaprGrpcStandIn();
+    System.setProperty("dapr.grpc.enabled", "false");
+    System.setProperty("dapr.http.port", Integer.toString(this.daprHttp.getPort()));
+    System.setProperty("dapr.grpc.port", Integer.toString(this.daprGrpc.getPort()));
+    DaprClientBuilder builder = new DaprClientBuilder().withStateSerializer(new BinarySerializer());
+    if (this.rawBinaryState) {
+      builder.withRawBinaryState();
+    }
+    this.client = builder.build();
+
+    this.value = new byte[this.valueSize];
+    new Random(0).nextBytes(this.value);
+    System.out.println(
+        "Request body: " + this.getRequestSize() + " bytes for a value of " + this.valueSize + " bytes.");
+  }
+
+  /**
+   * Gets the size of the body sent to save the state.
+   *
+   * @return Size of the request's body, in bytes.
+   * @throws Exception If the body cannot be serialized.
+   */
+  private int getRequestSize() throws Exception {
+    if (this.rawBinaryState) {
+      return DaprProtos.SaveStateEnvelope.newBuilder()
+          .addRequests(DaprProtos.StateRequest.newBuilder()
+              .setKey("key")
+              .setValue(Any.newBuilder().setValue(ByteString.copyFrom(this.value))))
+          .build()
+          .getSerializedSize();
+    }
+
+    Map<String, Object> state = new LinkedHashMap<>();
+    state.put("value", this.value);
+    state.put("key", "key");
+    return new ObjectMapper().writeValueAsBytes(Collections.singletonList(state)).length;
+  }
+
+  /**
+   * Stops the stand-ins.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.daprHttp.close();
+    this.daprGrpc.close();
+  }
+
+  /**
+   * Saves the state.
+   */
+  @Benchmark
+  public void saveState() {
+    this.client.saveState("key", this.value).block();
+  }
+
+  /**
+   * Serializer keeping binary values as is, as protobuf encoded states would be.
+   */
+  private static class BinarySerializer implements DaprObjectSerializer {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] serialize(Object o) {
+      return (byte[]) o;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> clazz) {
+      return clazz.cast(data);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprClientBuilder;
+import io.dapr.client.domain.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading many states at once with one subscribed call per key, against a local stand-in of Dapr.
+ * Latencies are sampled, so JMH reports their percentiles (p50, p99, ...).
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+public class StateBulkReadBenchmark {
+
+  /**
+   * Ways to read the states.
+   */
+  public enum Strategy {
+    /**
+     * One getState call per key, all subscribed at once by the caller.
+     */
+    PER_KEY,
+    /**
+     * getStates against a Dapr without bulk reads, so keys are fanned out with bounded parallelism.
+     */
+    FAN_OUT,
+    /**
+     * getStates against a Dapr with bulk reads, so keys are read in a single request.
+     */
+    BULK
+  }
+
+  /**
+   * Strategy being measured.
+   */
+  @Param({"PER_KEY", "FAN_OUT", "BULK"})
+  public Strategy strategy;
+
+  /**
+   * Number of keys read at once.
+   */
+  @Param({"10", "100", "500"})
+  public int keyCount;
+
+  /**
+   * Stand-in for Dapr's API.
+   */
+  private DaprHttpStandIn dapr;
+
+  /**
+   * Client being measured.
+   */
+  private DaprClient client;
+
+  /**
+   * Keys to be read.
+   */
+  private List<String> keys;
+
+  /**
+   * Starts the stand-in and builds an HTTP client pointing to it.
+   *
+   * @throws Exception If the stand-in cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    this.dapr = new DaprHttpStandIn(false, null, this.strategy == Strategy.BULK);
+    System.setProperty("dapr.grpc.enabled", "false");
+    System.setProperty("dapr.http.port", Integer.toString(this.dapr.getPort()));
+    this.client = new DaprClientBuilder().withMaxRequests(256).withMaxRequestsPerHost(256).build();
+
+    this.keys = new ArrayList<>(this.keyCount);
+    for (int i = 0; i < this.keyCount; i++) {
+      this.keys.add("key" + i);
+    }
+  }
+
+  /**
+   * Stops the stand-in.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.dapr.close();
+  }
+
+  /**
+   * Reads all the keys.
+   *
+   * @return States read.
+   */
+  @Benchmark
+  public List<State<String>> getStates() {
+    if (this.strategy == Strategy.PER_KEY) {
+      return Flux.fromIterable(this.keys)
+          .flatMapSequential(key -> this.client.getState(key, String.class), this.keys.size())
+          .collectList()
+          .block();
+    }
+
+    return this.client.getStates(this.keys, String.class).block();
+  }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.benchmarks;
+
+import io.dapr.client.DaprClient;
+import io.dapr.client.DaprClientBuilder;
+import io.dapr.client.domain.State;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures saving a batch of states with a single call over HTTP, against a local stand-in of Dapr.
+ * Run with {@code -prof gc} to compare the bytes allocated per batch.
+ */
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@org.openjdk.jmh.annotations.State(Scope.Benchmark)
+public class StateSaveBenchmark {
+
+  /**
+   * Number of states saved at once.
+   */
+  @Param({"1", "100", "10000"})
+  public int itemCount;
+
+  /**
+   * Stand-in for Dapr's API.
+   */
+  private DaprHttpStandIn dapr;
+
+  /**
+   * Client being measured.
+   */
+  private DaprClient client;
+
+  /**
+   * States to be saved.
+   */
+  private List<State<?>> states;
+
+  /**
+   * Starts the stand-in and builds an HTTP client pointing to it.
+   *
+   * @throws Exception If the stand-in cannot be started.
+   */
+  @Setup(Level.Trial)
+  public void setUp() throws Exception {
+    this.dapr = new DaprHttpStandIn(false, null);
+    System.setProperty("dapr.grpc.enabled", "false");
+    System.setProperty("dapr.http.port", Integer.toString(this.dapr.getPort()));
+    this.client = new DaprClientBuilder().build();
+
+    this.states = new ArrayList<>(this.itemCount);
+    for (int i = 0; i < this.itemCount; i++) {
+      this.states.add(new State<>(
+          Collections.singletonMap("message", "value of state number " + i), "key" + i, "etag" + i, null));
+    }
+  }
+
+  /**
+   * Stops the stand-in.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    this.dapr.close();
+  }
+
+  /**
+   * Saves all the states.
+   */
+  @Benchmark
+  public void saveStates() {
+    this.client.saveStates(this.states).block();
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+/**
+ * Serializer for application's objects as JSON, with properties accessed through generated bytecode instead of
+ * reflection.
+ * Unlike {@link DefaultObjectSerializer}, strings and byte arrays are encoded as JSON too.
+ */
+@StringContentType
+public class AfterburnerObjectSerializer extends JacksonObjectSerializer {
+
+  /**
+   * Creates a JSON serializer with the same settings as Dapr's default serializer.
+   */
+  public AfterburnerObjectSerializer() {
+    super(configure(new ObjectMapper().registerModule(new AfterburnerModule())));
+  }
+}
@@ -0,0 +1,23 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+
+/**
+ * Serializer for application's objects as CBOR (RFC 7049).
+ * A binary format with implementations in most languages, for traffic where both ends agree on it.
+ */
+public class CborObjectSerializer extends JacksonObjectSerializer {
+
+  /**
+   * Creates a CBOR serializer with the same settings as Dapr's default serializer.
+   */
+  public CborObjectSerializer() {
+    super(configure(new ObjectMapper(new CBORFactory())));
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.serializer;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import io.dapr.utils.TypeRef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.lang.reflect.Array;
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Serializer for application's objects in any of Jackson's formats, given its mapper.
+ * Every object is encoded in the mapper's format, including strings and byte arrays, so both ends must use the same
+ * serializer. Readers and writers are resolved once per type.
+ */
+public class JacksonObjectSerializer implements DaprObjectSerializer {
+
+  /**
+   * Serializer/deserializer for the format.
+   */
+  private final ObjectMapper mapper;
+
+  /**
+   * Deserializers by type.
+   */
+  private final ClassValue<ObjectReader> readers = new ClassValue<ObjectReader>() {
+    @Override
+    protected ObjectReader computeValue(Class<?> type) {
+      return JacksonObjectSerializer.this.mapper.readerFor(type);
+    }
+  };
+
+  /**
+   * Deserializers by generic type.
+   */
+  private final Map<Type, ObjectReader> genericReaders = new ConcurrentHashMap<>();
+
+  /**
+   * Serializers by type.
+   */
+  private final ClassValue<ObjectWriter> writers = new ClassValue<ObjectWriter>() {
+    @Override
+    protected ObjectWriter computeValue(Class<?> type) {
+      return JacksonObjectSerializer.this.mapper.writerFor(type);
+    }
+  };
+
+  /**
+   * Creates a serializer for the mapper's format.
+   * The mapper is used as is, see {@link #configure(ObjectMapper)} for the settings of Dapr's default serializer.
+   *
+   * @param mapper Serializer/deserializer for the format.
+   */
+  public JacksonObjectSerializer(ObjectMapper mapper) {
+    if (mapper == null) {
+      throw new IllegalArgumentException("Mapper is required.");
+    }
+
+    this.mapper = mapper;
+  }
+
+  /**
+   * Applies the same settings as Dapr's default serializer: unknown properties are ignored and null properties are
+   * not serialized.
+   *
+   * @param mapper Mapper to be configured.
+   * @return Same mapper.
+   */
+  public static ObjectMapper configure(ObjectMapper mapper) {
+    return mapper
+        .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+        .setSerializationInclusion(JsonInclude.Include.NON_NULL);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[] serialize(Object o) throws IOException {
+    if ((o == null) || (o.getClass() == Void.class)) {
+      return null;
+    }
+
+    return this.writers.get(o.getClass()).writeValueAsBytes(o);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserialize(byte[] data, Class<T> clazz) throws IOException {
+    if ((clazz == null) || (clazz == Void.class)) {
+      return null;
+    }
+    if ((data == null) || (data.length == 0)) {
+      return defaultValueOf(clazz);
+    }
+
+    return this.readers.get(clazz).readValue(data);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserialize(byte[] data, TypeRef<T> type) throws IOException {
+    Class<T> clazz = type.asClass();
+    if (clazz != null) {
+      return this.deserialize(data, clazz);
+    }
+    if ((data == null) || (data.length == 0)) {
+      return null;
+    }
+
+    ObjectReader reader = this.genericReaders.computeIfAbsent(type.getType(),
+        t -> this.mapper.readerFor(this.mapper.getTypeFactory().constructType(t)));
+    return reader.readValue(data);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserializeFrom(ByteBuffer data, Class<T> clazz) throws IOException {
+    if ((clazz == null) || (clazz == Void.class)) {
+      return null;
+    }
+    if ((data == null) || !data.hasRemaining()) {
+      return defaultValueOf(clazz);
+    }
+
+    ObjectReader reader = this.readers.get(clazz);
+    if (data.hasArray()) {
+      return reader.readValue(data.array(), data.arrayOffset() + data.position(), data.remaining());
+    }
+
+    return reader.readValue(new ByteBufferBackedInputStream(data.duplicate()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserializeFrom(InputStream data, Class<T> clazz) throws IOException {
+    if ((clazz == null) || (clazz == Void.class)) {
+      return null;
+    }
+    if (data == null) {
+      return defaultValueOf(clazz);
+    }
+
+    // Parsed straight from the stream, peeking at the first byte as there is no value for empty content.
+    PushbackInputStream input = new PushbackInputStream(data, 1);
+    int first = input.read();
+    if (first < 0) {
+      return defaultValueOf(clazz);
+    }
+    input.unread(first);
+    return this.readers.get(clazz).readValue(input);
+  }
+
+  /**
+   * Gets the value of a type when there is no content: zero or false for primitives, null otherwise.
+   *
+   * @param clazz Type of the value.
+   * @param <T>   Type of the value.
+   * @return Default value.
+   */
+  private static <T> T defaultValueOf(Class<T> clazz) {
+    if (clazz.isPrimitive()) {
+      return (T) Array.get(Array.newInstance(clazz, 1), 0);
+    }
+
+    return null;
+  }
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.serializer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+
+/**
+ * Serializer for application's objects as Smile, Jackson's binary JSON.
+ * Smaller and faster to parse than textual JSON, for traffic where both ends use this serializer, such as
+ * actor-to-actor or service-to-service calls between Java applications.
+ */
+public class SmileObjectSerializer extends JacksonObjectSerializer {
+
+  /**
+   * Creates a Smile serializer with the same settings as Dapr's default serializer.
+   */
+  public SmileObjectSerializer() {
+    super(configure(new ObjectMapper(new SmileFactory())));
+  }
+}
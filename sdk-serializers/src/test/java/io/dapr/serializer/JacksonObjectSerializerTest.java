@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.serializer;
+
+import io.dapr.utils.TypeRef;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+@RunWith(Parameterized.class)
+public class JacksonObjectSerializerTest {
+
+  @Parameterized.Parameters(name = "{0}")
+  public static Collection<Object[]> serializers() {
+    return Arrays.asList(new Object[][] {
+        { "smile", new SmileObjectSerializer(), true },
+        { "cbor", new CborObjectSerializer(), true },
+        { "afterburner", new AfterburnerObjectSerializer(), false }
+    });
+  }
+
+  private final DaprObjectSerializer serializer;
+
+  private final boolean binary;
+
+  public JacksonObjectSerializerTest(String name, DaprObjectSerializer serializer, boolean binary) {
+    this.serializer = serializer;
+    this.binary = binary;
+  }
+
+  @Test
+  public void roundTripPojo() throws Exception {
+    MyObject obj = new MyObject();
+    obj.setName("Jon Doe");
+    obj.setAge(42);
+    byte[] data = serializer.serialize(obj);
+    assertEquals(obj, serializer.deserialize(data, MyObject.class));
+    // Run twice, as readers and writers are resolved once per type.
+    assertEquals(obj, serializer.deserialize(serializer.serialize(obj), MyObject.class));
+  }
+
+  @Test
+  public void roundTripSimpleTypes() throws Exception {
+    assertEquals("hello", serializer.deserialize(serializer.serialize("hello"), String.class));
+    assertEquals(Integer.valueOf(7), serializer.deserialize(serializer.serialize(7), int.class));
+    assertEquals(Boolean.TRUE, serializer.deserialize(serializer.serialize(true), Boolean.class));
+    byte[] bytes = new byte[] { 0, 1, (byte) 0xff };
+    assertArrayEquals(bytes, serializer.deserialize(serializer.serialize(bytes), byte[].class));
+  }
+
+  @Test
+  public void nullAndEmpty() throws Exception {
+    assertNull(serializer.serialize(null));
+    assertNull(serializer.deserialize(null, MyObject.class));
+    assertNull(serializer.deserialize(new byte[0], String.class));
+    assertEquals(Integer.valueOf(0), serializer.deserialize(null, int.class));
+    assertEquals(Boolean.FALSE, serializer.deserialize(new byte[0], boolean.class));
+    assertNull(serializer.deserialize(serializer.serialize("ignored"), Void.class));
+  }
+
+  @Test
+  public void deserializeFromBuffer() throws Exception {
+    MyObject obj = new MyObject();
+    obj.setName("Jon Doe");
+    byte[] data = serializer.serialize(obj);
+    ByteBuffer direct = ByteBuffer.allocateDirect(data.length);
+    direct.put(data).flip();
+    assertEquals(obj, serializer.deserializeFrom(direct, MyObject.class));
+    assertEquals(0, direct.position());
+
+    byte[] padded = new byte[data.length + 2];
+    System.arraycopy(data, 0, padded, 1, data.length);
+    ByteBuffer wrapped = ByteBuffer.wrap(padded, 1, data.length);
+    assertEquals(obj, serializer.deserializeFrom(wrapped.slice(), MyObject.class));
+  }
+
+  @Test
+  public void deserializeFromStream() throws Exception {
+    MyObject obj = new MyObject();
+    obj.setName("Jon Doe");
+    obj.setAge(42);
+    byte[] data = serializer.serialize(obj);
+    assertEquals(obj, serializer.deserializeFrom(new ByteArrayInputStream(data), MyObject.class));
+    assertEquals(obj, serializer.deserializeFrom(Channels.newChannel(new ByteArrayInputStream(data)), MyObject.class));
+    assertNull(serializer.deserializeFrom(new ByteArrayInputStream(new byte[0]), MyObject.class));
+    assertEquals(Integer.valueOf(0), serializer.deserializeFrom(new ByteArrayInputStream(new byte[0]), int.class));
+  }
+
+  @Test
+  public void roundTripGenericTypes() throws Exception {
+    MyObject obj = new MyObject();
+    obj.setName("Jon Doe");
+    obj.setAge(42);
+    List<MyObject> list = Collections.singletonList(obj);
+    TypeRef<List<MyObject>> type = new TypeRef<List<MyObject>>() {};
+    assertEquals(list, serializer.deserialize(serializer.serialize(list), type));
+    // Run twice, as readers are resolved once per type.
+    assertEquals(list, serializer.deserialize(serializer.serialize(list), type));
+    assertEquals(list, serializer.deserializeFrom(new ByteArrayInputStream(serializer.serialize(list)), type));
+    assertEquals("hello", serializer.deserialize(serializer.serialize("hello"), TypeRef.get(String.class)));
+    assertNull(serializer.deserialize(new byte[0], type));
+  }
+
+  @Test
+  public void ignoresUnknownProperties() throws Exception {
+    MyObjectWithExtra extra = new MyObjectWithExtra();
+    extra.setName("Jon Doe");
+    extra.setExtra("more");
+    MyObject obj = serializer.deserialize(serializer.serialize(extra), MyObject.class);
+    assertEquals("Jon Doe", obj.getName());
+  }
+
+  @Test
+  public void binaryFormatsAreSmaller() throws Exception {
+    // Afterburner writes the same JSON, only faster.
+    assumeTrue(binary);
+    MyObject obj = new MyObject();
+    obj.setName("Jon Doe");
+    obj.setAge(42);
+    int jsonSize = new DefaultObjectSerializer().serialize(obj).length;
+    assertTrue(serializer.serialize(obj).length < jsonSize);
+  }
+
+  public static class MyObject {
+
+    private String name;
+
+    private int age;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public void setAge(int age) {
+      this.age = age;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (o == null || getClass() != o.getClass()) {
+        return false;
+      }
+      MyObject that = (MyObject) o;
+      return age == that.age && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(name, age);
+    }
+  }
+
+  public static class MyObjectWithExtra extends MyObject {
+
+    private String extra;
+
+    public String getExtra() {
+      return extra;
+    }
+
+    public void setExtra(String extra) {
+      this.extra = extra;
+    }
+  }
+}
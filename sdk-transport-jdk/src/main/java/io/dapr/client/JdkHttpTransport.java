@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import org.reactivestreams.Publisher;
+import reactor.adapter.JdkFlowAdapter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * Transport to Dapr based on the JDK's own {@link HttpClient}, with no third-party HTTP stack.
+ * Requires Java 11 or later.
+ */
+public class JdkHttpTransport implements DaprTransport {
+
+  /**
+   * Empty input or output.
+   */
+  private static final byte[] EMPTY_BYTES = new byte[0];
+
+  /**
+   * Http client used for all API calls.
+   */
+  private final HttpClient httpClient;
+
+  /**
+   * Creates a new transport with a default client that speaks HTTP/1.1 to the sidecar.
+   */
+  public JdkHttpTransport() {
+    this(HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build());
+  }
+
+  /**
+   * Creates a new transport using the given client.
+   *
+   * @param httpClient JDK client used for all API calls.
+   */
+  public JdkHttpTransport(HttpClient httpClient) {
+    if (httpClient == null) {
+      throw new IllegalArgumentException("Http client is required.");
+    }
+
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<DaprHttp.Response> send(String method, String url, byte[] content, Map<String, String> headers) {
+    HttpRequest request = buildRequest(
+        method, url, headers, BodyPublishers.ofByteArray(content == null ? EMPTY_BYTES : content));
+    return Mono.defer(() -> Mono.fromFuture(this.httpClient.sendAsync(request, BodyHandlers.ofByteArray())))
+        .map(response -> new DaprHttp.Response(response.body(), toMap(response), response.statusCode()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<ByteBuffer> stream(
+      String method,
+      String url,
+      Flux<ByteBuffer> content,
+      Map<String, String> headers,
+      Function<DaprHttp.StreamingResponse, Publisher<ByteBuffer>> handler) {
+    HttpRequest request = buildRequest(method, url, headers, content == null
+        ? BodyPublishers.ofByteArray(EMPTY_BYTES)
+        : BodyPublishers.fromPublisher(JdkFlowAdapter.publisherToFlowPublisher(content)));
+    return Mono.defer(() -> Mono.fromFuture(this.httpClient.sendAsync(request, BodyHandlers.ofPublisher())))
+        .flatMapMany(response -> handler.apply(new DaprHttp.StreamingResponse(
+            JdkFlowAdapter.flowPublisherToFlux(response.body()).flatMapIterable(buffers -> buffers),
+            toMap(response),
+            response.statusCode())));
+  }
+
+  /**
+   * Builds the HTTP request to be sent to Dapr.
+   *
+   * @param method  HTTP method.
+   * @param url     Full URL, already encoded.
+   * @param headers HTTP headers.
+   * @param body    Payload to be sent, ignored if the method does not take one.
+   * @return Request to be sent.
+   */
+  private static HttpRequest buildRequest(
+      String method, String url, Map<String, String> headers, HttpRequest.BodyPublisher body) {
+    boolean hasBody =
+        !DaprHttp.HttpMethods.GET.name().equals(method) && !DaprHttp.HttpMethods.DELETE.name().equals(method);
+    HttpRequest.Builder requestBuilder =
+        HttpRequest.newBuilder(URI.create(url)).method(method, hasBody ? body : BodyPublishers.noBody());
+    if (headers != null) {
+      headers.forEach(requestBuilder::header);
+    }
+    return requestBuilder.build();
+  }
+
+  /**
+   * Copies the response's headers into a map with case-insensitive names, keeping the first value of each.
+   *
+   * @param response Response from Dapr.
+   * @return Map with the response's headers.
+   */
+  private static Map<String, String> toMap(HttpResponse<?> response) {
+    Map<String, String> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    response.headers().map().forEach((name, values) -> {
+      if (!values.isEmpty()) {
+        headers.put(name, values.get(0));
+      }
+    });
+    return headers;
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JdkHttpTransportTest {
+
+  private static final String ERROR = "{\"errorCode\":\"ERR_NOT_FOUND\",\"message\":\"Not found\"}";
+
+  private HttpServer server;
+
+  @Before
+  public void setUp() throws Exception {
+    server = HttpServer.create(new InetSocketAddress(0), 0);
+    server.createContext("/v1.0/echo", exchange -> {
+      byte[] body = exchange.getRequestBody().readAllBytes();
+      exchange.getResponseHeaders().add("x-method", exchange.getRequestMethod());
+      if (exchange.getRequestHeaders().containsKey("x-custom")) {
+        exchange.getResponseHeaders().add("x-custom", exchange.getRequestHeaders().getFirst("x-custom"));
+      }
+      exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(body);
+      }
+    });
+    server.createContext("/v1.0/missing", exchange -> {
+      byte[] body = ERROR.getBytes(StandardCharsets.UTF_8);
+      exchange.sendResponseHeaders(404, body.length);
+      try (OutputStream os = exchange.getResponseBody()) {
+        os.write(body);
+      }
+    });
+    server.start();
+  }
+
+  @After
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  public void sendEchoesBody() {
+    byte[] content = "{\"hello\":\"world\"}".getBytes(StandardCharsets.UTF_8);
+    DaprHttp.Response response = new JdkHttpTransport()
+        .send("POST", url("/v1.0/echo"), content, Collections.singletonMap("x-custom", "abc"))
+        .block();
+    assertEquals(200, response.getStatusCode());
+    assertArrayEquals(content, response.getBody());
+    assertEquals("POST", response.getHeaders().get("x-method"));
+    assertEquals("abc", response.getHeaders().get("x-custom"));
+  }
+
+  @Test
+  public void sendEmitsErrorStatus() {
+    DaprHttp.Response response = new JdkHttpTransport()
+        .send("GET", url("/v1.0/missing"), null, Collections.emptyMap())
+        .block();
+    assertEquals(404, response.getStatusCode());
+    assertEquals(ERROR, new String(response.getBody(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void invokeApiThroughDaprHttp() {
+    byte[] content = "ping".getBytes(StandardCharsets.UTF_8);
+    DaprHttp daprHttp = new DaprHttp(server.getAddress().getPort(), new JdkHttpTransport());
+    DaprHttp.Response response = daprHttp.invokeApi("POST", "v1.0/echo", null, content, null).block();
+    assertArrayEquals(content, response.getBody());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void invokeApiThroughDaprHttpMapsErrors() {
+    DaprHttp daprHttp = new DaprHttp(server.getAddress().getPort(), new JdkHttpTransport());
+    daprHttp.invokeApi("GET", "v1.0/missing", null, (byte[]) null, null).block();
+  }
+
+  @Test
+  public void invokeApiStreamEchoesLargeBody() {
+    byte[] expected = new byte[4 * 1024 * 1024];
+    new Random(0).nextBytes(expected);
+    int chunkSize = 64 * 1024;
+    Flux<ByteBuffer> request = Flux.range(0, expected.length / chunkSize)
+        .map(i -> ByteBuffer.wrap(expected, i * chunkSize, chunkSize));
+    DaprHttp daprHttp = new DaprHttp(server.getAddress().getPort(), new JdkHttpTransport());
+    List<ByteBuffer> chunks = daprHttp.invokeApiStream("POST", "v1.0/echo", null, request, null)
+        .collectList()
+        .block();
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    for (ByteBuffer chunk : chunks) {
+      byte[] bytes = new byte[chunk.remaining()];
+      chunk.get(bytes);
+      output.write(bytes, 0, bytes.length);
+    }
+    assertTrue(chunks.size() > 1);
+    assertArrayEquals(expected, output.toByteArray());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void invokeApiStreamMapsErrors() {
+    DaprHttp daprHttp = new DaprHttp(server.getAddress().getPort(), new JdkHttpTransport());
+    daprHttp.invokeApiStream("GET", "v1.0/missing", null, null, null).blockLast();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullHttpClient() {
+    new JdkHttpTransport(null);
+  }
+
+  private String url(String path) {
+    return "http://localhost:" + server.getAddress().getPort() + path;
+  }
+}
@@ -0,0 +1,412 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.StateOptions;
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.serializer.DefaultObjectSerializer;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects state writes into batches, each saved with a single call to {@link DaprClient#saveStates(List)}.
+ * A batch is sent once it reaches the maximum number of keys or bytes, or once the linger time since its first write
+ * elapses. Writes to a key already in the batch replace the previous value, last write wins, so only one state per key
+ * is sent. Writes with an etag or options are never merged: the batch holding the key is sent first, so each
+ * conditional write is checked by Dapr. Each write completes when its batch is saved, or fails if the batch fails.
+ * A cancelled write is dropped from its batch, unless the batch was sent or another write to its key still waits.
+ */
+public class BatchingStateWriter implements Closeable {
+
+  /**
+   * Default maximum number of keys in a batch.
+   */
+  private static final int DEFAULT_MAX_BATCH_SIZE = 100;
+
+  /**
+   * Default maximum size of the values in a batch, once serialized.
+   */
+  private static final long DEFAULT_MAX_BATCH_BYTES = 1024 * 1024;
+
+  /**
+   * Default time a batch waits for more writes.
+   */
+  private static final Duration DEFAULT_LINGER = Duration.ofMillis(5);
+
+  /**
+   * Client to write to Dapr.
+   */
+  private final DaprClient client;
+
+  /**
+   * Serializer for state objects, used to measure their size.
+   */
+  private final DaprObjectSerializer stateSerializer;
+
+  /**
+   * Maximum number of keys in a batch.
+   */
+  private final int maxBatchSize;
+
+  /**
+   * Maximum size of the values in a batch.
+   */
+  private final long maxBatchBytes;
+
+  /**
+   * Time a batch waits for more writes, in nanoseconds.
+   */
+  private final long lingerNanos;
+
+  /**
+   * Scheduler for the linger timers.
+   */
+  private final Scheduler scheduler;
+
+  /**
+   * Batch collecting writes, or null if there are no writes pending.
+   */
+  private Batch batch;
+
+  /**
+   * Creates a writer with a batch of up to 100 keys or 1 MB, lingering for 5 ms.
+   *
+   * @param client          Client to write to Dapr.
+   * @param stateSerializer Serializer for state objects, same as the client's, used to measure their size.
+   */
+  public BatchingStateWriter(DaprClient client, DaprObjectSerializer stateSerializer) {
+    this(client, stateSerializer, DEFAULT_MAX_BATCH_SIZE, DEFAULT_MAX_BATCH_BYTES, DEFAULT_LINGER);
+  }
+
+  /**
+   * Creates a writer.
+   *
+   * @param client          Client to write to Dapr.
+   * @param stateSerializer Serializer for state objects, same as the client's, used to measure their size.
+   * @param maxBatchSize    Maximum number of keys in a batch.
+   * @param maxBatchBytes   Maximum size of the values in a batch, once serialized.
+   * @param linger          Time a batch waits for more writes after its first one.
+   */
+  public BatchingStateWriter(
+      DaprClient client, DaprObjectSerializer stateSerializer, int maxBatchSize, long maxBatchBytes, Duration linger) {
+    this(client, stateSerializer, maxBatchSize, maxBatchBytes, linger, Schedulers.parallel());
+  }
+
+  /**
+   * Creates a writer.
+   *
+   * @param client          Client to write to Dapr.
+   * @param stateSerializer Serializer for state objects, used to measure their size.
+   * @param maxBatchSize    Maximum number of keys in a batch.
+   * @param maxBatchBytes   Maximum size of the values in a batch, once serialized.
+   * @param linger          Time a batch waits for more writes after its first one.
+   * @param scheduler       Scheduler for the linger timers.
+   */
+  BatchingStateWriter(
+      DaprClient client,
+      DaprObjectSerializer stateSerializer,
+      int maxBatchSize,
+      long maxBatchBytes,
+      Duration linger,
+      Scheduler scheduler) {
+    if (client == null) {
+      throw new IllegalArgumentException("Client is required.");
+    }
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("Max batch size must be positive.");
+    }
+    if (maxBatchBytes <= 0) {
+      throw new IllegalArgumentException("Max batch bytes must be positive.");
+    }
+    if ((linger == null) || linger.isNegative()) {
+      throw new IllegalArgumentException("Linger cannot be null or negative.");
+    }
+
+    this.client = client;
+    this.stateSerializer = stateSerializer == null ? new DefaultObjectSerializer() : stateSerializer;
+    this.maxBatchSize = maxBatchSize;
+    this.maxBatchBytes = maxBatchBytes;
+    this.lingerNanos = linger.toNanos();
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Save/Update a state, in the next batch.
+   *
+   * @param key   the key of the state.
+   * @param value the value of the state.
+   * @return a Mono plan of type Void, completed once the batch is saved.
+   */
+  public Mono<Void> saveState(String key, Object value) {
+    return this.saveState(key, null, value, null);
+  }
+
+  /**
+   * Save/Update a state, in the next batch.
+   *
+   * @param key     the key of the state.
+   * @param etag    the etag to be used.
+   * @param value   the value of the state.
+   * @param options the Options to use for each state.
+   * @return a Mono plan of type Void, completed once the batch is saved.
+   */
+  public Mono<Void> saveState(String key, String etag, Object value, StateOptions options) {
+    return Mono.create(sink -> {
+      if ((key == null) || key.trim().isEmpty()) {
+        sink.error(new IllegalArgumentException("Key cannot be null or empty."));
+        return;
+      }
+
+      long weight;
+      try {
+        byte[] data = this.stateSerializer.serialize(value);
+        weight = data == null ? 0 : data.length;
+      } catch (IOException e) {
+        sink.error(e);
+        return;
+      }
+
+      for (Batch ready : this.add(new State<>(value, key, etag, options), weight, sink)) {
+        this.send(ready);
+      }
+    });
+  }
+
+  /**
+   * Sends the pending writes now, without waiting for the batch to fill up or linger.
+   */
+  public void flush() {
+    Batch pending;
+    synchronized (this) {
+      pending = this.batch;
+      this.batch = null;
+    }
+    if (pending != null) {
+      this.send(pending);
+    }
+  }
+
+  /**
+   * Sends the pending writes. Writes issued afterwards are still batched.
+   */
+  @Override
+  public void close() {
+    this.flush();
+  }
+
+  /**
+   * Adds a write to the current batch, starting a new one if needed.
+   * A write that cannot be merged with the batch's write to the same key goes to a new batch.
+   *
+   * @param state  State to be written.
+   * @param weight Size of the state's value.
+   * @param sink   Completes the write.
+   * @return Batches that must be sent, in order.
+   */
+  private synchronized List<Batch> add(State<?> state, long weight, MonoSink<Void> sink) {
+    Batch superseded = null;
+    if ((this.batch != null) && !this.batch.canMerge(state)) {
+      superseded = this.batch;
+      this.batch = null;
+    }
+    if (this.batch == null) {
+      Batch newBatch = new Batch();
+      newBatch.timer = this.scheduler.schedule(
+          () -> this.sendIfCurrent(newBatch), this.lingerNanos, TimeUnit.NANOSECONDS);
+      this.batch = newBatch;
+    }
+
+    Batch target = this.batch;
+    target.add(state, weight, sink);
+    sink.onCancel(() -> this.cancel(target, state.getKey(), sink));
+
+    Batch full = null;
+    if ((target.writes.size() >= this.maxBatchSize) || (target.bytes >= this.maxBatchBytes)) {
+      full = target;
+      this.batch = null;
+    }
+
+    if (superseded == null) {
+      return full == null ? Collections.emptyList() : Collections.singletonList(full);
+    }
+    List<Batch> ready = new ArrayList<>(2);
+    ready.add(superseded);
+    if (full != null) {
+      ready.add(full);
+    }
+    return ready;
+  }
+
+  /**
+   * Drops a cancelled write from its batch, unless the batch was sent or another write to its key still waits.
+   *
+   * @param pending Batch holding the write.
+   * @param key     Key of the write.
+   * @param sink    Sink of the cancelled write.
+   */
+  private synchronized void cancel(Batch pending, String key, MonoSink<Void> sink) {
+    if (this.batch != pending) {
+      return;
+    }
+
+    pending.remove(key, sink);
+  }
+
+  /**
+   * Sends a batch once its linger time elapses, unless it was sent already.
+   *
+   * @param lingering Batch whose linger time elapsed.
+   */
+  private void sendIfCurrent(Batch lingering) {
+    synchronized (this) {
+      if (this.batch != lingering) {
+        return;
+      }
+      this.batch = null;
+    }
+    this.send(lingering);
+  }
+
+  /**
+   * Saves a batch with a single call to Dapr, then completes its writes.
+   *
+   * @param batch Batch to be sent.
+   */
+  private void send(Batch batch) {
+    batch.timer.dispose();
+    if (batch.writes.isEmpty()) {
+      // Every write was cancelled.
+      return;
+    }
+
+    List<State<?>> states = new ArrayList<>(batch.writes.size());
+    List<MonoSink<Void>> sinks = new ArrayList<>();
+    for (Write write : batch.writes.values()) {
+      states.add(write.state);
+      sinks.addAll(write.sinks);
+    }
+
+    this.client.saveStates(states).subscribe(
+        null,
+        error -> sinks.forEach(sink -> sink.error(error)),
+        () -> sinks.forEach(MonoSink::success));
+  }
+
+  /**
+   * Writes waiting to be sent together.
+   */
+  private static class Batch {
+
+    /**
+     * Pending writes, by key, in the order their keys were first written.
+     */
+    private final Map<String, Write> writes = new LinkedHashMap<>();
+
+    /**
+     * Size of the values in the batch.
+     */
+    private long bytes;
+
+    /**
+     * Timer sending the batch once its linger time elapses.
+     */
+    private Disposable timer;
+
+    /**
+     * Checks if a write can replace the batch's write to the same key.
+     * Writes with an etag or options cannot, as the replaced write would never be checked by Dapr.
+     *
+     * @param state State to be written.
+     * @return True if the key is not in the batch, or neither write is conditional.
+     */
+    private boolean canMerge(State<?> state) {
+      Write write = this.writes.get(state.getKey());
+      return (write == null) || (!isConditional(write.state) && !isConditional(state));
+    }
+
+    /**
+     * Removes a writer waiting on a key, and the key's write once nobody waits for it.
+     *
+     * @param key  Key of the write.
+     * @param sink Sink of the writer.
+     */
+    private void remove(String key, MonoSink<Void> sink) {
+      Write write = this.writes.get(key);
+      if ((write == null) || !write.sinks.remove(sink) || !write.sinks.isEmpty()) {
+        return;
+      }
+
+      this.writes.remove(key);
+      this.bytes -= write.weight;
+    }
+
+    /**
+     * Checks if a write carries an etag or options.
+     *
+     * @param state State to be written.
+     * @return True if the write is conditional.
+     */
+    private static boolean isConditional(State<?> state) {
+      return (state.getEtag() != null) || (state.getOptions() != null);
+    }
+
+    /**
+     * Adds a write, replacing the value of a previous write to the same key.
+     *
+     * @param state  State to be written.
+     * @param weight Size of the state's value.
+     * @param sink   Completes the write.
+     */
+    private void add(State<?> state, long weight, MonoSink<Void> sink) {
+      Write write = this.writes.get(state.getKey());
+      if (write == null) {
+        write = new Write();
+        this.writes.put(state.getKey(), write);
+      } else {
+        this.bytes -= write.weight;
+      }
+      write.state = state;
+      write.weight = weight;
+      write.sinks.add(sink);
+      this.bytes += weight;
+    }
+  }
+
+  /**
+   * Latest write to a key, with everyone waiting for it.
+   */
+  private static class Write {
+
+    /**
+     * Latest state written.
+     */
+    private State<?> state;
+
+    /**
+     * Size of the latest state's value.
+     */
+    private long weight;
+
+    /**
+     * Completes each write to the key.
+     */
+    private final List<MonoSink<Void>> sinks = new ArrayList<>(1);
+  }
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.StateOptions;
+import io.dapr.client.domain.Verb;
+import io.dapr.utils.TypeRef;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A DaprClient caching the states it reads, in order to create an instance of this class use
+ * {@link DaprClientBuilder#withStateCache(DaprStateCacheBuilder)}.
+ * States written or deleted by this client are evicted from the cache, but not states written by anyone else, so
+ * they can be served stale until they expire. Reads with an etag or options always go to Dapr.
+ * Dapr's state API has no conditional reads, so expired states are read again; if their etag did not change, the
+ * cached state is kept and its TTL is renewed. States of generic types are not cached.
+ *
+ * @see io.dapr.client.DaprClient
+ */
+public class CachingDaprClient implements DaprClient {
+
+  /**
+   * Client to read from and write to Dapr.
+   */
+  private final DaprClient client;
+
+  /**
+   * Cache of states.
+   */
+  private final DaprStateCache cache;
+
+  /**
+   * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
+   *
+   * @param client Client to read from and write to Dapr.
+   * @param cache  Cache of states.
+   * @see DaprClientBuilder
+   */
+  CachingDaprClient(DaprClient client, DaprStateCache cache) {
+    this.client = client;
+    this.cache = cache;
+  }
+
+  /**
+   * Gets the number of states served from the cache.
+   *
+   * @return Number of hits.
+   */
+  public long getHitCount() {
+    return this.cache.getHitCount();
+  }
+
+  /**
+   * Gets the number of states not found in the cache, or expired.
+   *
+   * @return Number of misses.
+   */
+  public long getMissCount() {
+    return this.cache.getMissCount();
+  }
+
+  /**
+   * Gets the number of states evicted or not admitted due to the cache's bounds.
+   *
+   * @return Number of evictions.
+   */
+  public long getEvictionCount() {
+    return this.cache.getEvictionCount();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> publishEvent(String topic, Object event) {
+    return this.client.publishEvent(topic, event);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> publishEvent(String topic, Object event, Map<String, String> metadata) {
+    return this.client.publishEvent(topic, event, metadata);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(
+      Verb verb, String appId, String method, Object request, Map<String, String> metadata, Class<T> clazz) {
+    return this.client.invokeService(verb, appId, method, request, metadata, clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(Verb verb, String appId, String method, Object request, Class<T> clazz) {
+    return this.client.invokeService(verb, appId, method, request, clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(
+      Verb verb, String appId, String method, Map<String, String> metadata, Class<T> clazz) {
+    return this.client.invokeService(verb, appId, method, metadata, clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(
+      Verb verb, String appId, String method, Object request, Map<String, String> metadata, TypeRef<T> type) {
+    return this.client.invokeService(verb, appId, method, request, metadata, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(Verb verb, String appId, String method, Object request, TypeRef<T> type) {
+    return this.client.invokeService(verb, appId, method, request, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(
+      Verb verb, String appId, String method, Map<String, String> metadata, TypeRef<T> type) {
+    return this.client.invokeService(verb, appId, method, metadata, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> invokeService(
+      Verb verb, String appId, String method, Object request, Map<String, String> metadata) {
+    return this.client.invokeService(verb, appId, method, request, metadata);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> invokeService(Verb verb, String appId, String method, Object request) {
+    return this.client.invokeService(verb, appId, method, request);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> invokeService(Verb verb, String appId, String method, Map<String, String> metadata) {
+    return this.client.invokeService(verb, appId, method, metadata);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<byte[]> invokeService(
+      Verb verb, String appId, String method, byte[] request, Map<String, String> metadata) {
+    return this.client.invokeService(verb, appId, method, request, metadata);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<ByteBuffer> invokeServiceStream(
+      Verb verb, String appId, String method, Flux<ByteBuffer> request, Map<String, String> metadata) {
+    return this.client.invokeServiceStream(verb, appId, method, request, metadata);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> invokeBinding(String name, Object request) {
+    return this.client.invokeBinding(name, request);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> invokeBinding(String name, Object request, Map<String, String> metadata) {
+    return this.client.invokeBinding(name, request, metadata);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(State<T> state, Class<T> clazz) {
+    return this.getState(state.getKey(), state.getEtag(), state.getOptions(), clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(String key, Class<T> clazz) {
+    return this.getState(key, null, null, clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(String key, String etag, StateOptions options, Class<T> clazz) {
+    if ((key == null) || (options != null) || ((etag != null) && !etag.trim().isEmpty())) {
+      return this.client.getState(key, etag, options, clazz);
+    }
+
+    return Mono.defer(() -> {
+      State<T> cached = this.cache.get(key, clazz);
+      if (cached != null) {
+        return Mono.just(cached);
+      }
+
+      long generation = this.cache.getGeneration(key);
+      return this.client.getState(key, null, null, clazz)
+          .map(state -> this.cache.put(state, clazz, generation));
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(State<T> state, TypeRef<T> type) {
+    return this.getState(state.getKey(), state.getEtag(), state.getOptions(), type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(String key, TypeRef<T> type) {
+    return this.getState(key, null, null, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(String key, String etag, StateOptions options, TypeRef<T> type) {
+    Class<T> clazz = type.asClass();
+    if (clazz == null) {
+      return this.client.getState(key, etag, options, type);
+    }
+
+    return this.getState(key, etag, options, clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<List<State<T>>> getStates(List<String> keys, Class<T> clazz) {
+    return this.getStatesStream(keys, clazz).collectList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<List<State<T>>> getStates(List<String> keys, TypeRef<T> type) {
+    return this.getStatesStream(keys, type).collectList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getStatesStream(List<String> keys, Class<T> clazz) {
+    if (keys == null) {
+      return this.client.getStatesStream(keys, clazz);
+    }
+
+    return Flux.defer(() -> {
+      List<State<T>> cached = new ArrayList<>(keys.size());
+      List<String> missing = new ArrayList<>();
+      List<Long> generations = new ArrayList<>();
+      for (String key : keys) {
+        State<T> state = this.cache.get(key, clazz);
+        cached.add(state);
+        if (state == null) {
+          missing.add(key);
+          generations.add(this.cache.getGeneration(key));
+        }
+      }
+      if (missing.isEmpty()) {
+        return Flux.fromIterable(cached);
+      }
+
+      // Only the missing keys are read, then merged with the cached ones in the order of the keys.
+      return this.client.getStates(missing, clazz)
+          .flatMapIterable(read -> {
+            Iterator<State<T>> iterator = read.iterator();
+            Iterator<Long> generation = generations.iterator();
+            List<State<T>> states = new ArrayList<>(cached.size());
+            for (State<T> state : cached) {
+              states.add(state != null ? state : this.cache.put(iterator.next(), clazz, generation.next()));
+            }
+            return states;
+          });
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getStatesStream(List<String> keys, TypeRef<T> type) {
+    Class<T> clazz = type.asClass();
+    if (clazz == null) {
+      return this.client.getStatesStream(keys, type);
+    }
+
+    return this.getStatesStream(keys, clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> saveStates(List<State<?>> states) {
+    if (states == null) {
+      return this.client.saveStates(states);
+    }
+
+    List<String> keys = new ArrayList<>(states.size());
+    for (State<?> state : states) {
+      if ((state != null) && (state.getKey() != null)) {
+        keys.add(state.getKey());
+      }
+    }
+    return this.write(keys, this.client.saveStates(states));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> saveState(String key, Object value) {
+    return this.write(Collections.singletonList(key), this.client.saveState(key, value));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> saveState(String key, String etag, Object value, StateOptions options) {
+    return this.write(Collections.singletonList(key), this.client.saveState(key, etag, value, options));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> deleteState(String key) {
+    return this.write(Collections.singletonList(key), this.client.deleteState(key));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<Void> deleteState(String key, String etag, StateOptions options) {
+    return this.write(Collections.singletonList(key), this.client.deleteState(key, etag, options));
+  }
+
+  /**
+   * Evicts the written keys from the cache, both when the write is issued and when it completes, so reads racing
+   * with the write are not cached either.
+   *
+   * @param keys  Keys being written.
+   * @param write Write to Dapr.
+   * @return Same write.
+   */
+  private Mono<Void> write(List<String> keys, Mono<Void> write) {
+    return Mono.defer(() -> {
+      this.invalidate(keys);
+      return write.doFinally(signal -> this.invalidate(keys));
+    });
+  }
+
+  /**
+   * Evicts keys from the cache.
+   *
+   * @param keys Keys to be evicted.
+   */
+  private void invalidate(List<String> keys) {
+    for (String key : keys) {
+      if (key != null) {
+        this.cache.invalidate(key);
+      }
+    }
+  }
+}
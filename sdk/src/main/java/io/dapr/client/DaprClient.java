@@ -8,8 +8,13 @@ package io.dapr.client;
 import io.dapr.client.domain.State;
 import io.dapr.client.domain.StateOptions;
 import io.dapr.client.domain.Verb;
+import io.dapr.utils.ByteUtils;
+import io.dapr.utils.TypeRef;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -54,6 +59,25 @@ public interface DaprClient {
   <T> Mono<T> invokeService(
       Verb verb, String appId, String method, Object request, Map<String, String> metadata, Class<T> clazz);
 
+  /**
+   * Invoke a service with all possible parameters, using serialization into a type that can be generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param verb    The Verb to be used for HTTP will be the HTTP Verb, for GRPC is just a metadata value.
+   * @param appId   The Application ID where the service is.
+   * @param method  The actual Method to be call in the application.
+   * @param request The request to be sent to invoke the service, use byte[] to skip serialization.
+   * @param metadata Metadata (in GRPC) or headers (in HTTP) to be send in request.
+   * @param type    the Type needed as return for the call, e.g. {@code new TypeRef<List<Order>>() {}}.
+   * @param <T>     the Type of the return.
+   * @return A Mono Plan of type T.
+   */
+  default <T> Mono<T> invokeService(
+      Verb verb, String appId, String method, Object request, Map<String, String> metadata, TypeRef<T> type) {
+    return invokeService(verb, appId, method, request, metadata, (Class<T>) type.getRawClass());
+  }
+
   /**
    * Invoke a service without metadata, using serialization.
    *
@@ -67,6 +91,23 @@ public interface DaprClient {
    */
   <T> Mono<T> invokeService(Verb verb, String appId, String method, Object request, Class<T> clazz);
 
+  /**
+   * Invoke a service without metadata, using serialization into a type that can be generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param verb    The Verb to be used for HTTP will be the HTTP Verb, for GRPC is just a metadata value.
+   * @param appId   The Application ID where the service is.
+   * @param method  The actual Method to be call in the application.
+   * @param request The request to be sent to invoke the service, use byte[] to skip serialization.
+   * @param type    the Type needed as return for the call.
+   * @param <T>     the Type of the return.
+   * @return A Mono Plan of type T.
+   */
+  default <T> Mono<T> invokeService(Verb verb, String appId, String method, Object request, TypeRef<T> type) {
+    return invokeService(verb, appId, method, request, (Class<T>) type.getRawClass());
+  }
+
   /**
    * Invoke a service without input, using serialization for response.
    *
@@ -80,6 +121,24 @@ public interface DaprClient {
    */
   <T> Mono<T> invokeService(Verb verb, String appId, String method, Map<String, String> metadata, Class<T> clazz);
 
+  /**
+   * Invoke a service without input, using serialization for response into a type that can be generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param verb    The Verb to be used for HTTP will be the HTTP Verb, for GRPC is just a metadata value.
+   * @param appId   The Application ID where the service is.
+   * @param method  The actual Method to be call in the application.
+   * @param metadata Metadata (in GRPC) or headers (in HTTP) to be send in request.
+   * @param type    the Type needed as return for the call.
+   * @param <T>     the Type of the return.
+   * @return A Mono plan of type T.
+   */
+  default <T> Mono<T> invokeService(
+      Verb verb, String appId, String method, Map<String, String> metadata, TypeRef<T> type) {
+    return invokeService(verb, appId, method, metadata, (Class<T>) type.getRawClass());
+  }
+
   /**
    * Invoke a service with void response, using serialization.
    *
@@ -126,6 +185,35 @@ public interface DaprClient {
    */
   Mono<byte[]> invokeService(Verb verb, String appId, String method, byte[] request, Map<String, String> metadata);
 
+  /**
+   * Invoke a service without serialization, streaming the request and the response.
+   * Over HTTP, neither payload is held in memory as a whole. Over GRPC, the API is unary, so both are aggregated.
+   * By default, both are aggregated and go through {@link #invokeService(Verb, String, String, byte[], Map)};
+   * implementations can override this to stream them.
+   *
+   * @param verb    The Verb to be used for HTTP will be the HTTP Verb, for GRPC is just a metadata value.
+   * @param appId   The Application ID where the service is.
+   * @param method  The actual Method to be call in the application.
+   * @param request The request to be sent to invoke the service, or null if there is none.
+   * @param metadata Metadata (in GRPC) or headers (in HTTP) to be send in request.
+   * @return A Flux of the response, as it is received.
+   */
+  default Flux<ByteBuffer> invokeServiceStream(
+      Verb verb, String appId, String method, Flux<ByteBuffer> request, Map<String, String> metadata) {
+    Mono<byte[]> response;
+    if (request == null) {
+      response = invokeService(verb, appId, method, (byte[]) null, metadata);
+    } else {
+      response = request
+          .collect(ByteArrayOutputStream::new, (output, buffer) -> {
+            byte[] data = ByteUtils.toByteArray(buffer);
+            output.write(data, 0, data.length);
+          })
+          .flatMap(output -> invokeService(verb, appId, method, output.toByteArray(), metadata));
+    }
+    return response.map(ByteBuffer::wrap).filter(ByteBuffer::hasRemaining).flux();
+  }
+
   /**
    * Invokes a Binding.
    *
@@ -155,6 +243,20 @@ public interface DaprClient {
    */
   <T> Mono<State<T>> getState(State<T> state, Class<T> clazz);
 
+  /**
+   * Retrieve a State based on their key, with a value of a type that can be generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param state   State to be re-retrieved.
+   * @param type    The Type of State needed as return.
+   * @param <T>     The Type of the return.
+   * @return A Mono Plan for the requested State.
+   */
+  default <T> Mono<State<T>> getState(State<T> state, TypeRef<T> type) {
+    return getState(state, (Class<T>) type.getRawClass());
+  }
+
   /**
    * Retrieve a State based on their key.
    *
@@ -165,6 +267,20 @@ public interface DaprClient {
    */
   <T> Mono<State<T>> getState(String key, Class<T> clazz);
 
+  /**
+   * Retrieve a State based on their key, with a value of a type that can be generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param key     The key of the State to be retrieved.
+   * @param type    The Type of State needed as return, e.g. {@code new TypeRef<Map<String, Quote>>() {}}.
+   * @param <T>     The Type of the return.
+   * @return A Mono Plan for the requested State.
+   */
+  default <T> Mono<State<T>> getState(String key, TypeRef<T> type) {
+    return getState(key, (Class<T>) type.getRawClass());
+  }
+
   /**
    * Retrieve a State based on their key.
    *
@@ -177,6 +293,86 @@ public interface DaprClient {
    */
   <T> Mono<State<T>> getState(String key, String etag, StateOptions options, Class<T> clazz);
 
+  /**
+   * Retrieve a State based on their key, with a value of a type that can be generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param key     The key of the State to be retrieved.
+   * @param etag    Optional etag for conditional get
+   * @param options Optional settings for retrieve operation.
+   * @param type    The Type of State needed as return.
+   * @param <T>     The Type of the return.
+   * @return A Mono Plan for the requested State.
+   */
+  default <T> Mono<State<T>> getState(String key, String etag, StateOptions options, TypeRef<T> type) {
+    return getState(key, etag, options, (Class<T>) type.getRawClass());
+  }
+
+  /**
+   * Retrieve a list of States based on their keys, in the same order as the keys.
+   * Keys are retrieved concurrently, up to the parallelism set in {@link DaprClientBuilder}, or in a single request
+   * if Dapr supports it.
+   * By default, the States are collected from {@link #getStatesStream(List, Class)}.
+   *
+   * @param keys    The keys of the States to be retrieved.
+   * @param clazz   The Type of State needed as return.
+   * @param <T>     The Type of the return.
+   * @return A Mono Plan for the requested States.
+   */
+  default <T> Mono<List<State<T>>> getStates(List<String> keys, Class<T> clazz) {
+    return getStatesStream(keys, clazz).collectList();
+  }
+
+  /**
+   * Retrieve a list of States based on their keys, in the same order as the keys, with values of a type that can be
+   * generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param keys    The keys of the States to be retrieved.
+   * @param type    The Type of State needed as return.
+   * @param <T>     The Type of the return.
+   * @return A Mono Plan for the requested States.
+   */
+  default <T> Mono<List<State<T>>> getStates(List<String> keys, TypeRef<T> type) {
+    return getStates(keys, (Class<T>) type.getRawClass());
+  }
+
+  /**
+   * Retrieve States based on their keys, emitted in the same order as the keys.
+   * Keys are retrieved concurrently, up to the parallelism set in {@link DaprClientBuilder}, or in a single request
+   * if Dapr supports it.
+   * By default, each key is retrieved concurrently with {@link #getState(String, Class)}; implementations can
+   * override this to bound the concurrency or to use a single request.
+   *
+   * @param keys    The keys of the States to be retrieved.
+   * @param clazz   The Type of State needed as return.
+   * @param <T>     The Type of the return.
+   * @return A Flux of the requested States.
+   */
+  default <T> Flux<State<T>> getStatesStream(List<String> keys, Class<T> clazz) {
+    if (keys == null) {
+      return Flux.error(new IllegalArgumentException("Keys cannot be null."));
+    }
+    return Flux.fromIterable(keys).flatMapSequential(key -> getState(key, clazz));
+  }
+
+  /**
+   * Retrieve States based on their keys, emitted in the same order as the keys, with values of a type that can be
+   * generic.
+   * By default, generic types are passed on as their raw class; implementations can override this to honor type
+   * arguments.
+   *
+   * @param keys    The keys of the States to be retrieved.
+   * @param type    The Type of State needed as return.
+   * @param <T>     The Type of the return.
+   * @return A Flux of the requested States.
+   */
+  default <T> Flux<State<T>> getStatesStream(List<String> keys, TypeRef<T> type) {
+    return getStatesStream(keys, (Class<T>) type.getRawClass());
+  }
+
   /**
    * Save/Update a list of states.
    *
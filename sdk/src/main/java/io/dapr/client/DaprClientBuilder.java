@@ -8,11 +8,9 @@ package io.dapr.client;
 import io.dapr.DaprGrpc;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
-import io.dapr.utils.Constants;
+import io.dapr.serializer.StringContentType;
 import io.dapr.utils.Properties;
-import io.grpc.ManagedChannel;
-import io.grpc.ManagedChannelBuilder;
-import okhttp3.OkHttpClient;
+import io.grpc.Channel;
 
 /**
  * A builder for the DaprClient,
@@ -20,11 +18,26 @@ import okhttp3.OkHttpClient;
  */
 public class DaprClientBuilder {
 
+  /**
+   * Default maximum number of states retrieved concurrently by a single call.
+   */
+  static final int DEFAULT_STATE_PARALLELISM = 16;
+
   /**
    * Determine if this builder will create GRPC clients instead of HTTP clients.
    */
   private final boolean useGrpc;
 
+  /**
+   * Builder for Dapr's HTTP Client.
+   */
+  private final DaprHttpBuilder daprHttpBuilder;
+
+  /**
+   * Builder for the channel of Dapr's GRPC Client.
+   */
+  private DaprGrpcChannelBuilder daprGrpcChannelBuilder;
+
   /**
    * Serializer used for request and response objects in DaprClient.
    */
@@ -35,6 +48,21 @@ public class DaprClientBuilder {
    */
   private DaprObjectSerializer stateSerializer;
 
+  /**
+   * Maximum number of states retrieved concurrently by a single call.
+   */
+  private int stateParallelism;
+
+  /**
+   * Builder for the cache of states read, or null to not cache them.
+   */
+  private DaprStateCacheBuilder daprStateCacheBuilder;
+
+  /**
+   * Determine if binary states are sent as is, via GRPC, by HTTP clients.
+   */
+  private boolean rawBinaryState;
+
   /**
    * Creates a constructor for DaprClient.
    *
@@ -44,7 +72,10 @@ public class DaprClientBuilder {
   public DaprClientBuilder() {
     this.objectSerializer = new DefaultObjectSerializer();
     this.stateSerializer = new DefaultObjectSerializer();
+    this.stateParallelism = DEFAULT_STATE_PARALLELISM;
     this.useGrpc = Properties.USE_GRPC.get();
+    this.daprHttpBuilder = new DaprHttpBuilder();
+    this.daprGrpcChannelBuilder = new DaprGrpcChannelBuilder();
   }
 
   /**
@@ -79,6 +110,127 @@ public class DaprClientBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of states retrieved concurrently when getting multiple states at once.
+   *
+   * @param stateParallelism Maximum number of states retrieved concurrently by a single call.
+   * @return This instance.
+   * @see DaprClient#getStates(java.util.List, Class)
+   */
+  public DaprClientBuilder withStateParallelism(int stateParallelism) {
+    if (stateParallelism <= 0) {
+      throw new IllegalArgumentException("State parallelism must be greater than zero");
+    }
+
+    this.stateParallelism = stateParallelism;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of concurrent HTTP requests to Dapr.
+   *
+   * @param maxRequests Maximum number of concurrent requests.
+   * @return This instance.
+   * @see DaprHttpBuilder#withMaxRequests(int)
+   */
+  public DaprClientBuilder withMaxRequests(int maxRequests) {
+    this.daprHttpBuilder.withMaxRequests(maxRequests);
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of concurrent HTTP requests to Dapr for each host.
+   *
+   * @param maxRequestsPerHost Maximum number of concurrent requests per host.
+   * @return This instance.
+   * @see DaprHttpBuilder#withMaxRequestsPerHost(int)
+   */
+  public DaprClientBuilder withMaxRequestsPerHost(int maxRequestsPerHost) {
+    this.daprHttpBuilder.withMaxRequestsPerHost(maxRequestsPerHost);
+    return this;
+  }
+
+  /**
+   * Talks HTTP/2 over cleartext (h2c) with prior knowledge to Dapr.
+   *
+   * @return This instance.
+   * @see DaprHttpBuilder#withHttp2PriorKnowledge()
+   */
+  public DaprClientBuilder withHttp2PriorKnowledge() {
+    this.daprHttpBuilder.withHttp2PriorKnowledge();
+    return this;
+  }
+
+  /**
+   * Connects to Dapr via a Unix domain socket instead of TCP.
+   *
+   * @param path Path to the Unix domain socket exposed by Dapr.
+   * @return This instance.
+   * @see DaprHttpBuilder#withUnixDomainSocket(String)
+   */
+  public DaprClientBuilder withUnixDomainSocket(String path) {
+    this.daprHttpBuilder.withUnixDomainSocket(path);
+    return this;
+  }
+
+  /**
+   * Sets the transport to Dapr when reached via HTTP.
+   *
+   * @param transport Transport to Dapr.
+   * @return This instance.
+   * @see DaprHttpBuilder#withTransport(DaprTransport)
+   */
+  public DaprClientBuilder withTransport(DaprTransport transport) {
+    this.daprHttpBuilder.withTransport(transport);
+    return this;
+  }
+
+  /**
+   * Sets the builder for the channel used when Dapr is reached via GRPC, to tune keepalive, flow control,
+   * message size, executor or to spread calls over a pool of channels.
+   *
+   * @param daprGrpcChannelBuilder Builder for the GRPC channel.
+   * @return This instance.
+   */
+  public DaprClientBuilder withGrpcChannelBuilder(DaprGrpcChannelBuilder daprGrpcChannelBuilder) {
+    if (daprGrpcChannelBuilder == null) {
+      throw new IllegalArgumentException("GRPC channel builder is required");
+    }
+
+    this.daprGrpcChannelBuilder = daprGrpcChannelBuilder;
+    return this;
+  }
+
+  /**
+   * Caches the states read by the client, see {@link CachingDaprClient} for hit, miss and eviction counters.
+   *
+   * @param daprStateCacheBuilder Builder for the cache of states.
+   * @return This instance.
+   */
+  public DaprClientBuilder withStateCache(DaprStateCacheBuilder daprStateCacheBuilder) {
+    if (daprStateCacheBuilder == null) {
+      throw new IllegalArgumentException("State cache builder is required");
+    }
+
+    this.daprStateCacheBuilder = daprStateCacheBuilder;
+    return this;
+  }
+
+  /**
+   * Sends and receives binary states as is, instead of base64 encoded in JSON.
+   * Applies when the state serializer is not a {@link io.dapr.serializer.StringContentType}: Dapr's HTTP state API
+   * only takes JSON, so an HTTP client sends its state operations via GRPC while everything else stays on HTTP.
+   * That requires the GRPC port to be set explicitly, with the {@code dapr.grpc.port} system property or the
+   * {@code DAPR_GRPC_PORT} environment variable; otherwise binary states stay base64 encoded on HTTP.
+   * GRPC clients always send states as is.
+   *
+   * @return This instance.
+   */
+  public DaprClientBuilder withRawBinaryState() {
+    this.rawBinaryState = true;
+    return this;
+  }
+
   /**
    * Build an instance of the Client based on the provided setup.
    *
@@ -86,11 +238,12 @@ public class DaprClientBuilder {
    * @throws java.lang.IllegalStateException if any required field is missing
    */
   public DaprClient build() {
-    if (this.useGrpc) {
-      return buildDaprClientGrpc();
+    DaprClient client = this.useGrpc ? buildDaprClientGrpc() : buildDaprClientHttp();
+    if (this.daprStateCacheBuilder != null) {
+      return this.daprStateCacheBuilder.build(client, this.stateSerializer);
     }
 
-    return buildDaprClientHttp();
+    return client;
   }
 
   /**
@@ -104,8 +257,9 @@ public class DaprClientBuilder {
     if (port <= 0) {
       throw new IllegalStateException("Invalid port.");
     }
-    ManagedChannel channel = ManagedChannelBuilder.forAddress(Constants.DEFAULT_HOSTNAME, port).usePlaintext().build();
-    return new DaprClientGrpc(DaprGrpc.newFutureStub(channel), this.objectSerializer, this.stateSerializer);
+    Channel channel = this.daprGrpcChannelBuilder.build();
+    return new DaprClientGrpc(
+        DaprGrpc.newFutureStub(channel), this.objectSerializer, this.stateSerializer, this.stateParallelism);
   }
 
   /**
@@ -118,8 +272,15 @@ public class DaprClientBuilder {
     if (port <= 0) {
       throw new IllegalStateException("Invalid port.");
     }
-    OkHttpClient okHttpClient = new OkHttpClient.Builder().build();
-    DaprHttp daprHttp = new DaprHttp(port, okHttpClient);
-    return new DaprClientHttp(daprHttp, this.objectSerializer, this.stateSerializer);
+    DaprHttp daprHttp = this.daprHttpBuilder.build();
+    DaprClient binaryStateClient = null;
+    Integer grpcPort = Properties.EXPLICIT_GRPC_PORT.get();
+    if (this.rawBinaryState
+        && (this.stateSerializer.getClass().getAnnotation(StringContentType.class) == null)
+        && (grpcPort != null) && (grpcPort > 0)) {
+      binaryStateClient = this.buildDaprClientGrpc();
+    }
+    return new DaprClientHttp(
+        daprHttp, this.objectSerializer, this.stateSerializer, this.stateParallelism, binaryStateClient);
   }
 }
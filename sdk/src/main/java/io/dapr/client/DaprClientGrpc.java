@@ -5,26 +5,40 @@
 
 package io.dapr.client;
 
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
 import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Duration;
 import com.google.protobuf.Empty;
+import com.google.protobuf.Message;
+import com.google.protobuf.UnsafeByteOperations;
 import io.dapr.DaprGrpc;
 import io.dapr.DaprProtos;
 import io.dapr.client.domain.State;
 import io.dapr.client.domain.StateOptions;
 import io.dapr.client.domain.Verb;
 import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.serializer.ProtobufObjectSerializer;
+import io.dapr.utils.TypeRef;
+import io.grpc.Deadline;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 /**
  * An adapter for the GRPC Client.
+ * RPCs are issued asynchronously on subscription, a {@link Deadline} can be set per call via the
+ * subscriber's context using {@code Deadline.class} as key.
+ * Serialized payloads are wrapped without copying, so byte[] requests must not be modified until the call completes.
  *
  * @see io.dapr.DaprGrpc
  * @see io.dapr.client.DaprClient
@@ -48,21 +62,44 @@ public class DaprClientGrpc implements DaprClient {
    */
   private DaprObjectSerializer stateSerializer;
 
+  /**
+   * Maximum number of states retrieved concurrently by a single call.
+   */
+  private final int stateParallelism;
+
   /**
    * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
    *
    * @param futureClient     GRPC client
    * @param objectSerializer Serializer for transient request/response objects.
    * @param stateSerializer  Serializer for state objects.
+   * @param stateParallelism Maximum number of states retrieved concurrently by a single call.
    * @see DaprClientBuilder
    */
   DaprClientGrpc(
       DaprGrpc.DaprFutureStub futureClient,
       DaprObjectSerializer objectSerializer,
-      DaprObjectSerializer stateSerializer) {
+      DaprObjectSerializer stateSerializer,
+      int stateParallelism) {
     this.client = futureClient;
     this.objectSerializer = objectSerializer;
     this.stateSerializer = stateSerializer;
+    this.stateParallelism = stateParallelism;
+  }
+
+  /**
+   * Constructor useful for tests.
+   *
+   * @param futureClient     GRPC client
+   * @param objectSerializer Serializer for transient request/response objects.
+   * @param stateSerializer  Serializer for state objects.
+   * @see DaprClientBuilder
+   */
+  DaprClientGrpc(
+      DaprGrpc.DaprFutureStub futureClient,
+      DaprObjectSerializer objectSerializer,
+      DaprObjectSerializer stateSerializer) {
+    this(futureClient, objectSerializer, stateSerializer, DaprClientBuilder.DEFAULT_STATE_PARALLELISM);
   }
 
   /**
@@ -79,18 +116,16 @@ public class DaprClientGrpc implements DaprClient {
   @Override
   public Mono<Void> publishEvent(String topic, Object event, Map<String, String> metadata) {
     try {
-      byte[] byteEvent = objectSerializer.serialize(event);
-      Any data = Any.newBuilder().setValue(ByteString.copyFrom(byteEvent)).build();
+      Any data = toAny(objectSerializer, event);
       // TODO: handle metadata.
 
-      DaprProtos.PublishEventEnvelope envelope = DaprProtos.PublishEventEnvelope.newBuilder()
-          .setTopic(topic).setData(data).build();
+      DaprProtos.PublishEventEnvelope.Builder builder = DaprProtos.PublishEventEnvelope.newBuilder().setTopic(topic);
+      if (data != null) {
+        builder.setData(data);
+      }
+      DaprProtos.PublishEventEnvelope envelope = builder.build();
 
-      return Mono.fromCallable(() -> {
-        ListenableFuture<Empty> futureEmpty = client.publishEvent(envelope);
-        futureEmpty.get();
-        return null;
-      });
+      return this.<Empty>createMono(stub -> stub.publishEvent(envelope)).then();
     } catch (Exception ex) {
       return Mono.error(ex);
     }
@@ -107,13 +142,31 @@ public class DaprClientGrpc implements DaprClient {
       Object request,
       Map<String, String> metadata,
       Class<T> clazz) {
+    return this.invokeService(verb, appId, method, request, metadata, typeOf(clazz));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(
+      Verb verb,
+      String appId,
+      String method,
+      Object request,
+      Map<String, String> metadata,
+      TypeRef<T> type) {
     try {
       DaprProtos.InvokeServiceEnvelope envelope = buildInvokeServiceEnvelope(verb.toString(), appId, method, request);
-      return Mono.fromCallable(() -> {
-        ListenableFuture<DaprProtos.InvokeServiceResponseEnvelope> futureResponse =
-            client.invokeService(envelope);
-        return objectSerializer.deserialize(futureResponse.get().getData().getValue().toByteArray(), clazz);
-      });
+      return this.<DaprProtos.InvokeServiceResponseEnvelope>createMono(stub -> stub.invokeService(envelope))
+          .flatMap(response -> {
+            try {
+              return Mono.justOrEmpty(
+                  objectSerializer.deserializeFrom(response.getData().getValue().asReadOnlyByteBuffer(), type));
+            } catch (Exception ex) {
+              return Mono.error(ex);
+            }
+          });
     } catch (Exception ex) {
       return Mono.error(ex);
     }
@@ -136,6 +189,23 @@ public class DaprClientGrpc implements DaprClient {
     return this.invokeService(verb, appId, method, request, null, clazz);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(
+      Verb verb, String appId, String method, Map<String, String> metadata, TypeRef<T> type) {
+    return this.invokeService(verb, appId, method, null, metadata, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(Verb verb, String appId, String method, Object request, TypeRef<T> type) {
+    return this.invokeService(verb, appId, method, request, null, type);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -171,6 +241,30 @@ public class DaprClientGrpc implements DaprClient {
     return this.invokeService(verb, appId, method, request, metadata, byte[].class);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<ByteBuffer> invokeServiceStream(
+      Verb verb, String appId, String method, Flux<ByteBuffer> request, Map<String, String> metadata) {
+    // Dapr's gRPC API is unary: the request is aggregated before the call and the response comes as a single buffer.
+    return (request == null ? Flux.<ByteBuffer>empty() : request)
+        .reduce(ByteString.EMPTY, (data, buffer) -> data.concat(ByteString.copyFrom(buffer.duplicate())))
+        .flatMap(data -> {
+          DaprProtos.InvokeServiceEnvelope.Builder envelopeBuilder = DaprProtos.InvokeServiceEnvelope.newBuilder()
+              .setId(appId)
+              .setMethod(verb.toString());
+          if (request != null) {
+            envelopeBuilder.setData(Any.newBuilder().setValue(data).build());
+          }
+          DaprProtos.InvokeServiceEnvelope envelope = envelopeBuilder.build();
+          return this.<DaprProtos.InvokeServiceResponseEnvelope>createMono(stub -> stub.invokeService(envelope));
+        })
+        .map(response -> response.getData().getValue().asReadOnlyByteBuffer())
+        .filter(ByteBuffer::hasRemaining)
+        .flux();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -185,22 +279,17 @@ public class DaprClientGrpc implements DaprClient {
   @Override
   public Mono<Void> invokeBinding(String name, Object request, Map<String, String> metadata) {
     try {
-      byte[] byteRequest = objectSerializer.serialize(request);
+      Any data = toAny(objectSerializer, request);
       DaprProtos.InvokeBindingEnvelope.Builder builder = DaprProtos.InvokeBindingEnvelope.newBuilder()
           .setName(name);
-      if (byteRequest != null) {
-        Any data = Any.newBuilder().setValue(ByteString.copyFrom(byteRequest)).build();
+      if (data != null) {
         builder.setData(data);
       }
       if (metadata != null) {
         builder.getMetadataMap().putAll(metadata);
       }
       DaprProtos.InvokeBindingEnvelope envelope = builder.build();
-      return Mono.fromCallable(() -> {
-        ListenableFuture<Empty> futureEmpty = client.invokeBinding(envelope);
-        futureEmpty.get();
-        return null;
-      });
+      return this.<Empty>createMono(stub -> stub.invokeBinding(envelope)).then();
     } catch (Exception ex) {
       return Mono.error(ex);
     }
@@ -227,6 +316,30 @@ public class DaprClientGrpc implements DaprClient {
    */
   @Override
   public <T> Mono<State<T>> getState(String key, String etag, StateOptions options, Class<T> clazz) {
+    return this.getState(key, etag, options, typeOf(clazz));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(State<T> state, TypeRef<T> type) {
+    return this.getState(state.getKey(), state.getEtag(), state.getOptions(), type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(String key, TypeRef<T> type) {
+    return this.getState(key, null, null, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(String key, String etag, StateOptions options, TypeRef<T> type) {
     try {
       DaprProtos.GetStateEnvelope.Builder builder = DaprProtos.GetStateEnvelope.newBuilder()
           .setKey(key);
@@ -235,29 +348,66 @@ public class DaprClientGrpc implements DaprClient {
       }
 
       DaprProtos.GetStateEnvelope envelope = builder.build();
-      return Mono.fromCallable(() -> {
-        ListenableFuture<DaprProtos.GetStateResponseEnvelope> futureResponse = client.getState(envelope);
-        DaprProtos.GetStateResponseEnvelope response = null;
-        try {
-          response = futureResponse.get();
-        } catch (NullPointerException npe) {
-          return null;
-        }
-        return buildStateKeyValue(response, key, options, clazz);
-      });
+      return this.<DaprProtos.GetStateResponseEnvelope>createMono(stub -> stub.getState(envelope))
+          // No response for the key means there is no state.
+          .onErrorResume(NullPointerException.class, npe -> Mono.empty())
+          .flatMap(response -> {
+            try {
+              return Mono.just(buildStateKeyValue(response, key, options, type));
+            } catch (Exception ex) {
+              return Mono.error(ex);
+            }
+          });
     } catch (Exception ex) {
       return Mono.error(ex);
     }
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<List<State<T>>> getStates(List<String> keys, Class<T> clazz) {
+    return this.getStatesStream(keys, clazz).collectList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<List<State<T>>> getStates(List<String> keys, TypeRef<T> type) {
+    return this.getStatesStream(keys, type).collectList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getStatesStream(List<String> keys, Class<T> clazz) {
+    return this.getStatesStream(keys, typeOf(clazz));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getStatesStream(List<String> keys, TypeRef<T> type) {
+    if (keys == null) {
+      return Flux.error(new IllegalArgumentException("Keys cannot be null."));
+    }
+
+    // Dapr's GRPC API has no bulk read, so keys are fanned out, one RPC each.
+    return Flux.fromIterable(keys)
+        .flatMapSequential(key -> this.getState(key, null, null, type)
+            .defaultIfEmpty(new State<>(null, key, null, null)), this.stateParallelism);
+  }
+
   private <T> State<T> buildStateKeyValue(
       DaprProtos.GetStateResponseEnvelope response,
       String requestedKey,
       StateOptions stateOptions,
-      Class<T> clazz) throws IOException {
-    ByteString payload = response.getData().getValue();
-    byte[] data = payload == null ? null : payload.toByteArray();
-    T value = stateSerializer.deserialize(data, clazz);
+      TypeRef<T> type) throws IOException {
+    T value = stateSerializer.deserializeFrom(response.getData().getValue().asReadOnlyByteBuffer(), type);
     String etag = response.getEtag();
     String key = requestedKey;
     return new State<>(value, key, etag, stateOptions);
@@ -275,23 +425,14 @@ public class DaprClientGrpc implements DaprClient {
       }
       DaprProtos.SaveStateEnvelope envelope = builder.build();
 
-      ListenableFuture<Empty> futureEmpty = client.saveState(envelope);
-      return Mono.just(futureEmpty).flatMap(f -> {
-        try {
-          f.get();
-        } catch (Exception ex) {
-          return Mono.error(ex);
-        }
-        return Mono.empty();
-      });
+      return this.<Empty>createMono(stub -> stub.saveState(envelope)).then();
     } catch (Exception ex) {
       return Mono.error(ex);
     }
   }
 
   private <T> DaprProtos.StateRequest.Builder buildStateRequest(State<T> state) throws IOException {
-    byte[] bytes = stateSerializer.serialize(state.getValue());
-    Any data = Any.newBuilder().setValue(ByteString.copyFrom(bytes)).build();
+    Any data = toAny(stateSerializer, state.getValue());
     DaprProtos.StateRequest.Builder stateBuilder = DaprProtos.StateRequest.newBuilder();
     if (state.getEtag() != null) {
       stateBuilder.setEtag(state.getEtag());
@@ -412,20 +553,43 @@ public class DaprClientGrpc implements DaprClient {
       }
 
       DaprProtos.DeleteStateEnvelope envelope = builder.build();
-      ListenableFuture<Empty> futureEmpty = client.deleteState(envelope);
-      return Mono.just(futureEmpty).flatMap(f -> {
-        try {
-          f.get();
-        } catch (Exception ex) {
-          return Mono.error(ex);
-        }
-        return Mono.empty();
-      });
+      return this.<Empty>createMono(stub -> stub.deleteState(envelope)).then();
     } catch (Exception ex) {
       return Mono.error(ex);
     }
   }
 
+  /**
+   * Creates a Mono that issues the RPC on subscription and completes when gRPC's future completes.
+   * No thread is parked while the RPC is in flight, cancelling the subscription cancels the RPC and,
+   * if the subscriber's context holds a {@link Deadline} under the {@code Deadline.class} key,
+   * the RPC is issued with that deadline.
+   *
+   * @param rpc Function issuing the RPC on the given stub.
+   * @param <T> Type of the RPC's response.
+   * @return Mono for the RPC's response.
+   */
+  private <T> Mono<T> createMono(Function<DaprGrpc.DaprFutureStub, ListenableFuture<T>> rpc) {
+    return Mono.create(sink -> {
+      DaprGrpc.DaprFutureStub stub = sink.currentContext().<Deadline>getOrEmpty(Deadline.class)
+          .map(deadline -> this.client.withDeadline(deadline))
+          .orElse(this.client);
+      ListenableFuture<T> future = rpc.apply(stub);
+      sink.onCancel(() -> future.cancel(true));
+      Futures.addCallback(future, new FutureCallback<T>() {
+        @Override
+        public void onSuccess(T result) {
+          sink.success(result);
+        }
+
+        @Override
+        public void onFailure(Throwable t) {
+          sink.error(t);
+        }
+      }, MoreExecutors.directExecutor());
+    });
+  }
+
   /**
    * Builds the object io.dapr.{@link DaprProtos.InvokeServiceEnvelope} to be send based on the parameters.
    *
@@ -443,11 +607,44 @@ public class DaprClientGrpc implements DaprClient {
         .setId(appId)
         .setMethod(verb);
     if (request != null) {
-      byte[] byteRequest = objectSerializer.serialize(request);
-      Any data = Any.newBuilder().setValue(ByteString.copyFrom(byteRequest)).build();
-      envelopeBuilder.setData(data);
+      Any data = toAny(objectSerializer, request);
+      if (data != null) {
+        envelopeBuilder.setData(data);
+      }
     }
     return envelopeBuilder.build();
   }
 
-}
\ No newline at end of file
+  /**
+   * Serializes an object into the {@link Any} sent to Dapr.
+   * Protobuf messages are packed as is when the serializer is a {@link ProtobufObjectSerializer}, so they are encoded
+   * only once and carry their type URL.
+   *
+   * @param serializer Serializer for the object.
+   * @param value      Object to be serialized.
+   * @return Object wrapped in an {@link Any}, or null if serialized as null.
+   * @throws IOException If there's an issue serializing the object.
+   */
+  private static Any toAny(DaprObjectSerializer serializer, Object value) throws IOException {
+    if ((serializer instanceof ProtobufObjectSerializer) && (value instanceof Message)) {
+      return Any.pack((Message) value);
+    }
+
+    byte[] bytes = serializer.serialize(value);
+    if (bytes == null) {
+      return null;
+    }
+    return Any.newBuilder().setValue(UnsafeByteOperations.unsafeWrap(bytes)).build();
+  }
+
+  /**
+   * Gets a reference to a class, where no class means no value, as with the serializers.
+   *
+   * @param clazz Class being referenced, or null.
+   * @param <T>   Type being referenced.
+   * @return Reference to the class.
+   */
+  private static <T> TypeRef<T> typeOf(Class<T> clazz) {
+    return clazz == null ? (TypeRef<T>) TypeRef.get(Void.class) : TypeRef.get(clazz);
+  }
+}
@@ -5,18 +5,33 @@
 
 package io.dapr.client;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.dapr.client.domain.State;
 import io.dapr.client.domain.StateOptions;
 import io.dapr.client.domain.Verb;
+import io.dapr.exceptions.DaprException;
 import io.dapr.serializer.DaprObjectSerializer;
 import io.dapr.serializer.DefaultObjectSerializer;
 import io.dapr.serializer.StringContentType;
 import io.dapr.utils.Constants;
+import io.dapr.utils.TypeRef;
+import io.dapr.utils.UrlTemplate;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -35,6 +50,26 @@ public class DaprClientHttp implements DaprClient {
    */
   private static final ObjectSerializer INTERNAL_SERIALIZER = new ObjectSerializer();
 
+  /**
+   * Relative URL to invoke a method in another app.
+   */
+  private static final UrlTemplate INVOKE_METHOD_URL = UrlTemplate.compile(Constants.INVOKE_PATH + "/%s/method/%s");
+
+  /**
+   * Relative URL to get multiple states in a single request.
+   */
+  private static final String STATE_BULK_PATH = Constants.STATE_PATH + "/bulk";
+
+  /**
+   * Estimated size of each state's braces, field names and quotes in a save request.
+   */
+  private static final int STATE_JSON_OVERHEAD = 32;
+
+  /**
+   * Estimated size of a state's options in a save request.
+   */
+  private static final int STATE_OPTIONS_JSON_SIZE = 128;
+
   /**
    * The HTTP client to be used.
    *
@@ -62,21 +97,64 @@ public class DaprClientHttp implements DaprClient {
    */
   private final boolean isStateString;
 
+  /**
+   * Flag determining if state serializer is Dapr's default, writing strings and byte arrays as they are.
+   */
+  private final boolean isDefaultStateSerializer;
+
+  /**
+   * Maximum number of states retrieved concurrently by a single call.
+   */
+  private final int stateParallelism;
+
+  /**
+   * Whether Dapr supports getting multiple states in a single request, null until known.
+   */
+  private volatile Boolean isBulkStateSupported;
+
+  /**
+   * Client for state operations carrying binary values as is, or null to keep them on HTTP.
+   */
+  private final DaprClient binaryStateClient;
+
   /**
    * Default access level constructor, in order to create an instance of this class use io.dapr.client.DaprClientBuilder
    *
    * @param client           Dapr's http client.
    * @param objectSerializer Dapr's serializer for transient request/response objects.
    * @param stateSerializer  Dapr's serializer for state objects.
+   * @param stateParallelism Maximum number of states retrieved concurrently by a single call.
+   * @param binaryStateClient Client for state operations, carrying binary values as is, or null to use HTTP.
    * @see DaprClientBuilder
    * @see DefaultObjectSerializer
    */
-  DaprClientHttp(DaprHttp client, DaprObjectSerializer objectSerializer, DaprObjectSerializer stateSerializer) {
+  DaprClientHttp(
+      DaprHttp client,
+      DaprObjectSerializer objectSerializer,
+      DaprObjectSerializer stateSerializer,
+      int stateParallelism,
+      DaprClient binaryStateClient) {
     this.client = client;
+    this.binaryStateClient = binaryStateClient;
     this.objectSerializer = objectSerializer;
     this.stateSerializer = stateSerializer;
+    this.stateParallelism = stateParallelism;
     this.isDefaultObjectSerializer = objectSerializer instanceof DefaultObjectSerializer;
     this.isStateString = stateSerializer.getClass().getAnnotation(StringContentType.class) != null;
+    this.isDefaultStateSerializer = stateSerializer instanceof DefaultObjectSerializer;
+  }
+
+  /**
+   * Constructor useful for tests.
+   *
+   * @param client           Dapr's http client.
+   * @param objectSerializer Dapr's serializer for transient request/response objects.
+   * @param stateSerializer  Dapr's serializer for state objects.
+   * @see DaprClientBuilder
+   * @see DefaultObjectSerializer
+   */
+  DaprClientHttp(DaprHttp client, DaprObjectSerializer objectSerializer, DaprObjectSerializer stateSerializer) {
+    this(client, objectSerializer, stateSerializer, DaprClientBuilder.DEFAULT_STATE_PARALLELISM, null);
   }
 
   /**
@@ -123,6 +201,15 @@ public class DaprClientHttp implements DaprClient {
   @Override
   public <T> Mono<T> invokeService(
       Verb verb, String appId, String method, Object request, Map<String, String> metadata, Class<T> clazz) {
+    return this.invokeService(verb, appId, method, request, metadata, typeOf(clazz));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(
+      Verb verb, String appId, String method, Object request, Map<String, String> metadata, TypeRef<T> type) {
     try {
       if (verb == null) {
         throw new IllegalArgumentException("Verb cannot be null.");
@@ -134,21 +221,11 @@ public class DaprClientHttp implements DaprClient {
       if (method == null || method.trim().isEmpty()) {
         throw new IllegalArgumentException("Method name cannot be null or empty.");
       }
-      String path = String.format("%s/%s/method/%s", Constants.INVOKE_PATH, appId, method);
+      String path = INVOKE_METHOD_URL.expand(appId, method);
       byte[] serializedRequestBody = objectSerializer.serialize(request);
-      Mono<DaprHttp.Response> response = this.client.invokeApi(httMethod, path, metadata, serializedRequestBody, null);
-      return response.flatMap(r -> {
-        try {
-          T object = objectSerializer.deserialize(r.getBody(), clazz);
-          if (object == null) {
-            return Mono.empty();
-          }
-
-          return Mono.just(object);
-        } catch (Exception ex) {
-          return Mono.error(ex);
-        }
-      });
+      // The response is deserialized as it is received, instead of being held as a whole first.
+      return this.client.invokeApi(httMethod, path, metadata, serializedRequestBody, null,
+          (statusCode, headers, body) -> objectSerializer.deserializeFrom(body, type));
     } catch (Exception ex) {
       return Mono.error(ex);
     }
@@ -171,6 +248,23 @@ public class DaprClientHttp implements DaprClient {
     return this.invokeService(verb, appId, method, request, null, clazz);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(
+      Verb verb, String appId, String method, Map<String, String> metadata, TypeRef<T> type) {
+    return this.invokeService(verb, appId, method, null, metadata, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> invokeService(Verb verb, String appId, String method, Object request, TypeRef<T> type) {
+    return this.invokeService(verb, appId, method, request, null, type);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -206,6 +300,29 @@ public class DaprClientHttp implements DaprClient {
     return this.invokeService(verb, appId, method, request, metadata, byte[].class);
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<ByteBuffer> invokeServiceStream(
+      Verb verb, String appId, String method, Flux<ByteBuffer> request, Map<String, String> metadata) {
+    try {
+      if (verb == null) {
+        throw new IllegalArgumentException("Verb cannot be null.");
+      }
+      if (appId == null || appId.trim().isEmpty()) {
+        throw new IllegalArgumentException("App Id cannot be null or empty.");
+      }
+      if (method == null || method.trim().isEmpty()) {
+        throw new IllegalArgumentException("Method name cannot be null or empty.");
+      }
+      String path = INVOKE_METHOD_URL.expand(appId, method);
+      return this.client.invokeApiStream(verb.toString(), path, metadata, request, null);
+    } catch (Exception ex) {
+      return Flux.error(ex);
+    }
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -285,71 +402,323 @@ public class DaprClientHttp implements DaprClient {
    */
   @Override
   public <T> Mono<State<T>> getState(String key, String etag, StateOptions options, Class<T> clazz) {
+    if (this.binaryStateClient != null) {
+      return this.binaryStateClient.getState(key, etag, options, clazz);
+    }
+
+    return this.getState(key, etag, options, typeOf(clazz));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(State<T> state, TypeRef<T> type) {
+    return this.getState(state.getKey(), state.getEtag(), state.getOptions(), type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(String key, TypeRef<T> type) {
+    return this.getState(key, null, null, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<State<T>> getState(String key, String etag, StateOptions options, TypeRef<T> type) {
+    if (this.binaryStateClient != null) {
+      return this.binaryStateClient.getState(key, etag, options, type);
+    }
+
     try {
       if (key == null) {
         throw new IllegalArgumentException("Name cannot be null or empty.");
       }
-      Map<String, String> headers = new HashMap<>();
-      if (etag != null && !etag.trim().isEmpty()) {
-        headers.put(Constants.HEADER_HTTP_ETAG_ID, etag);
-      }
+      Map<String, String> headers = etagHeaders(etag);
 
       StringBuilder url = new StringBuilder(Constants.STATE_PATH)
           .append("/")
           .append(key);
       Map<String, String> urlParameters = Optional.ofNullable(options)
           .map(o -> o.getStateOptionsAsMap())
-          .orElse(new HashMap<>());
+          .orElse(Collections.emptyMap());
 
-      return this.client
-          .invokeApi(DaprHttp.HttpMethods.GET.name(), url.toString(), urlParameters, headers)
-          .flatMap(s -> {
+      return this.client.invokeApi(DaprHttp.HttpMethods.GET.name(), url.toString(), urlParameters, null, headers,
+          (statusCode, responseHeaders, body) -> buildStateKeyValue(body, responseHeaders, key, options, type));
+    } catch (Exception ex) {
+      return Mono.error(ex);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<List<State<T>>> getStates(List<String> keys, Class<T> clazz) {
+    return this.getStatesStream(keys, clazz).collectList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<List<State<T>>> getStates(List<String> keys, TypeRef<T> type) {
+    return this.getStatesStream(keys, type).collectList();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getStatesStream(List<String> keys, Class<T> clazz) {
+    if (this.binaryStateClient != null) {
+      return this.binaryStateClient.getStatesStream(keys, clazz);
+    }
+
+    return this.getStatesStream(keys, typeOf(clazz));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Flux<State<T>> getStatesStream(List<String> keys, TypeRef<T> type) {
+    if (this.binaryStateClient != null) {
+      return this.binaryStateClient.getStatesStream(keys, type);
+    }
+    if (keys == null) {
+      return Flux.error(new IllegalArgumentException("Keys cannot be null."));
+    }
+    if (keys.isEmpty()) {
+      return Flux.empty();
+    }
+
+    return Flux.defer(() -> {
+      Boolean isBulkSupported = this.isBulkStateSupported;
+      if (Boolean.FALSE.equals(isBulkSupported)) {
+        return this.getStatesOneByOne(keys, type);
+      }
+
+      Flux<State<T>> bulk = this.getStatesInBulk(keys, type);
+      if (isBulkSupported != null) {
+        return bulk;
+      }
+
+      // The first call finds out if Dapr supports bulk reads. Only a route that is not found, or not allowed, means
+      // it does not, so the keys are fanned out from now on. Other failures are left for the next call to find out.
+      return bulk
+          .doOnComplete(() -> this.isBulkStateSupported = true)
+          .onErrorResume(DaprClientHttp::isBulkStateUnsupported, e -> {
+            this.isBulkStateSupported = false;
+            return this.getStatesOneByOne(keys, type);
+          });
+    });
+  }
+
+  /**
+   * Gets states with a single request to Dapr, in the same order as the keys.
+   *
+   * @param keys  The keys of the States to be retrieved.
+   * @param type  The Type of the Value of the states.
+   * @param <T>   The Type of the Value of the states.
+   * @return The requested States.
+   */
+  private <T> Flux<State<T>> getStatesInBulk(List<String> keys, TypeRef<T> type) {
+    try {
+      Map<String, Object> request = new HashMap<>();
+      request.put("keys", keys);
+      request.put("parallelism", this.stateParallelism);
+      byte[] body = INTERNAL_SERIALIZER.serialize(request);
+      return this.client.invokeApi(DaprHttp.HttpMethods.POST.name(), STATE_BULK_PATH, null, body, null)
+          .flatMapIterable(response -> {
             try {
-              return Mono.just(buildStateKeyValue(s, key, options, clazz));
-            } catch (Exception ex) {
-              return Mono.error(ex);
+              return buildStates(response, keys, type);
+            } catch (IOException e) {
+              throw Exceptions.propagate(e);
             }
           });
     } catch (Exception ex) {
-      return Mono.error(ex);
+      return Flux.error(ex);
     }
   }
 
+  /**
+   * Gets states with one request to Dapr per key, in the same order as the keys.
+   *
+   * @param keys  The keys of the States to be retrieved.
+   * @param type  The Type of the Value of the states.
+   * @param <T>   The Type of the Value of the states.
+   * @return The requested States.
+   */
+  private <T> Flux<State<T>> getStatesOneByOne(List<String> keys, TypeRef<T> type) {
+    return Flux.fromIterable(keys)
+        .flatMapSequential(key -> this.getState(key, null, null, type), this.stateParallelism);
+  }
+
+  /**
+   * Checks if a bulk read failed as Dapr does not support it: its route is not found or does not allow the method.
+   *
+   * @param error Error of the bulk read.
+   * @return True if Dapr does not support bulk reads.
+   */
+  private static boolean isBulkStateUnsupported(Throwable error) {
+    for (Throwable e = error; e != null; e = e.getCause()) {
+      if (e instanceof DaprHttp.UnexpectedStatusException) {
+        int statusCode = ((DaprHttp.UnexpectedStatusException) e).getStatusCode();
+        return (statusCode == 404) || (statusCode == 405);
+      }
+    }
+    return false;
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public Mono<Void> saveStates(List<State<?>> states) {
+    if (this.binaryStateClient != null) {
+      return this.binaryStateClient.saveStates(states);
+    }
+
     try {
       if (states == null || states.isEmpty()) {
         return Mono.empty();
       }
-      final Map<String, String> headers = new HashMap<>();
       final String etag = states.stream().filter(state -> null != state.getEtag() && !state.getEtag().trim().isEmpty())
           .findFirst().orElse(new State<>(null, null, null, null)).getEtag();
-      if (etag != null && !etag.trim().isEmpty()) {
-        headers.put(Constants.HEADER_HTTP_ETAG_ID, etag);
-      }
+      final Map<String, String> headers = etagHeaders(etag);
       final String url = Constants.STATE_PATH;
-      List<State<Object>> internalStateObjects = new ArrayList<>(states.size());
-      for (State state : states) {
+      byte[] serializedStateBody = this.serializeStates(states);
+      return this.client.invokeApi(
+          DaprHttp.HttpMethods.POST.name(), url, null, serializedStateBody, headers).then();
+    } catch (Exception ex) {
+      return Mono.error(ex);
+    }
+  }
+
+  /**
+   * Serializes states as the body of a save request, streamed into a single buffer sized up front.
+   * Each value goes through the state serializer once. Text that is a single JSON value is embedded as is, so objects
+   * are stored as JSON objects; any other text, such as the default serializer's strings, is written as a JSON string,
+   * as actor state is. Byte arrays of the default serializer and values of binary serializers are written as base64.
+   *
+   * @param states States to be saved.
+   * @return Body of the request.
+   * @throws IOException If a state cannot be serialized.
+   */
+  private byte[] serializeStates(List<State<?>> states) throws IOException {
+    byte[][] values = new byte[states.size()][];
+    int size = 2;
+    for (int i = 0; i < values.length; i++) {
+      State<?> state = states.get(i);
+      if (state == null) {
+        continue;
+      }
+
+      byte[] data = this.stateSerializer.serialize(state.getValue());
+      values[i] = data;
+      size += STATE_JSON_OVERHEAD + lengthOf(state.getKey()) + lengthOf(state.getEtag());
+      if (data != null) {
+        size += this.isStateRaw(state.getValue()) ? data.length + 2 : ((data.length + 2) / 3) * 4;
+      }
+      if (state.getOptions() != null) {
+        size += STATE_OPTIONS_JSON_SIZE;
+      }
+    }
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream(size);
+    // The generator comes from the internal serializer's factory, so options are written the same way as before.
+    try (JsonGenerator generator = ObjectSerializer.OBJECT_MAPPER.getFactory().createGenerator(output)) {
+      generator.writeStartArray();
+      for (int i = 0; i < values.length; i++) {
+        State<?> state = states.get(i);
         if (state == null) {
           continue;
         }
-        byte[] data = this.stateSerializer.serialize(state.getValue());
-        if (this.isStateString) {
-          internalStateObjects.add(
-              new State<>(data == null ? null : new String(data), state.getKey(), state.getEtag(), state.getOptions()));
-        } else {
-          internalStateObjects.add(new State<>(data, state.getKey(), state.getEtag(), state.getOptions()));
+
+        generator.writeStartObject();
+        byte[] data = values[i];
+        if (data != null) {
+          generator.writeFieldName("value");
+          if (!this.isStateRaw(state.getValue())) {
+            generator.writeBinary(data);
+          } else if ((this.isDefaultStateSerializer && (state.getValue() instanceof String)) || !isJsonValue(data)) {
+            generator.writeUTF8String(data, 0, data.length);
+          } else {
+            CharBuffer json = StandardCharsets.UTF_8.decode(ByteBuffer.wrap(data));
+            generator.writeRawValue(json.array(), json.arrayOffset() + json.position(), json.remaining());
+          }
+        }
+        if (state.getKey() != null) {
+          generator.writeStringField("key", state.getKey());
+        }
+        if (state.getEtag() != null) {
+          generator.writeStringField("etag", state.getEtag());
+        }
+        if (state.getOptions() != null) {
+          generator.writeObjectField("options", state.getOptions());
         }
+        generator.writeEndObject();
       }
-      byte[] serializedStateBody = INTERNAL_SERIALIZER.serialize(states);
-      return this.client.invokeApi(
-          DaprHttp.HttpMethods.POST.name(), url, null, serializedStateBody, headers).then();
-    } catch (Exception ex) {
-      return Mono.error(ex);
+      generator.writeEndArray();
+    }
+    return output.toByteArray();
+  }
+
+  /**
+   * Checks whether a state's serialized value is text, rather than binary data to be written as base64.
+   *
+   * @param value State's value.
+   * @return Whether the serialized value is text.
+   */
+  private boolean isStateRaw(Object value) {
+    return this.isStateString && !(this.isDefaultStateSerializer && (value instanceof byte[]));
+  }
+
+  /**
+   * Checks whether serialized text is exactly one JSON value, so it can be embedded in a request as is.
+   *
+   * @param data Serialized text.
+   * @return Whether the text is a single JSON value.
+   * @throws IOException If the text cannot be read.
+   */
+  private static boolean isJsonValue(byte[] data) throws IOException {
+    try (JsonParser parser = ObjectSerializer.OBJECT_MAPPER.getFactory().createParser(data)) {
+      if (parser.nextToken() == null) {
+        return false;
+      }
+      parser.skipChildren();
+      return parser.nextToken() == null;
+    } catch (JsonProcessingException e) {
+      return false;
+    }
+  }
+
+  /**
+   * Gets the length of a string, or zero if null.
+   *
+   * @param value String to be measured.
+   * @return Length of the string.
+   */
+  private static int lengthOf(String value) {
+    return value == null ? 0 : value.length();
+  }
+
+  /**
+   * Builds the immutable headers of a state request, so calls without etag share an empty set.
+   *
+   * @param etag Etag of the state, ignored if null or blank.
+   * @return Headers with the etag, if any.
+   */
+  private static Map<String, String> etagHeaders(String etag) {
+    if (etag == null || etag.trim().isEmpty()) {
+      return Collections.emptyMap();
     }
+    return Collections.singletonMap(Constants.HEADER_HTTP_ETAG_ID, etag);
   }
 
   /**
@@ -382,18 +751,19 @@ public class DaprClientHttp implements DaprClient {
    */
   @Override
   public Mono<Void> deleteState(String key, String etag, StateOptions options) {
+    if (this.binaryStateClient != null) {
+      return this.binaryStateClient.deleteState(key, etag, options);
+    }
+
     try {
       if (key == null || key.trim().isEmpty()) {
         throw new IllegalArgumentException("Name cannot be null or empty.");
       }
-      Map<String, String> headers = new HashMap<>();
-      if (etag != null && !etag.trim().isEmpty()) {
-        headers.put(Constants.HEADER_HTTP_ETAG_ID, etag);
-      }
+      Map<String, String> headers = etagHeaders(etag);
       String url = Constants.STATE_PATH + "/" + key;
       Map<String, String> urlParameters = Optional.ofNullable(options)
           .map(stateOptions -> stateOptions.getStateOptionsAsMap())
-          .orElse(new HashMap<>());
+          .orElse(Collections.emptyMap());
 
       return this.client.invokeApi(DaprHttp.HttpMethods.DELETE.name(), url, urlParameters, headers).then();
     } catch (Exception ex) {
@@ -404,23 +774,81 @@ public class DaprClientHttp implements DaprClient {
   /**
    * Builds a State object based on the Response.
    *
-   * @param response     The response of the HTTP Call
+   * @param body         The body of the HTTP Call's response, as it is received
+   * @param headers      The headers of the HTTP Call's response
    * @param requestedKey The Key Requested.
-   * @param clazz        The Class of the Value of the state
+   * @param type         The Type of the Value of the state
    * @param <T>          The Type of the Value of the state
    * @return A StateKeyValue instance
    * @throws IOException If there's a issue deserialzing the response.
    */
   private <T> State<T> buildStateKeyValue(
-      DaprHttp.Response response, String requestedKey, StateOptions stateOptions, Class<T> clazz) throws IOException {
+      InputStream body, Map<String, String> headers, String requestedKey, StateOptions stateOptions, TypeRef<T> type)
+      throws IOException {
     // The state is in the body directly, so we use the state serializer here.
-    T value = stateSerializer.deserialize(response.getBody(), clazz);
+    T value = stateSerializer.deserializeFrom(body, type);
     String key = requestedKey;
-    String etag = null;
-    if (response.getHeaders() != null && response.getHeaders().containsKey("Etag")) {
-      etag = response.getHeaders().get("Etag");
-    }
+    String etag = headers == null ? null : headers.get("Etag");
     return new State<>(value, key, etag, stateOptions);
   }
 
+  /**
+   * Builds State objects based on the Response of a bulk read, in the same order as the requested keys.
+   * Keys missing from the response have no value.
+   *
+   * @param response      The response of the HTTP Call
+   * @param requestedKeys The Keys Requested.
+   * @param type          The Type of the Value of the states
+   * @param <T>           The Type of the Value of the states
+   * @return StateKeyValue instances
+   * @throws IOException If there's a issue deserialzing the response.
+   */
+  private <T> List<State<T>> buildStates(
+      DaprHttp.Response response, List<String> requestedKeys, TypeRef<T> type) throws IOException {
+    Map<String, JsonNode> items = new HashMap<>();
+    for (JsonNode item : ObjectSerializer.OBJECT_MAPPER.readTree(response.getBody())) {
+      items.put(item.path("key").asText(), item);
+    }
+
+    List<State<T>> states = new ArrayList<>(requestedKeys.size());
+    for (String key : requestedKeys) {
+      JsonNode item = items.get(key);
+      if (item == null) {
+        states.add(new State<>(null, key, null, null));
+        continue;
+      }
+      if (item.hasNonNull("error")) {
+        throw new DaprException("ERR_STATE_GET", item.get("error").asText());
+      }
+
+      // The state is embedded as is, so the default serializer's strings are unquoted before going through it.
+      // Binary states were saved as base64 strings, so they are decoded back.
+      JsonNode data = item.get("data");
+      byte[] bytes = null;
+      if (data != null && !data.isNull()) {
+        if (!data.isTextual() || (this.isStateString && !this.isDefaultStateSerializer)) {
+          bytes = ObjectSerializer.OBJECT_MAPPER.writeValueAsBytes(data);
+        } else if (this.isStateString && (type.getType() != byte[].class)) {
+          bytes = data.textValue().getBytes(StandardCharsets.UTF_8);
+        } else {
+          bytes = data.binaryValue();
+        }
+      }
+      T value = stateSerializer.deserialize(bytes, type);
+      String etag = item.hasNonNull("etag") ? item.get("etag").asText() : null;
+      states.add(new State<>(value, key, etag, null));
+    }
+    return states;
+  }
+
+  /**
+   * Gets a reference to a class, where no class means no value, as with the serializers.
+   *
+   * @param clazz Class being referenced, or null.
+   * @param <T>   Type being referenced.
+   * @return Reference to the class.
+   */
+  private static <T> TypeRef<T> typeOf(Class<T> clazz) {
+    return clazz == null ? (TypeRef<T>) TypeRef.get(Void.class) : TypeRef.get(clazz);
+  }
 }
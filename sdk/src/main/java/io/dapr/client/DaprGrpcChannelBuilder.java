@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.utils.Constants;
+import io.dapr.utils.Properties;
+import io.grpc.ManagedChannel;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A builder for the channel used by Dapr's GRPC Client.
+ * Netty's native epoll transport is used automatically when available.
+ */
+public class DaprGrpcChannelBuilder {
+
+  /**
+   * Flow control window for each HTTP/2 stream, same as gRPC's default.
+   */
+  private static final int DEFAULT_FLOW_CONTROL_WINDOW = NettyChannelBuilder.DEFAULT_FLOW_CONTROL_WINDOW;
+
+  /**
+   * Maximum size of a response, same as gRPC's default.
+   */
+  private static final int DEFAULT_MAX_INBOUND_MESSAGE_SIZE = 4 * 1024 * 1024;
+
+  /**
+   * Strategy to pick a channel from the pool for each call.
+   */
+  public enum PoolStrategy {
+    /**
+     * Channels are used in turns.
+     */
+    ROUND_ROBIN,
+    /**
+     * The channel with fewer calls in flight is used.
+     */
+    LEAST_IN_FLIGHT
+  }
+
+  /**
+   * Time without reads before sending a keepalive ping, or null to disable keepalive.
+   */
+  private Duration keepAliveTime;
+
+  /**
+   * Time to wait for a keepalive ping's acknowledgement before closing the connection, or null for gRPC's default.
+   */
+  private Duration keepAliveTimeout;
+
+  /**
+   * Determines if keepalive pings are sent even when there are no calls in flight.
+   */
+  private boolean keepAliveWithoutCalls;
+
+  /**
+   * Flow control window used to build object.
+   */
+  private int flowControlWindow = DEFAULT_FLOW_CONTROL_WINDOW;
+
+  /**
+   * Maximum size of a response used to build object.
+   */
+  private int maxInboundMessageSize = DEFAULT_MAX_INBOUND_MESSAGE_SIZE;
+
+  /**
+   * Executor for call callbacks, or null for gRPC's default.
+   */
+  private Executor executor;
+
+  /**
+   * Determines if call callbacks run directly on the transport's threads.
+   */
+  private boolean directExecutor;
+
+  /**
+   * Number of channels (connections) to spread calls over.
+   */
+  private int poolSize = 1;
+
+  /**
+   * Strategy to pick a channel from the pool.
+   */
+  private PoolStrategy poolStrategy = PoolStrategy.ROUND_ROBIN;
+
+  /**
+   * Enables keepalive pings for the instance to be built.
+   *
+   * @param keepAliveTime Time without reads before sending a keepalive ping.
+   * @param keepAliveTimeout Time to wait for the ping's acknowledgement before closing the connection.
+   * @param keepAliveWithoutCalls True to send pings even when there are no calls in flight.
+   * @return Same builder instance.
+   */
+  public DaprGrpcChannelBuilder withKeepAlive(
+      Duration keepAliveTime, Duration keepAliveTimeout, boolean keepAliveWithoutCalls) {
+    if ((keepAliveTime == null) || keepAliveTime.isNegative() || keepAliveTime.isZero()) {
+      throw new IllegalArgumentException("Keepalive time must be positive.");
+    }
+    if ((keepAliveTimeout == null) || keepAliveTimeout.isNegative() || keepAliveTimeout.isZero()) {
+      throw new IllegalArgumentException("Keepalive timeout must be positive.");
+    }
+
+    this.keepAliveTime = keepAliveTime;
+    this.keepAliveTimeout = keepAliveTimeout;
+    this.keepAliveWithoutCalls = keepAliveWithoutCalls;
+    return this;
+  }
+
+  /**
+   * Sets the HTTP/2 flow control window for each stream.
+   * Larger windows allow bigger payloads in flight before waiting for the peer to acknowledge them.
+   *
+   * @param flowControlWindow Flow control window, in bytes.
+   * @return Same builder instance.
+   */
+  public DaprGrpcChannelBuilder withFlowControlWindow(int flowControlWindow) {
+    if (flowControlWindow <= 0) {
+      throw new IllegalArgumentException("Flow control window must be positive.");
+    }
+
+    this.flowControlWindow = flowControlWindow;
+    return this;
+  }
+
+  /**
+   * Sets the maximum size of a response from Dapr.
+   *
+   * @param maxInboundMessageSize Maximum size of a response, in bytes.
+   * @return Same builder instance.
+   */
+  public DaprGrpcChannelBuilder withMaxInboundMessageSize(int maxInboundMessageSize) {
+    if (maxInboundMessageSize <= 0) {
+      throw new IllegalArgumentException("Max inbound message size must be positive.");
+    }
+
+    this.maxInboundMessageSize = maxInboundMessageSize;
+    return this;
+  }
+
+  /**
+   * Sets the executor for call callbacks, where results are also emitted to subscribers.
+   *
+   * @param executor Executor for call callbacks.
+   * @return Same builder instance.
+   */
+  public DaprGrpcChannelBuilder withExecutor(Executor executor) {
+    if (executor == null) {
+      throw new IllegalArgumentException("Executor is required.");
+    }
+
+    this.executor = executor;
+    this.directExecutor = false;
+    return this;
+  }
+
+  /**
+   * Runs call callbacks directly on the transport's threads, avoiding a thread hop per call.
+   * Only safe when subscribers never block.
+   *
+   * @return Same builder instance.
+   */
+  public DaprGrpcChannelBuilder withDirectExecutor() {
+    this.executor = null;
+    this.directExecutor = true;
+    return this;
+  }
+
+  /**
+   * Spreads calls over a pool of channels, each one with its own connection to Dapr.
+   *
+   * @param poolSize Number of channels.
+   * @param poolStrategy Strategy to pick a channel for each call.
+   * @return Same builder instance.
+   */
+  public DaprGrpcChannelBuilder withPool(int poolSize, PoolStrategy poolStrategy) {
+    if (poolSize <= 0) {
+      throw new IllegalArgumentException("Pool size must be positive.");
+    }
+    if (poolStrategy == null) {
+      throw new IllegalArgumentException("Pool strategy is required.");
+    }
+
+    this.poolSize = poolSize;
+    this.poolStrategy = poolStrategy;
+    return this;
+  }
+
+  /**
+   * Build an instance of the channel based on the provided setup.
+   *
+   * @return A single channel, or a pool of channels, to be shut down once no longer used.
+   */
+  public ManagedChannel build() {
+    if (this.poolSize == 1) {
+      return buildManagedChannel();
+    }
+
+    ManagedChannel[] channels = new ManagedChannel[this.poolSize];
+    for (int i = 0; i < channels.length; i++) {
+      channels[i] = buildManagedChannel();
+    }
+    return new DaprGrpcChannelPool(channels, this.poolStrategy);
+  }
+
+  /**
+   * Creates an instance of a channel to Dapr.
+   *
+   * @return Instance of {@link ManagedChannel}.
+   */
+  private ManagedChannel buildManagedChannel() {
+    NettyChannelBuilder builder = NettyChannelBuilder.forAddress(Constants.DEFAULT_HOSTNAME, Properties.GRPC_PORT.get())
+        .usePlaintext()
+        .flowControlWindow(this.flowControlWindow)
+        .maxInboundMessageSize(this.maxInboundMessageSize);
+    if (this.keepAliveTime != null) {
+      builder.keepAliveTime(this.keepAliveTime.toNanos(), TimeUnit.NANOSECONDS)
+          .keepAliveTimeout(this.keepAliveTimeout.toNanos(), TimeUnit.NANOSECONDS)
+          .keepAliveWithoutCalls(this.keepAliveWithoutCalls);
+    }
+    if (this.directExecutor) {
+      builder.directExecutor();
+    } else if (this.executor != null) {
+      builder.executor(this.executor);
+    }
+    return builder.build();
+  }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Spreads calls over multiple channels, so load is not capped by a single HTTP/2 connection.
+ * Shutting down the pool shuts down every channel in it.
+ */
+class DaprGrpcChannelPool extends ManagedChannel {
+
+  /**
+   * Channels in the pool.
+   */
+  private final ManagedChannel[] channels;
+
+  /**
+   * Strategy to pick a channel for each call.
+   */
+  private final DaprGrpcChannelBuilder.PoolStrategy strategy;
+
+  /**
+   * Number of calls in flight, per channel.
+   */
+  private final AtomicIntegerArray inFlight;
+
+  /**
+   * Counter for the next channel in turn.
+   */
+  private final AtomicInteger next = new AtomicInteger();
+
+  /**
+   * Instantiates a new pool.
+   *
+   * @param channels Channels in the pool.
+   * @param strategy Strategy to pick a channel for each call.
+   */
+  DaprGrpcChannelPool(ManagedChannel[] channels, DaprGrpcChannelBuilder.PoolStrategy strategy) {
+    if ((channels == null) || (channels.length == 0)) {
+      throw new IllegalArgumentException("Channels are required.");
+    }
+
+    this.channels = channels.clone();
+    this.strategy = strategy;
+    this.inFlight = new AtomicIntegerArray(channels.length);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <ReqT, RespT> ClientCall<ReqT, RespT> newCall(
+      MethodDescriptor<ReqT, RespT> methodDescriptor, CallOptions callOptions) {
+    if (this.strategy == DaprGrpcChannelBuilder.PoolStrategy.ROUND_ROBIN) {
+      return this.channels[this.nextIndex()].newCall(methodDescriptor, callOptions);
+    }
+
+    int index = this.leastInFlightIndex();
+    return new InFlightClientCall<>(this.channels[index].newCall(methodDescriptor, callOptions), index);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String authority() {
+    return this.channels[0].authority();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ManagedChannel shutdown() {
+    for (ManagedChannel channel : this.channels) {
+      channel.shutdown();
+    }
+    return this;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isShutdown() {
+    for (ManagedChannel channel : this.channels) {
+      if (!channel.isShutdown()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean isTerminated() {
+    for (ManagedChannel channel : this.channels) {
+      if (!channel.isTerminated()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public ManagedChannel shutdownNow() {
+    for (ManagedChannel channel : this.channels) {
+      channel.shutdownNow();
+    }
+    return this;
+  }
+
+  /**
+   * Waits for every channel to terminate, all of them within the same timeout.
+   *
+   * @param timeout Maximum time to wait.
+   * @param unit Unit of the timeout.
+   * @return Whether all channels terminated in time.
+   * @throws InterruptedException If interrupted while waiting.
+   */
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    for (ManagedChannel channel : this.channels) {
+      long remaining = Math.max(0, deadline - System.nanoTime());
+      if (!channel.awaitTermination(remaining, TimeUnit.NANOSECONDS)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Gets the number of calls in flight for a given channel.
+   *
+   * @param index Position of the channel in the pool.
+   * @return Number of calls in flight.
+   */
+  int getInFlight(int index) {
+    return this.inFlight.get(index);
+  }
+
+  /**
+   * Picks the next channel in turn.
+   *
+   * @return Position of the channel in the pool.
+   */
+  private int nextIndex() {
+    return Math.floorMod(this.next.getAndIncrement(), this.channels.length);
+  }
+
+  /**
+   * Picks the channel with fewer calls in flight, starting from the next one in turn to spread ties.
+   *
+   * @return Position of the channel in the pool.
+   */
+  private int leastInFlightIndex() {
+    int start = this.nextIndex();
+    int best = start;
+    int bestInFlight = this.inFlight.get(start);
+    for (int i = 1; (i < this.channels.length) && (bestInFlight > 0); i++) {
+      int index = (start + i) % this.channels.length;
+      int current = this.inFlight.get(index);
+      if (current < bestInFlight) {
+        best = index;
+        bestInFlight = current;
+      }
+    }
+    return best;
+  }
+
+  /**
+   * Call that keeps track of its channel's calls in flight, from start until close.
+   *
+   * @param <ReqT> Type of the request.
+   * @param <RespT> Type of the response.
+   */
+  private class InFlightClientCall<ReqT, RespT> extends ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT> {
+
+    /**
+     * Position of the call's channel in the pool.
+     */
+    private final int index;
+
+    /**
+     * Instantiates a new call.
+     *
+     * @param delegate Call being tracked.
+     * @param index Position of the call's channel in the pool.
+     */
+    private InFlightClientCall(ClientCall<ReqT, RespT> delegate, int index) {
+      super(delegate);
+      this.index = index;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void start(Listener<RespT> responseListener, Metadata headers) {
+      inFlight.incrementAndGet(this.index);
+      try {
+        super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(responseListener) {
+          @Override
+          public void onClose(Status status, Metadata trailers) {
+            inFlight.decrementAndGet(index);
+            super.onClose(status, trailers);
+          }
+        }, headers);
+      } catch (RuntimeException ex) {
+        inFlight.decrementAndGet(this.index);
+        throw ex;
+      }
+    }
+  }
+}
@@ -8,21 +8,24 @@ package io.dapr.client;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dapr.exceptions.DaprError;
 import io.dapr.exceptions.DaprException;
+import io.dapr.utils.ByteUtils;
 import io.dapr.utils.Constants;
 import okhttp3.HttpUrl;
-import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
-import okhttp3.Request;
-import okhttp3.RequestBody;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 
 public class DaprHttp {
 
@@ -66,17 +69,117 @@ public class DaprHttp {
     }
   }
 
+  /**
+   * Response from Dapr whose body is streamed as it is received.
+   */
+  public static class StreamingResponse {
+
+    /**
+     * Body of the response, as it is received.
+     */
+    private final Flux<ByteBuffer> body;
+
+    /**
+     * Headers of the response.
+     */
+    private final Map<String, String> headers;
+
+    /**
+     * Status code of the response.
+     */
+    private final int statusCode;
+
+    /**
+     * Represents an http response with a streamed body.
+     * @param body The body of the http response, as it is received.
+     * @param headers The headers of the http response.
+     * @param statusCode The status code of the http response.
+     */
+    public StreamingResponse(Flux<ByteBuffer> body, Map<String, String> headers, int statusCode) {
+      this.body = body;
+      this.headers = headers;
+      this.statusCode = statusCode;
+    }
+
+    public Flux<ByteBuffer> getBody() {
+      return body;
+    }
+
+    public Map<String, String> getHeaders() {
+      return headers;
+    }
+
+    public int getStatusCode() {
+      return statusCode;
+    }
+  }
+
+  /**
+   * Failed response from Dapr that is not an error of Dapr's API, such as a route that is not found.
+   */
+  static class UnexpectedStatusException extends RuntimeException {
+
+    /**
+     * Status code of the response.
+     */
+    private final int statusCode;
+
+    /**
+     * Creates an exception for a failed response.
+     *
+     * @param statusCode Status code of the response.
+     * @param cause      Why the response's body could not be read as an error, or null.
+     */
+    UnexpectedStatusException(int statusCode, Throwable cause) {
+      super("Unknown error.", cause);
+      this.statusCode = statusCode;
+    }
+
+    /**
+     * Gets the status code of the response.
+     *
+     * @return Status code of the response.
+     */
+    int getStatusCode() {
+      return this.statusCode;
+    }
+  }
+
+  /**
+   * Reads a response from Dapr as it is received.
+   *
+   * @param <T> Type of the value read.
+   */
+  @FunctionalInterface
+  public interface ResponseReader<T> {
+
+    /**
+     * Reads a response from Dapr.
+     *
+     * @param statusCode Status code of the response.
+     * @param headers    Headers of the response.
+     * @param body       Body of the response, as it is received. Released once the reader returns.
+     * @return Value read from the response, or null if there is none.
+     * @throws IOException If the body cannot be read.
+     */
+    T read(int statusCode, Map<String, String> headers, InputStream body) throws IOException;
+  }
+
   /**
    * Defines the standard application/json type for HTTP calls in Dapr.
    */
-  private static final MediaType MEDIA_TYPE_APPLICATION_JSON =
-      MediaType.get("application/json; charset=utf-8");
+  static final String CONTENT_TYPE_APPLICATION_JSON = "application/json; charset=utf-8";
+
+  /**
+   * Header for the content type of a request, as expected in the headers given to this class.
+   */
+  static final String HEADER_CONTENT_TYPE = "content-type";
 
   /**
-   * Shared object representing an empty request body in JSON.
+   * Default headers of requests with a body, shared by all calls without headers of their own.
    */
-  private static final RequestBody REQUEST_BODY_EMPTY_JSON =
-      RequestBody.Companion.create("", MEDIA_TYPE_APPLICATION_JSON);
+  private static final Map<String, String> BODY_DEFAULT_HEADERS =
+      Collections.singletonMap(HEADER_CONTENT_TYPE, CONTENT_TYPE_APPLICATION_JSON);
 
   /**
    * Empty input or output.
@@ -89,14 +192,19 @@ public class DaprHttp {
   private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
 
   /**
-   * Port used to communicate to Dapr's HTTP endpoint.
+   * Base URL for Dapr's HTTP endpoint, parsed once.
+   */
+  private final HttpUrl baseUrl;
+
+  /**
+   * Base URL for Dapr's HTTP endpoint as a String, ending with "/".
    */
-  private final int port;
+  private final String baseUrlString;
 
   /**
-   * Http client used for all API calls.
+   * Transport used for all API calls.
    */
-  private final OkHttpClient httpClient;
+  private final DaprTransport transport;
 
   /**
    * Creates a new instance of {@link DaprHttp}.
@@ -105,8 +213,19 @@ public class DaprHttp {
    * @param httpClient RestClient used for all API calls in this new instance.
    */
   DaprHttp(int port, OkHttpClient httpClient) {
-    this.port = port;
-    this.httpClient = httpClient;
+    this(port, new OkHttpTransport(httpClient));
+  }
+
+  /**
+   * Creates a new instance of {@link DaprHttp}.
+   *
+   * @param port      Port for calling Dapr. (e.g. 3500)
+   * @param transport Transport used for all API calls in this new instance.
+   */
+  DaprHttp(int port, DaprTransport transport) {
+    this.transport = transport;
+    this.baseUrl = new HttpUrl.Builder().scheme("http").host(Constants.DEFAULT_HOSTNAME).port(port).build();
+    this.baseUrlString = this.baseUrl.toString();
   }
 
   /**
@@ -154,66 +273,202 @@ public class DaprHttp {
    */
   public Mono<Response> invokeApi(
       String method, String urlString, Map<String, String> urlParameters, byte[] content, Map<String, String> headers) {
-    return Mono.fromCallable(
-        () -> {
-          try {
-            final String requestId = UUID.randomUUID().toString();
-            RequestBody body = REQUEST_BODY_EMPTY_JSON;
-
-            String contentType = headers != null ? headers.get("content-type") : null;
-            MediaType mediaType = contentType == null ? MEDIA_TYPE_APPLICATION_JSON : MediaType.get(contentType);
-            if (content == null) {
-              body = mediaType.equals(MEDIA_TYPE_APPLICATION_JSON)
-                  ? REQUEST_BODY_EMPTY_JSON
-                  : RequestBody.Companion.create(new byte[0], mediaType);
-            } else {
-              body = RequestBody.Companion.create(content, mediaType);
-            }
-            HttpUrl.Builder urlBuilder = new HttpUrl.Builder();
-            urlBuilder.scheme("http").host(Constants.DEFAULT_HOSTNAME).port(this.port).addPathSegments(urlString);
-            Optional.ofNullable(urlParameters).orElse(Collections.emptyMap()).entrySet().stream()
-                .forEach(urlParameter -> urlBuilder.addQueryParameter(urlParameter.getKey(), urlParameter.getValue()));
-
-            Request.Builder requestBuilder = new Request.Builder()
-                .url(urlBuilder.build())
-                .addHeader(Constants.HEADER_DAPR_REQUEST_ID, requestId);
-            if (HttpMethods.GET.name().equals(method)) {
-              requestBuilder.get();
-            } else if (HttpMethods.DELETE.name().equals(method)) {
-              requestBuilder.delete();
-            } else {
-              requestBuilder.method(method, body);
-            }
-            if (headers != null) {
-              Optional.ofNullable(headers.entrySet()).orElse(Collections.emptySet()).stream()
-                  .forEach(header -> {
-                    requestBuilder.addHeader(header.getKey(), header.getValue());
-                  });
-            }
-
-            Request request = requestBuilder.build();
-
-            try (okhttp3.Response response = this.httpClient.newCall(request).execute()) {
-              if (!response.isSuccessful()) {
-                DaprError error = parseDaprError(response.body().bytes());
-                if ((error != null) && (error.getErrorCode() != null) && (error.getMessage() != null)) {
-                  throw new RuntimeException(new DaprException(error));
-                }
-
-                throw new RuntimeException("Unknown error.");
-              }
-
-              Map<String, String> mapHeaders = new HashMap<>();
-              byte[] result = response.body().bytes();
-              response.headers().forEach(pair -> {
-                mapHeaders.put(pair.getFirst(), pair.getSecond());
-              });
-              return new Response(result == null ? EMPTY_BYTES : result, mapHeaders, response.code());
-            }
-          } catch (Exception e) {
-            throw new RuntimeException(e);
-          }
-        });
+    return Mono.defer(() -> {
+      String url = this.buildUrl(urlString, urlParameters);
+      Map<String, String> requestHeaders = this.buildHeaders(method, headers);
+      return this.transport.send(method, url, content, requestHeaders);
+    }).map(DaprHttp::validate)
+        .onErrorMap(e -> new RuntimeException(e));
+  }
+
+  /**
+   * Invokes an API asynchronously, reading the body of a successful response as it is received.
+   * Successful responses are not held in memory as a whole, unless the transport cannot stream; error responses are
+   * handled like any other call's.
+   *
+   * @param method        HTTP method.
+   * @param urlString     url as String.
+   * @param urlParameters Parameters in the URL
+   * @param content       payload to be posted.
+   * @param headers       HTTP headers.
+   * @param reader        Reads a successful response.
+   * @param <T>           Type of the value read.
+   * @return Value read from the response, or empty if the reader returns null.
+   */
+  public <T> Mono<T> invokeApi(
+      String method,
+      String urlString,
+      Map<String, String> urlParameters,
+      byte[] content,
+      Map<String, String> headers,
+      ResponseReader<T> reader) {
+    return Mono.defer(() -> {
+      String url = this.buildUrl(urlString, urlParameters);
+      Map<String, String> requestHeaders = this.buildHeaders(method, headers);
+      return this.transport.send(method, url, content, requestHeaders, (statusCode, responseHeaders, body) -> {
+        if ((statusCode < 200) || (statusCode >= 300)) {
+          // Error responses are small, so their body is aggregated to be parsed.
+          validate(new Response(ByteUtils.toByteArray(body), responseHeaders, statusCode));
+        }
+        return reader.read(statusCode, responseHeaders, body);
+      });
+    }).onErrorMap(e -> new RuntimeException(e));
+  }
+
+  /**
+   * Invokes an API asynchronously, streaming the payload and the response body.
+   * Neither body is held in memory as a whole, unless the transport cannot stream.
+   *
+   * @param method        HTTP method.
+   * @param urlString     url as String.
+   * @param urlParameters Parameters in the URL
+   * @param content       payload to be posted, or null if there is none.
+   * @param headers       HTTP headers.
+   * @return Response body, as it is received.
+   */
+  public Flux<ByteBuffer> invokeApiStream(
+      String method,
+      String urlString,
+      Map<String, String> urlParameters,
+      Flux<ByteBuffer> content,
+      Map<String, String> headers) {
+    return Flux.defer(() -> {
+      String url = this.buildUrl(urlString, urlParameters);
+      Map<String, String> requestHeaders = this.buildHeaders(method, headers);
+      return this.transport.stream(method, url, content, requestHeaders, DaprHttp::validateStream);
+    }).onErrorMap(e -> new RuntimeException(e));
+  }
+
+  /**
+   * Builds the URL for a call to Dapr.
+   *
+   * @param urlString     url as String.
+   * @param urlParameters Parameters in the URL
+   * @return Encoded URL.
+   */
+  private String buildUrl(String urlString, Map<String, String> urlParameters) {
+    if (((urlParameters == null) || urlParameters.isEmpty()) && isPlainPath(urlString)) {
+      // Nothing to encode or normalize: the result is the same HttpUrl would build, without parsing it.
+      return this.baseUrlString + urlString;
+    }
+
+    HttpUrl.Builder urlBuilder = this.baseUrl.newBuilder().addPathSegments(urlString);
+    if (urlParameters != null) {
+      for (Map.Entry<String, String> urlParameter : urlParameters.entrySet()) {
+        urlBuilder.addQueryParameter(urlParameter.getKey(), urlParameter.getValue());
+      }
+    }
+    return urlBuilder.build().toString();
+  }
+
+  /**
+   * Checks if a relative path is made only of non-empty segments of unreserved characters, other than "." and "..".
+   *
+   * @param path Relative path.
+   * @return True if the path can be appended to the base URL as is.
+   */
+  private static boolean isPlainPath(String path) {
+    int segmentStart = 0;
+    for (int i = 0; i <= path.length(); i++) {
+      char c = i < path.length() ? path.charAt(i) : '/';
+      if (c == '/') {
+        int segmentLength = i - segmentStart;
+        boolean dotSegment = ((segmentLength == 1) && (path.charAt(segmentStart) == '.'))
+            || ((segmentLength == 2) && path.startsWith("..", segmentStart));
+        if ((segmentLength == 0) || dotSegment) {
+          return false;
+        }
+        segmentStart = i + 1;
+      } else if (!(((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) || ((c >= '0') && (c <= '9'))
+          || (c == '-') || (c == '.') || (c == '_') || (c == '~'))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Builds the headers for a call to Dapr, with a new request id and JSON as content type unless given.
+   * Calls without headers of their own, most of them, only add their request id to a shared immutable set.
+   *
+   * @param method  HTTP method.
+   * @param headers HTTP headers.
+   * @return Headers to be sent.
+   */
+  private Map<String, String> buildHeaders(String method, Map<String, String> headers) {
+    boolean hasBody = !HttpMethods.GET.name().equals(method) && !HttpMethods.DELETE.name().equals(method);
+    if ((headers == null) || headers.isEmpty()) {
+      return new RequestHeaders(newRequestId(), hasBody ? BODY_DEFAULT_HEADERS : Collections.emptyMap());
+    }
+
+    Map<String, String> requestHeaders = new LinkedHashMap<>();
+    requestHeaders.put(Constants.HEADER_DAPR_REQUEST_ID, newRequestId());
+    requestHeaders.putAll(headers);
+    if (hasBody) {
+      requestHeaders.putIfAbsent(HEADER_CONTENT_TYPE, CONTENT_TYPE_APPLICATION_JSON);
+    }
+    return requestHeaders;
+  }
+
+  /**
+   * Generates a random (version 4) UUID to identify a request.
+   * Unlike {@link UUID#randomUUID()}, it does not go through a shared SecureRandom: request ids are only used to
+   * correlate calls, so they do not need to be cryptographically strong.
+   *
+   * @return New request id.
+   */
+  static String newRequestId() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long mostSigBits = (random.nextLong() & ~0xF000L) | 0x4000L;
+    long leastSigBits = (random.nextLong() & ~(0x3L << 62)) | (0x2L << 62);
+    return new UUID(mostSigBits, leastSigBits).toString();
+  }
+
+  /**
+   * Checks the status of a response from Dapr.
+   *
+   * @param response Response from Dapr.
+   * @return Same response, if successful.
+   */
+  private static Response validate(Response response) {
+    int statusCode = response.getStatusCode();
+    if ((statusCode >= 200) && (statusCode < 300)) {
+      return response;
+    }
+
+    DaprError error;
+    try {
+      error = parseDaprError(response.getBody());
+    } catch (IOException e) {
+      throw new UnexpectedStatusException(statusCode, e);
+    }
+    if ((error != null) && (error.getErrorCode() != null) && (error.getMessage() != null)) {
+      throw new RuntimeException(new DaprException(error));
+    }
+
+    throw new UnexpectedStatusException(statusCode, null);
+  }
+
+  /**
+   * Checks the status of a streamed response from Dapr.
+   * Error responses are small, so their body is aggregated and handled like any other call's.
+   *
+   * @param response Streamed response from Dapr.
+   * @return Body of the response, if successful.
+   */
+  private static Publisher<ByteBuffer> validateStream(StreamingResponse response) {
+    int statusCode = response.getStatusCode();
+    if ((statusCode >= 200) && (statusCode < 300)) {
+      return response.getBody();
+    }
+
+    return response.getBody()
+        .collect(ByteArrayOutputStream::new, (output, buffer) -> {
+          byte[] bytes = new byte[buffer.remaining()];
+          buffer.duplicate().get(bytes);
+          output.write(bytes, 0, bytes.length);
+        })
+        .handle((output, sink) -> validate(new Response(output.toByteArray(), response.getHeaders(), statusCode)));
   }
 
   /**
@@ -6,9 +6,13 @@
 package io.dapr.client;
 
 import io.dapr.utils.Properties;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 
+import java.io.File;
 import java.time.Duration;
+import java.util.Collections;
 
 /**
  * A builder for the DaprHttp.
@@ -20,11 +24,42 @@ public class DaprHttpBuilder {
    */
   private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(60);
 
+  /**
+   * Maximum number of concurrent requests to Dapr, same as OkHttp's default.
+   */
+  private static final int DEFAULT_MAX_REQUESTS = 64;
+
   /**
    * Read timeout used to build object.
    */
   private Duration readTimeout = DEFAULT_READ_TIMEOUT;
 
+  /**
+   * Maximum number of concurrent requests used to build object.
+   */
+  private int maxRequests = DEFAULT_MAX_REQUESTS;
+
+  /**
+   * Maximum number of concurrent requests per host used to build object.
+   * All calls go to a single sidecar, so OkHttp's default of 5 per host would throttle everything.
+   */
+  private int maxRequestsPerHost = DEFAULT_MAX_REQUESTS;
+
+  /**
+   * Determines if HTTP/2 is used without upgrade negotiation (h2c), multiplexing calls over one connection.
+   */
+  private boolean http2PriorKnowledge;
+
+  /**
+   * Path to the Unix domain socket exposed by Dapr, or null to connect over TCP.
+   */
+  private String unixDomainSocketPath;
+
+  /**
+   * Transport to be used instead of the default one, based on OkHttp.
+   */
+  private DaprTransport transport;
+
   /**
    * Sets the read timeout duration for the instance to be built.
    *
@@ -36,6 +71,81 @@ public class DaprHttpBuilder {
     return this;
   }
 
+  /**
+   * Sets the maximum number of requests to be executed concurrently.
+   * Requests above this limit are queued in memory without blocking any thread.
+   *
+   * @param maxRequests Maximum number of concurrent requests.
+   * @return Same builder instance.
+   */
+  public DaprHttpBuilder withMaxRequests(int maxRequests) {
+    if (maxRequests <= 0) {
+      throw new IllegalArgumentException("Max requests must be positive.");
+    }
+
+    this.maxRequests = maxRequests;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of requests to be executed concurrently for each host.
+   * Requests above this limit are queued in memory without blocking any thread.
+   *
+   * @param maxRequestsPerHost Maximum number of concurrent requests per host.
+   * @return Same builder instance.
+   */
+  public DaprHttpBuilder withMaxRequestsPerHost(int maxRequestsPerHost) {
+    if (maxRequestsPerHost <= 0) {
+      throw new IllegalArgumentException("Max requests per host must be positive.");
+    }
+
+    this.maxRequestsPerHost = maxRequestsPerHost;
+    return this;
+  }
+
+  /**
+   * Talks HTTP/2 over cleartext (h2c) with prior knowledge, so calls are multiplexed over a single connection
+   * instead of one pooled connection each. Dapr's side must accept HTTP/2 without upgrade.
+   *
+   * @return Same builder instance.
+   */
+  public DaprHttpBuilder withHttp2PriorKnowledge() {
+    this.http2PriorKnowledge = true;
+    return this;
+  }
+
+  /**
+   * Connects to Dapr via a Unix domain socket instead of TCP, skipping the loopback network stack.
+   * Requires com.github.jnr:jnr-unixsocket in the classpath.
+   *
+   * @param path Path to the Unix domain socket exposed by Dapr.
+   * @return Same builder instance.
+   */
+  public DaprHttpBuilder withUnixDomainSocket(String path) {
+    if ((path == null) || path.trim().isEmpty()) {
+      throw new IllegalArgumentException("Unix domain socket path is required.");
+    }
+
+    this.unixDomainSocketPath = path;
+    return this;
+  }
+
+  /**
+   * Sets the transport to Dapr, such as {@link ReactorNettyTransport} to share Reactor Netty's event loops.
+   * Settings for the default transport, based on OkHttp, do not apply to a custom transport.
+   *
+   * @param transport Transport to Dapr.
+   * @return Same builder instance.
+   */
+  public DaprHttpBuilder withTransport(DaprTransport transport) {
+    if (transport == null) {
+      throw new IllegalArgumentException("Transport is required.");
+    }
+
+    this.transport = transport;
+    return this;
+  }
+
   /**
    * Build an instance of the Http client based on the provided setup.
    *
@@ -52,9 +162,24 @@ public class DaprHttpBuilder {
    * @return Instance of {@link DaprHttp}
    */
   private DaprHttp buildDaprHttp() {
+    if (this.transport != null) {
+      return new DaprHttp(Properties.HTTP_PORT.get(), this.transport);
+    }
+
+    Dispatcher dispatcher = new Dispatcher();
+    dispatcher.setMaxRequests(this.maxRequests);
+    dispatcher.setMaxRequestsPerHost(this.maxRequestsPerHost);
+
     OkHttpClient.Builder builder = new OkHttpClient.Builder();
     builder.readTimeout(this.readTimeout);
+    builder.dispatcher(dispatcher);
+    if (this.http2PriorKnowledge) {
+      builder.protocols(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+    }
+    if (this.unixDomainSocketPath != null) {
+      builder.socketFactory(new UnixDomainSocketFactory(new File(this.unixDomainSocketPath)));
+    }
     OkHttpClient okHttpClient = builder.build();
-    return new DaprHttp(Properties.HTTP_PORT.get(), okHttpClient);
+    return new DaprHttp(Properties.HTTP_PORT.get(), new OkHttpTransport(okHttpClient));
   }
 }
@@ -0,0 +1,512 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.StateOptions;
+import io.dapr.serializer.DaprObjectSerializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Cache of states read from Dapr, keyed by the state's key.
+ * Bounded by number of entries and by size, entries expire after a TTL. Recently used entries are kept, but a new
+ * entry only replaces an older one if it was requested more often (TinyLFU), so a burst of one-off keys does not
+ * flush the hot ones.
+ * Lookups do not lock: recency is a flag set on each hit, and the eviction gives flagged entries a second chance
+ * (CLOCK). Values are kept serialized and each hit gets its own copy, so callers never share a mutable value.
+ */
+class DaprStateCache {
+
+  /**
+   * Number of generation counters, keys sharing one only see each other's writes as extra invalidations.
+   */
+  private static final int GENERATION_STRIPES = 1024;
+
+  /**
+   * Types whose values cannot be modified, so they are kept as they are instead of serialized.
+   */
+  private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(
+      String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class,
+      Float.class, Double.class));
+
+  /**
+   * Maximum number of cached states.
+   */
+  private final long maxEntries;
+
+  /**
+   * Maximum size of cached states.
+   */
+  private final long maxBytes;
+
+  /**
+   * Time to live of cached states, in nanoseconds.
+   */
+  private final long ttlNanos;
+
+  /**
+   * Serializer for state objects, used to measure and copy them.
+   */
+  private final DaprObjectSerializer stateSerializer;
+
+  /**
+   * Source of the current time, in nanoseconds.
+   */
+  private final LongSupplier ticker;
+
+  /**
+   * Cached entries, looked up without locking.
+   */
+  private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+  /**
+   * Cached entries in the order the eviction visits them, guarded by this cache's lock.
+   */
+  private final LinkedHashMap<String, Entry> evictionOrder = new LinkedHashMap<>();
+
+  /**
+   * Estimated number of requests per key, including keys not cached.
+   */
+  private final FrequencySketch sketch;
+
+  /**
+   * Number of writes seen per stripe of keys, so reads issued before a write to their key are not cached after it.
+   */
+  private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+  /**
+   * Size of cached states, guarded by this cache's lock.
+   */
+  private long bytes;
+
+  /**
+   * Number of states served from the cache.
+   */
+  private final LongAdder hits = new LongAdder();
+
+  /**
+   * Number of states not found in the cache, or expired.
+   */
+  private final LongAdder misses = new LongAdder();
+
+  /**
+   * Number of states evicted or not admitted due to the cache's bounds.
+   */
+  private final LongAdder evictions = new LongAdder();
+
+  /**
+   * Creates a new cache.
+   *
+   * @param maxEntries      Maximum number of cached states.
+   * @param maxBytes        Maximum size of cached states.
+   * @param ttlNanos        Time to live of cached states, in nanoseconds.
+   * @param stateSerializer Serializer for state objects, used to measure and copy them.
+   * @param ticker          Source of the current time, in nanoseconds.
+   */
+  DaprStateCache(
+      long maxEntries, long maxBytes, long ttlNanos, DaprObjectSerializer stateSerializer, LongSupplier ticker) {
+    this.maxEntries = maxEntries;
+    this.maxBytes = maxBytes;
+    this.ttlNanos = ttlNanos;
+    this.stateSerializer = stateSerializer;
+    this.ticker = ticker;
+    this.sketch = new FrequencySketch(maxEntries);
+  }
+
+  /**
+   * Gets a copy of a state from the cache, if present, not expired and of the requested type.
+   *
+   * @param key   Key of the state.
+   * @param clazz Type of the state's value.
+   * @param <T>   Type of the state's value.
+   * @return Cached state, or null.
+   */
+  <T> State<T> get(String key, Class<T> clazz) {
+    this.sketch.increment(key);
+    Entry entry = this.entries.get(key);
+    if ((entry == null) || (entry.clazz != clazz) || (this.ticker.getAsLong() - entry.expiresAt >= 0)) {
+      this.misses.increment();
+      return null;
+    }
+
+    State<T> state = this.copyOf(entry, clazz);
+    if (state == null) {
+      this.misses.increment();
+      return null;
+    }
+
+    entry.referenced = true;
+    this.hits.increment();
+    return state;
+  }
+
+  /**
+   * Gets the current generation of a key, to be passed back when caching the state read next.
+   *
+   * @param key Key of the state.
+   * @return Current generation.
+   */
+  long getGeneration(String key) {
+    return this.generations.get(stripeOf(key));
+  }
+
+  /**
+   * Caches a state read from Dapr, unless its key was written since the read was issued.
+   * If the cached state has the same etag, it is kept and only its TTL is renewed.
+   *
+   * @param state      State read from Dapr.
+   * @param clazz      Type of the state's value.
+   * @param generation Generation of the state's key when the read was issued.
+   * @param <T>        Type of the state's value.
+   * @return State to be returned to the caller.
+   */
+  <T> State<T> put(State<T> state, Class<T> clazz, long generation) {
+    String key = state.getKey();
+    int stripe = stripeOf(key);
+    Entry current = this.entries.get(key);
+    if ((current != null) && (current.clazz == clazz) && (current.etag != null) && current.etag.equals(state.getEtag())
+        && (this.generations.get(stripe) == generation)) {
+      current.expiresAt = this.ticker.getAsLong() + this.ttlNanos;
+      return state;
+    }
+
+    // Serialized outside the lock, to be measured and, unless immutable, copied on each hit.
+    byte[] data;
+    try {
+      data = this.stateSerializer.serialize(state.getValue());
+    } catch (IOException e) {
+      // Cannot be measured, so it is not cached.
+      return state;
+    }
+    long weight = 2L * key.length() + (data == null ? 0 : data.length);
+    Entry entry = new Entry(
+        state, IMMUTABLE_TYPES.contains(clazz) ? null : data, clazz, weight, this.ticker.getAsLong() + this.ttlNanos);
+    synchronized (this) {
+      if (this.generations.get(stripe) != generation) {
+        return state;
+      }
+
+      this.removeEntry(key);
+      if (weight > this.maxBytes) {
+        this.evictions.increment();
+        return state;
+      }
+
+      this.entries.put(key, entry);
+      this.evictionOrder.put(key, entry);
+      this.bytes += weight;
+      this.evict(key);
+      return state;
+    }
+  }
+
+  /**
+   * Removes a state from the cache, as it is being written.
+   * Reads of the key issued before this call are not cached.
+   *
+   * @param key Key of the state.
+   */
+  void invalidate(String key) {
+    this.generations.incrementAndGet(stripeOf(key));
+    synchronized (this) {
+      this.removeEntry(key);
+    }
+  }
+
+  /**
+   * Gets the number of states served from the cache.
+   *
+   * @return Number of hits.
+   */
+  long getHitCount() {
+    return this.hits.sum();
+  }
+
+  /**
+   * Gets the number of states not found in the cache, or expired.
+   *
+   * @return Number of misses.
+   */
+  long getMissCount() {
+    return this.misses.sum();
+  }
+
+  /**
+   * Gets the number of states evicted or not admitted due to the cache's bounds.
+   *
+   * @return Number of evictions.
+   */
+  long getEvictionCount() {
+    return this.evictions.sum();
+  }
+
+  /**
+   * Removes an entry, called with this cache's lock held.
+   *
+   * @param key Key of the entry.
+   */
+  private void removeEntry(String key) {
+    Entry previous = this.evictionOrder.remove(key);
+    if (previous != null) {
+      this.entries.remove(key, previous);
+      this.bytes -= previous.weight;
+    }
+  }
+
+  /**
+   * Evicts entries until the cache is within its bounds, called with this cache's lock held.
+   * Entries used since the eviction last visited them are moved to the back once; the first entry not used is the
+   * victim, unless the new entry was requested less often, then the new entry is evicted.
+   *
+   * @param candidate Key of the entry just added.
+   */
+  private void evict(String candidate) {
+    // Every entry is moved back at most once, so the scan ends.
+    int secondChances = this.evictionOrder.size();
+    while ((this.evictionOrder.size() > this.maxEntries) || (this.bytes > this.maxBytes)) {
+      Iterator<Entry> iterator = this.evictionOrder.values().iterator();
+      if (!iterator.hasNext()) {
+        return;
+      }
+
+      Entry victim = iterator.next();
+      String victimKey = victim.key;
+      if (victim.referenced && !victimKey.equals(candidate) && (secondChances-- > 0)) {
+        victim.referenced = false;
+        iterator.remove();
+        this.evictionOrder.put(victimKey, victim);
+        continue;
+      }
+
+      if (!victimKey.equals(candidate) && this.evictionOrder.containsKey(candidate)
+          && (this.sketch.frequency(candidate) <= this.sketch.frequency(victimKey))) {
+        this.removeEntry(candidate);
+        this.evictions.increment();
+        return;
+      }
+
+      this.removeEntry(victimKey);
+      this.evictions.increment();
+    }
+  }
+
+  /**
+   * Copies a cached state, so the caller can modify its value.
+   *
+   * @param entry Cached entry.
+   * @param clazz Type of the state's value.
+   * @param <T>   Type of the state's value.
+   * @return Copy of the state, or null if its value cannot be deserialized.
+   */
+  private <T> State<T> copyOf(Entry entry, Class<T> clazz) {
+    Object value = entry.value;
+    if (entry.data != null) {
+      try {
+        value = this.stateSerializer.deserialize(entry.data, clazz);
+      } catch (IOException e) {
+        return null;
+      }
+    }
+    return new State<>((T) value, entry.key, entry.etag, entry.options);
+  }
+
+  /**
+   * Maps a key to its generation counter.
+   *
+   * @param key Key of the state.
+   * @return Index of the counter.
+   */
+  private static int stripeOf(String key) {
+    int hash = key.hashCode();
+    return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+  }
+
+  /**
+   * Cached state.
+   */
+  private static class Entry {
+
+    /**
+     * Key of the state.
+     */
+    private final String key;
+
+    /**
+     * Value of the state, if immutable, otherwise null.
+     */
+    private final Object value;
+
+    /**
+     * Serialized value of the state, or null if the value is kept as is.
+     */
+    private final byte[] data;
+
+    /**
+     * Etag of the state.
+     */
+    private final String etag;
+
+    /**
+     * Options of the state.
+     */
+    private final StateOptions options;
+
+    /**
+     * Type of the state's value.
+     */
+    private final Class<?> clazz;
+
+    /**
+     * Size of the state.
+     */
+    private final long weight;
+
+    /**
+     * Time when the state expires, in nanoseconds.
+     */
+    private volatile long expiresAt;
+
+    /**
+     * Whether the state was used since the eviction last visited it.
+     */
+    private volatile boolean referenced;
+
+    /**
+     * Creates a new entry.
+     *
+     * @param state     Cached state.
+     * @param data      Serialized value of the state, or null to keep the value as is.
+     * @param clazz     Type of the state's value.
+     * @param weight    Size of the state.
+     * @param expiresAt Time when the state expires, in nanoseconds.
+     */
+    private Entry(State<?> state, byte[] data, Class<?> clazz, long weight, long expiresAt) {
+      this.key = state.getKey();
+      this.value = data == null ? state.getValue() : null;
+      this.data = data;
+      this.etag = state.getEtag();
+      this.options = state.getOptions();
+      this.clazz = clazz;
+      this.weight = weight;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+  /**
+   * Count-min sketch of 4-bit counters estimating how often each key is requested.
+   * Counters are halved periodically, so the estimate favors recent requests.
+   * Counters are updated without locking, so concurrent requests may lose increments, which only makes the estimate
+   * coarser.
+   */
+  private static class FrequencySketch {
+
+    /**
+     * Seeds for each row of counters.
+     */
+    private static final long[] SEEDS = {
+        0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    /**
+     * Maximum value of a counter.
+     */
+    private static final int MAX_COUNT = 15;
+
+    /**
+     * Counters, one byte each for simplicity.
+     */
+    private final byte[] counters;
+
+    /**
+     * Mask to map a hash to a counter.
+     */
+    private final int mask;
+
+    /**
+     * Number of increments before counters are halved.
+     */
+    private final int sampleSize;
+
+    /**
+     * Number of increments since counters were last halved.
+     */
+    private int additions;
+
+    /**
+     * Creates a new sketch.
+     *
+     * @param maxEntries Maximum number of cached states.
+     */
+    private FrequencySketch(long maxEntries) {
+      int width = Integer.highestOneBit((int) Math.max(16, Math.min(maxEntries, 1 << 24)) - 1) << 1;
+      this.counters = new byte[width];
+      this.mask = width - 1;
+      this.sampleSize = 10 * width;
+    }
+
+    /**
+     * Records a request for the key.
+     *
+     * @param key Requested key.
+     */
+    private void increment(String key) {
+      int hash = key.hashCode();
+      boolean added = false;
+      for (int i = 0; i < SEEDS.length; i++) {
+        int index = this.indexOf(hash, i);
+        if (this.counters[index] < MAX_COUNT) {
+          this.counters[index]++;
+          added = true;
+        }
+      }
+
+      if (added && (++this.additions >= this.sampleSize)) {
+        for (int i = 0; i < this.counters.length; i++) {
+          this.counters[i] >>= 1;
+        }
+        this.additions /= 2;
+      }
+    }
+
+    /**
+     * Estimates how often the key was requested.
+     *
+     * @param key Requested key.
+     * @return Estimated number of requests.
+     */
+    private int frequency(String key) {
+      int hash = key.hashCode();
+      int frequency = MAX_COUNT;
+      for (int i = 0; i < SEEDS.length; i++) {
+        frequency = Math.min(frequency, this.counters[this.indexOf(hash, i)]);
+      }
+      return frequency;
+    }
+
+    /**
+     * Maps a hash to a counter in the given row.
+     *
+     * @param hash  Hash of the key.
+     * @param depth Row of counters.
+     * @return Index of the counter.
+     */
+    private int indexOf(int hash, int depth) {
+      long h = (hash + SEEDS[depth]) * SEEDS[depth];
+      h += h >>> 32;
+      return ((int) h) & this.mask;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.serializer.DaprObjectSerializer;
+
+import java.time.Duration;
+
+/**
+ * A builder for the client-side cache of states read via {@link DaprClient}.
+ */
+public class DaprStateCacheBuilder {
+
+  /**
+   * Default maximum number of cached states.
+   */
+  private static final long DEFAULT_MAX_ENTRIES = 10_000;
+
+  /**
+   * Default maximum size of cached states, once serialized.
+   */
+  private static final long DEFAULT_MAX_BYTES = 64 * 1024 * 1024;
+
+  /**
+   * Default time a state is served from the cache before being read again.
+   */
+  private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+  /**
+   * Maximum number of cached states used to build object.
+   */
+  private long maxEntries = DEFAULT_MAX_ENTRIES;
+
+  /**
+   * Maximum size of cached states used to build object.
+   */
+  private long maxBytes = DEFAULT_MAX_BYTES;
+
+  /**
+   * Time to live of cached states used to build object.
+   */
+  private Duration ttl = DEFAULT_TTL;
+
+  /**
+   * Sets the maximum number of states to be cached.
+   *
+   * @param maxEntries Maximum number of cached states.
+   * @return Same builder instance.
+   */
+  public DaprStateCacheBuilder withMaxEntries(long maxEntries) {
+    if (maxEntries <= 0) {
+      throw new IllegalArgumentException("Max entries must be positive.");
+    }
+
+    this.maxEntries = maxEntries;
+    return this;
+  }
+
+  /**
+   * Sets the maximum size of states to be cached, measured as their size once serialized.
+   *
+   * @param maxBytes Maximum size of cached states.
+   * @return Same builder instance.
+   */
+  public DaprStateCacheBuilder withMaxBytes(long maxBytes) {
+    if (maxBytes <= 0) {
+      throw new IllegalArgumentException("Max bytes must be positive.");
+    }
+
+    this.maxBytes = maxBytes;
+    return this;
+  }
+
+  /**
+   * Sets the time a state is served from the cache before being read from Dapr again.
+   *
+   * @param ttl Time to live of cached states.
+   * @return Same builder instance.
+   */
+  public DaprStateCacheBuilder withTtl(Duration ttl) {
+    if ((ttl == null) || ttl.isNegative() || ttl.isZero()) {
+      throw new IllegalArgumentException("TTL must be positive.");
+    }
+
+    this.ttl = ttl;
+    return this;
+  }
+
+  /**
+   * Builds a client caching the states read by the given client.
+   *
+   * @param client          Client to read from and write to Dapr.
+   * @param stateSerializer Serializer for state objects, used to measure and copy them.
+   * @return Caching client.
+   */
+  CachingDaprClient build(DaprClient client, DaprObjectSerializer stateSerializer) {
+    DaprStateCache cache = new DaprStateCache(
+        this.maxEntries, this.maxBytes, this.ttl.toNanos(), stateSerializer, System::nanoTime);
+    return new CachingDaprClient(client, cache);
+  }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Sends HTTP requests to Dapr on behalf of {@link DaprHttp}.
+ * Implementations only move bytes: URLs, headers and error handling are taken care of by {@link DaprHttp}.
+ */
+public interface DaprTransport {
+
+  /**
+   * Sends a request to Dapr, asynchronously.
+   *
+   * @param method  HTTP method.
+   * @param url     Full URL, already encoded.
+   * @param content Payload to be sent, or null if there is none.
+   * @param headers HTTP headers, content type included when there is a payload.
+   * @return Response from Dapr, whatever its status code is.
+   */
+  Mono<DaprHttp.Response> send(String method, String url, byte[] content, Map<String, String> headers);
+
+  /**
+   * Sends a request to Dapr, asynchronously, reading the response body as it is received.
+   * The reader is called once with the response, and the response is released once the reader returns.
+   * The default implementation reads from the aggregated body, transports should override it to read from the
+   * connection instead.
+   *
+   * @param method  HTTP method.
+   * @param url     Full URL, already encoded.
+   * @param content Payload to be sent, or null if there is none.
+   * @param headers HTTP headers, content type included when there is a payload.
+   * @param reader  Reads the response from Dapr, whatever its status code is.
+   * @param <T>     Type of the value read.
+   * @return Value read from the response, or empty if the reader returns null.
+   */
+  default <T> Mono<T> send(
+      String method, String url, byte[] content, Map<String, String> headers, DaprHttp.ResponseReader<T> reader) {
+    return this.send(method, url, content, headers).handle((response, sink) -> {
+      byte[] body = response.getBody() == null ? new byte[0] : response.getBody();
+      try {
+        T value = reader.read(response.getStatusCode(), response.getHeaders(), new ByteArrayInputStream(body));
+        if (value != null) {
+          sink.next(value);
+        }
+      } catch (IOException e) {
+        sink.error(e);
+      }
+    });
+  }
+
+  /**
+   * Sends a request to Dapr streaming the payload and the response body, asynchronously.
+   * The handler is called once with the response, and the response is only released after the handler's publisher
+   * terminates or is cancelled.
+   * The default implementation aggregates both bodies in memory, transports should override it to really stream.
+   *
+   * @param method  HTTP method.
+   * @param url     Full URL, already encoded.
+   * @param content Payload to be sent, or null if there is none.
+   * @param headers HTTP headers, content type included when there is a payload.
+   * @param handler Consumes the response from Dapr, whatever its status code is.
+   * @return Buffers emitted by the handler.
+   */
+  default Flux<ByteBuffer> stream(
+      String method,
+      String url,
+      Flux<ByteBuffer> content,
+      Map<String, String> headers,
+      Function<DaprHttp.StreamingResponse, Publisher<ByteBuffer>> handler) {
+    return (content == null ? Flux.<ByteBuffer>empty() : content)
+        .collect(ByteArrayOutputStream::new, (output, buffer) -> {
+          byte[] bytes = new byte[buffer.remaining()];
+          buffer.duplicate().get(bytes);
+          output.write(bytes, 0, bytes.length);
+        })
+        .flatMap(output -> this.send(method, url, output.toByteArray(), headers))
+        .flatMapMany(response -> handler.apply(new DaprHttp.StreamingResponse(
+            Flux.just(ByteBuffer.wrap(response.getBody())), response.getHeaders(), response.getStatusCode())));
+  }
+}
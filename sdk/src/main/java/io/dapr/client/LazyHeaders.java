@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-only view of a response's headers, backed by the transport's own header structure.
+ * Lookups by name are case-insensitive and copy nothing; a full copy is only made if the map is iterated.
+ */
+final class LazyHeaders extends AbstractMap<String, String> {
+
+  /**
+   * Case-insensitive lookup of a header's value, null if absent.
+   */
+  private final Function<String, String> lookup;
+
+  /**
+   * Copies all headers into a map, used only on iteration.
+   */
+  private final Supplier<Map<String, String>> copier;
+
+  /**
+   * All headers, copied on first iteration.
+   */
+  private Set<Entry<String, String>> entries;
+
+  /**
+   * Creates a new view over a transport's headers.
+   *
+   * @param lookup Case-insensitive lookup of a header's value, null if absent.
+   * @param copier Copies all headers into a map.
+   */
+  LazyHeaders(Function<String, String> lookup, Supplier<Map<String, String>> copier) {
+    this.lookup = lookup;
+    this.copier = copier;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String get(Object key) {
+    return key instanceof String ? this.lookup.apply((String) key) : null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean containsKey(Object key) {
+    return this.get(key) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    if (this.entries == null) {
+      this.entries = Collections.unmodifiableMap(this.copier.get()).entrySet();
+    }
+    return this.entries;
+  }
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.dapr.client.domain.CloudEvent;
+import io.dapr.utils.ByteUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Serializes and deserializes objects of a single type, resolved once per type so each call skips the type checks
+ * and Jackson's root type lookup. Behaves the same as {@link ObjectSerializer}'s checks for that type.
+ */
+abstract class ObjectCodec {
+
+  /**
+   * Codecs by type, shared as they are stateless.
+   */
+  private static final ClassValue<ObjectCodec> CODECS = new ClassValue<ObjectCodec>() {
+    @Override
+    protected ObjectCodec computeValue(Class<?> type) {
+      return create(type, ObjectSerializer.OBJECT_MAPPER);
+    }
+  };
+
+  /**
+   * Gets the codec for a type.
+   *
+   * @param clazz Type of the objects.
+   * @return Codec for the type.
+   */
+  static ObjectCodec of(Class<?> clazz) {
+    return CODECS.get(clazz);
+  }
+
+  /**
+   * Serializes an object of this codec's type.
+   *
+   * @param value Object to be serialized, not null.
+   * @return Serialized content.
+   * @throws IOException In case the object cannot be serialized.
+   */
+  abstract byte[] serialize(Object value) throws IOException;
+
+  /**
+   * Deserializes content into an object of this codec's type.
+   *
+   * @param content Content to be parsed, or null.
+   * @return Deserialized object.
+   * @throws IOException In case the content cannot be deserialized.
+   */
+  abstract Object deserialize(byte[] content) throws IOException;
+
+  /**
+   * Deserializes the content of a stream, which is not empty.
+   * By default, the content is read into an array first.
+   *
+   * @param content Content to be parsed.
+   * @return Deserialized object.
+   * @throws IOException In case the content cannot be read or deserialized.
+   */
+  Object deserialize(InputStream content) throws IOException {
+    return this.deserialize(ByteUtils.toByteArray(content));
+  }
+
+  /**
+   * Creates the codec for a type.
+   *
+   * @param clazz  Type of the objects.
+   * @param mapper Json serializer/deserializer for complex types.
+   * @return Codec for the type.
+   */
+  private static ObjectCodec create(Class<?> clazz, ObjectMapper mapper) {
+    if (clazz == Void.class) {
+      return new VoidCodec();
+    }
+    if (clazz.isPrimitive()) {
+      Object defaultValue = defaultValueOf(clazz);
+      // Values of a primitive type arrive boxed, so they are written as their wrapper type.
+      return new PrimitiveCodec(mapper.readerFor(clazz), mapper.writerFor(defaultValue.getClass()), defaultValue);
+    }
+    if (clazz == String.class) {
+      return new StringCodec();
+    }
+    if (clazz == byte[].class) {
+      return new BytesCodec();
+    }
+    if (clazz == CloudEvent.class) {
+      return new CloudEventCodec(mapper.writerFor(clazz));
+    }
+
+    return new JsonCodec(mapper.readerFor(clazz), mapper.writerFor(clazz));
+  }
+
+  /**
+   * Gets the value of a primitive type when there is no content.
+   *
+   * @param clazz Primitive type.
+   * @return Default value, boxed.
+   */
+  private static Object defaultValueOf(Class<?> clazz) {
+    if (boolean.class == clazz) {
+      return Boolean.FALSE;
+    }
+    if (byte.class == clazz) {
+      return Byte.valueOf((byte) 0);
+    }
+    if (short.class == clazz) {
+      return Short.valueOf((short) 0);
+    }
+    if (int.class == clazz) {
+      return Integer.valueOf(0);
+    }
+    if (long.class == clazz) {
+      return Long.valueOf(0L);
+    }
+    if (float.class == clazz) {
+      return Float.valueOf(0);
+    }
+    if (double.class == clazz) {
+      return Double.valueOf(0);
+    }
+    if (char.class == clazz) {
+      return Character.valueOf(Character.MIN_VALUE);
+    }
+    return null;
+  }
+
+  /**
+   * Codec for Void, which has no content.
+   */
+  private static class VoidCodec extends ObjectCodec {
+
+    @Override
+    byte[] serialize(Object value) {
+      return null;
+    }
+
+    @Override
+    Object deserialize(byte[] content) {
+      return null;
+    }
+  }
+
+  /**
+   * Codec for primitives, parsed as JSON, with the type's default value when there is no content.
+   */
+  private static class PrimitiveCodec extends ObjectCodec {
+
+    /**
+     * Json deserializer for the primitive type.
+     */
+    private final ObjectReader reader;
+
+    /**
+     * Json serializer for the primitive's wrapper type.
+     */
+    private final ObjectWriter writer;
+
+    /**
+     * Value when there is no content.
+     */
+    private final Object defaultValue;
+
+    private PrimitiveCodec(ObjectReader reader, ObjectWriter writer, Object defaultValue) {
+      this.reader = reader;
+      this.writer = writer;
+      this.defaultValue = defaultValue;
+    }
+
+    @Override
+    byte[] serialize(Object value) throws IOException {
+      return this.writer.writeValueAsBytes(value);
+    }
+
+    @Override
+    Object deserialize(byte[] content) throws IOException {
+      if ((content == null) || (content.length == 0)) {
+        return this.defaultValue;
+      }
+
+      return this.reader.readValue(content);
+    }
+  }
+
+  /**
+   * Codec for strings, kept unquoted.
+   */
+  private static class StringCodec extends ObjectCodec {
+
+    @Override
+    byte[] serialize(Object value) {
+      return ((String) value).getBytes();
+    }
+
+    @Override
+    Object deserialize(byte[] content) {
+      return content == null ? null : new String(content);
+    }
+  }
+
+  /**
+   * Codec for byte arrays, kept as is.
+   */
+  private static class BytesCodec extends ObjectCodec {
+
+    @Override
+    byte[] serialize(Object value) {
+      return (byte[]) value;
+    }
+
+    @Override
+    Object deserialize(byte[] content) {
+      return content;
+    }
+  }
+
+  /**
+   * Codec for cloud events, serialized as JSON and deserialized with their own parser.
+   */
+  private static class CloudEventCodec extends ObjectCodec {
+
+    /**
+     * Json serializer for cloud events.
+     */
+    private final ObjectWriter writer;
+
+    private CloudEventCodec(ObjectWriter writer) {
+      this.writer = writer;
+    }
+
+    @Override
+    byte[] serialize(Object value) throws IOException {
+      return this.writer.writeValueAsBytes(value);
+    }
+
+    @Override
+    Object deserialize(byte[] content) throws IOException {
+      if ((content == null) || (content.length == 0)) {
+        return null;
+      }
+
+      return CloudEvent.deserialize(content);
+    }
+  }
+
+  /**
+   * Codec for complex types, as JSON.
+   */
+  private static class JsonCodec extends ObjectCodec {
+
+    /**
+     * Json deserializer for the type.
+     */
+    private final ObjectReader reader;
+
+    /**
+     * Json serializer for the type.
+     */
+    private final ObjectWriter writer;
+
+    private JsonCodec(ObjectReader reader, ObjectWriter writer) {
+      this.reader = reader;
+      this.writer = writer;
+    }
+
+    @Override
+    byte[] serialize(Object value) throws IOException {
+      return this.writer.writeValueAsBytes(value);
+    }
+
+    @Override
+    Object deserialize(byte[] content) throws IOException {
+      if ((content == null) || (content.length == 0)) {
+        return null;
+      }
+
+      return this.reader.readValue(content);
+    }
+
+    @Override
+    Object deserialize(InputStream content) throws IOException {
+      return this.reader.readValue(content);
+    }
+  }
+}
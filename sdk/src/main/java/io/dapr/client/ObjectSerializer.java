@@ -7,10 +7,18 @@ package io.dapr.client;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
 import io.dapr.client.domain.CloudEvent;
+import io.dapr.utils.ByteUtils;
+import io.dapr.utils.Properties;
+import io.dapr.utils.TypeRef;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Serializes and deserializes an internal object.
@@ -24,10 +32,26 @@ public class ObjectSerializer {
       .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
       .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
+  /**
+   * Determines if a codec is resolved once per type, instead of checking the type on every call.
+   */
+  private final boolean codecCache;
+
   /**
    * Default constructor to avoid class from being instantiated outside package but still inherited.
+   * Caches a codec per type if enabled via {@link Properties#SERIALIZER_CODEC_CACHE}.
    */
   protected ObjectSerializer() {
+    this(Properties.SERIALIZER_CODEC_CACHE.get());
+  }
+
+  /**
+   * Constructor to avoid class from being instantiated outside package but still inherited.
+   *
+   * @param codecCache True to resolve a codec once per type, so each call goes straight to it.
+   */
+  protected ObjectSerializer(boolean codecCache) {
+    this.codecCache = codecCache;
   }
 
   /**
@@ -42,6 +66,10 @@ public class ObjectSerializer {
       return null;
     }
 
+    if (this.codecCache) {
+      return ObjectCodec.of(state.getClass()).serialize(state);
+    }
+
     if (state.getClass() == Void.class) {
       return null;
     }
@@ -74,6 +102,10 @@ public class ObjectSerializer {
       return null;
     }
 
+    if (this.codecCache) {
+      return (T) ObjectCodec.of(clazz).deserialize(content);
+    }
+
     if (clazz.isPrimitive()) {
       return deserializePrimitives(content, clazz);
     }
@@ -102,6 +134,153 @@ public class ObjectSerializer {
     return OBJECT_MAPPER.readValue(content, clazz);
   }
 
+  /**
+   * Deserializes the byte array into the original object, of a type that can be generic.
+   * Plain classes are deserialized as in {@link #deserialize(byte[], Class)}, generic types are parsed as JSON.
+   *
+   * @param content Content to be parsed.
+   * @param type    Type of the object being deserialized.
+   * @param <T>     Generic type of the object being deserialized.
+   * @return Object of type T.
+   * @throws IOException In case content cannot be deserialized.
+   */
+  public <T> T deserialize(byte[] content, TypeRef<T> type) throws IOException {
+    Class<T> clazz = type.asClass();
+    if (clazz != null) {
+      return this.deserialize(content, clazz);
+    }
+    if ((content == null) || (content.length == 0)) {
+      return (T) null;
+    }
+
+    return OBJECT_MAPPER.readValue(content, javaTypeOf(type));
+  }
+
+  /**
+   * Deserializes the remaining content of the buffer into the original object, without changing the buffer's position.
+   * JSON content is parsed in place, so wrapped or read-only buffers are not copied into an intermediate array.
+   *
+   * @param content Content to be parsed.
+   * @param clazz   Type of the object being deserialized.
+   * @param <T>     Generic type of the object being deserialized.
+   * @return Object of type T.
+   * @throws IOException In case content cannot be deserialized.
+   */
+  public <T> T deserializeFrom(ByteBuffer content, Class<T> clazz) throws IOException {
+    if ((content == null) || (clazz == null) || clazz.isPrimitive()
+        || (clazz == Void.class) || (clazz == String.class) || (clazz == byte[].class) || (clazz == CloudEvent.class)) {
+      // These types are handled on the raw bytes.
+      return deserialize(ByteUtils.toByteArray(content), clazz);
+    }
+
+    if (!content.hasRemaining()) {
+      return (T) null;
+    }
+
+    if (content.hasArray()) {
+      return OBJECT_MAPPER.readValue(
+          content.array(), content.arrayOffset() + content.position(), content.remaining(), clazz);
+    }
+
+    return OBJECT_MAPPER.readValue(new ByteBufferBackedInputStream(content.duplicate()), clazz);
+  }
+
+  /**
+   * Deserializes the content of the stream into the original object.
+   * JSON content is parsed straight from the stream, so it is never read into an intermediate array.
+   *
+   * @param content Content to be parsed.
+   * @param clazz   Type of the object being deserialized.
+   * @param <T>     Generic type of the object being deserialized.
+   * @return Object of type T.
+   * @throws IOException In case content cannot be read or deserialized.
+   */
+  public <T> T deserializeFrom(InputStream content, Class<T> clazz) throws IOException {
+    if ((content == null) || (clazz == null) || clazz.isPrimitive()
+        || (clazz == Void.class) || (clazz == String.class) || (clazz == byte[].class) || (clazz == CloudEvent.class)) {
+      // These types are handled on the raw bytes.
+      return deserialize(ByteUtils.toByteArray(content), clazz);
+    }
+
+    // Empty content has no value, while Jackson fails on it: peek at the first byte to tell.
+    PushbackInputStream input = new PushbackInputStream(content, 1);
+    int first = input.read();
+    if (first < 0) {
+      return (T) null;
+    }
+    input.unread(first);
+
+    if (this.codecCache) {
+      return (T) ObjectCodec.of(clazz).deserialize(input);
+    }
+
+    return OBJECT_MAPPER.readValue(input, clazz);
+  }
+
+  /**
+   * Deserializes the remaining content of the buffer into the original object, of a type that can be generic, without
+   * changing the buffer's position.
+   *
+   * @param content Content to be parsed.
+   * @param type    Type of the object being deserialized.
+   * @param <T>     Generic type of the object being deserialized.
+   * @return Object of type T.
+   * @throws IOException In case content cannot be deserialized.
+   */
+  public <T> T deserializeFrom(ByteBuffer content, TypeRef<T> type) throws IOException {
+    Class<T> clazz = type.asClass();
+    if (clazz != null) {
+      return this.deserializeFrom(content, clazz);
+    }
+    if ((content == null) || !content.hasRemaining()) {
+      return (T) null;
+    }
+
+    if (content.hasArray()) {
+      return OBJECT_MAPPER.readValue(
+          content.array(), content.arrayOffset() + content.position(), content.remaining(), javaTypeOf(type));
+    }
+
+    return OBJECT_MAPPER.readValue(new ByteBufferBackedInputStream(content.duplicate()), javaTypeOf(type));
+  }
+
+  /**
+   * Deserializes the content of the stream into the original object, of a type that can be generic.
+   *
+   * @param content Content to be parsed.
+   * @param type    Type of the object being deserialized.
+   * @param <T>     Generic type of the object being deserialized.
+   * @return Object of type T.
+   * @throws IOException In case content cannot be read or deserialized.
+   */
+  public <T> T deserializeFrom(InputStream content, TypeRef<T> type) throws IOException {
+    Class<T> clazz = type.asClass();
+    if (clazz != null) {
+      return this.deserializeFrom(content, clazz);
+    }
+    if (content == null) {
+      return (T) null;
+    }
+
+    PushbackInputStream input = new PushbackInputStream(content, 1);
+    int first = input.read();
+    if (first < 0) {
+      return (T) null;
+    }
+    input.unread(first);
+    return OBJECT_MAPPER.readValue(input, javaTypeOf(type));
+  }
+
+  /**
+   * Resolves the Jackson type for a generic type, through the type factory's bounded cache.
+   *
+   * @param type Generic type.
+   * @return Jackson type.
+   */
+  private static JavaType javaTypeOf(TypeRef<?> type) {
+    return OBJECT_MAPPER.getTypeFactory().constructType(type.getType());
+  }
+
   /**
    * Parses a given String to the corresponding object defined by class.
    *
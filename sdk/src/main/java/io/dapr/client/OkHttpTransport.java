@@ -0,0 +1,423 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.ResponseBody;
+import okio.BufferedSink;
+import okio.BufferedSource;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Transport to Dapr based on OkHttp, used by default.
+ */
+class OkHttpTransport implements DaprTransport {
+
+  /**
+   * Defines the standard application/json type for HTTP calls in Dapr.
+   */
+  private static final MediaType MEDIA_TYPE_APPLICATION_JSON = MediaType.get(DaprHttp.CONTENT_TYPE_APPLICATION_JSON);
+
+  /**
+   * Shared object representing an empty request body in JSON.
+   */
+  private static final RequestBody REQUEST_BODY_EMPTY_JSON =
+      RequestBody.Companion.create("", MEDIA_TYPE_APPLICATION_JSON);
+
+  /**
+   * Empty input or output.
+   */
+  private static final byte[] EMPTY_BYTES = new byte[0];
+
+  /**
+   * Size of each chunk read from a streamed response body.
+   */
+  private static final int STREAM_CHUNK_SIZE = 8192;
+
+  /**
+   * Number of buffers requested ahead from a streamed payload.
+   */
+  private static final int STREAM_PREFETCH = 4;
+
+  /**
+   * Http client used for all API calls.
+   */
+  private final OkHttpClient httpClient;
+
+  /**
+   * Creates a new instance of {@link OkHttpTransport}.
+   *
+   * @param httpClient OkHttp client used for all API calls in this new instance.
+   */
+  OkHttpTransport(OkHttpClient httpClient) {
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<DaprHttp.Response> send(String method, String url, byte[] content, Map<String, String> headers) {
+    return Mono.create(sink -> {
+      Request request;
+      try {
+        request = this.buildRequest(method, url, content, headers);
+      } catch (Exception e) {
+        sink.error(e);
+        return;
+      }
+
+      // Call is enqueued in OkHttp's dispatcher, so the subscribing thread is never blocked waiting for Dapr.
+      Call call = this.httpClient.newCall(request);
+      sink.onCancel(call::cancel);
+      call.enqueue(new ResponseCallback(sink));
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> Mono<T> send(
+      String method, String url, byte[] content, Map<String, String> headers, DaprHttp.ResponseReader<T> reader) {
+    return Mono.create(sink -> {
+      Request request;
+      try {
+        request = this.buildRequest(method, url, content, headers);
+      } catch (Exception e) {
+        sink.error(e);
+        return;
+      }
+
+      Call call = this.httpClient.newCall(request);
+      sink.onCancel(call::cancel);
+      call.enqueue(new ReadingCallback<>(sink, reader));
+    });
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<ByteBuffer> stream(
+      String method,
+      String url,
+      Flux<ByteBuffer> content,
+      Map<String, String> headers,
+      Function<DaprHttp.StreamingResponse, Publisher<ByteBuffer>> handler) {
+    return Mono.<okhttp3.Response>create(sink -> {
+      Request request;
+      try {
+        request = this.buildRequest(method, url, headers,
+            mediaType -> content == null ? emptyBody(mediaType) : new StreamingRequestBody(content, mediaType));
+      } catch (Exception e) {
+        sink.error(e);
+        return;
+      }
+
+      Call call = this.httpClient.newCall(request);
+      sink.onCancel(call::cancel);
+      call.enqueue(new Callback() {
+        @Override
+        public void onFailure(Call call, IOException e) {
+          sink.error(e);
+        }
+
+        @Override
+        public void onResponse(Call call, okhttp3.Response response) {
+          if (call.isCanceled()) {
+            response.close();
+            return;
+          }
+          sink.success(response);
+        }
+      });
+    }).flatMapMany(response -> Flux.using(
+        () -> response,
+        r -> handler.apply(new DaprHttp.StreamingResponse(readBody(r.body()), toMap(r.headers()), r.code())),
+        okhttp3.Response::close));
+  }
+
+  /**
+   * Builds the HTTP request to be sent to Dapr.
+   *
+   * @param method  HTTP method.
+   * @param url     Full URL.
+   * @param content payload to be posted.
+   * @param headers HTTP headers.
+   * @return Request to be sent.
+   */
+  private Request buildRequest(String method, String url, byte[] content, Map<String, String> headers) {
+    return this.buildRequest(method, url, headers,
+        mediaType -> content == null ? emptyBody(mediaType) : RequestBody.Companion.create(content, mediaType));
+  }
+
+  /**
+   * Builds the HTTP request to be sent to Dapr.
+   *
+   * @param method  HTTP method.
+   * @param url     Full URL.
+   * @param headers HTTP headers.
+   * @param body    Creates the payload to be posted, given its media type.
+   * @return Request to be sent.
+   */
+  private Request buildRequest(
+      String method, String url, Map<String, String> headers, Function<MediaType, RequestBody> body) {
+    Request.Builder requestBuilder = new Request.Builder().url(url);
+    if (DaprHttp.HttpMethods.GET.name().equals(method)) {
+      requestBuilder.get();
+    } else if (DaprHttp.HttpMethods.DELETE.name().equals(method)) {
+      requestBuilder.delete();
+    } else {
+      String contentType = headers != null ? headers.get(DaprHttp.HEADER_CONTENT_TYPE) : null;
+      MediaType mediaType = contentType == null ? MEDIA_TYPE_APPLICATION_JSON : MediaType.get(contentType);
+      requestBuilder.method(method, body.apply(mediaType));
+    }
+    if (headers != null) {
+      headers.forEach(requestBuilder::addHeader);
+    }
+
+    return requestBuilder.build();
+  }
+
+  /**
+   * Returns an empty payload of the given media type.
+   *
+   * @param mediaType Media type of the payload.
+   * @return Empty payload.
+   */
+  private static RequestBody emptyBody(MediaType mediaType) {
+    return mediaType.equals(MEDIA_TYPE_APPLICATION_JSON)
+        ? REQUEST_BODY_EMPTY_JSON
+        : RequestBody.Companion.create(EMPTY_BYTES, mediaType);
+  }
+
+  /**
+   * Reads a response body in chunks, as they are requested.
+   * Reads block, so they happen in the bounded elastic scheduler instead of the requesting thread.
+   *
+   * @param body Response body.
+   * @return Chunks of the response body.
+   */
+  private static Flux<ByteBuffer> readBody(ResponseBody body) {
+    if (body == null) {
+      return Flux.empty();
+    }
+
+    BufferedSource source = body.source();
+    return Flux.<ByteBuffer>generate(sink -> {
+      try {
+        byte[] chunk = new byte[STREAM_CHUNK_SIZE];
+        int read = source.read(chunk);
+        if (read < 0) {
+          sink.complete();
+        } else {
+          sink.next(ByteBuffer.wrap(chunk, 0, read));
+        }
+      } catch (IOException e) {
+        sink.error(e);
+      }
+    }).subscribeOn(Schedulers.boundedElastic());
+  }
+
+  /**
+   * Exposes OkHttp's headers as a map, without copying them unless iterated.
+   *
+   * @param headers Headers of a response.
+   * @return Map view of the headers.
+   */
+  private static Map<String, String> toMap(Headers headers) {
+    return new LazyHeaders(headers::get, () -> {
+      Map<String, String> map = new HashMap<>();
+      headers.forEach(pair -> map.put(pair.getFirst(), pair.getSecond()));
+      return map;
+    });
+  }
+
+  /**
+   * Completes a Mono's sink once OkHttp delivers the response for an enqueued call.
+   */
+  private static class ResponseCallback implements Callback {
+
+    /**
+     * Sink for the Mono waiting on this call.
+     */
+    private final MonoSink<DaprHttp.Response> sink;
+
+    /**
+     * Creates a new callback for the given sink.
+     *
+     * @param sink Sink for the Mono waiting on this call.
+     */
+    private ResponseCallback(MonoSink<DaprHttp.Response> sink) {
+      this.sink = sink;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onFailure(Call call, IOException e) {
+      sink.error(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onResponse(Call call, okhttp3.Response response) {
+      try (okhttp3.Response r = response) {
+        ResponseBody body = r.body();
+        // Nothing to read for empty responses (e.g. 204 on deletes), so they all share the same empty array.
+        byte[] result = (body == null) || (body.contentLength() == 0) ? EMPTY_BYTES : body.bytes();
+        sink.success(new DaprHttp.Response(result, toMap(r.headers()), r.code()));
+      } catch (Exception e) {
+        sink.error(e);
+      }
+    }
+  }
+
+  /**
+   * Completes a Mono's sink with the value read from the response OkHttp delivers for an enqueued call.
+   * The body is read from the connection in OkHttp's dispatcher thread, where blocking is expected.
+   *
+   * @param <T> Type of the value read.
+   */
+  private static class ReadingCallback<T> implements Callback {
+
+    /**
+     * Sink for the Mono waiting on this call.
+     */
+    private final MonoSink<T> sink;
+
+    /**
+     * Reads the response.
+     */
+    private final DaprHttp.ResponseReader<T> reader;
+
+    /**
+     * Creates a new callback for the given sink.
+     *
+     * @param sink   Sink for the Mono waiting on this call.
+     * @param reader Reads the response.
+     */
+    private ReadingCallback(MonoSink<T> sink, DaprHttp.ResponseReader<T> reader) {
+      this.sink = sink;
+      this.reader = reader;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onFailure(Call call, IOException e) {
+      sink.error(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void onResponse(Call call, okhttp3.Response response) {
+      try (okhttp3.Response r = response) {
+        ResponseBody body = r.body();
+        InputStream input = body == null ? new ByteArrayInputStream(EMPTY_BYTES) : body.byteStream();
+        sink.success(this.reader.read(r.code(), toMap(r.headers()), input));
+      } catch (Exception e) {
+        sink.error(e);
+      }
+    }
+  }
+
+  /**
+   * Request body written from a stream of buffers, only as fast as it is sent to Dapr.
+   */
+  private static class StreamingRequestBody extends RequestBody {
+
+    /**
+     * Payload to be sent.
+     */
+    private final Flux<ByteBuffer> content;
+
+    /**
+     * Media type of the payload.
+     */
+    private final MediaType mediaType;
+
+    /**
+     * Creates a new request body for the given stream.
+     *
+     * @param content   Payload to be sent.
+     * @param mediaType Media type of the payload.
+     */
+    private StreamingRequestBody(Flux<ByteBuffer> content, MediaType mediaType) {
+      this.content = content;
+      this.mediaType = mediaType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public MediaType contentType() {
+      return this.mediaType;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long contentLength() {
+      return -1;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isOneShot() {
+      return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void writeTo(BufferedSink sink) throws IOException {
+      // OkHttp writes request bodies from its own threads, where blocking is expected. Closing the stream cancels the
+      // subscription if writing fails midway.
+      try (Stream<ByteBuffer> buffers = this.content.toStream(STREAM_PREFETCH)) {
+        Iterator<ByteBuffer> iterator = buffers.iterator();
+        while (iterator.hasNext()) {
+          sink.write(iterator.next().duplicate());
+        }
+      } catch (RuntimeException e) {
+        // Errors other than IOException would escape OkHttp's dispatcher instead of failing the call.
+        throw new IOException(e);
+      }
+    }
+  }
+}
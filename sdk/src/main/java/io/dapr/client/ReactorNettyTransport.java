@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaders;
+import io.netty.handler.codec.http.HttpMethod;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Transport to Dapr based on Reactor Netty, so calls stay on Netty's event loops end to end.
+ * Requires io.projectreactor.netty:reactor-netty in the classpath.
+ */
+public class ReactorNettyTransport implements DaprTransport {
+
+  /**
+   * Empty input or output.
+   */
+  private static final byte[] EMPTY_BYTES = new byte[0];
+
+  /**
+   * Http client used for all API calls.
+   */
+  private final HttpClient httpClient;
+
+  /**
+   * Creates a new transport on Reactor Netty's default, shared, event loops and connection pool.
+   */
+  public ReactorNettyTransport() {
+    this(HttpClient.create());
+  }
+
+  /**
+   * Creates a new transport using the given client, so its event loops and connection pool can be shared with
+   * the rest of the application.
+   *
+   * @param httpClient Reactor Netty client used for all API calls.
+   */
+  public ReactorNettyTransport(HttpClient httpClient) {
+    if (httpClient == null) {
+      throw new IllegalArgumentException("Http client is required.");
+    }
+
+    this.httpClient = httpClient;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Mono<DaprHttp.Response> send(String method, String url, byte[] content, Map<String, String> headers) {
+    byte[] payload = content == null ? EMPTY_BYTES : content;
+    return this.prepare(method, url, headers, Mono.fromSupplier(() -> Unpooled.wrappedBuffer(payload)))
+        .responseSingle((response, body) -> body.asByteArray()
+            .defaultIfEmpty(EMPTY_BYTES)
+            .map(bytes -> new DaprHttp.Response(bytes, toMap(response), response.status().code())));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Flux<ByteBuffer> stream(
+      String method,
+      String url,
+      Flux<ByteBuffer> content,
+      Map<String, String> headers,
+      Function<DaprHttp.StreamingResponse, Publisher<ByteBuffer>> handler) {
+    Publisher<ByteBuf> payload = content == null
+        ? Mono.fromSupplier(() -> Unpooled.wrappedBuffer(EMPTY_BYTES))
+        : content.map(Unpooled::wrappedBuffer);
+    // Netty releases each chunk once it is handled, so chunks are copied before leaving this scope.
+    return this.prepare(method, url, headers, payload)
+        .response((response, body) -> handler.apply(new DaprHttp.StreamingResponse(
+            body.asByteArray().map(ByteBuffer::wrap), toMap(response), response.status().code())));
+  }
+
+  /**
+   * Prepares a request, with a payload unless the method does not take one.
+   *
+   * @param method  HTTP method.
+   * @param url     Full URL, already encoded.
+   * @param headers HTTP headers.
+   * @param payload Payload to be sent, a new buffer per subscription as Netty releases them once written.
+   * @return Request ready to receive its response.
+   */
+  private HttpClient.ResponseReceiver<?> prepare(
+      String method, String url, Map<String, String> headers, Publisher<ByteBuf> payload) {
+    HttpClient.RequestSender sender = this.httpClient
+        .headers(httpHeaders -> {
+          if (headers != null) {
+            headers.forEach(httpHeaders::set);
+          }
+        })
+        .request(HttpMethod.valueOf(method))
+        .uri(url);
+    if (DaprHttp.HttpMethods.GET.name().equals(method) || DaprHttp.HttpMethods.DELETE.name().equals(method)) {
+      return sender;
+    }
+
+    return sender.send(payload);
+  }
+
+  /**
+   * Exposes the response's headers as a map, without copying them unless iterated.
+   *
+   * @param response Response from Dapr.
+   * @return Map view of the response's headers.
+   */
+  private static Map<String, String> toMap(HttpClientResponse response) {
+    HttpHeaders httpHeaders = response.responseHeaders();
+    return new LazyHeaders(httpHeaders::get, () -> {
+      Map<String, String> headers = new HashMap<>();
+      httpHeaders.forEach(header -> headers.put(header.getKey(), header.getValue()));
+      return headers;
+    });
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.utils.Constants;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Read-only headers of a request to Dapr made only of its request id and a shared, immutable set of default headers.
+ * Transports go through {@link #get(Object)} and {@link #forEach(BiConsumer)}, which copy nothing; a full copy is only
+ * made if the map is iterated otherwise.
+ */
+final class RequestHeaders extends AbstractMap<String, String> {
+
+  /**
+   * Id of the request.
+   */
+  private final String requestId;
+
+  /**
+   * Headers sent with every request of its kind, never modified.
+   */
+  private final Map<String, String> defaults;
+
+  /**
+   * All headers, copied on first iteration.
+   */
+  private Set<Entry<String, String>> entries;
+
+  /**
+   * Creates the headers of a request.
+   *
+   * @param requestId Id of the request.
+   * @param defaults  Headers sent with every request of its kind, never modified.
+   */
+  RequestHeaders(String requestId, Map<String, String> defaults) {
+    this.requestId = requestId;
+    this.defaults = defaults;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String get(Object key) {
+    return Constants.HEADER_DAPR_REQUEST_ID.equals(key) ? this.requestId : this.defaults.get(key);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean containsKey(Object key) {
+    return this.get(key) != null;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int size() {
+    return this.defaults.size() + 1;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void forEach(BiConsumer<? super String, ? super String> action) {
+    action.accept(Constants.HEADER_DAPR_REQUEST_ID, this.requestId);
+    this.defaults.forEach(action);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    if (this.entries == null) {
+      Map<String, String> copy = new LinkedHashMap<>();
+      this.forEach(copy::put);
+      this.entries = Collections.unmodifiableMap(copy).entrySet();
+    }
+    return this.entries;
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import jnr.unixsocket.UnixSocket;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+
+import javax.net.SocketFactory;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+
+/**
+ * Creates sockets connected to a Unix domain socket, regardless of the address being requested.
+ * Requires jnr-unixsocket in the classpath.
+ */
+class UnixDomainSocketFactory extends SocketFactory {
+
+  /**
+   * Path to the Unix domain socket.
+   */
+  private final File path;
+
+  /**
+   * Instantiates a new factory.
+   *
+   * @param path Path to the Unix domain socket.
+   */
+  UnixDomainSocketFactory(File path) {
+    this.path = path;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Socket createSocket() throws IOException {
+    UnixSocketChannel channel = UnixSocketChannel.open();
+    return new UnixSocket(channel) {
+
+      /**
+       * Address being requested, reported back as the remote address.
+       */
+      private InetSocketAddress inetSocketAddress;
+
+      @Override
+      public void connect(SocketAddress endpoint) throws IOException {
+        this.connect(endpoint, 0);
+      }
+
+      @Override
+      public void connect(SocketAddress endpoint, int timeout) throws IOException {
+        this.inetSocketAddress = (InetSocketAddress) endpoint;
+        super.connect(new UnixSocketAddress(path), timeout);
+      }
+
+      @Override
+      public InetAddress getInetAddress() {
+        return this.inetSocketAddress.getAddress();
+      }
+    };
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Socket createSocket(String host, int port) throws IOException {
+    Socket socket = this.createSocket();
+    socket.connect(new InetSocketAddress(host, port));
+    return socket;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+    return this.createSocket(host, port);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Socket createSocket(InetAddress host, int port) throws IOException {
+    Socket socket = this.createSocket();
+    socket.connect(new InetSocketAddress(host, port));
+    return socket;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort)
+      throws IOException {
+    return this.createSocket(address, port);
+  }
+}
@@ -24,13 +24,18 @@ import java.time.Duration;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Optional;
 
 public class StateOptions {
   private final Consistency consistency;
   private final Concurrency concurrency;
   private final RetryPolicy retryPolicy;
 
+  /**
+   * Options as URL parameters, built on first use.
+   */
+  @JsonIgnore
+  private volatile Map<String, String> stateOptionsAsMap;
+
   /**
    * Represents options for a Dapr state API call.
    * @param consistency The consistency mode.
@@ -61,28 +66,39 @@ public class StateOptions {
    */
   @JsonIgnore
   public Map<String, String> getStateOptionsAsMap() {
-    Map<String, String> mapOptions = null;
-    if (this != null) {
-      mapOptions = new HashMap<>();
-      if (this.getConsistency() != null) {
-        mapOptions.put("consistency", this.getConsistency().getValue());
+    // Options are immutable, so the map is built once. A race only builds an equal map twice.
+    Map<String, String> mapOptions = this.stateOptionsAsMap;
+    if (mapOptions == null) {
+      mapOptions = this.buildStateOptionsAsMap();
+      this.stateOptionsAsMap = mapOptions;
+    }
+    return mapOptions;
+  }
+
+  /**
+   * Builds the map of option name to value.
+   * @return An unmodifiable map of state options.
+   */
+  private Map<String, String> buildStateOptionsAsMap() {
+    Map<String, String> mapOptions = new HashMap<>();
+    if (this.getConsistency() != null) {
+      mapOptions.put("consistency", this.getConsistency().getValue());
+    }
+    if (this.getConcurrency() != null) {
+      mapOptions.put("concurrency", this.getConcurrency().getValue());
+    }
+    if (this.getRetryPolicy() != null) {
+      if (this.getRetryPolicy().getInterval() != null) {
+        mapOptions.put("retryInterval", String.valueOf(this.getRetryPolicy().getInterval().toMillis()));
       }
-      if (this.getConcurrency() != null) {
-        mapOptions.put("concurrency", this.getConcurrency().getValue());
+      if (this.getRetryPolicy().getThreshold() != null) {
+        mapOptions.put("retryThreshold", this.getRetryPolicy().getThreshold().toString());
       }
-      if (this.getRetryPolicy() != null) {
-        if (this.getRetryPolicy().getInterval() != null) {
-          mapOptions.put("retryInterval", String.valueOf(this.getRetryPolicy().getInterval().toMillis()));
-        }
-        if (this.getRetryPolicy().getThreshold() != null) {
-          mapOptions.put("retryThreshold", this.getRetryPolicy().getThreshold().toString());
-        }
-        if (this.getRetryPolicy().getPattern() != null) {
-          mapOptions.put("retryPattern", this.getRetryPolicy().getPattern().getValue());
-        }
+      if (this.getRetryPolicy().getPattern() != null) {
+        mapOptions.put("retryPattern", this.getRetryPolicy().getPattern().getValue());
       }
     }
-    return Collections.unmodifiableMap(Optional.ofNullable(mapOptions).orElse(Collections.EMPTY_MAP));
+    return Collections.unmodifiableMap(mapOptions);
   }
 
   public enum Consistency {
@@ -5,7 +5,14 @@
 
 package io.dapr.serializer;
 
+import io.dapr.utils.ByteUtils;
+import io.dapr.utils.TypeRef;
+
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 
 /**
  * Serializes and deserializes application's objects.
@@ -31,4 +38,102 @@ public interface DaprObjectSerializer {
    * @throws IOException If cannot deserialize object.
    */
   <T> T deserialize(byte[] data, Class<T> clazz) throws IOException;
+
+  /**
+   * Deserializes the given content into a object of a type that can be generic, e.g. {@code List<Order>}.
+   * By default, generic types are deserialized as their raw class, see {@link #deserialize(byte[], Class)};
+   * implementations can override this to honor type arguments.
+   *
+   * @param data Data to be deserialized.
+   * @param type Type of object to be deserialized.
+   * @param <T> Type of object to be deserialized.
+   * @return Deserialized object.
+   * @throws IOException If cannot deserialize object.
+   */
+  default <T> T deserialize(byte[] data, TypeRef<T> type) throws IOException {
+    return (T) deserialize(data, type.getRawClass());
+  }
+
+  /**
+   * Deserializes the remaining content of the given buffer into a object, without changing the buffer's position.
+   * By default, the remaining content is copied into an array; implementations can override this to read in place.
+   *
+   * @param data Data to be deserialized.
+   * @param clazz Class of object to be deserialized.
+   * @param <T> Type of object to be deserialized.
+   * @return Deserialized object.
+   * @throws IOException If cannot deserialize object.
+   */
+  default <T> T deserializeFrom(ByteBuffer data, Class<T> clazz) throws IOException {
+    return deserialize(ByteUtils.toByteArray(data), clazz);
+  }
+
+  /**
+   * Deserializes the content of the given stream into a object. Closing the stream is up to the caller.
+   * By default, the content is read into an array; implementations can override this to parse straight from the
+   * stream, so large payloads are never held as a whole.
+   *
+   * @param data Data to be deserialized.
+   * @param clazz Class of object to be deserialized.
+   * @param <T> Type of object to be deserialized.
+   * @return Deserialized object.
+   * @throws IOException If cannot read or deserialize object.
+   */
+  default <T> T deserializeFrom(InputStream data, Class<T> clazz) throws IOException {
+    return deserialize(ByteUtils.toByteArray(data), clazz);
+  }
+
+  /**
+   * Deserializes the content of the given channel into a object. Closing the channel is up to the caller.
+   * By default, the channel is read as a stream, see {@link #deserializeFrom(InputStream, Class)}.
+   *
+   * @param data Data to be deserialized.
+   * @param clazz Class of object to be deserialized.
+   * @param <T> Type of object to be deserialized.
+   * @return Deserialized object.
+   * @throws IOException If cannot read or deserialize object.
+   */
+  default <T> T deserializeFrom(ReadableByteChannel data, Class<T> clazz) throws IOException {
+    return deserializeFrom(data == null ? null : Channels.newInputStream(data), clazz);
+  }
+
+  /**
+   * Deserializes the remaining content of the given buffer into a object of a type that can be generic, without
+   * changing the buffer's position.
+   * By default, plain classes go to {@link #deserializeFrom(ByteBuffer, Class)}, and generic types are copied into
+   * an array first.
+   *
+   * @param data Data to be deserialized.
+   * @param type Type of object to be deserialized.
+   * @param <T> Type of object to be deserialized.
+   * @return Deserialized object.
+   * @throws IOException If cannot deserialize object.
+   */
+  default <T> T deserializeFrom(ByteBuffer data, TypeRef<T> type) throws IOException {
+    Class<T> clazz = type.asClass();
+    if (clazz != null) {
+      return deserializeFrom(data, clazz);
+    }
+    return deserialize(ByteUtils.toByteArray(data), type);
+  }
+
+  /**
+   * Deserializes the content of the given stream into a object of a type that can be generic. Closing the stream is
+   * up to the caller.
+   * By default, plain classes go to {@link #deserializeFrom(InputStream, Class)}, and generic types are read into an
+   * array first.
+   *
+   * @param data Data to be deserialized.
+   * @param type Type of object to be deserialized.
+   * @param <T> Type of object to be deserialized.
+   * @return Deserialized object.
+   * @throws IOException If cannot read or deserialize object.
+   */
+  default <T> T deserializeFrom(InputStream data, TypeRef<T> type) throws IOException {
+    Class<T> clazz = type.asClass();
+    if (clazz != null) {
+      return deserializeFrom(data, clazz);
+    }
+    return deserialize(ByteUtils.toByteArray(data), type);
+  }
 }
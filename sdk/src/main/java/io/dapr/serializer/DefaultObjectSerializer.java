@@ -6,8 +6,11 @@
 package io.dapr.serializer;
 
 import io.dapr.client.ObjectSerializer;
+import io.dapr.utils.TypeRef;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
 
 /**
  * Default serializer/deserializer for request/response objects and for state objects too.
@@ -15,6 +18,24 @@ import java.io.IOException;
 @StringContentType
 public class DefaultObjectSerializer extends ObjectSerializer implements DaprObjectSerializer {
 
+  /**
+   * Creates a serializer, caching a codec per type if enabled via
+   * {@link io.dapr.utils.Properties#SERIALIZER_CODEC_CACHE}.
+   */
+  public DefaultObjectSerializer() {
+    super();
+  }
+
+  /**
+   * Creates a serializer.
+   *
+   * @param codecCache True to resolve a codec once per type, so each call skips the type checks and Jackson's root
+   *                   type lookup.
+   */
+  public DefaultObjectSerializer(boolean codecCache) {
+    super(codecCache);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -30,4 +51,44 @@ public class DefaultObjectSerializer extends ObjectSerializer implements DaprObj
   public <T> T deserialize(byte[] data, Class<T> clazz) throws IOException {
     return super.deserialize(data, clazz);
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserialize(byte[] data, TypeRef<T> type) throws IOException {
+    return super.deserialize(data, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserializeFrom(ByteBuffer data, Class<T> clazz) throws IOException {
+    return super.deserializeFrom(data, clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserializeFrom(InputStream data, Class<T> clazz) throws IOException {
+    return super.deserializeFrom(data, clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserializeFrom(ByteBuffer data, TypeRef<T> type) throws IOException {
+    return super.deserializeFrom(data, type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserializeFrom(InputStream data, TypeRef<T> type) throws IOException {
+    return super.deserializeFrom(data, type);
+  }
 }
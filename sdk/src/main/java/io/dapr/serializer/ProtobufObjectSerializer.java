@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.serializer;
+
+import com.google.protobuf.Message;
+import com.google.protobuf.Parser;
+import io.dapr.utils.TypeRef;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Serializer for protobuf messages, in their binary encoding.
+ * Messages are parsed through their generated parser, resolved once per class. Objects that are not messages go
+ * through a fallback serializer. With the GRPC client, messages are packed into the request's {@code Any} as is, with
+ * their type URL, instead of being serialized first.
+ */
+public class ProtobufObjectSerializer implements DaprObjectSerializer {
+
+  /**
+   * Parsers by message class.
+   */
+  private static final ClassValue<Parser<?>> PARSERS = new ClassValue<Parser<?>>() {
+    @Override
+    protected Parser<?> computeValue(Class<?> type) {
+      try {
+        return (Parser<?>) type.getMethod("parser").invoke(null);
+      } catch (ReflectiveOperationException e) {
+        throw new IllegalArgumentException("Cannot find the parser of " + type.getName(), e);
+      }
+    }
+  };
+
+  /**
+   * Serializer for objects that are not messages.
+   */
+  private final DaprObjectSerializer fallbackSerializer;
+
+  /**
+   * Creates a serializer for protobuf messages, using {@link DefaultObjectSerializer} for other objects.
+   */
+  public ProtobufObjectSerializer() {
+    this(new DefaultObjectSerializer());
+  }
+
+  /**
+   * Creates a serializer for protobuf messages.
+   *
+   * @param fallbackSerializer Serializer for objects that are not messages.
+   */
+  public ProtobufObjectSerializer(DaprObjectSerializer fallbackSerializer) {
+    if (fallbackSerializer == null) {
+      throw new IllegalArgumentException("Fallback serializer is required.");
+    }
+
+    this.fallbackSerializer = fallbackSerializer;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public byte[] serialize(Object o) throws IOException {
+    if (o instanceof Message) {
+      return ((Message) o).toByteArray();
+    }
+
+    return this.fallbackSerializer.serialize(o);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserialize(byte[] data, Class<T> clazz) throws IOException {
+    if (!isMessage(clazz)) {
+      return this.fallbackSerializer.deserialize(data, clazz);
+    }
+    if (data == null) {
+      return null;
+    }
+
+    // Empty content is the message's default instance, as that is how it serializes.
+    return clazz.cast(PARSERS.get(clazz).parseFrom(data));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserialize(byte[] data, TypeRef<T> type) throws IOException {
+    Class<T> clazz = type.asClass();
+    if (clazz == null) {
+      // Messages are never generic.
+      return this.fallbackSerializer.deserialize(data, type);
+    }
+
+    return this.deserialize(data, clazz);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserializeFrom(ByteBuffer data, Class<T> clazz) throws IOException {
+    if (!isMessage(clazz)) {
+      return this.fallbackSerializer.deserializeFrom(data, clazz);
+    }
+    if (data == null) {
+      return null;
+    }
+
+    // Parsed in place, on a duplicate so the buffer's position is kept.
+    return clazz.cast(PARSERS.get(clazz).parseFrom(data.duplicate()));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <T> T deserializeFrom(InputStream data, Class<T> clazz) throws IOException {
+    if (!isMessage(clazz)) {
+      return this.fallbackSerializer.deserializeFrom(data, clazz);
+    }
+    if (data == null) {
+      return null;
+    }
+
+    // Parsed straight from the stream, an empty one being the message's default instance.
+    return clazz.cast(PARSERS.get(clazz).parseFrom(data));
+  }
+
+  /**
+   * Checks if a class is a protobuf message.
+   *
+   * @param clazz Class to be checked.
+   * @return True if instances of the class are messages.
+   */
+  private static boolean isMessage(Class<?> clazz) {
+    return (clazz != null) && Message.class.isAssignableFrom(clazz) && (clazz != Message.class);
+  }
+}
@@ -14,6 +14,7 @@ import java.lang.annotation.Target;
 /**
  * Flags a serializer indicating that byte[] contains String for both input and output.
  * This information can be used to at the state store, for example, to save serialized data as plain text.
+ * Serialized data that is a single JSON value is saved as that value; any other text is saved as a JSON string.
  */
 
 @Documented
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+/**
+ * Copies content into arrays, for serializers that can only parse arrays.
+ */
+public final class ByteUtils {
+
+  /**
+   * Size of each read from a stream.
+   */
+  private static final int CHUNK_SIZE = 8192;
+
+  /**
+   * Utility class.
+   */
+  private ByteUtils() {
+  }
+
+  /**
+   * Reads the content of the stream up to its end into a new array. Closing the stream is up to the caller.
+   *
+   * @param content Stream to be read, or null.
+   * @return Content of the stream, or null.
+   * @throws IOException In case the stream cannot be read.
+   */
+  public static byte[] toByteArray(InputStream content) throws IOException {
+    if (content == null) {
+      return null;
+    }
+
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    byte[] chunk = new byte[CHUNK_SIZE];
+    int read;
+    while ((read = content.read(chunk)) >= 0) {
+      output.write(chunk, 0, read);
+    }
+    return output.toByteArray();
+  }
+
+  /**
+   * Copies the remaining content of the buffer into a new array, without changing the buffer's position.
+   *
+   * @param content Buffer to be copied, or null.
+   * @return Copy of the remaining content, or null.
+   */
+  public static byte[] toByteArray(ByteBuffer content) {
+    if (content == null) {
+      return null;
+    }
+
+    byte[] bytes = new byte[content.remaining()];
+    content.duplicate().get(bytes);
+    return bytes;
+  }
+}
@@ -28,6 +28,11 @@ public class Properties {
    */
   private static final Boolean DEFAULT_GRPC_ENABLED = false;
 
+  /**
+   * Dapr's default for caching a codec per type in serializers.
+   */
+  private static final Boolean DEFAULT_SERIALIZER_CODEC_CACHE = false;
+
   /**
    * HTTP port for Dapr after checking system property and environment variable.
    */
@@ -42,6 +47,13 @@ public class Properties {
       "dapr.grpc.port",
       "DAPR_GRPC_PORT", DEFAULT_GRPC_PORT);
 
+  /**
+   * GRPC port for Dapr set in system property or environment variable, or null if neither sets it.
+   */
+  public static final Supplier<Integer> EXPLICIT_GRPC_PORT = () -> getIntOrDefault(
+      "dapr.grpc.port",
+      "DAPR_GRPC_PORT", null);
+
   /**
    * Determines if Dapr client will use GRPC to talk to Dapr's side car.
    */
@@ -49,6 +61,13 @@ public class Properties {
       "dapr.grpc.enabled",
       "DAPR_GRPC_ENABLED", DEFAULT_GRPC_ENABLED);
 
+  /**
+   * Determines if Dapr's default serializers resolve a codec once per type, instead of on every call.
+   */
+  public static final Supplier<Boolean> SERIALIZER_CODEC_CACHE = () -> getBooleanOrDefault(
+      "dapr.serializer.codec.cache.enabled",
+      "DAPR_SERIALIZER_CODEC_CACHE_ENABLED", DEFAULT_SERIALIZER_CODEC_CACHE);
+
   /**
    * Finds an integer defined by system property first, then env variable or sticks to default.
    * @param propName     Name of the JVM's system property to override (1st).
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.utils;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+
+/**
+ * Reference to a type, generic ones included, so {@code List<Order>} or {@code Map<String, Quote>} can be
+ * deserialized in a single pass. Generic types are captured by subclassing, e.g.
+ * {@code new TypeRef<List<Order>>() {}}.
+ *
+ * @param <T> Type being referenced.
+ */
+public abstract class TypeRef<T> {
+
+  /**
+   * Type being referenced.
+   */
+  private final Type type;
+
+  /**
+   * Captures the type argument of an anonymous subclass.
+   */
+  protected TypeRef() {
+    Type superclass = this.getClass().getGenericSuperclass();
+    if (!(superclass instanceof ParameterizedType)) {
+      throw new IllegalArgumentException("TypeRef must be created with its type argument.");
+    }
+
+    this.type = ((ParameterizedType) superclass).getActualTypeArguments()[0];
+  }
+
+  /**
+   * Creates a reference to a given type.
+   *
+   * @param type Type being referenced.
+   */
+  private TypeRef(Type type) {
+    this.type = type;
+  }
+
+  /**
+   * Creates a reference to a class.
+   *
+   * @param clazz Class being referenced.
+   * @param <T>   Type being referenced.
+   * @return Reference to the class.
+   */
+  public static <T> TypeRef<T> get(Class<T> clazz) {
+    return get((Type) clazz);
+  }
+
+  /**
+   * Creates a reference to a type, such as the result of {@link java.lang.reflect.Method#getGenericReturnType()}.
+   *
+   * @param type Type being referenced.
+   * @param <T>  Type being referenced.
+   * @return Reference to the type.
+   */
+  public static <T> TypeRef<T> get(Type type) {
+    if (type == null) {
+      throw new IllegalArgumentException("Type is required.");
+    }
+
+    return new TypeRef<T>(type) {
+    };
+  }
+
+  /**
+   * Gets the type being referenced.
+   *
+   * @return Type being referenced.
+   */
+  public Type getType() {
+    return this.type;
+  }
+
+  /**
+   * Gets the type being referenced if it is a plain class, which every serializer supports.
+   *
+   * @return Class being referenced, or null for generic types.
+   */
+  public Class<T> asClass() {
+    return this.type instanceof Class ? (Class<T>) this.type : null;
+  }
+
+  /**
+   * Gets the class of the type being referenced, without its type arguments, e.g. {@code List} for
+   * {@code List<Order>}.
+   *
+   * @return Raw class of the type being referenced.
+   */
+  public Class<?> getRawClass() {
+    return rawClassOf(this.type);
+  }
+
+  /**
+   * Gets the class of a type, without its type arguments.
+   *
+   * @param type Type to be resolved.
+   * @return Raw class of the type, or Object if it cannot be told.
+   */
+  private static Class<?> rawClassOf(Type type) {
+    if (type instanceof Class) {
+      return (Class<?>) type;
+    }
+    if (type instanceof ParameterizedType) {
+      return rawClassOf(((ParameterizedType) type).getRawType());
+    }
+    if (type instanceof GenericArrayType) {
+      return Array.newInstance(rawClassOf(((GenericArrayType) type).getGenericComponentType()), 0).getClass();
+    }
+    if (type instanceof TypeVariable) {
+      return rawClassOf(((TypeVariable<?>) type).getBounds()[0]);
+    }
+    if (type instanceof WildcardType) {
+      return rawClassOf(((WildcardType) type).getUpperBounds()[0]);
+    }
+
+    return Object.class;
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof TypeRef)) {
+      return false;
+    }
+
+    return this.type.equals(((TypeRef<?>) o).type);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int hashCode() {
+    return this.type.hashCode();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return this.type.getTypeName();
+  }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Relative URL template for Dapr's APIs, compiled once from a format with {@code %s} placeholders
+ * (e.g. {@link Constants#ACTOR_METHOD_RELATIVE_URL_FORMAT}) and expanded by plain concatenation.
+ */
+public final class UrlTemplate {
+
+  /**
+   * Placeholder for a variable segment.
+   */
+  private static final String PLACEHOLDER = "%s";
+
+  /**
+   * Static parts of the template, one more than the number of placeholders.
+   */
+  private final String[] literals;
+
+  /**
+   * Sum of the length of all static parts.
+   */
+  private final int literalsLength;
+
+  /**
+   * Creates a template from its static parts.
+   *
+   * @param literals Static parts of the template.
+   */
+  private UrlTemplate(String[] literals) {
+    this.literals = literals;
+    int length = 0;
+    for (String literal : literals) {
+      length += literal.length();
+    }
+    this.literalsLength = length;
+  }
+
+  /**
+   * Compiles a format into a template.
+   *
+   * @param format Format with {@code %s} placeholders for the variable segments.
+   * @return Compiled template.
+   */
+  public static UrlTemplate compile(String format) {
+    if (format == null) {
+      throw new IllegalArgumentException("Format cannot be null.");
+    }
+
+    List<String> literals = new ArrayList<>();
+    int start = 0;
+    int index;
+    while ((index = format.indexOf(PLACEHOLDER, start)) >= 0) {
+      literals.add(format.substring(start, index));
+      start = index + PLACEHOLDER.length();
+    }
+    literals.add(format.substring(start));
+    return new UrlTemplate(literals.toArray(new String[0]));
+  }
+
+  /**
+   * Expands the template, the same as {@code String.format(format, values)} would.
+   *
+   * @param values One value per placeholder, in order.
+   * @return Relative URL.
+   */
+  public String expand(String... values) {
+    if (values.length != this.literals.length - 1) {
+      throw new IllegalArgumentException(
+          String.format("Expected %d values but got %d.", this.literals.length - 1, values.length));
+    }
+
+    int length = this.literalsLength;
+    for (String value : values) {
+      length += String.valueOf(value).length();
+    }
+
+    StringBuilder builder = new StringBuilder(length).append(this.literals[0]);
+    for (int i = 0; i < values.length; i++) {
+      builder.append(values[i]).append(this.literals[i + 1]);
+    }
+    return builder.toString();
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.StateOptions;
+import io.dapr.serializer.DefaultObjectSerializer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BatchingStateWriterTest {
+
+  private DaprClient client;
+
+  @Before
+  public void setUp() {
+    client = mock(DaprClient.class);
+    when(client.saveStates(any())).thenReturn(Mono.empty());
+  }
+
+  @Test
+  public void flushesOnMaxBatchSize() {
+    BatchingStateWriter writer = newWriter(2, Long.MAX_VALUE);
+    writer.saveState("key1", "value1").subscribe();
+    verify(client, never()).saveStates(any());
+    assertNull(writer.saveState("key2", "value2").block());
+    List<State<?>> states = captureSavedStates(1).get(0);
+    assertEquals(2, states.size());
+    assertEquals("key1", states.get(0).getKey());
+    assertEquals("key2", states.get(1).getKey());
+  }
+
+  @Test
+  public void flushesOnMaxBatchBytes() {
+    BatchingStateWriter writer = newWriter(100, 10);
+    writer.saveState("key1", "12345").subscribe();
+    verify(client, never()).saveStates(any());
+    writer.saveState("key2", "12345").subscribe();
+    assertEquals(2, captureSavedStates(1).get(0).size());
+  }
+
+  @Test
+  public void flushesAfterLinger() {
+    BatchingStateWriter writer = new BatchingStateWriter(
+        client, new DefaultObjectSerializer(), 100, Long.MAX_VALUE, Duration.ofMillis(10));
+    writer.saveState("key1", "value1").block(Duration.ofSeconds(5));
+    assertEquals(1, captureSavedStates(1).get(0).size());
+  }
+
+  @Test
+  public void collapsesWritesToSameKey() {
+    BatchingStateWriter writer = newWriter(100, Long.MAX_VALUE);
+    int[] done = new int[1];
+    writer.saveState("key1", "old").subscribe(null, null, () -> done[0]++);
+    writer.saveState("key2", "value2").subscribe(null, null, () -> done[0]++);
+    writer.saveState("key1", "new").subscribe(null, null, () -> done[0]++);
+    writer.flush();
+    List<State<?>> states = captureSavedStates(1).get(0);
+    assertEquals(2, states.size());
+    assertEquals("key1", states.get(0).getKey());
+    assertEquals("new", states.get(0).getValue());
+    assertEquals(3, done[0]);
+  }
+
+  @Test
+  public void neverMergesConditionalWrites() {
+    BatchingStateWriter writer = newWriter(100, Long.MAX_VALUE);
+    StateOptions options = new StateOptions(StateOptions.Consistency.STRONG, null, null);
+    writer.saveState("key1", "etag1", "first", null).subscribe();
+    writer.saveState("key2", "value2").subscribe();
+    writer.saveState("key1", "second").subscribe();
+    writer.saveState("key1", null, "third", options).subscribe();
+    writer.flush();
+    List<List<State<?>>> batches = captureSavedStates(3);
+    assertEquals(2, batches.get(0).size());
+    assertEquals("etag1", batches.get(0).get(0).getEtag());
+    assertEquals("second", batches.get(1).get(0).getValue());
+    assertEquals("third", batches.get(2).get(0).getValue());
+    assertEquals(options, batches.get(2).get(0).getOptions());
+  }
+
+  @Test
+  public void dropsCancelledWrites() {
+    BatchingStateWriter writer = newWriter(100, Long.MAX_VALUE);
+    Disposable cancelled = writer.saveState("key1", "value1").subscribe();
+    writer.saveState("key2", "value2").subscribe();
+    cancelled.dispose();
+    writer.flush();
+    List<State<?>> states = captureSavedStates(1).get(0);
+    assertEquals(1, states.size());
+    assertEquals("key2", states.get(0).getKey());
+  }
+
+  @Test
+  public void skipsBatchWithOnlyCancelledWrites() {
+    BatchingStateWriter writer = newWriter(100, Long.MAX_VALUE);
+    writer.saveState("key1", "value1").subscribe().dispose();
+    writer.flush();
+    verify(client, never()).saveStates(any());
+  }
+
+  @Test
+  public void failsEveryWriteInBatch() {
+    when(client.saveStates(any())).thenReturn(Mono.error(new IllegalStateException()));
+    BatchingStateWriter writer = newWriter(100, Long.MAX_VALUE);
+    Throwable[] errors = new Throwable[2];
+    writer.saveState("key1", "value1").subscribe(null, e -> errors[0] = e);
+    writer.saveState("key2", "value2").subscribe(null, e -> errors[1] = e);
+    writer.close();
+    assertTrue(errors[0] instanceof IllegalStateException);
+    assertTrue(errors[1] instanceof IllegalStateException);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullKey() {
+    newWriter(100, Long.MAX_VALUE).saveState(null, "value").block();
+  }
+
+  @Test
+  public void nextBatchStartsAfterFlush() {
+    BatchingStateWriter writer = newWriter(100, Long.MAX_VALUE);
+    writer.saveState("key1", "value1").subscribe();
+    writer.flush();
+    writer.saveState("key1", "value2").subscribe();
+    writer.flush();
+    List<List<State<?>>> batches = captureSavedStates(2);
+    assertEquals("value1", batches.get(0).get(0).getValue());
+    assertEquals("value2", batches.get(1).get(0).getValue());
+  }
+
+  private BatchingStateWriter newWriter(int maxBatchSize, long maxBatchBytes) {
+    return new BatchingStateWriter(
+        client, new DefaultObjectSerializer(), maxBatchSize, maxBatchBytes, Duration.ofHours(1), Schedulers.single());
+  }
+
+  private List<List<State<?>>> captureSavedStates(int calls) {
+    ArgumentCaptor<List<State<?>>> captor = ArgumentCaptor.forClass(List.class);
+    verify(client, times(calls)).saveStates(captor.capture());
+    return captor.getAllValues();
+  }
+}
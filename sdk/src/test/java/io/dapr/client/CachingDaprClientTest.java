@@ -0,0 +1,207 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.StateOptions;
+import io.dapr.serializer.DefaultObjectSerializer;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CachingDaprClientTest {
+
+  private static final long TTL_NANOS = TimeUnit.SECONDS.toNanos(10);
+
+  private DaprClient client;
+
+  private AtomicLong now;
+
+  private CachingDaprClient cachingClient;
+
+  @Before
+  public void setUp() {
+    client = mock(DaprClient.class);
+    now = new AtomicLong();
+    cachingClient = newCachingClient(100, Long.MAX_VALUE);
+  }
+
+  @Test
+  public void getStateIsCached() {
+    mockState("key", "value", "1");
+    assertEquals("value", cachingClient.getState("key", String.class).block().getValue());
+    assertEquals("value", cachingClient.getState("key", String.class).block().getValue());
+    verify(client, times(1)).getState(eq("key"), isNull(), isNull(), eq(String.class));
+    assertEquals(1, cachingClient.getHitCount());
+    assertEquals(1, cachingClient.getMissCount());
+  }
+
+  @Test
+  public void getStateWithOptionsIsNotCached() {
+    StateOptions options = mock(StateOptions.class);
+    when(client.getState("key", null, options, String.class))
+        .thenReturn(Mono.just(new State<>("value", "key", "1", options)));
+    cachingClient.getState("key", null, options, String.class).block();
+    cachingClient.getState("key", null, options, String.class).block();
+    verify(client, times(2)).getState("key", null, options, String.class);
+    assertEquals(0, cachingClient.getHitCount());
+  }
+
+  @Test
+  public void expiredStateWithSameEtagIsKept() {
+    mockState("key", "value", "1");
+    State<String> first = cachingClient.getState("key", String.class).block();
+    now.addAndGet(TTL_NANOS);
+    State<String> second = cachingClient.getState("key", String.class).block();
+    assertEquals(first.getValue(), second.getValue());
+    assertEquals(first.getEtag(), second.getEtag());
+    assertEquals(2, cachingClient.getMissCount());
+    // TTL was renewed.
+    cachingClient.getState("key", String.class).block();
+    assertEquals(1, cachingClient.getHitCount());
+  }
+
+  @Test
+  public void expiredStateWithNewEtagIsReplaced() {
+    mockState("key", "value", "1");
+    cachingClient.getState("key", String.class).block();
+    now.addAndGet(TTL_NANOS);
+    mockState("key", "newValue", "2");
+    assertEquals("newValue", cachingClient.getState("key", String.class).block().getValue());
+    assertEquals("newValue", cachingClient.getState("key", String.class).block().getValue());
+  }
+
+  @Test
+  public void saveStateInvalidates() {
+    mockState("key", "value", "1");
+    when(client.saveState("key", "newValue")).thenReturn(Mono.empty());
+    cachingClient.getState("key", String.class).block();
+    cachingClient.saveState("key", "newValue").block();
+    cachingClient.getState("key", String.class).block();
+    verify(client, times(2)).getState(eq("key"), isNull(), isNull(), eq(String.class));
+  }
+
+  @Test
+  public void deleteStateInvalidates() {
+    mockState("key", "value", "1");
+    when(client.deleteState("key")).thenReturn(Mono.empty());
+    cachingClient.getState("key", String.class).block();
+    cachingClient.deleteState("key").block();
+    cachingClient.getState("key", String.class).block();
+    verify(client, times(2)).getState(eq("key"), isNull(), isNull(), eq(String.class));
+  }
+
+  @Test
+  public void readRacingWithWriteIsNotCached() {
+    when(client.saveState("key", "newValue")).thenReturn(Mono.empty());
+    // The state is written while it is being read.
+    when(client.getState(eq("key"), isNull(), isNull(), eq(String.class)))
+        .thenReturn(Mono.defer(() -> cachingClient.saveState("key", "newValue")
+            .then(Mono.just(new State<>("value", "key", "1", null)))));
+    cachingClient.getState("key", String.class).block();
+    cachingClient.getState("key", String.class).block();
+    verify(client, times(2)).getState(eq("key"), isNull(), isNull(), eq(String.class));
+  }
+
+  @Test
+  public void cachedValuesAreCopies() {
+    when(client.getState(eq("key"), isNull(), isNull(), eq(List.class)))
+        .thenReturn(Mono.just(new State<>(new ArrayList<>(Arrays.asList("a")), "key", "1", null)));
+    List<String> first = cachingClient.getState("key", List.class).block().getValue();
+    first.add("b");
+    List<String> second = cachingClient.getState("key", List.class).block().getValue();
+    assertEquals(Collections.singletonList("a"), second);
+    assertNotSame(second, cachingClient.getState("key", List.class).block().getValue());
+    assertEquals(2, cachingClient.getHitCount());
+  }
+
+  @Test
+  public void writeOnlyInvalidatesReadsOfItsKey() {
+    when(client.saveState("other", "newValue")).thenReturn(Mono.empty());
+    // Another key is written while the state is being read.
+    when(client.getState(eq("key"), isNull(), isNull(), eq(String.class)))
+        .thenReturn(Mono.defer(() -> cachingClient.saveState("other", "newValue")
+            .then(Mono.just(new State<>("value", "key", "1", null)))));
+    cachingClient.getState("key", String.class).block();
+    cachingClient.getState("key", String.class).block();
+    verify(client, times(1)).getState(eq("key"), isNull(), isNull(), eq(String.class));
+  }
+
+  @Test
+  public void getStatesOnlyReadsMissingKeys() {
+    mockState("key2", "value2", "2");
+    cachingClient.getState("key2", String.class).block();
+    when(client.getStates(Arrays.asList("key1", "key3"), String.class)).thenReturn(Mono.just(Arrays.asList(
+        new State<>("value1", "key1", "1", null), new State<>("value3", "key3", "3", null))));
+    List<State<String>> states = cachingClient.getStates(Arrays.asList("key1", "key2", "key3"), String.class).block();
+    assertEquals("value1", states.get(0).getValue());
+    assertEquals("value2", states.get(1).getValue());
+    assertEquals("value3", states.get(2).getValue());
+    states = cachingClient.getStates(Arrays.asList("key3", "key1"), String.class).block();
+    assertEquals("value3", states.get(0).getValue());
+    assertEquals("value1", states.get(1).getValue());
+    verify(client, times(1)).getStates(any(), eq(String.class));
+  }
+
+  @Test
+  public void boundedByEntries() {
+    cachingClient = newCachingClient(2, Long.MAX_VALUE);
+    mockState("key1", "value1", "1");
+    mockState("key2", "value2", "2");
+    mockState("key3", "value3", "3");
+    cachingClient.getState("key1", String.class).block();
+    cachingClient.getState("key1", String.class).block();
+    cachingClient.getState("key2", String.class).block();
+    cachingClient.getState("key3", String.class).block();
+    assertEquals(1, cachingClient.getEvictionCount());
+    // The key requested the most is kept.
+    cachingClient.getState("key1", String.class).block();
+    verify(client, times(1)).getState(eq("key1"), isNull(), isNull(), eq(String.class));
+  }
+
+  @Test
+  public void boundedByBytes() {
+    cachingClient = newCachingClient(100, 10);
+    mockState("key", "a value longer than the cache", "1");
+    cachingClient.getState("key", String.class).block();
+    cachingClient.getState("key", String.class).block();
+    verify(client, times(2)).getState(eq("key"), isNull(), isNull(), eq(String.class));
+    assertEquals(2, cachingClient.getEvictionCount());
+  }
+
+  @Test
+  public void getStatesOfNoKeys() {
+    assertEquals(Collections.emptyList(), cachingClient.getStates(Collections.emptyList(), String.class).block());
+  }
+
+  private CachingDaprClient newCachingClient(long maxEntries, long maxBytes) {
+    DaprStateCache cache = new DaprStateCache(
+        maxEntries, maxBytes, TTL_NANOS, new DefaultObjectSerializer(), now::get);
+    return new CachingDaprClient(client, cache);
+  }
+
+  private void mockState(String key, String value, String etag) {
+    when(client.getState(eq(key), isNull(), isNull(), eq(String.class)))
+        .thenReturn(Mono.just(new State<>(value, key, etag, null)));
+  }
+}
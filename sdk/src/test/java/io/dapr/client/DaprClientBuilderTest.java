@@ -23,6 +23,34 @@ public class DaprClientBuilderTest {
     assertNotNull(daprClient);
   }
 
+  @Test
+  public void buildWithMaxRequests() {
+    DaprClient daprClient = new DaprClientBuilder()
+        .withMaxRequests(128)
+        .withMaxRequestsPerHost(128)
+        .build();
+    assertNotNull(daprClient);
+  }
+
+  @Test
+  public void buildWithRawBinaryState() {
+    DaprClient daprClient = new DaprClientBuilder()
+        .withStateSerializer(mock(DaprObjectSerializer.class))
+        .withRawBinaryState()
+        .build();
+    assertNotNull(daprClient);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invalidMaxRequests() {
+    new DaprClientBuilder().withMaxRequests(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void noGrpcChannelBuilder() {
+    new DaprClientBuilder().withGrpcChannelBuilder(null);
+  }
+
   @Test(expected = IllegalArgumentException.class)
   public void noObjectSerializer() {
     new DaprClientBuilder().withObjectSerializer(null);
@@ -10,22 +10,34 @@ import com.google.common.util.concurrent.SettableFuture;
 import com.google.protobuf.Any;
 import com.google.protobuf.ByteString;
 import com.google.protobuf.Empty;
+import com.google.protobuf.StringValue;
 import io.dapr.DaprGrpc;
 import io.dapr.DaprProtos;
 import io.dapr.client.domain.State;
 import io.dapr.client.domain.StateOptions;
 import io.dapr.client.domain.Verb;
 import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.serializer.ProtobufObjectSerializer;
+import io.grpc.Deadline;
 import org.checkerframework.checker.nullness.compatqual.NullableDecl;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatcher;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.util.concurrent.Futures.addCallback;
 import static com.google.common.util.concurrent.MoreExecutors.directExecutor;
@@ -198,6 +210,24 @@ public class DaprClientGrpcTest {
     assertTrue(callback.wasCalled);
   }
 
+  @Test
+  public void invokeServiceStreamTest() {
+    SettableFuture<DaprProtos.InvokeServiceResponseEnvelope> settableFuture = SettableFuture.create();
+    settableFuture.set(DaprProtos.InvokeServiceResponseEnvelope.newBuilder()
+        .setData(Any.newBuilder().setValue(ByteString.copyFromUtf8("response"))).build());
+    when(client.invokeService(any(DaprProtos.InvokeServiceEnvelope.class)))
+        .thenReturn(settableFuture);
+    Flux<ByteBuffer> request = Flux.just("req", "ue", "st")
+        .map(s -> ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8)));
+    List<ByteBuffer> response = adapter.invokeServiceStream(Verb.POST, "appId", "method", request, null)
+        .collectList().block();
+    assertEquals(1, response.size());
+    assertEquals("response", StandardCharsets.UTF_8.decode(response.get(0)).toString());
+    verify(client).invokeService(argThat(envelope -> "appId".equals(envelope.getId())
+        && "POST".equals(envelope.getMethod())
+        && "request".equals(envelope.getData().getValue().toStringUtf8())));
+  }
+
   @Test(expected = RuntimeException.class)
   public void invokeServiceExceptionThrownTest() {
     when(client.invokeService(any(DaprProtos.InvokeServiceEnvelope.class)))
@@ -453,6 +483,24 @@ public class DaprClientGrpcTest {
     result.block();
   }
 
+  @Test
+  public void getStatesPreservesKeyOrderTest() throws IOException {
+    SettableFuture<DaprProtos.GetStateResponseEnvelope> future1 = SettableFuture.create();
+    SettableFuture<DaprProtos.GetStateResponseEnvelope> future2 = SettableFuture.create();
+    when(client.getState(argThat(envelope -> envelope != null && "key1".equals(envelope.getKey()))))
+        .thenReturn(future1);
+    when(client.getState(argThat(envelope -> envelope != null && "key2".equals(envelope.getKey()))))
+        .thenReturn(future2);
+    Mono<List<State<String>>> result = adapter.getStates(Arrays.asList("key1", "key2"), String.class);
+    // Responses arrive out of order.
+    future2.set(buildGetStateResponseEnvelope("value2", "2"));
+    future1.set(buildGetStateResponseEnvelope("value1", "1"));
+    List<State<String>> states = result.block();
+    assertEquals(2, states.size());
+    assertEquals(buildStateKey("value1", "key1", "1", null), states.get(0));
+    assertEquals(buildStateKey("value2", "key2", "2", null), states.get(1));
+  }
+
   @Test
   public void getStateStringValueNoOptionsTest() throws IOException {
     String etag = "ETag1";
@@ -682,6 +730,70 @@ public class DaprClientGrpcTest {
     assertTrue(callback.wasCalled);
   }
 
+  @Test
+  public void saveStateIsLazyTest() {
+    SettableFuture<Empty> settableFuture = SettableFuture.create();
+    when(client.saveState(any(io.dapr.DaprProtos.SaveStateEnvelope.class))).thenReturn(settableFuture);
+    Mono<Void> result = adapter.saveState("key1", "ETag1", "State value", null);
+    verify(client, never()).saveState(any(io.dapr.DaprProtos.SaveStateEnvelope.class));
+    settableFuture.set(Empty.newBuilder().build());
+    result.block();
+    verify(client, times(1)).saveState(any(io.dapr.DaprProtos.SaveStateEnvelope.class));
+  }
+
+  @Test
+  public void saveStateProtobufMessageTest() {
+    adapter = new DaprClientGrpc(client, new DefaultObjectSerializer(), new ProtobufObjectSerializer());
+    StringValue message = StringValue.newBuilder().setValue("State value").build();
+    SettableFuture<Empty> settableFuture = SettableFuture.create();
+    settableFuture.set(Empty.getDefaultInstance());
+    ArgumentCaptor<DaprProtos.SaveStateEnvelope> envelope =
+        ArgumentCaptor.forClass(DaprProtos.SaveStateEnvelope.class);
+    when(client.saveState(envelope.capture())).thenReturn(settableFuture);
+    adapter.saveState("key1", message).block();
+    Any data = envelope.getValue().getRequests(0).getValue();
+    assertEquals("type.googleapis.com/google.protobuf.StringValue", data.getTypeUrl());
+    assertEquals(message.toByteString(), data.getValue());
+  }
+
+  @Test
+  public void getStateProtobufMessageTest() {
+    adapter = new DaprClientGrpc(client, new DefaultObjectSerializer(), new ProtobufObjectSerializer());
+    StringValue message = StringValue.newBuilder().setValue("State value").build();
+    SettableFuture<DaprProtos.GetStateResponseEnvelope> settableFuture = SettableFuture.create();
+    settableFuture.set(DaprProtos.GetStateResponseEnvelope.newBuilder()
+        .setData(Any.pack(message))
+        .setEtag("ETag1")
+        .build());
+    when(client.getState(any(DaprProtos.GetStateEnvelope.class))).thenReturn(settableFuture);
+    assertEquals(message, adapter.getState("key1", StringValue.class).block().getValue());
+  }
+
+  @Test
+  public void publishEventCancelsRpcTest() {
+    SettableFuture<Empty> settableFuture = SettableFuture.create();
+    when(client.publishEvent(any(DaprProtos.PublishEventEnvelope.class)))
+        .thenReturn(settableFuture);
+    Disposable subscription = adapter.publishEvent("topic", "object").subscribe();
+    assertFalse(settableFuture.isCancelled());
+    subscription.dispose();
+    assertTrue(settableFuture.isCancelled());
+  }
+
+  @Test
+  public void getStateDeadlineFromContextTest() throws IOException {
+    Deadline deadline = Deadline.after(5, TimeUnit.SECONDS);
+    SettableFuture<DaprProtos.GetStateResponseEnvelope> settableFuture = SettableFuture.create();
+    settableFuture.set(buildGetStateResponseEnvelope("Expected state", "ETag1"));
+    when(client.withDeadline(deadline)).thenReturn(client);
+    when(client.getState(any(io.dapr.DaprProtos.GetStateEnvelope.class))).thenReturn(settableFuture);
+    State<String> state = adapter.getState("key1", String.class)
+        .subscriberContext(Context.of(Deadline.class, deadline))
+        .block();
+    assertEquals("Expected state", state.getValue());
+    verify(client, times(1)).withDeadline(deadline);
+  }
+
   @Test(expected = RuntimeException.class)
   public void saveStateExceptionThrownTest() {
     String key = "key1";
@@ -4,21 +4,38 @@
  */
 package io.dapr.client;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dapr.client.domain.State;
 import io.dapr.client.domain.StateOptions;
 import io.dapr.client.domain.Verb;
+import io.dapr.serializer.DaprObjectSerializer;
+import io.dapr.serializer.DefaultObjectSerializer;
+import io.dapr.serializer.StringContentType;
+import io.dapr.utils.TypeRef;
+import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
+import okhttp3.ResponseBody;
 import okhttp3.mock.Behavior;
 import okhttp3.mock.MockInterceptor;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 import static org.junit.Assert.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class DaprClientHttpTest {
 
@@ -82,7 +99,7 @@ public class DaprClientHttpTest {
     String event = "{ \"message\": \"This is a test\" }";
     daprHttp = new DaprHttp(3000, okHttpClient);
     daprClientHttp = new DaprClientHttp(daprHttp);
-    Mono<Void> mono = daprClientHttp.invokeService(null, "", "", null, null, null);
+    Mono<Void> mono = daprClientHttp.invokeService(null, "", "", null, null, (Class<Void>) null);
     assertNull(mono.block());
   }
 
@@ -95,19 +112,19 @@ public class DaprClientHttpTest {
     daprHttp = new DaprHttp(3000, okHttpClient);
     daprClientHttp = new DaprClientHttp(daprHttp);
     assertThrows(IllegalArgumentException.class, () -> {
-      daprClientHttp.invokeService(null, "", "", null, null, null).block();
+      daprClientHttp.invokeService(null, "", "", null, null, (Class<Void>) null).block();
     });
     assertThrows(IllegalArgumentException.class, () -> {
-      daprClientHttp.invokeService(Verb.POST, null, "", null, null, null).block();
+      daprClientHttp.invokeService(Verb.POST, null, "", null, null, (Class<Void>) null).block();
     });
     assertThrows(IllegalArgumentException.class, () -> {
-      daprClientHttp.invokeService(Verb.POST, "", "", null, null, null).block();
+      daprClientHttp.invokeService(Verb.POST, "", "", null, null, (Class<Void>) null).block();
     });
     assertThrows(IllegalArgumentException.class, () -> {
-      daprClientHttp.invokeService(Verb.POST, "1", null, null, null, null).block();
+      daprClientHttp.invokeService(Verb.POST, "1", null, null, null, (Class<Void>) null).block();
     });
     assertThrows(IllegalArgumentException.class, () -> {
-      daprClientHttp.invokeService(Verb.POST, "1", "", null, null, null).block();
+      daprClientHttp.invokeService(Verb.POST, "1", "", null, null, (Class<Void>) null).block();
     });
   }
 
@@ -120,7 +137,7 @@ public class DaprClientHttpTest {
     String event = "{ \"message\": \"This is a test\" }";
     daprHttp = new DaprHttp(3000, okHttpClient);
     daprClientHttp = new DaprClientHttp(daprHttp);
-    Mono<Void> mono = daprClientHttp.invokeService(Verb.POST, "1", "", null, null, null);
+    Mono<Void> mono = daprClientHttp.invokeService(Verb.POST, "1", "", null, null, (Class<Void>) null);
     assertNull(mono.block());
   }
 
@@ -135,6 +152,28 @@ public class DaprClientHttpTest {
     assertEquals("hello world", mono.block());
   }
 
+  @Test
+  public void invokeServiceStream() {
+    mockInterceptor.addRule()
+      .post("http://localhost:3000/v1.0/invoke/41/method/neworder")
+      .respond("hello world");
+    daprHttp = new DaprHttp(3000, okHttpClient);
+    daprClientHttp = new DaprClientHttp(daprHttp);
+    Flux<ByteBuffer> request = Flux.just(ByteBuffer.wrap("order".getBytes(StandardCharsets.UTF_8)));
+    String response = daprClientHttp.invokeServiceStream(Verb.POST, "41", "neworder", request, null)
+      .map(buffer -> StandardCharsets.UTF_8.decode(buffer).toString())
+      .reduce(String::concat)
+      .block();
+    assertEquals("hello world", response);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void invokeServiceStreamAppIdNull() {
+    daprHttp = new DaprHttp(3000, okHttpClient);
+    daprClientHttp = new DaprClientHttp(daprHttp);
+    daprClientHttp.invokeServiceStream(Verb.POST, null, "neworder", null, null).blockLast();
+  }
+
   @Test
   public void simpleInvokeService() {
     Map<String, String> map = new HashMap<>();
@@ -250,6 +289,98 @@ public class DaprClientHttpTest {
     assertEquals(monoNullEtag.block().getKey(), "key");
   }
 
+  @Test
+  public void getStatesInBulk() {
+    mockInterceptor.addRule()
+      .post("http://localhost:3000/v1.0/state/bulk")
+      .respond("[{\"key\":\"key2\",\"data\":\"value2\",\"etag\":\"2\"},"
+        + "{\"key\":\"key1\",\"data\":\"value1\",\"etag\":\"1\"}]");
+    daprHttp = new DaprHttp(3000, okHttpClient);
+    daprClientHttp = new DaprClientHttp(daprHttp);
+    List<State<String>> states = daprClientHttp.getStates(Arrays.asList("key1", "key2", "key3"), String.class).block();
+    assertEquals(3, states.size());
+    assertEquals("key1", states.get(0).getKey());
+    assertEquals("value1", states.get(0).getValue());
+    assertEquals("1", states.get(0).getEtag());
+    assertEquals("key2", states.get(1).getKey());
+    assertEquals("value2", states.get(1).getValue());
+    assertEquals("key3", states.get(2).getKey());
+    assertNull(states.get(2).getValue());
+  }
+
+  @Test
+  public void getBinaryStatesInBulk() throws Exception {
+    mockInterceptor.addRule()
+      .post("http://localhost:3000/v1.0/state/bulk")
+      .respond("[{\"key\":\"key1\",\"data\":\"AAEC/w==\",\"etag\":\"1\"}]");
+    DaprObjectSerializer binarySerializer = mock(DaprObjectSerializer.class);
+    when(binarySerializer.deserialize(any(), eq(TypeRef.get(byte[].class))))
+        .thenAnswer(invocation -> invocation.getArgument(0));
+    daprHttp = new DaprHttp(3000, okHttpClient);
+    daprClientHttp = new DaprClientHttp(daprHttp, new DefaultObjectSerializer(), binarySerializer);
+    List<State<byte[]>> states = daprClientHttp.getStates(Arrays.asList("key1"), byte[].class).block();
+    assertArrayEquals(new byte[] { 0, 1, 2, (byte) 0xff }, states.get(0).getValue());
+  }
+
+  @Test
+  public void getStatesOneByOneWhenBulkIsNotSupported() {
+    mockInterceptor.addRule()
+      .post("http://localhost:3000/v1.0/state/bulk")
+      .respond(404, ResponseBody.create(MediaType.parse("text/plain"), "404 page not found"));
+    mockInterceptor.addRule()
+      .get("http://localhost:3000/v1.0/state/key1")
+      .respond("value1");
+    mockInterceptor.addRule()
+      .get("http://localhost:3000/v1.0/state/key2")
+      .respond("value2");
+    mockInterceptor.addRule()
+      .get("http://localhost:3000/v1.0/state/key1")
+      .respond("value1");
+    daprHttp = new DaprHttp(3000, okHttpClient);
+    daprClientHttp = new DaprClientHttp(daprHttp);
+    List<State<String>> states = daprClientHttp.getStatesStream(Arrays.asList("key2", "key1"), String.class)
+      .collectList()
+      .block();
+    assertEquals(2, states.size());
+    assertEquals("value2", states.get(0).getValue());
+    assertEquals("value1", states.get(1).getValue());
+    // Bulk reads are not attempted again.
+    states = daprClientHttp.getStates(Arrays.asList("key1"), String.class).block();
+    assertEquals("value1", states.get(0).getValue());
+  }
+
+  @Test
+  public void getStatesKeepsBulkAfterOtherFailures() {
+    mockInterceptor.addRule()
+      .post("http://localhost:3000/v1.0/state/bulk")
+      .respond(503, ResponseBody.create(MediaType.parse("text/plain"), "service unavailable"));
+    mockInterceptor.addRule()
+      .post("http://localhost:3000/v1.0/state/bulk")
+      .respond("[{\"key\":\"key1\",\"data\":\"value1\",\"etag\":\"1\"}]");
+    daprHttp = new DaprHttp(3000, okHttpClient);
+    daprClientHttp = new DaprClientHttp(daprHttp);
+    assertThrows(RuntimeException.class, () -> {
+      daprClientHttp.getStates(Arrays.asList("key1"), String.class).block();
+    });
+    // Bulk reads are attempted again, as the failure does not mean Dapr lacks them.
+    List<State<String>> states = daprClientHttp.getStates(Arrays.asList("key1"), String.class).block();
+    assertEquals("value1", states.get(0).getValue());
+    assertEquals("1", states.get(0).getEtag());
+  }
+
+  @Test
+  public void getStatesBulkErrorFromDapr() {
+    mockInterceptor.addRule()
+      .post("http://localhost:3000/v1.0/state/bulk")
+      .respond(500, ResponseBody.create(MediaType.parse("application/json"),
+        "{\"errorCode\":\"ERR_STATE_STORE_NOT_FOUND\",\"message\":\"state store not found\"}"));
+    daprHttp = new DaprHttp(3000, okHttpClient);
+    daprClientHttp = new DaprClientHttp(daprHttp);
+    assertThrows(RuntimeException.class, () -> {
+      daprClientHttp.getStates(Arrays.asList("key1"), String.class).block();
+    });
+  }
+
   @Test
   public void saveStates() {
     State<String> stateKeyValue = new State("value", "key", "etag", null);
@@ -304,6 +435,106 @@ public class DaprClientHttpTest {
     assertNull(mono.block());
   }
 
+  @Test
+  public void saveStatesBody() throws Exception {
+    DaprHttpStub daprHttpStub = mock(DaprHttpStub.class);
+    when(daprHttpStub.invokeApi(any(), any(), any(), any(byte[].class), any())).thenReturn(Mono.empty());
+    daprClientHttp = new DaprClientHttp(daprHttpStub);
+    StateOptions stateOptions = new StateOptions(StateOptions.Consistency.STRONG, null, null);
+    List<State<?>> states = Arrays.asList(
+        new State<>("value \"1\"", "key1", "etag1", stateOptions),
+        null,
+        new State<>(Collections.singletonMap("a", 1), "key2", null, null));
+    assertNull(daprClientHttp.saveStates(states).block());
+
+    ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+    verify(daprHttpStub).invokeApi(eq("POST"), eq("v1.0/state"), isNull(), body.capture(), any());
+    JsonNode json = new ObjectMapper().readTree(body.getValue());
+    assertEquals(2, json.size());
+    assertEquals("value \"1\"", json.get(0).get("value").textValue());
+    assertEquals("key1", json.get(0).get("key").textValue());
+    assertEquals("etag1", json.get(0).get("etag").textValue());
+    assertEquals("strong", json.get(0).get("options").get("consistency").textValue());
+    assertTrue(json.get(1).get("value").isObject());
+    assertEquals(1, json.get(1).get("value").get("a").intValue());
+    assertEquals("key2", json.get(1).get("key").textValue());
+    assertFalse(json.get(1).has("etag"));
+  }
+
+  @Test
+  public void saveStatesBytesBody() throws Exception {
+    DaprHttpStub daprHttpStub = mock(DaprHttpStub.class);
+    when(daprHttpStub.invokeApi(any(), any(), any(), any(byte[].class), any())).thenReturn(Mono.empty());
+    daprClientHttp = new DaprClientHttp(daprHttpStub);
+    byte[] value = new byte[] { 0, 1, 2, (byte) 0xff };
+    assertNull(daprClientHttp.saveStates(Arrays.asList(new State<>(value, "key", null, null))).block());
+
+    ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+    verify(daprHttpStub).invokeApi(eq("POST"), eq("v1.0/state"), isNull(), body.capture(), any());
+    JsonNode json = new ObjectMapper().readTree(body.getValue());
+    assertArrayEquals(value, json.get(0).get("value").binaryValue());
+  }
+
+  @Test
+  public void saveStatesBinaryBody() throws Exception {
+    DaprHttpStub daprHttpStub = mock(DaprHttpStub.class);
+    when(daprHttpStub.invokeApi(any(), any(), any(), any(byte[].class), any())).thenReturn(Mono.empty());
+    DaprObjectSerializer binarySerializer = mock(DaprObjectSerializer.class);
+    when(binarySerializer.serialize(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    daprClientHttp = new DaprClientHttp(daprHttpStub, new DefaultObjectSerializer(), binarySerializer);
+    byte[] value = new byte[] { 0, 1, 2, (byte) 0xff };
+    assertNull(daprClientHttp.saveStates(Arrays.asList(new State<>(value, "key", null, null))).block());
+
+    ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+    verify(daprHttpStub).invokeApi(eq("POST"), eq("v1.0/state"), isNull(), body.capture(), any());
+    JsonNode json = new ObjectMapper().readTree(body.getValue());
+    assertArrayEquals(value, json.get(0).get("value").binaryValue());
+  }
+
+  @Test
+  public void saveStatesTextBody() throws Exception {
+    DaprHttpStub daprHttpStub = mock(DaprHttpStub.class);
+    when(daprHttpStub.invokeApi(any(), any(), any(), any(byte[].class), any())).thenReturn(Mono.empty());
+    daprClientHttp = new DaprClientHttp(daprHttpStub, new DefaultObjectSerializer(), new TextSerializer());
+    List<State<?>> states = Arrays.asList(
+        new State<>("{\"a\": [1, 2]}", "key1", null, null),
+        new State<>("\"quoted\"", "key2", null, null),
+        new State<>("plain text", "key3", null, null),
+        new State<>("{\"a\": 1} {\"b\": 2}", "key4", null, null),
+        new State<>("", "key5", null, null));
+    assertNull(daprClientHttp.saveStates(states).block());
+
+    ArgumentCaptor<byte[]> body = ArgumentCaptor.forClass(byte[].class);
+    verify(daprHttpStub).invokeApi(eq("POST"), eq("v1.0/state"), isNull(), body.capture(), any());
+    JsonNode json = new ObjectMapper().readTree(body.getValue());
+    assertEquals(5, json.size());
+    assertEquals(2, json.get(0).get("value").get("a").get(1).intValue());
+    assertEquals("quoted", json.get(1).get("value").textValue());
+    assertEquals("plain text", json.get(2).get("value").textValue());
+    assertEquals("{\"a\": 1} {\"b\": 2}", json.get(3).get("value").textValue());
+    assertEquals("", json.get(4).get("value").textValue());
+  }
+
+  @Test
+  public void binaryStatesGoToBinaryStateClient() {
+    DaprClient binaryStateClient = mock(DaprClient.class);
+    State<byte[]> state = new State<>(new byte[] { 1 }, "key", "1", null);
+    when(binaryStateClient.getState("key", null, null, byte[].class)).thenReturn(Mono.just(state));
+    when(binaryStateClient.getStatesStream(Arrays.asList("key"), byte[].class)).thenReturn(Flux.just(state));
+    when(binaryStateClient.saveStates(any())).thenReturn(Mono.empty());
+    when(binaryStateClient.deleteState("key", null, null)).thenReturn(Mono.empty());
+    // No rules in the interceptor, so any HTTP call fails.
+    daprHttp = new DaprHttp(3000, okHttpClient);
+    daprClientHttp = new DaprClientHttp(
+        daprHttp, new DefaultObjectSerializer(), mock(DaprObjectSerializer.class), 1, binaryStateClient);
+    assertSame(state, daprClientHttp.getState("key", byte[].class).block());
+    assertSame(state, daprClientHttp.getStates(Arrays.asList("key"), byte[].class).block().get(0));
+    assertNull(daprClientHttp.saveState("key", new byte[] { 1 }).block());
+    assertNull(daprClientHttp.deleteState("key").block());
+    verify(binaryStateClient).saveStates(any());
+    verify(binaryStateClient).deleteState("key", null, null);
+  }
+
   @Test
   public void simpleSaveStates() {
     mockInterceptor.addRule()
@@ -373,4 +604,21 @@ public class DaprClientHttpTest {
       daprClientHttp.deleteState(" ", null, null).block();
     });
   }
-}
\ No newline at end of file
+
+  /**
+   * Text serializer writing strings as they are, which are not always JSON.
+   */
+  @StringContentType
+  private static class TextSerializer implements DaprObjectSerializer {
+
+    @Override
+    public byte[] serialize(Object o) {
+      return o == null ? null : o.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public <T> T deserialize(byte[] data, Class<T> clazz) {
+      return data == null ? null : (T) new String(data, StandardCharsets.UTF_8);
+    }
+  }
+}
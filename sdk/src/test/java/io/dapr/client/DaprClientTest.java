@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.client.domain.State;
+import io.dapr.client.domain.Verb;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprClientTest {
+
+  private static final Map<String, String> METADATA = Collections.singletonMap("key", "value");
+
+  private DaprClient client;
+
+  @Before
+  public void setUp() {
+    client = mock(DaprClient.class);
+  }
+
+  @Test
+  public void getStatesStreamFansOutToGetState() {
+    when(client.getStatesStream(anyList(), eq(String.class))).thenCallRealMethod();
+    when(client.getStates(anyList(), eq(String.class))).thenCallRealMethod();
+    when(client.getState("key1", String.class)).thenReturn(Mono.just(new State<>("value1", "key1", "1", null)));
+    when(client.getState("key2", String.class)).thenReturn(Mono.just(new State<>("value2", "key2", "2", null)));
+
+    List<State<String>> states = client.getStates(Arrays.asList("key2", "key1"), String.class).block();
+
+    assertEquals(2, states.size());
+    assertEquals("value2", states.get(0).getValue());
+    assertEquals("value1", states.get(1).getValue());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void getStatesStreamRequiresKeys() {
+    when(client.getStatesStream(isNull(), eq(String.class))).thenCallRealMethod();
+    client.getStatesStream(null, String.class).blockLast();
+  }
+
+  @Test
+  public void invokeServiceStreamAggregatesRequest() {
+    when(client.invokeServiceStream(any(), any(), any(), any(), any())).thenCallRealMethod();
+    when(client.invokeService(eq(Verb.POST), eq("app"), eq("method"), any(byte[].class), eq(METADATA)))
+        .thenReturn(Mono.just("response".getBytes(StandardCharsets.UTF_8)));
+    Flux<ByteBuffer> request = Flux.just(
+        ByteBuffer.wrap("req".getBytes(StandardCharsets.UTF_8)),
+        ByteBuffer.wrap("uest".getBytes(StandardCharsets.UTF_8)));
+
+    ByteBuffer response = client.invokeServiceStream(Verb.POST, "app", "method", request, METADATA).blockLast();
+
+    assertEquals("response", StandardCharsets.UTF_8.decode(response).toString());
+    ArgumentCaptor<byte[]> data = ArgumentCaptor.forClass(byte[].class);
+    verify(client).invokeService(eq(Verb.POST), eq("app"), eq("method"), data.capture(), eq(METADATA));
+    assertArrayEquals("request".getBytes(StandardCharsets.UTF_8), data.getValue());
+  }
+
+  @Test
+  public void invokeServiceStreamWithoutRequest() {
+    when(client.invokeServiceStream(any(), any(), any(), any(), any())).thenCallRealMethod();
+    when(client.invokeService(eq(Verb.GET), eq("app"), eq("method"), isNull(byte[].class), eq(METADATA)))
+        .thenReturn(Mono.just(new byte[0]));
+
+    assertNull(client.invokeServiceStream(Verb.GET, "app", "method", null, METADATA).blockLast());
+  }
+}
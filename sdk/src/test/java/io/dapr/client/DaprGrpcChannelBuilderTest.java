@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.dapr.utils.Constants;
+import io.dapr.utils.Properties;
+import io.grpc.Channel;
+import io.grpc.ManagedChannel;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DaprGrpcChannelBuilderTest {
+
+  @Test
+  public void buildSingleChannel() {
+    Channel channel = new DaprGrpcChannelBuilder()
+        .withKeepAlive(Duration.ofSeconds(30), Duration.ofSeconds(5), true)
+        .withFlowControlWindow(4 * 1024 * 1024)
+        .withMaxInboundMessageSize(16 * 1024 * 1024)
+        .withDirectExecutor()
+        .build();
+    assertTrue(channel instanceof ManagedChannel);
+    ((ManagedChannel) channel).shutdownNow();
+  }
+
+  @Test
+  public void buildPool() {
+    Channel channel = new DaprGrpcChannelBuilder()
+        .withExecutor(Executors.newSingleThreadExecutor())
+        .withPool(3, DaprGrpcChannelBuilder.PoolStrategy.LEAST_IN_FLIGHT)
+        .build();
+    assertTrue(channel instanceof DaprGrpcChannelPool);
+    assertEquals(Constants.DEFAULT_HOSTNAME + ":" + Properties.GRPC_PORT.get(), channel.authority());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withInvalidKeepAliveTime() {
+    new DaprGrpcChannelBuilder().withKeepAlive(Duration.ZERO, Duration.ofSeconds(5), false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withInvalidKeepAliveTimeout() {
+    new DaprGrpcChannelBuilder().withKeepAlive(Duration.ofSeconds(30), null, false);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withInvalidFlowControlWindow() {
+    new DaprGrpcChannelBuilder().withFlowControlWindow(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withInvalidMaxInboundMessageSize() {
+    new DaprGrpcChannelBuilder().withMaxInboundMessageSize(-1);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withNullExecutor() {
+    new DaprGrpcChannelBuilder().withExecutor(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withInvalidPoolSize() {
+    new DaprGrpcChannelBuilder().withPool(0, DaprGrpcChannelBuilder.PoolStrategy.ROUND_ROBIN);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withNullPoolStrategy() {
+    new DaprGrpcChannelBuilder().withPool(2, null);
+  }
+}
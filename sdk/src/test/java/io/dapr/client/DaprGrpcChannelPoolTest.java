@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import io.grpc.CallOptions;
+import io.grpc.ClientCall;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.Status;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DaprGrpcChannelPoolTest {
+
+  private ManagedChannel[] channels;
+
+  private ClientCall<Object, Object>[] calls;
+
+  private MethodDescriptor<Object, Object> method;
+
+  @Before
+  public void setup() {
+    channels = new ManagedChannel[3];
+    calls = new ClientCall[channels.length];
+    method = mock(MethodDescriptor.class);
+    for (int i = 0; i < channels.length; i++) {
+      channels[i] = mock(ManagedChannel.class);
+      calls[i] = mock(ClientCall.class);
+      when(channels[i].newCall(any(MethodDescriptor.class), any(CallOptions.class))).thenReturn(calls[i]);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void noChannels() {
+    new DaprGrpcChannelPool(new ManagedChannel[0], DaprGrpcChannelBuilder.PoolStrategy.ROUND_ROBIN);
+  }
+
+  @Test
+  public void roundRobin() {
+    DaprGrpcChannelPool pool = new DaprGrpcChannelPool(channels, DaprGrpcChannelBuilder.PoolStrategy.ROUND_ROBIN);
+    for (int i = 0; i < channels.length * 2; i++) {
+      assertEquals(calls[i % channels.length], pool.newCall(method, CallOptions.DEFAULT));
+    }
+    for (ManagedChannel channel : channels) {
+      verify(channel, times(2)).newCall(method, CallOptions.DEFAULT);
+    }
+  }
+
+  @Test
+  public void leastInFlight() {
+    DaprGrpcChannelPool pool = new DaprGrpcChannelPool(channels, DaprGrpcChannelBuilder.PoolStrategy.LEAST_IN_FLIGHT);
+
+    // One call in flight for each channel.
+    for (int i = 0; i < channels.length; i++) {
+      pool.newCall(method, CallOptions.DEFAULT).start(mock(ClientCall.Listener.class), new Metadata());
+    }
+    for (int i = 0; i < channels.length; i++) {
+      assertEquals(1, pool.getInFlight(i));
+    }
+
+    // Completing the call on the second channel makes it the least busy.
+    ArgumentCaptor<ClientCall.Listener> listener = ArgumentCaptor.forClass(ClientCall.Listener.class);
+    verify(calls[1]).start(listener.capture(), any(Metadata.class));
+    listener.getValue().onClose(Status.OK, new Metadata());
+    assertEquals(0, pool.getInFlight(1));
+
+    for (int i = 0; i < 2; i++) {
+      pool.newCall(method, CallOptions.DEFAULT);
+    }
+    verify(channels[1], times(3)).newCall(method, CallOptions.DEFAULT);
+  }
+
+  @Test
+  public void leastInFlightStartFails() {
+    DaprGrpcChannelPool pool = new DaprGrpcChannelPool(channels, DaprGrpcChannelBuilder.PoolStrategy.LEAST_IN_FLIGHT);
+    ClientCall<Object, Object> call = pool.newCall(method, CallOptions.DEFAULT);
+    doThrow(new IllegalStateException()).when(calls[0])
+        .start(any(ClientCall.Listener.class), any(Metadata.class));
+    try {
+      call.start(mock(ClientCall.Listener.class), new Metadata());
+    } catch (IllegalStateException ex) {
+      // Expected.
+    }
+    assertEquals(0, pool.getInFlight(0));
+  }
+
+  @Test
+  public void shutdownShutsDownEveryChannel() {
+    DaprGrpcChannelPool pool = new DaprGrpcChannelPool(channels, DaprGrpcChannelBuilder.PoolStrategy.ROUND_ROBIN);
+    assertEquals(pool, pool.shutdown());
+    for (ManagedChannel channel : channels) {
+      verify(channel).shutdown();
+    }
+
+    assertFalse(pool.isShutdown());
+    for (ManagedChannel channel : channels) {
+      when(channel.isShutdown()).thenReturn(true);
+    }
+    assertTrue(pool.isShutdown());
+  }
+
+  @Test
+  public void shutdownNowShutsDownEveryChannel() {
+    DaprGrpcChannelPool pool = new DaprGrpcChannelPool(channels, DaprGrpcChannelBuilder.PoolStrategy.ROUND_ROBIN);
+    assertEquals(pool, pool.shutdownNow());
+    for (ManagedChannel channel : channels) {
+      verify(channel).shutdownNow();
+    }
+  }
+
+  @Test
+  public void awaitTerminationWaitsForEveryChannel() throws Exception {
+    DaprGrpcChannelPool pool = new DaprGrpcChannelPool(channels, DaprGrpcChannelBuilder.PoolStrategy.ROUND_ROBIN);
+    for (ManagedChannel channel : channels) {
+      when(channel.awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(true);
+      when(channel.isTerminated()).thenReturn(true);
+    }
+    assertTrue(pool.awaitTermination(1, TimeUnit.SECONDS));
+    assertTrue(pool.isTerminated());
+    for (ManagedChannel channel : channels) {
+      verify(channel).awaitTermination(anyLong(), eq(TimeUnit.NANOSECONDS));
+    }
+
+    when(channels[1].awaitTermination(anyLong(), any(TimeUnit.class))).thenReturn(false);
+    when(channels[1].isTerminated()).thenReturn(false);
+    assertFalse(pool.awaitTermination(1, TimeUnit.SECONDS));
+    assertFalse(pool.isTerminated());
+  }
+}
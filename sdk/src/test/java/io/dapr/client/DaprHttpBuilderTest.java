@@ -5,14 +5,27 @@
 
 package io.dapr.client;
 
+import jnr.unixsocket.UnixServerSocketChannel;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
 import org.junit.Test;
 
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.lang.reflect.Field;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.mock;
 
 public class DaprHttpBuilderTest {
@@ -29,11 +42,102 @@ public class DaprHttpBuilderTest {
     assertOKHttpPropertyValue(daprHttp, "readTimeoutMillis", (int)duration.toMillis());
   }
 
+  @Test
+  public void withMaxRequests() throws Exception {
+    DaprHttp daprHttp = new DaprHttpBuilder()
+        .withMaxRequests(200)
+        .withMaxRequestsPerHost(100)
+        .build();
+
+    Dispatcher dispatcher = getOkHttpClient(daprHttp).dispatcher();
+    assertEquals(200, dispatcher.getMaxRequests());
+    assertEquals(100, dispatcher.getMaxRequestsPerHost());
+  }
+
+  @Test
+  public void defaultMaxRequestsPerHost() throws Exception {
+    Dispatcher dispatcher = getOkHttpClient(new DaprHttpBuilder().build()).dispatcher();
+    assertEquals(dispatcher.getMaxRequests(), dispatcher.getMaxRequestsPerHost());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withInvalidMaxRequests() {
+    new DaprHttpBuilder().withMaxRequests(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withInvalidMaxRequestsPerHost() {
+    new DaprHttpBuilder().withMaxRequestsPerHost(-1);
+  }
+
+  @Test
+  public void withHttp2PriorKnowledge() throws Exception {
+    OkHttpClient okHttpClient = getOkHttpClient(new DaprHttpBuilder().withHttp2PriorKnowledge().build());
+    assertEquals(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE), okHttpClient.protocols());
+  }
+
+  @Test
+  public void withUnixDomainSocket() throws Exception {
+    File path = File.createTempFile("dapr", ".sock");
+    path.delete();
+    path.deleteOnExit();
+    UnixServerSocketChannel server = UnixServerSocketChannel.open();
+    server.socket().bind(new UnixSocketAddress(path));
+    Thread standIn = new Thread(() -> {
+      try (UnixSocketChannel channel = server.accept()) {
+        BufferedReader reader = new BufferedReader(
+            new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.UTF_8));
+        while (!reader.readLine().isEmpty()) {
+          // Skips request line and headers.
+        }
+        OutputStream output = Channels.newOutputStream(channel);
+        output.write("HTTP/1.1 200 OK\r\nContent-Length: 2\r\nConnection: close\r\n\r\nOK"
+            .getBytes(StandardCharsets.UTF_8));
+        output.flush();
+      } catch (Exception ex) {
+        throw new RuntimeException(ex);
+      }
+    });
+    standIn.start();
+
+    DaprHttp daprHttp = new DaprHttpBuilder().withUnixDomainSocket(path.getAbsolutePath()).build();
+    DaprHttp.Response response = daprHttp.invokeApi("GET", "v1.0/state/key", null, null).block();
+    assertEquals("OK", new String(response.getBody(), StandardCharsets.UTF_8));
+    standIn.join();
+    server.close();
+  }
+
+  @Test
+  public void withTransport() throws Exception {
+    DaprTransport transport = mock(DaprTransport.class);
+    DaprHttp daprHttp = new DaprHttpBuilder().withTransport(transport).build();
+    Field transportField = DaprHttp.class.getDeclaredField("transport");
+    transportField.setAccessible(true);
+    assertSame(transport, transportField.get(daprHttp));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withNullTransport() {
+    new DaprHttpBuilder().withTransport(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void withInvalidUnixDomainSocket() {
+    new DaprHttpBuilder().withUnixDomainSocket(" ");
+  }
+
+  private static OkHttpClient getOkHttpClient(DaprHttp daprHttp) throws Exception {
+    Field transportField = DaprHttp.class.getDeclaredField("transport");
+    transportField.setAccessible(true);
+    Object transport = transportField.get(daprHttp);
+    Field httpClientField = OkHttpTransport.class.getDeclaredField("httpClient");
+    httpClientField.setAccessible(true);
+    return (OkHttpClient) httpClientField.get(transport);
+  }
+
   private static final void assertOKHttpPropertyValue(DaprHttp daprHttp, String propertyName, Object expectedValue) throws Exception {
     // First, get okHttpClient.
-    Field httpClientField = DaprHttp.class.getDeclaredField("httpClient");
-    httpClientField.setAccessible(true);
-    OkHttpClient okHttpClient = (OkHttpClient) httpClientField.get(daprHttp);
+    OkHttpClient okHttpClient = getOkHttpClient(daprHttp);
     assertNotNull(okHttpClient);
 
     Field propertyField = OkHttpClient.class.getDeclaredField(propertyName);
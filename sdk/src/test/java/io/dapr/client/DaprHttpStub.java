@@ -24,7 +24,7 @@ public class DaprHttpStub extends DaprHttp {
      * Instantiates a stub for DaprHttp
      */
     public DaprHttpStub() {
-        super(3000, null);
+        super(3000, (DaprTransport) null);
     }
 
     /**
@@ -51,4 +51,12 @@ public class DaprHttpStub extends DaprHttp {
     public Mono<DaprHttp.Response> invokeApi(String method, String urlString, Map<String, String> urlParameters, byte[] content, Map<String, String> headers) {
         return Mono.empty();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public <T> Mono<T> invokeApi(String method, String urlString, Map<String, String> urlParameters, byte[] content, Map<String, String> headers, ResponseReader<T> reader) {
+        return Mono.empty();
+    }
 }
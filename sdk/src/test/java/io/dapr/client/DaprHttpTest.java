@@ -11,11 +11,23 @@ import okhttp3.mock.Behavior;
 import okhttp3.mock.MockInterceptor;
 import org.junit.Before;
 import org.junit.Test;
+import reactor.core.Disposable;
 import reactor.core.publisher.Mono;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.Assert.*;
 
@@ -143,6 +155,72 @@ public class DaprHttpTest {
     assertEquals(EXPECTED_RESULT, body);
   }
 
+  @Test
+  public void invokeMethodWithReader() {
+    mockInterceptor.addRule()
+      .get("http://localhost:3500/v1.0/state/key")
+      .respond(200, ResponseBody.create(MediaType.parse("application/json"), "\"value\""))
+      .addHeader("Etag", "1");
+    DaprHttp daprHttp = new DaprHttp(3500, okHttpClient);
+    Mono<String> mono = daprHttp.invokeApi("GET", "v1.0/state/key", null, null, null,
+        (statusCode, headers, body) -> headers.get("Etag") + ":" + serializer.deserializeFrom(body, String.class));
+    assertEquals("1:\"value\"", mono.block());
+  }
+
+  @Test
+  public void invokeMethodWithReaderDaprError() {
+    mockInterceptor.addRule()
+      .get("http://localhost:3500/v1.0/state/key")
+      .respond(500, ResponseBody.create(MediaType.parse("application/json"),
+        "{\"errorCode\":\"ERR_STATE_GET\",\"message\":\"failed\"}"));
+    DaprHttp daprHttp = new DaprHttp(3500, okHttpClient);
+    AtomicBoolean read = new AtomicBoolean();
+    Mono<String> mono = daprHttp.invokeApi("GET", "v1.0/state/key", null, null, null,
+        (statusCode, headers, body) -> {
+          read.set(true);
+          return "value";
+        });
+    try {
+      mono.block();
+      fail("Expected an error.");
+    } catch (RuntimeException e) {
+      Throwable cause = e;
+      while ((cause != null) && !(cause instanceof DaprException)) {
+        cause = cause.getCause();
+      }
+      assertNotNull(cause);
+      assertEquals("ERR_STATE_GET", ((DaprException) cause).getErrorCode());
+    }
+    assertFalse(read.get());
+  }
+
+  @Test
+  public void invokeApiCancelsCallOnDispose() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicBoolean canceled = new AtomicBoolean(false);
+    OkHttpClient blockingClient = new OkHttpClient.Builder()
+      .addInterceptor(chain -> {
+        started.countDown();
+        try {
+          release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        canceled.set(chain.call().isCanceled());
+        throw new IOException("Canceled");
+      })
+      .build();
+    DaprHttp daprHttp = new DaprHttp(3500, blockingClient);
+    Disposable subscription = daprHttp.invokeApi("GET", "v1.0/state/key", null, null).subscribe();
+    assertTrue(started.await(5, TimeUnit.SECONDS));
+    subscription.dispose();
+    release.countDown();
+    blockingClient.dispatcher().executorService().shutdown();
+    blockingClient.dispatcher().executorService().awaitTermination(5, TimeUnit.SECONDS);
+    assertTrue(canceled.get());
+  }
+
   /**
    * The purpose of this test is to show that it doesn't matter when the client is called, the actual coll to DAPR
    * will be done when the output Mono response call the Mono.block method.
@@ -198,4 +276,87 @@ public class DaprHttpTest {
     }
   }
 
+
+  @Test
+  public void buildsHeaders() {
+    List<Map<String, String>> sent = new ArrayList<>();
+    DaprTransport transport = (method, url, content, headers) -> {
+      Map<String, String> copy = new LinkedHashMap<>();
+      headers.forEach(copy::put);
+      assertEquals(copy, new LinkedHashMap<>(headers));
+      sent.add(copy);
+      return Mono.just(new DaprHttp.Response(new byte[0], Collections.emptyMap(), 200));
+    };
+    DaprHttp daprHttp = new DaprHttp(3500, transport);
+    Map<String, String> headers = new HashMap<>();
+    headers.put("content-type", "text/plain");
+
+    daprHttp.invokeApi("GET", "v1.0/state/key", null, null).block();
+    daprHttp.invokeApi("POST", "v1.0/state", null, "{}", Collections.emptyMap()).block();
+    daprHttp.invokeApi("POST", "v1.0/state", null, "{}", headers).block();
+
+    assertEquals(Collections.singleton(Constants.HEADER_DAPR_REQUEST_ID), sent.get(0).keySet());
+    assertEquals(new HashSet<>(Arrays.asList(Constants.HEADER_DAPR_REQUEST_ID, "content-type")), sent.get(1).keySet());
+    assertEquals("application/json; charset=utf-8", sent.get(1).get("content-type"));
+    assertEquals("text/plain", sent.get(2).get("content-type"));
+    assertNotEquals(
+        sent.get(1).get(Constants.HEADER_DAPR_REQUEST_ID), sent.get(2).get(Constants.HEADER_DAPR_REQUEST_ID));
+  }
+
+  @Test
+  public void buildsUrls() {
+    List<String> urls = new ArrayList<>();
+    DaprTransport transport = (method, url, content, headers) -> {
+      urls.add(url);
+      return Mono.just(new DaprHttp.Response(new byte[0], Collections.emptyMap(), 200));
+    };
+    DaprHttp daprHttp = new DaprHttp(3500, transport);
+    Map<String, String> urlParameters = new LinkedHashMap<>();
+    urlParameters.put("consistency", "strong");
+    urlParameters.put("retry pattern", "a&b");
+
+    daprHttp.invokeApi("GET", "v1.0/state/my_key-1.~", null, null).block();
+    daprHttp.invokeApi("GET", "v1.0/state/my key", null, null).block();
+    daprHttp.invokeApi("GET", "v1.0/state/key", urlParameters, null).block();
+    daprHttp.invokeApi("GET", "v1.0/state/../key", null, null).block();
+    daprHttp.invokeApi("GET", "v1.0/state/.", null, null).block();
+
+    assertEquals(Arrays.asList(
+        "http://localhost:3500/v1.0/state/my_key-1.~",
+        "http://localhost:3500/v1.0/state/my%20key",
+        "http://localhost:3500/v1.0/state/key?consistency=strong&retry%20pattern=a%26b",
+        "http://localhost:3500/v1.0/key",
+        "http://localhost:3500/v1.0/state/"), urls);
+  }
+
+  @Test
+  public void responseHeadersAreCaseInsensitive() {
+    mockInterceptor.addRule()
+      .get("http://localhost:3500/v1.0/state/key")
+      .respond(200, ResponseBody.create(MediaType.parse("application/json"), "\"value\""))
+      .addHeader("ETag", "1");
+    DaprHttp daprHttp = new DaprHttp(3500, okHttpClient);
+    DaprHttp.Response response = daprHttp.invokeApi("GET", "v1.0/state/key", null, null).block();
+    assertEquals("1", response.getHeaders().get("Etag"));
+    assertEquals("1", response.getHeaders().get("etag"));
+    assertTrue(response.getHeaders().containsKey("ETAG"));
+    assertNull(response.getHeaders().get("missing"));
+    assertEquals("1", response.getHeaders().entrySet().stream()
+        .filter(e -> e.getKey().equalsIgnoreCase("etag")).findFirst().get().getValue());
+  }
+
+  @Test
+  public void newRequestIdIsRandomUuid() {
+    Set<String> ids = new HashSet<>();
+    for (int i = 0; i < 100; i++) {
+      String id = DaprHttp.newRequestId();
+      UUID uuid = UUID.fromString(id);
+      assertEquals(4, uuid.version());
+      assertEquals(2, uuid.variant());
+      assertEquals(uuid.toString(), id);
+      ids.add(id);
+    }
+    assertEquals(100, ids.size());
+  }
+
 }
@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class ObjectCodecTest {
+
+  @Test
+  public void primitivesRoundTrip() throws Exception {
+    assertArrayEquals("42".getBytes(), ObjectCodec.of(int.class).serialize(42));
+    assertEquals(42, ObjectCodec.of(int.class).deserialize(ObjectCodec.of(int.class).serialize(42)));
+    assertEquals(true, ObjectCodec.of(boolean.class).deserialize(ObjectCodec.of(boolean.class).serialize(true)));
+    assertEquals(1.5d, ObjectCodec.of(double.class).deserialize(ObjectCodec.of(double.class).serialize(1.5d)));
+    assertEquals('x', ObjectCodec.of(char.class).deserialize(ObjectCodec.of(char.class).serialize('x')));
+  }
+
+  @Test
+  public void primitivesAreWrittenAsTheirWrapperType() throws Exception {
+    assertArrayEquals(ObjectCodec.of(Long.class).serialize(7L), ObjectCodec.of(long.class).serialize(7L));
+  }
+
+  @Test
+  public void primitivesWithoutContentAreDefaultValues() throws Exception {
+    assertEquals(0, ObjectCodec.of(int.class).deserialize(new byte[0]));
+    assertEquals(false, ObjectCodec.of(boolean.class).deserialize((byte[]) null));
+  }
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import static io.dapr.client.ReactorNettyTransportTest.chunks;
+import static io.dapr.client.ReactorNettyTransportTest.concat;
+import static io.dapr.client.ReactorNettyTransportTest.payload;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OkHttpTransportTest {
+
+  private DisposableServer server;
+
+  private DaprHttp daprHttp;
+
+  @Before
+  public void setUp() {
+    server = HttpServer.create()
+        .port(0)
+        .route(routes -> routes
+            .post("/v1.0/echo", (request, response) -> response.send(request.receive().retain()))
+            .get("/v1.0/missing", (request, response) -> response
+                .status(404)
+                .sendString(Mono.just("{\"errorCode\":\"ERR_NOT_FOUND\",\"message\":\"Not found\"}"))))
+        .bindNow();
+    daprHttp = new DaprHttp(server.port(), new OkHttpClient());
+  }
+
+  @After
+  public void tearDown() {
+    server.disposeNow();
+  }
+
+  @Test
+  public void invokeApiStreamEchoesLargeBody() {
+    byte[] expected = payload();
+    List<ByteBuffer> chunks = daprHttp.invokeApiStream("POST", "v1.0/echo", null, chunks(expected), null)
+        .collectList()
+        .block();
+    assertTrue(chunks.size() > 1);
+    assertArrayEquals(expected, concat(chunks));
+  }
+
+  @Test
+  public void invokeApiStreamWithoutBody() {
+    List<ByteBuffer> chunks = daprHttp.invokeApiStream("POST", "v1.0/echo", null, null, null)
+        .collectList()
+        .block();
+    assertEquals(0, concat(chunks).length);
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void invokeApiStreamMapsErrors() {
+    daprHttp.invokeApiStream("GET", "v1.0/missing", null, null, null).blockLast();
+  }
+}
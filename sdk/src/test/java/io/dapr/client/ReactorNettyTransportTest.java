@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.client;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ReactorNettyTransportTest {
+
+  private DisposableServer server;
+
+  @Before
+  public void setUp() {
+    server = HttpServer.create()
+        .port(0)
+        .route(routes -> routes
+            .post("/v1.0/echo", (request, response) -> response
+                .header("x-method", request.method().name())
+                .header("x-custom", request.requestHeaders().get("x-custom", ""))
+                .send(request.receive().retain()))
+            .get("/v1.0/missing", (request, response) -> response
+                .status(404)
+                .sendString(Mono.just("{\"errorCode\":\"ERR_NOT_FOUND\",\"message\":\"Not found\"}"))))
+        .bindNow();
+  }
+
+  @After
+  public void tearDown() {
+    server.disposeNow();
+  }
+
+  @Test
+  public void sendEchoesBody() {
+    byte[] content = "{\"hello\":\"world\"}".getBytes(StandardCharsets.UTF_8);
+    DaprHttp.Response response = new ReactorNettyTransport()
+        .send("POST", url("/v1.0/echo"), content, Collections.singletonMap("x-custom", "abc"))
+        .block();
+    assertEquals(200, response.getStatusCode());
+    assertArrayEquals(content, response.getBody());
+    assertEquals("POST", response.getHeaders().get("x-method"));
+    assertEquals("abc", response.getHeaders().get("x-custom"));
+  }
+
+  @Test
+  public void sendEmitsErrorStatus() {
+    DaprHttp.Response response = new ReactorNettyTransport()
+        .send("GET", url("/v1.0/missing"), null, Collections.emptyMap())
+        .block();
+    assertEquals(404, response.getStatusCode());
+    assertEquals("{\"errorCode\":\"ERR_NOT_FOUND\",\"message\":\"Not found\"}",
+        new String(response.getBody(), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void invokeApiThroughDaprHttp() {
+    byte[] content = "ping".getBytes(StandardCharsets.UTF_8);
+    DaprHttp daprHttp = new DaprHttp(server.port(), new ReactorNettyTransport());
+    DaprHttp.Response response = daprHttp.invokeApi("POST", "v1.0/echo", null, content, null).block();
+    assertArrayEquals(content, response.getBody());
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void invokeApiThroughDaprHttpMapsErrors() {
+    DaprHttp daprHttp = new DaprHttp(server.port(), new ReactorNettyTransport());
+    daprHttp.invokeApi("GET", "v1.0/missing", null, (byte[]) null, null).block();
+  }
+
+  @Test
+  public void invokeApiStreamEchoesLargeBody() {
+    byte[] expected = payload();
+    DaprHttp daprHttp = new DaprHttp(server.port(), new ReactorNettyTransport());
+    List<ByteBuffer> chunks = daprHttp.invokeApiStream("POST", "v1.0/echo", null, chunks(expected), null)
+        .collectList()
+        .block();
+    assertTrue(chunks.size() > 1);
+    assertArrayEquals(expected, concat(chunks));
+  }
+
+  @Test(expected = RuntimeException.class)
+  public void invokeApiStreamMapsErrors() {
+    DaprHttp daprHttp = new DaprHttp(server.port(), new ReactorNettyTransport());
+    daprHttp.invokeApiStream("GET", "v1.0/missing", null, null, null).blockLast();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullHttpClient() {
+    new ReactorNettyTransport(null);
+  }
+
+  private String url(String path) {
+    return "http://127.0.0.1:" + server.port() + path;
+  }
+
+  static byte[] payload() {
+    byte[] payload = new byte[4 * 1024 * 1024];
+    new Random(0).nextBytes(payload);
+    return payload;
+  }
+
+  static Flux<ByteBuffer> chunks(byte[] payload) {
+    int chunkSize = 64 * 1024;
+    return Flux.range(0, payload.length / chunkSize)
+        .map(i -> ByteBuffer.wrap(payload, i * chunkSize, chunkSize));
+  }
+
+  static byte[] concat(List<ByteBuffer> chunks) {
+    ByteArrayOutputStream output = new ByteArrayOutputStream();
+    for (ByteBuffer chunk : chunks) {
+      byte[] bytes = new byte[chunk.remaining()];
+      chunk.get(bytes);
+      output.write(bytes, 0, bytes.length);
+    }
+    return output.toByteArray();
+  }
+}
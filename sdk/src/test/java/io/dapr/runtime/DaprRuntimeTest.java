@@ -18,6 +18,7 @@ import org.junit.Before;
 import org.junit.Test;
 import reactor.core.publisher.Mono;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Field;
@@ -202,16 +203,17 @@ public class DaprRuntimeTest {
           eq(Constants.INVOKE_PATH + "/" + APP_ID + "/method/" + METHOD_NAME),
           any(),
           eq(serializer.serialize(message.data)),
-          eq(null)))
+          eq(null),
+          any()))
           .thenAnswer(x ->
               this.daprRuntime.handleInvocation(
               METHOD_NAME,
               serializer.serialize(message.data),
               message.metadata)
-          .map(r -> new DaprHttpStub.ResponseStub(r, null, 200)));
+          .map(r -> read(x.getArgument(5), r)));
 
       Mono<byte[]> response = client.invokeService(Verb.POST, APP_ID, METHOD_NAME, message.data, message.metadata, byte[].class);
-      Assert.assertEquals(expectedResponse, response.block());
+      Assert.assertArrayEquals(expectedResponse, response.block());
 
       verify(listener, times(1))
           .process(eq(serializer.serialize(message.data)), eq(message.metadata));
@@ -275,6 +277,14 @@ public class DaprRuntimeTest {
     result.block();
   }
 
+  private static <T> T read(DaprHttp.ResponseReader<T> reader, byte[] body) {
+    try {
+      return reader.read(200, null, new ByteArrayInputStream(body));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
   private static final String generateMessageId() {
     return UUID.randomUUID().toString();
   }
@@ -8,12 +8,21 @@ package io.dapr.serializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.dapr.serializer.DefaultObjectSerializer;
 import io.dapr.client.domain.CloudEvent;
+import io.dapr.utils.TypeRef;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 
 import static org.junit.Assert.*;
@@ -230,6 +239,71 @@ public class DefaultObjectSerializerTest {
     }
   }
 
+  @Test
+  public void deserializeByteBufferObjectTest() throws IOException {
+    MyObjectTestToSerialize obj = new MyObjectTestToSerialize();
+    obj.setStringValue("A String");
+    obj.setIntValue(2147483647);
+    obj.setLongValue(9223372036854775807L);
+    byte[] serializedValue = SERIALIZER.serialize(obj);
+
+    ByteBuffer heapBuffer = ByteBuffer.wrap(serializedValue).asReadOnlyBuffer();
+    assertEquals(obj, SERIALIZER.deserializeFrom(heapBuffer, MyObjectTestToSerialize.class));
+    assertEquals(serializedValue.length, heapBuffer.remaining());
+
+    ByteBuffer directBuffer = ByteBuffer.allocateDirect(serializedValue.length + 2);
+    directBuffer.put((byte) ' ').put(serializedValue).put((byte) ' ').flip().position(1);
+    directBuffer.limit(serializedValue.length + 1);
+    assertEquals(obj, SERIALIZER.deserializeFrom(directBuffer, MyObjectTestToSerialize.class));
+    assertEquals(1, directBuffer.position());
+  }
+
+  @Test
+  public void deserializeByteBufferSpecialTypesTest() throws IOException {
+    assertEquals("A String", SERIALIZER.deserializeFrom(ByteBuffer.wrap("A String".getBytes()), String.class));
+    assertArrayEquals(new byte[] { 0, 1, 8 },
+        SERIALIZER.deserializeFrom(ByteBuffer.wrap(new byte[] { 0, 1, 8 }).asReadOnlyBuffer(), byte[].class));
+    assertEquals(Integer.valueOf(123), SERIALIZER.deserializeFrom(ByteBuffer.wrap("123".getBytes()), int.class));
+    assertEquals(Integer.valueOf(0), SERIALIZER.deserializeFrom(ByteBuffer.allocate(0), int.class));
+    assertNull(SERIALIZER.deserializeFrom(ByteBuffer.allocate(0), MyObjectTestToSerialize.class));
+    assertNull(SERIALIZER.deserializeFrom((ByteBuffer) null, String.class));
+  }
+
+  @Test
+  public void deserializeStreamObjectTest() throws IOException {
+    MyObjectTestToSerialize obj = new MyObjectTestToSerialize();
+    obj.setStringValue("A String");
+    obj.setIntValue(2147483647);
+    obj.setLongValue(9223372036854775807L);
+    byte[] serializedValue = SERIALIZER.serialize(obj);
+
+    for (DefaultObjectSerializer serializer : new DefaultObjectSerializer[] {
+        SERIALIZER, new DefaultObjectSerializer(true) }) {
+      assertEquals(obj,
+          serializer.deserializeFrom(new ByteArrayInputStream(serializedValue), MyObjectTestToSerialize.class));
+      assertEquals(obj, serializer.deserializeFrom(
+          Channels.newChannel(new ByteArrayInputStream(serializedValue)), MyObjectTestToSerialize.class));
+    }
+  }
+
+  @Test
+  public void deserializeStreamSpecialTypesTest() throws IOException {
+    for (DefaultObjectSerializer serializer : new DefaultObjectSerializer[] {
+        SERIALIZER, new DefaultObjectSerializer(true) }) {
+      assertEquals("A String",
+          serializer.deserializeFrom(new ByteArrayInputStream("A String".getBytes()), String.class));
+      assertArrayEquals(new byte[] { 0, 1, 8 },
+          serializer.deserializeFrom(new ByteArrayInputStream(new byte[] { 0, 1, 8 }), byte[].class));
+      assertEquals(Integer.valueOf(123),
+          serializer.deserializeFrom(new ByteArrayInputStream("123".getBytes()), int.class));
+      assertEquals(Integer.valueOf(0), serializer.deserializeFrom(new ByteArrayInputStream(new byte[0]), int.class));
+      assertNull(serializer.deserializeFrom(new ByteArrayInputStream(new byte[0]), MyObjectTestToSerialize.class));
+      assertNull(serializer.deserializeFrom(new ByteArrayInputStream(new byte[0]), Void.class));
+      assertNull(serializer.deserializeFrom((InputStream) null, String.class));
+      assertNull(serializer.deserializeFrom((ReadableByteChannel) null, MyObjectTestToSerialize.class));
+    }
+  }
+
   @Test
   public void serializeNullTest() {
     
@@ -784,6 +858,71 @@ public class DefaultObjectSerializerTest {
       deserializeData.apply(new ObjectMapper().writeValueAsString("{\"id\": \"123:\", \"name\": \"Jon Doe\"}")));
   }
 
+  @Test
+  public void codecCacheMatchesDefault() throws Exception {
+    DefaultObjectSerializer cached = new DefaultObjectSerializer(true);
+    MyObjectTestToSerialize obj = new MyObjectTestToSerialize();
+    obj.setStringValue("A String");
+    obj.setIntValue(2147483647);
+    obj.setCharValue('a');
+    Object[] values = { obj, "A String", 1, 1.5d, true, new byte[] { 0, 1 }, null };
+    for (Object value : values) {
+      assertArrayEquals(SERIALIZER.serialize(value), cached.serialize(value));
+      // Codecs are resolved once, so the second call must behave the same.
+      assertArrayEquals(SERIALIZER.serialize(value), cached.serialize(value));
+    }
+
+    Class<?>[] classes = {
+        MyObjectTestToSerialize.class, String.class, byte[].class, int.class, Integer.class, boolean.class,
+        char.class, double.class, Void.class, CloudEvent.class };
+    byte[][] contents = { null, new byte[0], SERIALIZER.serialize(obj), "1".getBytes(), "\"a\"".getBytes() };
+    for (Class<?> clazz : classes) {
+      for (byte[] content : contents) {
+        Object expected;
+        try {
+          expected = SERIALIZER.deserialize(content, clazz);
+        } catch (Exception e) {
+          expected = e.getClass();
+        }
+        Object actual;
+        try {
+          actual = cached.deserialize(content, clazz);
+        } catch (Exception e) {
+          actual = e.getClass();
+        }
+        if (expected instanceof byte[]) {
+          assertArrayEquals((byte[]) expected, (byte[]) actual);
+        } else {
+          assertEquals(clazz.getName(), expected, actual);
+        }
+      }
+    }
+  }
+
+  @Test
+  public void deserializeGenericTypeTest() throws Exception {
+    MyObjectTestToSerialize obj = new MyObjectTestToSerialize();
+    obj.setStringValue("A String");
+    obj.setIntValue(2147483647);
+    List<MyObjectTestToSerialize> expected = Collections.singletonList(obj);
+    TypeRef<List<MyObjectTestToSerialize>> type = new TypeRef<List<MyObjectTestToSerialize>>() {};
+    for (DefaultObjectSerializer serializer : new DefaultObjectSerializer[] {
+        SERIALIZER, new DefaultObjectSerializer(true) }) {
+      byte[] content = serializer.serialize(expected);
+      assertEquals(expected, serializer.deserialize(content, type));
+      // Types are resolved once, so the second call must behave the same.
+      assertEquals(expected, serializer.deserialize(content, type));
+      assertEquals(expected, serializer.deserializeFrom(ByteBuffer.wrap(content), type));
+      assertEquals(expected, serializer.deserializeFrom(new ByteArrayInputStream(content), type));
+
+      Map<String, Integer> map = serializer.deserialize("{\"a\":1}".getBytes(), new TypeRef<Map<String, Integer>>() {});
+      assertEquals(Collections.singletonMap("a", 1), map);
+      assertNull(serializer.deserialize(null, type));
+      assertNull(serializer.deserializeFrom(new ByteArrayInputStream(new byte[0]), type));
+      assertEquals("A String", serializer.deserialize("A String".getBytes(), TypeRef.get(String.class)));
+    }
+  }
+
   private static String quote(String content) {
     if (content == null) {
       return null;
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.serializer;
+
+import com.google.protobuf.StringValue;
+import com.google.protobuf.Timestamp;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.ByteBuffer;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class ProtobufObjectSerializerTest {
+
+  private static final ProtobufObjectSerializer SERIALIZER = new ProtobufObjectSerializer();
+
+  @Test
+  public void serializeMessage() throws Exception {
+    Timestamp message = Timestamp.newBuilder().setSeconds(42).setNanos(7).build();
+    assertArrayEquals(message.toByteArray(), SERIALIZER.serialize(message));
+  }
+
+  @Test
+  public void deserializeMessage() throws Exception {
+    Timestamp message = Timestamp.newBuilder().setSeconds(42).setNanos(7).build();
+    assertEquals(message, SERIALIZER.deserialize(message.toByteArray(), Timestamp.class));
+    // Parsers are resolved once per class, so a second call must behave the same.
+    assertEquals(message, SERIALIZER.deserialize(message.toByteArray(), Timestamp.class));
+  }
+
+  @Test
+  public void deserializeMessageFromBuffer() throws Exception {
+    StringValue message = StringValue.newBuilder().setValue("hello world").build();
+    byte[] bytes = message.toByteArray();
+    ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+    direct.put(bytes).flip();
+    assertEquals(message, SERIALIZER.deserializeFrom(direct, StringValue.class));
+    assertEquals(0, direct.position());
+  }
+
+  @Test
+  public void deserializeMessageFromStream() throws Exception {
+    Timestamp message = Timestamp.newBuilder().setSeconds(42).setNanos(7).build();
+    assertEquals(message, SERIALIZER.deserializeFrom(new ByteArrayInputStream(message.toByteArray()), Timestamp.class));
+    assertEquals(Timestamp.getDefaultInstance(),
+        SERIALIZER.deserializeFrom(new ByteArrayInputStream(new byte[0]), Timestamp.class));
+    assertEquals("hello", SERIALIZER.deserializeFrom(new ByteArrayInputStream("hello".getBytes()), String.class));
+  }
+
+  @Test
+  public void deserializeNoContent() throws Exception {
+    assertNull(SERIALIZER.deserialize(null, StringValue.class));
+    // Empty content is how the default instance serializes.
+    assertArrayEquals(new byte[0], SERIALIZER.serialize(StringValue.getDefaultInstance()));
+    assertEquals(StringValue.getDefaultInstance(), SERIALIZER.deserialize(new byte[0], StringValue.class));
+    assertEquals(StringValue.getDefaultInstance(),
+        SERIALIZER.deserializeFrom(ByteBuffer.allocate(0), StringValue.class));
+    assertEquals(StringValue.getDefaultInstance(),
+        SERIALIZER.deserializeFrom(new ByteArrayInputStream(new byte[0]), StringValue.class));
+  }
+
+  @Test
+  public void otherObjectsUseFallback() throws Exception {
+    DefaultObjectSerializer fallback = new DefaultObjectSerializer();
+    assertArrayEquals(fallback.serialize("hello"), SERIALIZER.serialize("hello"));
+    assertEquals("hello", SERIALIZER.deserialize("hello".getBytes(), String.class));
+    assertEquals(Integer.valueOf(0), SERIALIZER.deserialize(null, int.class));
+    assertNull(SERIALIZER.serialize(null));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void noFallbackSerializer() {
+    new ProtobufObjectSerializer(null);
+  }
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+public class ByteUtilsTest {
+
+  @Test
+  public void readsStreamsLongerThanOneChunk() throws Exception {
+    byte[] content = new byte[20000];
+    for (int i = 0; i < content.length; i++) {
+      content[i] = (byte) i;
+    }
+
+    Assert.assertArrayEquals(content, ByteUtils.toByteArray(new ByteArrayInputStream(content)));
+    Assert.assertArrayEquals(new byte[0], ByteUtils.toByteArray(new ByteArrayInputStream(new byte[0])));
+    Assert.assertNull(ByteUtils.toByteArray((InputStream) null));
+  }
+
+  @Test
+  public void copiesRemainingBufferWithoutMovingIt() {
+    ByteBuffer buffer = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+    buffer.position(1);
+
+    Assert.assertArrayEquals(new byte[] {2, 3, 4}, ByteUtils.toByteArray(buffer));
+    Assert.assertEquals(1, buffer.position());
+    Assert.assertNull(ByteUtils.toByteArray((ByteBuffer) null));
+  }
+}
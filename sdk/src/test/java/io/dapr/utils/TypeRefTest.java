@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.ParameterizedType;
+import java.util.List;
+import java.util.Map;
+
+public class TypeRefTest {
+
+  @Test
+  public void capturesGenericType() {
+    TypeRef<Map<String, List<Integer>>> type = new TypeRef<Map<String, List<Integer>>>() {};
+    Assert.assertTrue(type.getType() instanceof ParameterizedType);
+    Assert.assertEquals("java.util.Map<java.lang.String, java.util.List<java.lang.Integer>>", type.toString());
+    Assert.assertEquals(Map.class, type.getRawClass());
+    Assert.assertNull(type.asClass());
+  }
+
+  @Test
+  public void referencesClass() {
+    TypeRef<String> type = TypeRef.get(String.class);
+    Assert.assertEquals(String.class, type.getType());
+    Assert.assertEquals(String.class, type.asClass());
+    Assert.assertEquals(String.class, type.getRawClass());
+    Assert.assertEquals(new TypeRef<String>() {}, type);
+    Assert.assertEquals(new TypeRef<String>() {}.hashCode(), type.hashCode());
+  }
+
+  @Test
+  public void referencesGenericArray() {
+    TypeRef<List<String>[]> type = new TypeRef<List<String>[]>() {};
+    Assert.assertEquals(List[].class, type.getRawClass());
+    Assert.assertEquals(type, TypeRef.get(type.getType()));
+    Assert.assertNotEquals(new TypeRef<List<Integer>[]>() {}, type);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void requiresTypeArgument() {
+    new TypeRef() {};
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void requiresType() {
+    TypeRef.get((java.lang.reflect.Type) null);
+  }
+}
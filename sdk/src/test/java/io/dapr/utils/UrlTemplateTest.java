@@ -0,0 +1,48 @@
+/*
+ * Copyright (c) Microsoft Corporation.
+ * Licensed under the MIT License.
+ */
+
+package io.dapr.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class UrlTemplateTest {
+
+  @Test
+  public void expandsLikeFormat() {
+    String[] formats = {
+        Constants.ACTOR_STATE_KEY_RELATIVE_URL_FORMAT,
+        Constants.ACTOR_METHOD_RELATIVE_URL_FORMAT,
+        Constants.ACTOR_REMINDER_RELATIVE_URL_FORMAT,
+        Constants.ACTOR_TIMER_RELATIVE_URL_FORMAT
+    };
+    for (String format : formats) {
+      Assert.assertEquals(
+          String.format(format, "MyActor", "1", "name"),
+          UrlTemplate.compile(format).expand("MyActor", "1", "name"));
+    }
+
+    Assert.assertEquals(
+        String.format(Constants.ACTOR_STATE_RELATIVE_URL_FORMAT, "MyActor", null),
+        UrlTemplate.compile(Constants.ACTOR_STATE_RELATIVE_URL_FORMAT).expand("MyActor", null));
+  }
+
+  @Test
+  public void placeholdersAtTheEdges() {
+    Assert.assertEquals("a/b/c", UrlTemplate.compile("%s/b/%s").expand("a", "c"));
+    Assert.assertEquals("ab", UrlTemplate.compile("%s%s").expand("a", "b"));
+    Assert.assertEquals("v1.0/state", UrlTemplate.compile("v1.0/state").expand());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void wrongNumberOfValues() {
+    UrlTemplate.compile(Constants.ACTOR_METHOD_RELATIVE_URL_FORMAT).expand("MyActor", "1");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void nullFormat() {
+    UrlTemplate.compile(null);
+  }
+}